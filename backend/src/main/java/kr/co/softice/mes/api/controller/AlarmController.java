@@ -2,6 +2,7 @@ package kr.co.softice.mes.api.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.co.softice.mes.common.dto.alarm.AlarmBulkSendRequest;
 import kr.co.softice.mes.common.security.TenantContext;
 import kr.co.softice.mes.domain.entity.AlarmHistoryEntity;
 import kr.co.softice.mes.domain.entity.AlarmTemplateEntity;
@@ -13,6 +14,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import javax.validation.Valid;
 import java.util.List;
 import java.util.Map;
 
@@ -147,6 +149,15 @@ public class AlarmController {
         return ResponseEntity.ok(alarm);
     }
 
+    @PostMapping("/send-bulk")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SYSTEM_MANAGER')")
+    @Operation(summary = "알람 일괄 발송", description = "같은 이벤트 알람을 여러 수신자에게 발송합니다.")
+    public ResponseEntity<List<AlarmHistoryEntity>> sendAlarms(@Valid @RequestBody AlarmBulkSendRequest request) {
+        String tenantId = TenantContext.getCurrentTenant();
+        log.info("Sending alarms: eventType={}, recipients={}", request.getEventType(), request.getRecipients().size());
+        return ResponseEntity.ok(alarmService.sendAlarms(tenantId, request));
+    }
+
     // ==================== Statistics ====================
 
     @Transactional(readOnly = true)
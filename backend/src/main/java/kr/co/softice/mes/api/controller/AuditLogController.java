@@ -9,9 +9,11 @@ import kr.co.softice.mes.common.dto.audit.AuditLogSearchRequest;
 import kr.co.softice.mes.common.dto.audit.AuditStatisticsResponse;
 import kr.co.softice.mes.common.exception.EntityNotFoundException;
 import kr.co.softice.mes.common.exception.ErrorCode;
+import kr.co.softice.mes.common.export.ExportFormat;
 import kr.co.softice.mes.common.security.TenantContext;
 import kr.co.softice.mes.domain.entity.AuditLogEntity;
 import kr.co.softice.mes.domain.service.AuditLogService;
+import kr.co.softice.mes.domain.service.DataExportService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -23,6 +25,8 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.Map;
 
@@ -40,6 +44,7 @@ import java.util.Map;
 public class AuditLogController {
 
     private final AuditLogService auditLogService;
+    private final DataExportService dataExportService;
 
     /**
      * 감사 로그 목록 조회 (페이징)
@@ -70,6 +75,30 @@ public class AuditLogController {
         return ResponseEntity.ok(ApiResponse.success("감사 로그 목록 조회 성공", response));
     }
 
+    /**
+     * 감사 로그 내보내기 (CSV / XLSX 스트리밍)
+     * GET /api/audit-logs/export?format=csv|xlsx&startDate=&endDate=&action=
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'AUDIT_VIEWER')")
+    @Operation(summary = "감사 로그 내보내기", description = "기간/액션 조건의 감사 로그를 CSV 또는 XLSX 로 스트리밍 다운로드")
+    public void exportAuditLogs(
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) LocalDateTime startDate,
+            @RequestParam(required = false) LocalDateTime endDate,
+            @RequestParam(required = false) String action,
+            HttpServletResponse response) throws IOException {
+
+        String tenantId = TenantContext.getCurrentTenant();
+        ExportFormat exportFormat = ExportFormat.from(format);
+        log.info("Exporting audit logs for tenant: {}, period: {} ~ {}, format: {}",
+                tenantId, startDate, endDate, exportFormat);
+
+        exportFormat.prepare(response, "audit_logs");
+        dataExportService.exportAuditLogs(tenantId, startDate, endDate, action, exportFormat,
+                response.getOutputStream());
+    }
+
     /**
      * 감사 로그 상세 조회
      * GET /api/audit-logs/{id}
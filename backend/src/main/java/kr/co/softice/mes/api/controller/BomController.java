@@ -71,6 +71,15 @@ public class BomController {
             .collect(Collectors.toList()));
     }
 
+    @GetMapping("/where-used/{productId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PRODUCTION_MANAGER', 'ENGINEER', 'USER')")
+    public ResponseEntity<List<BomWhereUsedResponse>> getWhereUsed(
+        @PathVariable Long productId,
+        @RequestParam(defaultValue = "true") boolean activeOnly) {
+        String tenantId = TenantContext.getCurrentTenant();
+        return ResponseEntity.ok(bomService.findWhereUsed(tenantId, productId, activeOnly));
+    }
+
     @Transactional(readOnly = true)
     @GetMapping("/{bomId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PRODUCTION_MANAGER', 'ENGINEER', 'USER')")
@@ -3,6 +3,10 @@ package kr.co.softice.mes.api.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import kr.co.softice.mes.common.dto.ApiResponse;
+import kr.co.softice.mes.common.dto.KeysetCursor;
+import kr.co.softice.mes.common.dto.PageResponse;
+import kr.co.softice.mes.common.dto.wms.GoodsReceiptBulkRequest;
+import kr.co.softice.mes.common.dto.wms.GoodsReceiptBulkResult;
 import kr.co.softice.mes.common.dto.wms.GoodsReceiptCreateRequest;
 import kr.co.softice.mes.common.dto.wms.GoodsReceiptItemRequest;
 import kr.co.softice.mes.common.dto.wms.GoodsReceiptItemResponse;
@@ -13,16 +17,21 @@ import kr.co.softice.mes.common.exception.ErrorCode;
 import kr.co.softice.mes.common.security.TenantContext;
 import kr.co.softice.mes.domain.entity.*;
 import kr.co.softice.mes.domain.repository.*;
+import kr.co.softice.mes.domain.service.GoodsReceiptBulkImportService;
 import kr.co.softice.mes.domain.service.GoodsReceiptService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -36,6 +45,7 @@ import java.util.stream.Collectors;
  * - GET /api/goods-receipts - 입하 목록
  * - GET /api/goods-receipts/{id} - 입하 상세 (항목 포함)
  * - POST /api/goods-receipts - 입하 생성
+ * - POST /api/goods-receipts/bulk - 입하 일괄 등록 (JSON / CSV / NDJSON)
  * - PUT /api/goods-receipts/{id} - 입하 수정
  * - POST /api/goods-receipts/{id}/complete - 입하 완료
  * - POST /api/goods-receipts/{id}/cancel - 입하 취소
@@ -52,6 +62,7 @@ import java.util.stream.Collectors;
 public class GoodsReceiptController {
 
     private final GoodsReceiptService goodsReceiptService;
+    private final GoodsReceiptBulkImportService goodsReceiptBulkImportService;
     private final TenantRepository tenantRepository;
     private final WarehouseRepository warehouseRepository;
     private final ProductRepository productRepository;
@@ -96,6 +107,30 @@ public class GoodsReceiptController {
         return ResponseEntity.ok(ApiResponse.success("입하 목록 조회 성공", responses));
     }
 
+    /**
+     * 입하 커서 페이징 조회
+     * GET /api/goods-receipts/cursor?cursor=&size=
+     *
+     * 최신순(ID 내림차순) keyset 페이징, 응답의 nextCursor 로 다음 페이지 조회
+     */
+    @Transactional(readOnly = true)
+    @GetMapping("/cursor")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "입하 커서 페이징 조회", description = "ID 내림차순 keyset 페이징 (최대 " + KeysetCursor.MAX_PAGE_SIZE + "건)")
+    public ResponseEntity<ApiResponse<PageResponse<GoodsReceiptResponse>>> getGoodsReceiptPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        String tenantId = TenantContext.getCurrentTenant();
+        int pageSize = KeysetCursor.pageSize(size);
+
+        List<GoodsReceiptEntity> rows = goodsReceiptService.findPageByTenant(tenantId, KeysetCursor.decode(cursor), pageSize);
+        PageResponse<GoodsReceiptResponse> page = KeysetCursor.toPage(rows, pageSize, KeysetCursor.isFirst(cursor),
+                GoodsReceiptEntity::getGoodsReceiptId, this::toGoodsReceiptResponse);
+
+        return ResponseEntity.ok(ApiResponse.success("입하 조회 성공", page));
+    }
+
     /**
      * 입하 상세 조회 (항목 포함)
      * GET /api/goods-receipts/{id}
@@ -234,6 +269,52 @@ public class GoodsReceiptController {
                 .body(ApiResponse.success("입하 생성 성공", toGoodsReceiptResponse(created)));
     }
 
+    /**
+     * 입하 일괄 등록 (JSON)
+     * POST /api/goods-receipts/bulk
+     *
+     * Note: partial=false 이면 오류 라인이 하나라도 있을 때 등록하지 않고 라인별 오류만 반환
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'WAREHOUSE_MANAGER', 'INVENTORY_CLERK')")
+    @Operation(summary = "입하 일괄 등록", description = "입하 1건과 다수 라인 일괄 등록 (ASN 등)")
+    public ResponseEntity<ApiResponse<GoodsReceiptBulkResult>> importGoodsReceipt(
+            @Valid @RequestBody GoodsReceiptBulkRequest request) {
+
+        String tenantId = TenantContext.getCurrentTenant();
+        log.info("Bulk importing goods receipt for tenant: {}, lines: {}",
+            tenantId, request.getLines() != null ? request.getLines().size() : 0);
+
+        GoodsReceiptBulkImportService.ParsedLines lines = goodsReceiptBulkImportService.fromRequest(request);
+        return toBulkResponse(goodsReceiptBulkImportService.importReceipt(tenantId, request, lines));
+    }
+
+    /**
+     * 입하 일괄 등록 (CSV / NDJSON 스트림)
+     * POST /api/goods-receipts/bulk?warehouseId=...&receiptDate=...
+     *
+     * 헤더 항목은 쿼리 파라미터, 라인은 본문 (text/csv: 첫 줄 컬럼명, application/x-ndjson: 줄마다 JSON)
+     */
+    @PostMapping(value = "/bulk", consumes = {"text/csv", "application/x-ndjson"})
+    @PreAuthorize("hasAnyRole('ADMIN', 'WAREHOUSE_MANAGER', 'INVENTORY_CLERK')")
+    @Operation(summary = "입하 일괄 등록 (파일)", description = "CSV 또는 NDJSON 본문으로 입하 라인 일괄 등록")
+    public ResponseEntity<ApiResponse<GoodsReceiptBulkResult>> importGoodsReceiptStream(
+            @Valid @ModelAttribute GoodsReceiptBulkRequest request,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest httpRequest) throws IOException {
+
+        String tenantId = TenantContext.getCurrentTenant();
+        log.info("Bulk importing goods receipt for tenant: {}, contentType: {}", tenantId, contentType);
+
+        GoodsReceiptBulkImportService.ParsedLines lines = contentType.startsWith("text/csv")
+                ? goodsReceiptBulkImportService.parseCsv(httpRequest.getInputStream())
+                : goodsReceiptBulkImportService.parseNdjson(httpRequest.getInputStream());
+        if (lines.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "No receipt lines in request body");
+        }
+        return toBulkResponse(goodsReceiptBulkImportService.importReceipt(tenantId, request, lines));
+    }
+
     /**
      * 입하 수정
      * PUT /api/goods-receipts/{id}
@@ -325,6 +406,22 @@ public class GoodsReceiptController {
 
     // ================== Private Helper Methods ==================
 
+    /**
+     * 일괄 등록 결과 → 등록되면 201, 오류로 거부되면 422 (라인별 오류 포함)
+     */
+    private ResponseEntity<ApiResponse<GoodsReceiptBulkResult>> toBulkResponse(GoodsReceiptBulkResult result) {
+        if (result.getGoodsReceiptId() == null) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                    .body(ApiResponse.<GoodsReceiptBulkResult>builder()
+                            .success(false)
+                            .message("입하 일괄 등록 실패: 오류 라인 " + result.getFailedLines() + "건")
+                            .data(result)
+                            .build());
+        }
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("입하 일괄 등록 성공", result));
+    }
+
     /**
      * Convert entity to response DTO
      */
@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import kr.co.softice.mes.common.dto.ApiResponse;
 import kr.co.softice.mes.common.security.TenantContext;
 import kr.co.softice.mes.domain.service.InventoryAnalysisService;
+import kr.co.softice.mes.domain.service.InventoryMovementRollupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -12,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -30,6 +32,7 @@ import java.util.stream.Collectors;
 public class InventoryAnalysisController {
 
     private final InventoryAnalysisService inventoryAnalysisService;
+    private final InventoryMovementRollupService inventoryMovementRollupService;
 
     /**
      * 재고 회전율 분석
@@ -180,6 +183,31 @@ public class InventoryAnalysisController {
         );
     }
 
+    /**
+     * 일별 재고 이동 집계 재생성 (백필)
+     */
+    @PostMapping("/rollup/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "일별 재고 이동 집계 재생성", description = "기간 내 일별 이동 집계를 재고 트랜잭션 원장으로부터 다시 계산")
+    public ResponseEntity<ApiResponse<Integer>> rebuildRollup(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        String tenantId = TenantContext.getCurrentTenant();
+
+        log.info("Inventory movement rollup rebuild request - Tenant: {}, Period: {} to {}",
+                tenantId, startDate, endDate);
+
+        int rows = inventoryMovementRollupService.rebuild(tenantId, startDate, endDate);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        String.format("일별 재고 이동 집계 재생성 완료 - %d건", rows),
+                        rows
+                )
+        );
+    }
+
     /**
      * 통합 대시보드 (모든 분석 결과)
      */
@@ -3,13 +3,17 @@ package kr.co.softice.mes.api.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import kr.co.softice.mes.common.dto.ApiResponse;
+import kr.co.softice.mes.common.dto.KeysetCursor;
+import kr.co.softice.mes.common.dto.PageResponse;
 import kr.co.softice.mes.common.dto.inventory.InventoryReleaseRequest;
 import kr.co.softice.mes.common.dto.inventory.InventoryReserveRequest;
 import kr.co.softice.mes.common.dto.inventory.InventoryResponse;
 import kr.co.softice.mes.common.exception.EntityNotFoundException;
 import kr.co.softice.mes.common.exception.ErrorCode;
+import kr.co.softice.mes.common.export.ExportFormat;
 import kr.co.softice.mes.common.security.TenantContext;
 import kr.co.softice.mes.domain.entity.InventoryEntity;
+import kr.co.softice.mes.domain.service.DataExportService;
 import kr.co.softice.mes.domain.service.InventoryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,7 +22,9 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -29,6 +35,7 @@ import java.util.stream.Collectors;
  *
  * 엔드포인트:
  * - GET /api/inventory - 재고 현황 조회
+ * - GET /api/inventory/export - 재고 현황 내보내기 (CSV / XLSX)
  * - GET /api/inventory/{id} - 재고 상세 조회
  * - GET /api/inventory/warehouse/{warehouseId} - 창고별 재고
  * - GET /api/inventory/product/{productId} - 제품별 재고
@@ -46,6 +53,7 @@ import java.util.stream.Collectors;
 public class InventoryController {
 
     private final InventoryService inventoryService;
+    private final DataExportService dataExportService;
 
     /**
      * 재고 현황 조회
@@ -67,6 +75,50 @@ public class InventoryController {
         return ResponseEntity.ok(ApiResponse.success("재고 현황 조회 성공", responses));
     }
 
+    /**
+     * 재고 현황 커서 페이징 조회
+     * GET /api/inventory/cursor?cursor=&size=
+     *
+     * 최신순(ID 내림차순) keyset 페이징, 응답의 nextCursor 로 다음 페이지 조회
+     */
+    @Transactional(readOnly = true)
+    @GetMapping("/cursor")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "재고 현황 커서 페이징 조회", description = "ID 내림차순 keyset 페이징 (최대 " + KeysetCursor.MAX_PAGE_SIZE + "건)")
+    public ResponseEntity<ApiResponse<PageResponse<InventoryResponse>>> getInventoryPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        String tenantId = TenantContext.getCurrentTenant();
+        int pageSize = KeysetCursor.pageSize(size);
+
+        List<InventoryEntity> rows = inventoryService.findPageByTenant(tenantId, KeysetCursor.decode(cursor), pageSize);
+        PageResponse<InventoryResponse> page = KeysetCursor.toPage(rows, pageSize, KeysetCursor.isFirst(cursor),
+                InventoryEntity::getInventoryId, this::toInventoryResponse);
+
+        return ResponseEntity.ok(ApiResponse.success("재고 현황 조회 성공", page));
+    }
+
+    /**
+     * 재고 현황 내보내기 (CSV / XLSX 스트리밍)
+     * GET /api/inventory/export?format=csv|xlsx&warehouseId=
+     */
+    @GetMapping("/export")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "재고 현황 내보내기", description = "재고 현황 전체를 CSV 또는 XLSX 로 스트리밍 다운로드")
+    public void exportInventory(
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) Long warehouseId,
+            HttpServletResponse response) throws IOException {
+
+        String tenantId = TenantContext.getCurrentTenant();
+        ExportFormat exportFormat = ExportFormat.from(format);
+        log.info("Exporting inventory for tenant: {}, warehouse: {}, format: {}", tenantId, warehouseId, exportFormat);
+
+        exportFormat.prepare(response, "inventory");
+        dataExportService.exportInventory(tenantId, warehouseId, exportFormat, response.getOutputStream());
+    }
+
     /**
      * 재고 상세 조회
      * GET /api/inventory/{id}
@@ -3,10 +3,14 @@ package kr.co.softice.mes.api.controller;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import javax.validation.Valid;
 import kr.co.softice.mes.common.dto.ApiResponse;
+import kr.co.softice.mes.common.dto.KeysetCursor;
+import kr.co.softice.mes.common.dto.PageResponse;
 import kr.co.softice.mes.common.dto.inventory.InventoryTransactionCreateRequest;
 import kr.co.softice.mes.common.dto.inventory.InventoryTransactionResponse;
+import kr.co.softice.mes.common.export.ExportFormat;
 import kr.co.softice.mes.domain.entity.*;
 import kr.co.softice.mes.domain.repository.*;
+import kr.co.softice.mes.domain.service.DataExportService;
 import kr.co.softice.mes.domain.service.InventoryTransactionService;
 import kr.co.softice.mes.common.security.TenantContext;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +21,8 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -35,6 +41,7 @@ import java.util.stream.Collectors;
 public class InventoryTransactionController {
 
     private final InventoryTransactionService inventoryTransactionService;
+    private final DataExportService dataExportService;
     private final WarehouseRepository warehouseRepository;
     private final ProductRepository productRepository;
     private final LotRepository lotRepository;
@@ -55,6 +62,51 @@ public class InventoryTransactionController {
         return ResponseEntity.ok(ApiResponse.success("재고 이동 목록 조회 성공", responses));
     }
 
+    /**
+     * 재고 이동 커서 페이징 조회
+     * GET /api/inventory-transactions/cursor?cursor=&size=
+     *
+     * 최신순(ID 내림차순) keyset 페이징, 응답의 nextCursor 로 다음 페이지 조회
+     */
+    @Transactional(readOnly = true)
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('ADMIN', 'INVENTORY_MANAGER', 'WAREHOUSE_MANAGER', 'USER')")
+    public ResponseEntity<ApiResponse<PageResponse<InventoryTransactionResponse>>> getInventoryTransactionPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        String tenantId = TenantContext.getCurrentTenant();
+        int pageSize = KeysetCursor.pageSize(size);
+
+        List<InventoryTransactionEntity> rows = inventoryTransactionService.findPageByTenant(tenantId, KeysetCursor.decode(cursor), pageSize);
+        PageResponse<InventoryTransactionResponse> page = KeysetCursor.toPage(rows, pageSize, KeysetCursor.isFirst(cursor),
+                InventoryTransactionEntity::getTransactionId, this::toResponse);
+
+        return ResponseEntity.ok(ApiResponse.success("재고 이동 조회 성공", page));
+    }
+
+    /**
+     * 재고 이동 이력 내보내기 (CSV / XLSX 스트리밍)
+     * GET /api/inventory-transactions/export?format=csv|xlsx&startDate=&endDate=&transactionType=
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'INVENTORY_MANAGER', 'WAREHOUSE_MANAGER', 'USER')")
+    public void exportTransactions(
+        @RequestParam(required = false) String format,
+        @RequestParam(required = false) LocalDateTime startDate,
+        @RequestParam(required = false) LocalDateTime endDate,
+        @RequestParam(required = false) String transactionType,
+        HttpServletResponse response) throws IOException {
+        String tenantId = TenantContext.getCurrentTenant();
+        ExportFormat exportFormat = ExportFormat.from(format);
+        log.info("Exporting inventory transactions for tenant: {}, period: {} ~ {}, format: {}",
+            tenantId, startDate, endDate, exportFormat);
+
+        exportFormat.prepare(response, "inventory_transactions");
+        dataExportService.exportInventoryTransactions(tenantId, startDate, endDate, transactionType,
+            exportFormat, response.getOutputStream());
+    }
+
     @Transactional(readOnly = true)
     @GetMapping("/{transactionId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'INVENTORY_MANAGER', 'WAREHOUSE_MANAGER', 'USER')")
@@ -3,6 +3,8 @@ package kr.co.softice.mes.api.controller;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import javax.validation.Valid;
 import kr.co.softice.mes.common.dto.ApiResponse;
+import kr.co.softice.mes.common.dto.KeysetCursor;
+import kr.co.softice.mes.common.dto.PageResponse;
 import kr.co.softice.mes.common.dto.inventory.LotCreateRequest;
 import kr.co.softice.mes.common.dto.inventory.LotResponse;
 import kr.co.softice.mes.common.dto.inventory.LotSplitRequest;
@@ -57,6 +59,29 @@ public class LotController {
         return ResponseEntity.ok(ApiResponse.success("LOT 목록 조회 성공", responses));
     }
 
+    /**
+     * LOT 커서 페이징 조회
+     * GET /api/lots/cursor?cursor=&size=
+     *
+     * 최신순(ID 내림차순) keyset 페이징, 응답의 nextCursor 로 다음 페이지 조회
+     */
+    @Transactional(readOnly = true)
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('ADMIN', 'INVENTORY_MANAGER', 'QUALITY_MANAGER', 'USER')")
+    public ResponseEntity<ApiResponse<PageResponse<LotResponse>>> getLotPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        String tenantId = TenantContext.getCurrentTenant();
+        int pageSize = KeysetCursor.pageSize(size);
+
+        List<LotEntity> rows = lotService.findPageByTenant(tenantId, KeysetCursor.decode(cursor), pageSize);
+        PageResponse<LotResponse> page = KeysetCursor.toPage(rows, pageSize, KeysetCursor.isFirst(cursor),
+                LotEntity::getLotId, this::toResponse);
+
+        return ResponseEntity.ok(ApiResponse.success("LOT 조회 성공", page));
+    }
+
     @GetMapping("/product/{productId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'INVENTORY_MANAGER', 'QUALITY_MANAGER', 'USER')")
     @Transactional(readOnly = true)
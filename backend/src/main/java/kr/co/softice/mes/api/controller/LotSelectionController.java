@@ -39,7 +39,7 @@ public class LotSelectionController {
      */
     @PostMapping("/fifo")
     @PreAuthorize("hasAnyRole('ADMIN', 'WAREHOUSE_MANAGER', 'PRODUCTION_MANAGER')")
-    @Operation(summary = "FIFO LOT 선택", description = "가장 오래된 LOT부터 선택")
+    @Operation(summary = "FIFO LOT 선택", description = "가장 오래된 LOT부터 선택 (미리보기, 예약 없음)")
     public ResponseEntity<ApiResponse<List<LotAllocationResponse>>> selectByFIFO(
             @Valid @RequestBody LotSelectionRequest request) {
 
@@ -69,7 +69,7 @@ public class LotSelectionController {
      */
     @PostMapping("/fefo")
     @PreAuthorize("hasAnyRole('ADMIN', 'WAREHOUSE_MANAGER', 'PRODUCTION_MANAGER')")
-    @Operation(summary = "FEFO LOT 선택", description = "유효기간이 빠른 LOT부터 선택")
+    @Operation(summary = "FEFO LOT 선택", description = "유효기간이 빠른 LOT부터 선택 (미리보기, 예약 없음)")
     public ResponseEntity<ApiResponse<List<LotAllocationResponse>>> selectByFEFO(
             @Valid @RequestBody LotSelectionRequest request) {
 
@@ -94,6 +94,66 @@ public class LotSelectionController {
         );
     }
 
+    /**
+     * FIFO 전략으로 LOT 할당 및 예약
+     */
+    @PostMapping("/fifo/allocate")
+    @PreAuthorize("hasAnyRole('ADMIN', 'WAREHOUSE_MANAGER', 'PRODUCTION_MANAGER')")
+    @Operation(summary = "FIFO LOT 할당", description = "가장 오래된 LOT부터 할당하고 수량을 예약 (동시 요청 간 LOT 중복 없음, 해제는 /api/inventory/release)")
+    public ResponseEntity<ApiResponse<List<LotAllocationResponse>>> allocateByFIFO(
+            @Valid @RequestBody LotSelectionRequest request) {
+
+        String tenantId = TenantContext.getCurrentTenant();
+
+        log.info("FIFO LOT allocation request - Tenant: {}, Warehouse: {}, Product: {}, Quantity: {}",
+                tenantId, request.getWarehouseId(), request.getProductId(), request.getRequiredQuantity());
+
+        List<LotSelectionService.LotAllocation> allocations = lotSelectionService.allocateLotsByFIFO(
+                tenantId,
+                request.getWarehouseId(),
+                request.getProductId(),
+                request.getRequiredQuantity()
+        );
+
+        List<LotAllocationResponse> responses = allocations.stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(
+                ApiResponse.success("FIFO LOT 할당 완료", responses)
+        );
+    }
+
+    /**
+     * FEFO 전략으로 LOT 할당 및 예약
+     */
+    @PostMapping("/fefo/allocate")
+    @PreAuthorize("hasAnyRole('ADMIN', 'WAREHOUSE_MANAGER', 'PRODUCTION_MANAGER')")
+    @Operation(summary = "FEFO LOT 할당", description = "유효기간이 빠른 LOT부터 할당하고 수량을 예약 (동시 요청 간 LOT 중복 없음, 해제는 /api/inventory/release)")
+    public ResponseEntity<ApiResponse<List<LotAllocationResponse>>> allocateByFEFO(
+            @Valid @RequestBody LotSelectionRequest request) {
+
+        String tenantId = TenantContext.getCurrentTenant();
+
+        log.info("FEFO LOT allocation request - Tenant: {}, Warehouse: {}, Product: {}, Quantity: {}",
+                tenantId, request.getWarehouseId(), request.getProductId(), request.getRequiredQuantity());
+
+        List<LotSelectionService.LotAllocation> allocations = lotSelectionService.allocateLotsByFEFO(
+                tenantId,
+                request.getWarehouseId(),
+                request.getProductId(),
+                request.getRequiredQuantity()
+        );
+
+        List<LotAllocationResponse> responses = allocations.stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(
+                ApiResponse.success("FEFO LOT 할당 완료", responses)
+        );
+    }
+
     /**
      * 특정 LOT 선택
      */
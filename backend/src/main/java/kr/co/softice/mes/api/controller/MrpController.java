@@ -0,0 +1,90 @@
+package kr.co.softice.mes.api.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.co.softice.mes.common.dto.ApiResponse;
+import kr.co.softice.mes.common.exception.EntityNotFoundException;
+import kr.co.softice.mes.common.exception.ErrorCode;
+import kr.co.softice.mes.common.security.TenantContext;
+import kr.co.softice.mes.domain.service.MrpService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * MRP Controller
+ * 자재 소요량 계획 API
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/mrp")
+@RequiredArgsConstructor
+@Tag(name = "MRP", description = "자재 소요량 계획 API")
+public class MrpController {
+
+    private final MrpService mrpService;
+
+    /**
+     * MRP 실행 (수주 미지정 시 확정/부분납품 수주 전체)
+     */
+    @PostMapping("/run")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PRODUCTION_MANAGER')")
+    @Operation(summary = "MRP 실행", description = "수주 잔량을 다단계 BOM 전개 후 가용 재고/미입고 발주로 네팅")
+    public ResponseEntity<ApiResponse<MrpService.MrpResult>> run(
+            @RequestParam(required = false) List<Long> salesOrderIds) {
+
+        String tenantId = TenantContext.getCurrentTenant();
+
+        log.info("MRP run request - Tenant: {}, sales orders: {}", tenantId, salesOrderIds);
+
+        MrpService.MrpResult result = mrpService.run(tenantId, salesOrderIds);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        String.format("MRP 실행 완료 - %d개 품목, 부족 %d개", result.getItemCount(), result.getShortageItemCount()),
+                        result
+                )
+        );
+    }
+
+    /**
+     * 최근 전체 MRP 실행 결과 (야간 실행 포함)
+     */
+    @GetMapping("/latest")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PRODUCTION_MANAGER', 'ENGINEER', 'USER')")
+    @Operation(summary = "최근 MRP 결과 조회", description = "테넌트의 마지막 전체 MRP 결과 (야간 실행 포함, 노드 무관)")
+    public ResponseEntity<ApiResponse<MrpService.MrpResult>> getLatest() {
+        String tenantId = TenantContext.getCurrentTenant();
+
+        MrpService.MrpResult result = mrpService.findLatestResult(tenantId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.RESOURCE_NOT_FOUND));
+
+        return ResponseEntity.ok(ApiResponse.success("최근 MRP 결과 조회 성공", result));
+    }
+
+    /**
+     * 다단계 BOM 전개 (네팅 없음)
+     */
+    @GetMapping("/explosion/{productId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PRODUCTION_MANAGER', 'ENGINEER', 'USER')")
+    @Operation(summary = "다단계 BOM 전개", description = "제품 수량에 대한 전 레벨 구성품 소요량")
+    public ResponseEntity<ApiResponse<List<MrpService.MrpItem>>> explode(
+            @PathVariable Long productId,
+            @RequestParam(defaultValue = "1") BigDecimal quantity) {
+
+        String tenantId = TenantContext.getCurrentTenant();
+
+        List<MrpService.MrpItem> items = mrpService.explode(tenantId, productId, quantity);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(String.format("BOM 전개 완료 - %d개 구성품", items.size()), items)
+        );
+    }
+}
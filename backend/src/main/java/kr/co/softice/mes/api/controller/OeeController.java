@@ -0,0 +1,85 @@
+package kr.co.softice.mes.api.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.co.softice.mes.common.dto.ApiResponse;
+import kr.co.softice.mes.common.dto.equipment.OeeTrendResponse;
+import kr.co.softice.mes.common.security.TenantContext;
+import kr.co.softice.mes.domain.service.OeeRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * OEE Controller
+ * 설비 종합 효율 (OEE) 집계 컨트롤러
+ *
+ * - GET /api/oee/trend - 설비/라인/사업장/전체 × 교대/일/월 OEE 추이
+ * - POST /api/oee/rebuild - 기간 OEE 집계 재생성
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/oee")
+@RequiredArgsConstructor
+@Tag(name = "OEE", description = "설비 종합 효율 집계 API")
+public class OeeController {
+
+    private final OeeRollupService oeeRollupService;
+
+    /**
+     * OEE 추이 조회
+     */
+    @GetMapping("/trend")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "OEE 추이 조회",
+            description = "교대/일/월 단위 설비·라인·사업장·전체 OEE (가동률, 성능, 품질) 추이를 조회합니다.")
+    public ResponseEntity<ApiResponse<List<OeeTrendResponse>>> getTrend(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "PLANT") OeeRollupService.Level level,
+            @RequestParam(defaultValue = "DAY") OeeRollupService.Granularity granularity,
+            @RequestParam(required = false) Long dimensionId) {
+
+        String tenantId = TenantContext.getCurrentTenant();
+
+        log.info("OEE trend request - Tenant: {}, Period: {} to {}, level: {}, granularity: {}",
+                tenantId, startDate, endDate, level, granularity);
+
+        List<OeeTrendResponse> trend = oeeRollupService.getTrend(
+                tenantId, startDate, endDate, level, granularity, dimensionId);
+
+        return ResponseEntity.ok(ApiResponse.success("OEE 추이 조회 성공", trend));
+    }
+
+    /**
+     * OEE 집계 재생성 (백필/교대 정의 변경)
+     */
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "OEE 집계 재생성", description = "기간 내 교대별 OEE 집계를 가동/비가동 이력으로부터 다시 계산 (최대 app.oee.rebuild-max-days 일)")
+    public ResponseEntity<ApiResponse<Integer>> rebuild(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        String tenantId = TenantContext.getCurrentTenant();
+
+        log.info("OEE rollup rebuild request - Tenant: {}, Period: {} to {}", tenantId, startDate, endDate);
+
+        int buckets = oeeRollupService.rebuild(tenantId, startDate, endDate);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        String.format("OEE 집계 재생성 완료 - %d건", buckets),
+                        buckets
+                )
+        );
+    }
+}
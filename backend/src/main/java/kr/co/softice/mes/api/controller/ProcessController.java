@@ -159,7 +159,7 @@ public class ProcessController {
 
         log.info("Updating process: {}", id);
 
-        ProcessEntity process = processService.findById(id)
+        ProcessEntity process = processService.findByIdUncached(id)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.PROCESS_NOT_FOUND));
 
         if (request.getProcessName() != null) {
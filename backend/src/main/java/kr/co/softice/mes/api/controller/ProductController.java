@@ -162,7 +162,7 @@ public class ProductController {
 
         log.info("Updating product: {}", id);
 
-        ProductEntity product = productService.findById(id)
+        ProductEntity product = productService.findByIdUncached(id)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
 
         if (request.getProductName() != null) {
@@ -6,7 +6,9 @@ import kr.co.softice.mes.common.dto.ApiResponse;
 import kr.co.softice.mes.common.dto.schedule.*;
 import kr.co.softice.mes.domain.entity.*;
 import kr.co.softice.mes.domain.repository.*;
+import kr.co.softice.mes.domain.service.CapacitySchedulingService;
 import kr.co.softice.mes.domain.service.ProductionScheduleService;
+import kr.co.softice.mes.domain.service.ScheduleChangeFeedService;
 import kr.co.softice.mes.common.security.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,6 +37,8 @@ import java.util.stream.Collectors;
 public class ProductionScheduleController {
 
     private final ProductionScheduleService scheduleService;
+    private final CapacitySchedulingService capacitySchedulingService;
+    private final ScheduleChangeFeedService changeFeedService;
     private final WorkOrderRepository workOrderRepository;
     private final ProcessRoutingStepRepository routingStepRepository;
     private final EquipmentRepository equipmentRepository;
@@ -124,6 +128,35 @@ public class ProductionScheduleController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success("일정 생성 성공", responses));
     }
 
+    @PostMapping("/capacity-run")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PRODUCTION_MANAGER')")
+    public ResponseEntity<ApiResponse<CapacityScheduleResult>> runCapacityScheduling(
+        @RequestBody(required = false) CapacityScheduleRequest request
+    ) {
+        String tenantId = TenantContext.getCurrentTenant();
+        CapacityScheduleResult result = capacitySchedulingService.schedule(
+            tenantId,
+            request != null ? request.getWorkOrderIds() : null,
+            request != null ? request.getNotBefore() : null
+        ).getResult();
+
+        return ResponseEntity.ok(ApiResponse.success(
+            String.format("유한 능력 스케줄링 완료 - 작업지시 %d건, 일정 %d건", result.getWorkOrderCount(), result.getScheduleCount()),
+            result));
+    }
+
+    @GetMapping("/conflicts")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PRODUCTION_MANAGER', 'ENGINEER')")
+    public ResponseEntity<ApiResponse<List<ScheduleConflict>>> getConflictReport(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        String tenantId = TenantContext.getCurrentTenant();
+        List<ScheduleConflict> conflicts = capacitySchedulingService.findConflicts(
+            tenantId, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+        return ResponseEntity.ok(ApiResponse.success("설비 일정 충돌 보고 조회 성공", conflicts));
+    }
+
     @PostMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'PRODUCTION_MANAGER', 'ENGINEER')")
     public ResponseEntity<ScheduleResponse> createSchedule(@Valid @RequestBody ScheduleCreateRequest request) {
@@ -261,6 +294,17 @@ public class ProductionScheduleController {
         return ResponseEntity.ok(ApiResponse.success("간트차트 데이터 조회 성공", ganttData));
     }
 
+    @GetMapping("/gantt/changes")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PRODUCTION_MANAGER', 'ENGINEER', 'USER')")
+    public ResponseEntity<ApiResponse<GanttChangeFeed>> getGanttChanges(
+        @RequestParam(required = false) Long sinceVersion,
+        @RequestParam(defaultValue = "500") int limit
+    ) {
+        String tenantId = TenantContext.getCurrentTenant();
+        GanttChangeFeed changes = changeFeedService.getChanges(tenantId, sinceVersion, limit);
+        return ResponseEntity.ok(ApiResponse.success("간트차트 변경 조회 성공", changes));
+    }
+
     @Transactional(readOnly = true)
     @GetMapping("/{scheduleId}/conflicts")
     @PreAuthorize("hasAnyRole('ADMIN', 'PRODUCTION_MANAGER', 'ENGINEER')")
@@ -4,6 +4,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import javax.validation.Valid;
 import kr.co.softice.mes.common.dto.ApiResponse;
+import kr.co.softice.mes.common.dto.KeysetCursor;
+import kr.co.softice.mes.common.dto.PageResponse;
 import kr.co.softice.mes.common.dto.quality.QualityInspectionCreateRequest;
 import kr.co.softice.mes.common.dto.quality.QualityInspectionResponse;
 import kr.co.softice.mes.common.dto.quality.QualityInspectionUpdateRequest;
@@ -63,6 +65,30 @@ public class QualityInspectionController {
         return ResponseEntity.ok(ApiResponse.success("품질 검사 목록 조회 성공", inspections));
     }
 
+    /**
+     * 품질 검사 커서 페이징 조회
+     * GET /api/quality-inspections/cursor?cursor=&size=
+     *
+     * 최신순(ID 내림차순) keyset 페이징, 응답의 nextCursor 로 다음 페이지 조회
+     */
+    @Transactional(readOnly = true)
+    @GetMapping("/cursor")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "품질 검사 커서 페이징 조회", description = "ID 내림차순 keyset 페이징 (최대 " + KeysetCursor.MAX_PAGE_SIZE + "건)")
+    public ResponseEntity<ApiResponse<PageResponse<QualityInspectionResponse>>> getQualityInspectionPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        String tenantId = TenantContext.getCurrentTenant();
+        int pageSize = KeysetCursor.pageSize(size);
+
+        List<QualityInspectionEntity> rows = qualityInspectionService.findPageByTenant(tenantId, KeysetCursor.decode(cursor), pageSize);
+        PageResponse<QualityInspectionResponse> page = KeysetCursor.toPage(rows, pageSize, KeysetCursor.isFirst(cursor),
+                QualityInspectionEntity::getQualityInspectionId, this::toQualityInspectionResponse);
+
+        return ResponseEntity.ok(ApiResponse.success("품질 검사 조회 성공", page));
+    }
+
     /**
      * 품질 검사 상세 조회
      * GET /api/quality-inspections/{id}
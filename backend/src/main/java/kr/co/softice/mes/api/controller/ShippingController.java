@@ -3,6 +3,8 @@ package kr.co.softice.mes.api.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import kr.co.softice.mes.common.dto.ApiResponse;
+import kr.co.softice.mes.common.dto.KeysetCursor;
+import kr.co.softice.mes.common.dto.PageResponse;
 import kr.co.softice.mes.common.dto.sales.*;
 import kr.co.softice.mes.common.exception.EntityNotFoundException;
 import kr.co.softice.mes.common.exception.ErrorCode;
@@ -94,6 +96,30 @@ public class ShippingController {
         return ResponseEntity.ok(ApiResponse.success("출하 목록 조회 성공", responses));
     }
 
+    /**
+     * 출하 커서 페이징 조회
+     * GET /api/shippings/cursor?cursor=&size=
+     *
+     * 최신순(ID 내림차순) keyset 페이징, 응답의 nextCursor 로 다음 페이지 조회
+     */
+    @Transactional(readOnly = true)
+    @GetMapping("/cursor")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "출하 커서 페이징 조회", description = "ID 내림차순 keyset 페이징 (최대 " + KeysetCursor.MAX_PAGE_SIZE + "건)")
+    public ResponseEntity<ApiResponse<PageResponse<ShippingResponse>>> getShippingPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        String tenantId = TenantContext.getCurrentTenant();
+        int pageSize = KeysetCursor.pageSize(size);
+
+        List<ShippingEntity> rows = shippingService.findPageByTenant(tenantId, KeysetCursor.decode(cursor), pageSize);
+        PageResponse<ShippingResponse> page = KeysetCursor.toPage(rows, pageSize, KeysetCursor.isFirst(cursor),
+                ShippingEntity::getShippingId, this::toShippingResponse);
+
+        return ResponseEntity.ok(ApiResponse.success("출하 조회 성공", page));
+    }
+
     /**
      * 출하 상세 조회 (항목 포함)
      * GET /api/shippings/{id}
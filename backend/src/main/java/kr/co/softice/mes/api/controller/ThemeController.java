@@ -208,7 +208,7 @@ public class ThemeController {
         checkThemeManagementPermission();
         log.info("Updating theme: {}", id);
 
-        ThemeEntity theme = themeService.findById(id)
+        ThemeEntity theme = themeService.findByIdUncached(id)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.THEME_NOT_FOUND));
 
         if (request.getThemeName() != null) {
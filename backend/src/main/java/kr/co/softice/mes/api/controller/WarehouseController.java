@@ -197,7 +197,7 @@ public class WarehouseController {
         log.info("Updating warehouse: {}", id);
 
         // Find existing warehouse
-        WarehouseEntity existing = warehouseService.findById(id)
+        WarehouseEntity existing = warehouseService.findByIdUncached(id)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.WAREHOUSE_NOT_FOUND));
 
         // Update fields
@@ -246,7 +246,7 @@ public class WarehouseController {
     public ResponseEntity<ApiResponse<WarehouseResponse>> deleteWarehouse(@PathVariable Long id) {
         log.info("Deactivating warehouse: {}", id);
 
-        WarehouseEntity warehouse = warehouseService.findById(id)
+        WarehouseEntity warehouse = warehouseService.findByIdUncached(id)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.WAREHOUSE_NOT_FOUND));
 
         warehouse.setIsActive(false);
@@ -3,17 +3,27 @@ package kr.co.softice.mes.api.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import kr.co.softice.mes.common.dto.ApiResponse;
+import kr.co.softice.mes.common.dto.KeysetCursor;
+import kr.co.softice.mes.common.dto.PageResponse;
 import kr.co.softice.mes.common.dto.weighing.*;
+import kr.co.softice.mes.common.export.ExportFormat;
 import kr.co.softice.mes.common.security.TenantContext;
+import kr.co.softice.mes.domain.service.DataExportService;
+import kr.co.softice.mes.domain.service.ScaleIngestionService;
 import kr.co.softice.mes.domain.service.WeighingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,11 +33,18 @@ import java.util.stream.Collectors;
  *
  * 엔드포인트:
  * - GET /api/weighings - 칭량 목록
+ * - GET /api/weighings/export - 칭량 기록 내보내기 (CSV / XLSX)
  * - GET /api/weighings/{id} - 칭량 상세
  * - GET /api/weighings/tolerance-exceeded - 허용 오차 초과 목록
  * - GET /api/weighings/pending-verification - 검증 대기 목록
+ * - GET /api/weighings/statistics - 칭량 통계 (테넌트 카운터)
+ * - POST /api/weighings/statistics/rebuild - 칭량 통계 재계산
  * - GET /api/weighings/reference/{type}/{id} - 참조 문서별 조회
  * - POST /api/weighings - 칭량 생성
+ * - POST /api/weighings/readings - 저울 측정값 수신 (JSON 배열 / NDJSON, 안정 중량 자동 칭량)
+ * - GET /api/weighings/scales - 저울 칭량 세션 목록
+ * - POST /api/weighings/scales/{scaleId}/session - 저울 칭량 세션 시작
+ * - DELETE /api/weighings/scales/{scaleId}/session - 저울 칭량 세션 종료
  * - PUT /api/weighings/{id} - 칭량 수정
  * - POST /api/weighings/{id}/verify - 칭량 검증 (GMP 이중 검증)
  * - DELETE /api/weighings/{id} - 칭량 삭제
@@ -44,6 +61,8 @@ import java.util.stream.Collectors;
 public class WeighingController {
 
     private final WeighingService weighingService;
+    private final DataExportService dataExportService;
+    private final ScaleIngestionService scaleIngestionService;
 
     /**
      * 칭량 목록 조회
@@ -89,6 +108,49 @@ public class WeighingController {
         return ResponseEntity.ok(ApiResponse.success("칭량 목록 조회 성공", responses));
     }
 
+    /**
+     * 칭량 커서 페이징 조회
+     * GET /api/weighings/cursor?cursor=&size=
+     *
+     * 최신순(ID 내림차순) keyset 페이징, 응답의 nextCursor 로 다음 페이지 조회
+     */
+    @GetMapping("/cursor")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "칭량 커서 페이징 조회", description = "ID 내림차순 keyset 페이징 (최대 " + KeysetCursor.MAX_PAGE_SIZE + "건)")
+    public ResponseEntity<ApiResponse<PageResponse<WeighingResponse>>> getWeighingPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        String tenantId = TenantContext.getCurrentTenant();
+        PageResponse<WeighingResponse> page = weighingService.getWeighingPage(tenantId, cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success("칭량 조회 성공", page));
+    }
+
+    /**
+     * 칭량 기록 내보내기 (CSV / XLSX 스트리밍)
+     * GET /api/weighings/export?format=csv|xlsx&startDate=&endDate=&weighingType=
+     */
+    @GetMapping("/export")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "칭량 기록 내보내기", description = "기간/유형 조건의 칭량 기록을 CSV 또는 XLSX 로 스트리밍 다운로드")
+    public void exportWeighings(
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) LocalDateTime startDate,
+            @RequestParam(required = false) LocalDateTime endDate,
+            @RequestParam(required = false) String weighingType,
+            HttpServletResponse response) throws IOException {
+
+        String tenantId = TenantContext.getCurrentTenant();
+        ExportFormat exportFormat = ExportFormat.from(format);
+        log.info("Exporting weighings for tenant: {}, period: {} ~ {}, format: {}",
+                tenantId, startDate, endDate, exportFormat);
+
+        exportFormat.prepare(response, "weighings");
+        dataExportService.exportWeighings(tenantId, startDate, endDate, weighingType, exportFormat,
+                response.getOutputStream());
+    }
+
     /**
      * 칭량 상세 조회
      * GET /api/weighings/{id}
@@ -148,14 +210,45 @@ public class WeighingController {
         String tenantId = TenantContext.getCurrentTenant();
         log.info("Getting unverified tolerance exceeded weighings for tenant: {}", tenantId);
 
-        // Get tolerance exceeded weighings and filter for pending verification status
-        List<WeighingResponse> responses = weighingService.getToleranceExceededWeighings(tenantId).stream()
-                .filter(w -> "PENDING".equals(w.getVerificationStatus()))
-                .collect(Collectors.toList());
+        List<WeighingResponse> responses = weighingService.getUnverifiedToleranceExceededWeighings(tenantId);
 
         return ResponseEntity.ok(ApiResponse.success("미검증 허용 오차 초과 칭량 조회 성공", responses));
     }
 
+    /**
+     * 칭량 통계 조회
+     * GET /api/weighings/statistics
+     *
+     * Note: 테넌트별 카운터 행 조회 (칭량 이력 건수와 무관)
+     */
+    @GetMapping("/statistics")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "칭량 통계 조회", description = "전체/검증 대기/검증/반려/허용 오차 초과 건수")
+    public ResponseEntity<ApiResponse<WeighingStatisticsResponse>> getStatistics() {
+        String tenantId = TenantContext.getCurrentTenant();
+        log.info("Getting weighing statistics for tenant: {}", tenantId);
+
+        WeighingStatisticsResponse response = weighingService.getStatistics(tenantId);
+
+        return ResponseEntity.ok(ApiResponse.success("칭량 통계 조회 성공", response));
+    }
+
+    /**
+     * 칭량 통계 재계산
+     * POST /api/weighings/statistics/rebuild
+     */
+    @PostMapping("/statistics/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "칭량 통계 재계산", description = "칭량 기록 집계로 테넌트 카운터 재계산 (보정용)")
+    public ResponseEntity<ApiResponse<WeighingStatisticsResponse>> rebuildStatistics() {
+        String tenantId = TenantContext.getCurrentTenant();
+        log.info("Rebuilding weighing statistics for tenant: {}", tenantId);
+
+        WeighingStatisticsResponse response = weighingService.rebuildStatistics(tenantId);
+
+        return ResponseEntity.ok(ApiResponse.success("칭량 통계 재계산 완료", response));
+    }
+
     /**
      * 참조 문서별 칭량 조회
      * GET /api/weighings/reference/{type}/{id}
@@ -174,6 +267,90 @@ public class WeighingController {
         return ResponseEntity.ok(ApiResponse.success("참조 문서 칭량 조회 성공", responses));
     }
 
+    /**
+     * 저울 측정값 수신 (JSON 배열)
+     * POST /api/weighings/readings
+     *
+     * Note: 세션이 열린 저울의 측정값만 반영, 안정 중량 확정 시 칭량 기록(PENDING)을 일괄 저장한 뒤 응답
+     */
+    @PostMapping(value = "/readings", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "저울 측정값 수신", description = "저울 측정값 일괄 수신 (안정 중량 자동 칭량)")
+    public ResponseEntity<ApiResponse<ScaleIngestResult>> ingestReadings(@RequestBody List<ScaleReading> readings) {
+        String tenantId = TenantContext.getCurrentTenant();
+        log.debug("Ingesting {} scale readings for tenant: {}", readings.size(), tenantId);
+
+        ScaleIngestResult result = scaleIngestionService.ingest(tenantId, readings);
+
+        return ResponseEntity.ok(ApiResponse.success("저울 측정값 수신 완료", result));
+    }
+
+    /**
+     * 저울 측정값 수신 (NDJSON 스트림)
+     * POST /api/weighings/readings
+     */
+    @PostMapping(value = "/readings", consumes = "application/x-ndjson")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "저울 측정값 수신 (스트림)", description = "NDJSON 본문으로 저울 측정값 연속 수신")
+    public ResponseEntity<ApiResponse<ScaleIngestResult>> ingestReadingStream(
+            HttpServletRequest httpRequest) throws IOException {
+        String tenantId = TenantContext.getCurrentTenant();
+        log.debug("Ingesting scale reading stream for tenant: {}", tenantId);
+
+        ScaleIngestResult result = scaleIngestionService.ingestNdjson(tenantId, httpRequest.getInputStream());
+
+        return ResponseEntity.ok(ApiResponse.success("저울 측정값 수신 완료", result));
+    }
+
+    /**
+     * 저울 칭량 세션 목록
+     * GET /api/weighings/scales
+     */
+    @GetMapping("/scales")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "저울 칭량 세션 목록", description = "이 노드에 열린 저울 칭량 세션 상태 조회")
+    public ResponseEntity<ApiResponse<List<ScaleSessionResponse>>> getScaleSessions() {
+        String tenantId = TenantContext.getCurrentTenant();
+        log.info("Getting scale sessions for tenant: {}", tenantId);
+
+        return ResponseEntity.ok(ApiResponse.success("저울 칭량 세션 조회 성공",
+                scaleIngestionService.getSessions(tenantId)));
+    }
+
+    /**
+     * 저울 칭량 세션 시작
+     * POST /api/weighings/scales/{scaleId}/session
+     */
+    @PostMapping("/scales/{scaleId}/session")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "저울 칭량 세션 시작", description = "저울에 품목/작업자/기준 중량 지정 후 측정값 수신 시작")
+    public ResponseEntity<ApiResponse<ScaleSessionResponse>> openScaleSession(
+            @PathVariable Long scaleId,
+            @Valid @RequestBody ScaleSessionRequest request) {
+        String tenantId = TenantContext.getCurrentTenant();
+        log.info("Opening scale session for tenant: {}, scale: {}", tenantId, scaleId);
+
+        ScaleSessionResponse response = scaleIngestionService.openSession(tenantId, scaleId, request);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("저울 칭량 세션 시작", response));
+    }
+
+    /**
+     * 저울 칭량 세션 종료
+     * DELETE /api/weighings/scales/{scaleId}/session
+     */
+    @DeleteMapping("/scales/{scaleId}/session")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "저울 칭량 세션 종료", description = "저울 측정값 수신 종료")
+    public ResponseEntity<ApiResponse<ScaleSessionResponse>> closeScaleSession(@PathVariable Long scaleId) {
+        String tenantId = TenantContext.getCurrentTenant();
+        log.info("Closing scale session for tenant: {}, scale: {}", tenantId, scaleId);
+
+        return ResponseEntity.ok(ApiResponse.success("저울 칭량 세션 종료",
+                scaleIngestionService.closeSession(tenantId, scaleId)));
+    }
+
     /**
      * 칭량 생성
      * POST /api/weighings
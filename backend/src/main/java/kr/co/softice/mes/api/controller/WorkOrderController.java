@@ -3,6 +3,8 @@ package kr.co.softice.mes.api.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import kr.co.softice.mes.common.dto.ApiResponse;
+import kr.co.softice.mes.common.dto.KeysetCursor;
+import kr.co.softice.mes.common.dto.PageResponse;
 import kr.co.softice.mes.common.dto.workorder.WorkOrderCreateRequest;
 import kr.co.softice.mes.common.dto.workorder.WorkOrderResponse;
 import kr.co.softice.mes.common.dto.workorder.WorkOrderUpdateRequest;
@@ -64,6 +66,30 @@ public class WorkOrderController {
         return ResponseEntity.ok(ApiResponse.success("작업 지시 목록 조회 성공", workOrders));
     }
 
+    /**
+     * 작업 지시 커서 페이징 조회
+     * GET /api/work-orders/cursor?cursor=&size=
+     *
+     * 최신순(ID 내림차순) keyset 페이징, 응답의 nextCursor 로 다음 페이지 조회
+     */
+    @Transactional(readOnly = true)
+    @GetMapping("/cursor")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "작업 지시 커서 페이징 조회", description = "ID 내림차순 keyset 페이징 (최대 " + KeysetCursor.MAX_PAGE_SIZE + "건)")
+    public ResponseEntity<ApiResponse<PageResponse<WorkOrderResponse>>> getWorkOrderPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        String tenantId = TenantContext.getCurrentTenant();
+        int pageSize = KeysetCursor.pageSize(size);
+
+        List<WorkOrderEntity> rows = workOrderService.findPageByTenant(tenantId, KeysetCursor.decode(cursor), pageSize);
+        PageResponse<WorkOrderResponse> page = KeysetCursor.toPage(rows, pageSize, KeysetCursor.isFirst(cursor),
+                WorkOrderEntity::getWorkOrderId, this::toWorkOrderResponse);
+
+        return ResponseEntity.ok(ApiResponse.success("작업 지시 조회 성공", page));
+    }
+
     /**
      * 작업 지시 상세 조회
      * GET /api/work-orders/{id}
@@ -10,6 +10,7 @@ import kr.co.softice.mes.domain.entity.TenantEntity;
 import kr.co.softice.mes.domain.entity.WorkingHoursEntity;
 import kr.co.softice.mes.domain.repository.TenantRepository;
 import kr.co.softice.mes.domain.repository.WorkingHoursRepository;
+import kr.co.softice.mes.domain.service.HolidayService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -37,6 +38,7 @@ public class WorkingHoursController {
 
     private final WorkingHoursRepository workingHoursRepository;
     private final TenantRepository tenantRepository;
+    private final HolidayService holidayService;
 
     @Transactional(readOnly = true)
     @GetMapping
@@ -114,6 +116,7 @@ public class WorkingHoursController {
 
         schedule.setTenant(tenant);
         WorkingHoursEntity saved = workingHoursRepository.save(schedule);
+        holidayService.invalidateCalendar(tenantId);
         return ResponseEntity.status(HttpStatus.CREATED).body(saved);
     }
 
@@ -155,6 +158,7 @@ public class WorkingHoursController {
         existing.setIsActive(schedule.getIsActive());
 
         WorkingHoursEntity updated = workingHoursRepository.save(existing);
+        holidayService.invalidateCalendar(existing.getTenant().getTenantId());
         return ResponseEntity.ok(updated);
     }
 
@@ -169,6 +173,7 @@ public class WorkingHoursController {
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.RESOURCE_NOT_FOUND));
 
         workingHoursRepository.delete(schedule);
+        holidayService.invalidateCalendar(schedule.getTenant().getTenantId());
         return ResponseEntity.ok().build();
     }
 }
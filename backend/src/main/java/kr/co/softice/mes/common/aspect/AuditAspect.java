@@ -1,16 +1,11 @@
 package kr.co.softice.mes.common.aspect;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import javax.servlet.http.HttpServletRequest;
 import kr.co.softice.mes.common.annotation.Audited;
+import kr.co.softice.mes.common.audit.AuditLogWriter;
+import kr.co.softice.mes.common.audit.AuditRecord;
 import kr.co.softice.mes.common.security.TenantContext;
-import kr.co.softice.mes.domain.entity.AuditLogEntity;
-import kr.co.softice.mes.domain.entity.TenantEntity;
-import kr.co.softice.mes.domain.entity.UserEntity;
-import kr.co.softice.mes.domain.repository.AuditLogRepository;
-import kr.co.softice.mes.domain.repository.TenantRepository;
-import kr.co.softice.mes.domain.repository.UserRepository;
+import kr.co.softice.mes.common.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -42,10 +37,7 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class AuditAspect {
 
-    private final AuditLogRepository auditLogRepository;
-    private final UserRepository userRepository;
-    private final TenantRepository tenantRepository;
-    private final ObjectMapper objectMapper;
+    private final AuditLogWriter auditLogWriter;
     private final ExpressionParser parser = new SpelExpressionParser();
 
     @Around("@annotation(kr.co.softice.mes.common.annotation.Audited)")
@@ -55,30 +47,28 @@ public class AuditAspect {
         Audited audited = method.getAnnotation(Audited.class);
 
         // 감사 로그 빌더 초기화
-        AuditLogEntity.AuditLogEntityBuilder auditBuilder = AuditLogEntity.builder();
+        AuditRecord.AuditRecordBuilder auditBuilder = AuditRecord.builder();
 
-        // 현재 사용자 정보 추출
+        // 현재 사용자 정보 추출 (인증된 UserPrincipal 사용, DB 조회 없음)
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication != null ? authentication.getName() : "anonymous";
+        Object principal = authentication != null ? authentication.getPrincipal() : null;
 
         // HTTP 요청 정보 추출
         HttpServletRequest request = getCurrentHttpRequest();
 
-        // 테넌트 정보 설정
+        // 테넌트 / 사용자 정보 설정
         String tenantId = TenantContext.getCurrentTenant();
-        if (tenantId != null) {
-            tenantRepository.findById(tenantId).ifPresent(auditBuilder::tenant);
-        }
-
-        // 사용자 정보 설정
-        if (!"anonymous".equals(username) && !"anonymousUser".equals(username)) {
-            userRepository.findByUsername(username).ifPresent(user -> {
-                auditBuilder.user(user);
-                auditBuilder.username(user.getUsername());
-            });
+        if (principal instanceof UserPrincipal) {
+            UserPrincipal userPrincipal = (UserPrincipal) principal;
+            auditBuilder.userId(userPrincipal.getUserId());
+            auditBuilder.username(userPrincipal.getUsername());
+            if (tenantId == null) {
+                tenantId = userPrincipal.getTenantId();
+            }
         } else {
-            auditBuilder.username(username);
+            auditBuilder.username(authentication != null ? authentication.getName() : "anonymous");
         }
+        auditBuilder.tenantId(tenantId);
 
         // 기본 감사 정보 설정
         auditBuilder.action(audited.action());
@@ -93,17 +83,9 @@ public class AuditAspect {
             auditBuilder.endpoint(request.getRequestURI());
         }
 
-        // 변경 전 데이터 추적 (필요 시)
-        Object oldValue = null;
+        // 변경 전 데이터 추적 (필요 시, JSON 변환은 AuditLogWriter 기록 스레드에서)
         if (audited.trackOldValue()) {
-            try {
-                oldValue = extractOldValue(joinPoint);
-                if (oldValue != null) {
-                    auditBuilder.oldValue(objectMapper.writeValueAsString(oldValue));
-                }
-            } catch (JsonProcessingException e) {
-                log.warn("Failed to serialize old value", e);
-            }
+            auditBuilder.oldValueSource(extractOldValue(joinPoint));
         }
 
         // 메서드 실행
@@ -120,13 +102,9 @@ public class AuditAspect {
                 auditBuilder.entityId(entityId);
             }
 
-            // 변경 후 데이터 추적 (필요 시)
+            // 변경 후 데이터 추적 (필요 시, 원본 객체만 전달)
             if (audited.trackNewValue() && result != null) {
-                try {
-                    auditBuilder.newValue(objectMapper.writeValueAsString(result));
-                } catch (JsonProcessingException e) {
-                    log.warn("Failed to serialize new value", e);
-                }
+                auditBuilder.newValueSource(result);
             }
 
         } catch (Exception e) {
@@ -134,15 +112,15 @@ public class AuditAspect {
             errorMessage = e.getMessage();
             throw e;
         } finally {
-            // 감사 로그 저장
+            // 감사 로그 적재 (AuditLogWriter 가 비동기 배치 저장)
             auditBuilder.success(success);
             auditBuilder.errorMessage(errorMessage);
             auditBuilder.createdAt(LocalDateTime.now());
 
-            try {
-                auditLogRepository.save(auditBuilder.build());
-            } catch (Exception e) {
-                log.error("Failed to save audit log", e);
+            if (tenantId != null) {
+                auditLogWriter.submit(auditBuilder.build());
+            } else {
+                log.debug("Skipping audit log without tenant: {}", audited.action());
             }
         }
 
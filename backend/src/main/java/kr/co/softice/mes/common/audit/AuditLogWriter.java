@@ -0,0 +1,330 @@
+package kr.co.softice.mes.common.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Audit Log Writer
+ * 감사 로그 비동기 배치 기록기
+ *
+ * - AuditAspect 는 큐에 적재만 하고 즉시 반환 (요청 경로에서 DB 접근 / 변경 데이터 JSON 직렬화 없음)
+ * - flush-interval-ms 주기로 taskScheduler(SchedulingConfig) 가 큐를 비우며 JDBC batch insert 수행
+ * - 큐가 가득 찬 경우 overflow-policy 에 따라 처리
+ *   BLOCK: block-timeout-ms 동안 대기 후 실패 시 폐기
+ *   DROP : 즉시 폐기 (audit.log.dropped 카운터 증가)
+ *   SPILL: 로컬 파일(NDJSON)에 기록, 유휴 시 DB 로 재적재
+ * - 종료 시 큐에 남은 로그를 모두 기록
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+    public enum OverflowPolicy { BLOCK, DROP, SPILL }
+
+    private static final String INSERT_SQL =
+            "INSERT INTO sd_audit_logs (tenant_id, user_id, username, action, entity_type, entity_id, " +
+            "description, old_value, new_value, ip_address, user_agent, http_method, endpoint, " +
+            "success, error_message, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.audit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.audit.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.audit.overflow-policy:DROP}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${app.audit.block-timeout-ms:100}")
+    private long blockTimeoutMs;
+
+    @Value("${app.audit.spill-file:./logs/audit-spill.ndjson}")
+    private String spillFile;
+
+    private BlockingQueue<AuditRecord> queue;
+
+    private Counter enqueued;
+    private Counter dropped;
+    private Counter spilled;
+    private Counter written;
+    private Counter failed;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.enqueued = counter("enqueued");
+        this.dropped = counter("dropped");
+        this.spilled = counter("spilled");
+        this.written = counter("written");
+        this.failed = counter("failed");
+        Gauge.builder("audit.log.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+
+        log.info("Audit log writer started: capacity={}, batchSize={}, overflowPolicy={}",
+                queueCapacity, batchSize, overflowPolicy);
+    }
+
+    /**
+     * 감사 로그 적재 (호출 스레드에서 DB 접근 없음)
+     */
+    public void submit(AuditRecord record) {
+        if (queue.offer(record)) {
+            enqueued.increment();
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK:
+                try {
+                    if (queue.offer(record, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        enqueued.increment();
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                dropped.increment();
+                break;
+            case SPILL:
+                spill(List.of(record));
+                break;
+            default:
+                dropped.increment();
+        }
+    }
+
+    /**
+     * 종료 시 잔여 로그 기록
+     */
+    @PreDestroy
+    public void shutdown() {
+        int flushed = drain();
+        log.info("Audit log writer stopped, flushed {} pending records", flushed);
+    }
+
+    /**
+     * 주기 기록: 큐를 batch-size 단위로 비우고, 비어 있으면 spill 파일 재적재
+     */
+    @Scheduled(fixedDelayString = "${app.audit.flush-interval-ms:1000}")
+    public void flush() {
+        try {
+            if (drain() == 0) {
+                replaySpill();
+            }
+        } catch (Exception e) {
+            log.error("Unexpected error in audit log writer", e);
+        }
+    }
+
+    private int drain() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        int drained = 0;
+        while (queue.drainTo(batch, batchSize) > 0) {
+            drained += batch.size();
+            write(batch);
+            batch.clear();
+        }
+        return drained;
+    }
+
+    /**
+     * JDBC batch insert, 실패 시 건별 재시도로 불량 레코드만 분리
+     */
+    private void write(List<AuditRecord> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batch.forEach(this::serializeValues);
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bind);
+            written.increment(batch.size());
+        } catch (Exception e) {
+            if (isDatabaseDown(e)) {
+                if (overflowPolicy == OverflowPolicy.SPILL) {
+                    spill(batch);
+                } else {
+                    failed.increment(batch.size());
+                    log.error("Database unavailable, {} audit records lost: {}", batch.size(), e.getMessage());
+                }
+                return;
+            }
+
+            log.warn("Audit batch insert failed ({} records), retrying individually: {}",
+                    batch.size(), e.getMessage());
+            for (AuditRecord record : batch) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, record));
+                    written.increment();
+                } catch (Exception ex) {
+                    failed.increment();
+                    log.error("Failed to save audit log: action={}, entity={}, error={}",
+                            record.getAction(), record.getEntityType(), ex.getMessage());
+                }
+            }
+        }
+    }
+
+    private void bind(PreparedStatement ps, AuditRecord record) throws SQLException {
+        ps.setString(1, record.getTenantId());
+        if (record.getUserId() != null) {
+            ps.setLong(2, record.getUserId());
+        } else {
+            ps.setNull(2, Types.BIGINT);
+        }
+        ps.setString(3, record.getUsername());
+        ps.setString(4, record.getAction());
+        ps.setString(5, record.getEntityType());
+        ps.setString(6, record.getEntityId());
+        ps.setString(7, record.getDescription());
+        ps.setString(8, record.getOldValue());
+        ps.setString(9, record.getNewValue());
+        ps.setString(10, record.getIpAddress());
+        ps.setString(11, record.getUserAgent());
+        ps.setString(12, record.getHttpMethod());
+        ps.setString(13, record.getEndpoint());
+        ps.setBoolean(14, record.isSuccess());
+        ps.setString(15, record.getErrorMessage());
+        ps.setTimestamp(16, Timestamp.valueOf(record.getCreatedAt()));
+    }
+
+    /**
+     * 변경 전/후 원본 객체를 JSON 으로 변환 (기록 스레드에서 수행)
+     */
+    private void serializeValues(AuditRecord record) {
+        if (record.getOldValueSource() != null) {
+            record.setOldValue(toJson(record.getOldValueSource(), record));
+            record.setOldValueSource(null);
+        }
+        if (record.getNewValueSource() != null) {
+            record.setNewValue(toJson(record.getNewValueSource(), record));
+            record.setNewValueSource(null);
+        }
+    }
+
+    private String toJson(Object value, AuditRecord record) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (Exception e) {
+            log.warn("Failed to serialize audit value: action={}, entity={}, error={}",
+                    record.getAction(), record.getEntityType(), e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean isDatabaseDown(Exception e) {
+        return e instanceof DataAccessResourceFailureException;
+    }
+
+    /**
+     * 로컬 파일에 NDJSON 으로 기록
+     */
+    private synchronized void spill(List<AuditRecord> records) {
+        Path path = Paths.get(spillFile);
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (BufferedWriter out = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (AuditRecord record : records) {
+                    serializeValues(record);
+                    out.write(objectMapper.writeValueAsString(record));
+                    out.newLine();
+                }
+            }
+            spilled.increment(records.size());
+        } catch (IOException e) {
+            dropped.increment(records.size());
+            log.error("Failed to spill {} audit records to {}", records.size(), spillFile, e);
+        }
+    }
+
+    /**
+     * 큐가 비었을 때 spill 파일을 DB 로 재적재
+     */
+    private void replaySpill() {
+        if (overflowPolicy != OverflowPolicy.SPILL) {
+            return;
+        }
+        Path path = Paths.get(spillFile);
+        Path replaying = Paths.get(spillFile + ".replay");
+        synchronized (this) {
+            if (!Files.exists(path)) {
+                return;
+            }
+            try {
+                Files.move(path, replaying, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                log.warn("Failed to rotate audit spill file: {}", e.getMessage());
+                return;
+            }
+        }
+
+        try {
+            List<String> lines = Files.readAllLines(replaying, StandardCharsets.UTF_8);
+            List<AuditRecord> batch = new ArrayList<>(batchSize);
+            for (String line : lines) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                batch.add(objectMapper.readValue(line, AuditRecord.class));
+                if (batch.size() >= batchSize) {
+                    write(batch);
+                    batch.clear();
+                }
+            }
+            write(batch);
+            Files.delete(replaying);
+            log.info("Replayed {} spilled audit records", lines.size());
+        } catch (IOException e) {
+            log.error("Failed to replay audit spill file {}", replaying, e);
+        }
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder("audit.log.records")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,45 @@
+package kr.co.softice.mes.common.audit;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Audit Record
+ * 비동기 기록 대기 중인 감사 로그 (엔티티 참조 없이 ID 만 보관)
+ *
+ * 변경 전/후 데이터는 원본 객체(oldValueSource/newValueSource)로 받아 두고
+ * AuditLogWriter 가 기록 스레드에서 JSON 으로 변환 (요청 스레드에서 직렬화하지 않음)
+ *
+ * @author Moon Myung-seop
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditRecord {
+
+    private String tenantId;
+    private Long userId;
+    private String username;
+    private String action;
+    private String entityType;
+    private String entityId;
+    private String description;
+    private String oldValue;
+    private String newValue;
+    private String ipAddress;
+    private String userAgent;
+    private String httpMethod;
+    private String endpoint;
+    private boolean success;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+
+    @JsonIgnore
+    private transient Object oldValueSource;
+    @JsonIgnore
+    private transient Object newValueSource;
+}
@@ -0,0 +1,89 @@
+package kr.co.softice.mes.common.cache;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIncludeProperties;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.hibernate5.Hibernate5Module;
+import kr.co.softice.mes.domain.entity.UserEntity;
+import org.hibernate.proxy.HibernateProxyHelper;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cache Value Codec
+ * 캐시 값 직렬화 (L1/L2 공통 JSON 표현)
+ *
+ * - 필드 기준 직렬화, 초기화되지 않은 지연 로딩 연관관계는 식별자만 기록 (DB 조회 없음)
+ * - 단일 객체와 List 를 지원하며 타입 정보는 봉투(type/elementType)에 기록
+ * - 조회 시 매번 새 인스턴스로 복원하므로 호출자가 수정해도 캐시 값에는 영향 없음
+ * - 사용자(UserEntity) 연관관계는 표시용 식별 정보만 기록 (비밀번호 해시 등 자격 증명은 캐시/Redis 에 남기지 않음)
+ *
+ * @author Moon Myung-seop
+ */
+class CacheValueCodec {
+
+    private static final String LIST_TYPE = "list";
+
+    private final ObjectMapper objectMapper;
+
+    CacheValueCodec(ObjectMapper objectMapper) {
+        Hibernate5Module hibernateModule = new Hibernate5Module();
+        hibernateModule.enable(Hibernate5Module.Feature.SERIALIZE_IDENTIFIER_FOR_LAZY_NOT_LOADED_OBJECTS);
+
+        this.objectMapper = objectMapper.copy()
+                .registerModule(hibernateModule)
+                .addMixIn(UserEntity.class, CachedUserMixin.class)
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+    }
+
+    String encode(Object value) throws IOException {
+        ObjectNode envelope = objectMapper.createObjectNode();
+        if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            envelope.put("type", LIST_TYPE);
+            if (!list.isEmpty()) {
+                envelope.put("elementType", classOf(list.get(0)).getName());
+            }
+        } else {
+            envelope.put("type", classOf(value).getName());
+        }
+        envelope.set("value", objectMapper.valueToTree(value));
+        return objectMapper.writeValueAsString(envelope);
+    }
+
+    Object decode(String encoded) throws IOException, ClassNotFoundException {
+        JsonNode envelope = objectMapper.readTree(encoded);
+        String type = envelope.path("type").asText();
+        JsonNode value = envelope.get("value");
+
+        if (LIST_TYPE.equals(type)) {
+            if (!envelope.hasNonNull("elementType")) {
+                return new ArrayList<>();
+            }
+            JavaType listType = objectMapper.getTypeFactory()
+                    .constructCollectionType(ArrayList.class, loadClass(envelope.get("elementType").asText()));
+            return objectMapper.convertValue(value, listType);
+        }
+        return objectMapper.treeToValue(value, loadClass(type));
+    }
+
+    private Class<?> classOf(Object value) {
+        return HibernateProxyHelper.getClassWithoutInitializingProxy(value);
+    }
+
+    private Class<?> loadClass(String className) throws ClassNotFoundException {
+        return ClassUtils.forName(className, getClass().getClassLoader());
+    }
+
+    @JsonIncludeProperties({"userId", "username", "email", "fullName", "status"})
+    private abstract static class CachedUserMixin {
+    }
+}
@@ -0,0 +1,257 @@
+package kr.co.softice.mes.common.cache;
+
+import kr.co.softice.mes.common.transaction.TransactionHooks;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Two-Tier Cache
+ * L1(Caffeine) + L2(Redis) 캐시
+ *
+ * - 조회: L1 → L2 → 원본 (L2 적중 시 L1 에 적재)
+ * - 값은 CacheValueCodec 의 JSON 으로 저장하고 조회 시 복원 (호출자 간 인스턴스 공유 없음)
+ * - evict/evictPrefix/clear 는 트랜잭션 중이면 커밋 이후 수행, L2 사용 시 다른 노드 L1 무효화 메시지 발행
+ * - get(key, loader): 적재 중 무효화(이 노드의 커밋 이후 evict 또는 다른 노드의 메시지)가 있었으면
+ *   적재 결과를 반환만 하고 저장하지 않음 (커밋 전 데이터로 적재한 값이 무효화 이후 다시 저장되지 않음)
+ * - Redis 오류 시 L1 만으로 동작
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private static final String REDIS_KEY_PREFIX = "mes:cache:";
+
+    private final String name;
+    private final Cache<String, String> localCache;
+    private final CacheValueCodec codec;
+    private final StringRedisTemplate redis;
+    private final Duration ttl;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter codecErrors;
+
+    // evict/evictPrefix/clear/invalidateLocal 마다 증가 (get(key, loader) 적재 중 무효화 감지)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    TwoTierCache(String name,
+                 Cache<String, String> localCache,
+                 CacheValueCodec codec,
+                 StringRedisTemplate redis,
+                 Duration ttl,
+                 Counter redisHits,
+                 Counter redisMisses,
+                 Counter codecErrors) {
+        super(false);
+        this.name = name;
+        this.localCache = localCache;
+        this.codec = codec;
+        this.redis = redis;
+        this.ttl = ttl;
+        this.redisHits = redisHits;
+        this.redisMisses = redisMisses;
+        this.codecErrors = codecErrors;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String cacheKey = String.valueOf(key);
+        String encoded = localCache.getIfPresent(cacheKey);
+
+        if (encoded == null && redis != null) {
+            encoded = readRedis(cacheKey);
+            if (encoded != null) {
+                redisHits.increment();
+                localCache.put(cacheKey, encoded);
+            } else {
+                redisMisses.increment();
+            }
+        }
+
+        if (encoded == null) {
+            return null;
+        }
+        try {
+            return codec.decode(encoded);
+        } catch (Exception e) {
+            codecErrors.increment();
+            log.warn("Discarding undecodable cache entry {}::{}: {}", name, cacheKey, e.getMessage());
+            localCache.invalidate(cacheKey);
+            return null;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        long invalidationsBefore = invalidations.get();
+        Object cached = lookup(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (invalidations.get() == invalidationsBefore) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+
+        String cacheKey = String.valueOf(key);
+        String encoded;
+        try {
+            encoded = codec.encode(value);
+        } catch (Exception e) {
+            codecErrors.increment();
+            log.warn("Skipping cache put {}::{}: {}", name, cacheKey, e.getMessage());
+            return;
+        }
+
+        localCache.put(cacheKey, encoded);
+        if (redis != null) {
+            try {
+                redis.opsForValue().set(redisKey(cacheKey), encoded, ttl);
+            } catch (Exception e) {
+                log.warn("Failed to write cache {}::{} to Redis: {}", name, cacheKey, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = String.valueOf(key);
+        TransactionHooks.afterCommit(() -> {
+            invalidations.incrementAndGet();
+            localCache.invalidate(cacheKey);
+            if (redis != null) {
+                try {
+                    redis.delete(redisKey(cacheKey));
+                    redis.convertAndSend(TwoTierCacheManager.INVALIDATION_CHANNEL,
+                            TwoTierCacheManager.invalidationMessage(name, cacheKey));
+                } catch (Exception e) {
+                    log.warn("Failed to evict cache {}::{} from Redis: {}", name, cacheKey, e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * 키가 prefix 로 시작하는 항목 제거 (예: 테넌트 단위 무효화)
+     */
+    public void evictPrefix(String prefix) {
+        TransactionHooks.afterCommit(() -> {
+            invalidations.incrementAndGet();
+            localCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+            if (redis != null) {
+                try {
+                    deleteRedisKeys(prefix);
+                    redis.convertAndSend(TwoTierCacheManager.INVALIDATION_CHANNEL,
+                            TwoTierCacheManager.prefixInvalidationMessage(name, prefix));
+                } catch (Exception e) {
+                    log.warn("Failed to evict cache {}::{}* from Redis: {}", name, prefix, e.getMessage());
+                }
+            }
+        });
+    }
+
+    @Override
+    public void clear() {
+        TransactionHooks.afterCommit(() -> {
+            invalidations.incrementAndGet();
+            localCache.invalidateAll();
+            if (redis != null) {
+                try {
+                    deleteRedisKeys("");
+                    redis.convertAndSend(TwoTierCacheManager.INVALIDATION_CHANNEL,
+                            TwoTierCacheManager.invalidationMessage(name, null));
+                } catch (Exception e) {
+                    log.warn("Failed to clear cache {} from Redis: {}", name, e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 반영 (L1 만 제거)
+     */
+    void invalidateLocal(String cacheKey) {
+        invalidations.incrementAndGet();
+        if (cacheKey == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(cacheKey);
+        }
+    }
+
+    private String readRedis(String cacheKey) {
+        try {
+            return redis.opsForValue().get(redisKey(cacheKey));
+        } catch (Exception e) {
+            log.warn("Failed to read cache {}::{} from Redis: {}", name, cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 다른 노드의 prefix 무효화 메시지 반영 (L1 만 제거)
+     */
+    void invalidateLocalPrefix(String prefix) {
+        invalidations.incrementAndGet();
+        localCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private void deleteRedisKeys(String keyPrefix) {
+        // SCAN MATCH glob 특수문자(* ? [ ] \) 는 이스케이프
+        String escapedPrefix = keyPrefix.replaceAll("([*?\\[\\]\\\\])", "\\\\$1");
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(REDIS_KEY_PREFIX + name + ":" + escapedPrefix + "*").count(500).build();
+        List<String> keys = redis.execute((RedisCallback<List<String>>) connection -> {
+            List<String> found = new ArrayList<>();
+            try (Cursor<byte[]> cursor = connection.scan(options)) {
+                cursor.forEachRemaining(key -> found.add(new String(key, StandardCharsets.UTF_8)));
+            }
+            return found;
+        });
+        if (keys != null && !keys.isEmpty()) {
+            redis.delete(keys);
+        }
+    }
+
+    private String redisKey(String cacheKey) {
+        return REDIS_KEY_PREFIX + name + ":" + cacheKey;
+    }
+}
@@ -0,0 +1,119 @@
+package kr.co.softice.mes.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Two-Tier Cache Manager
+ * 마스터 데이터용 L1(Caffeine) + L2(Redis) 캐시 관리자
+ *
+ * - 캐시별 크기/TTL 은 app.cache.caches.{name}, 없으면 app.cache.default-spec
+ * - L1 적중률은 cache.gets/puts/evictions (CaffeineCacheMetrics), L2 는 cache.redis (hit/miss)
+ * - 다른 노드에서 발행한 무효화 메시지를 수신하여 L1 제거
+ *   ("{cacheName}\n{key}", key 가 없으면 전체, "{cacheName}\n\n{prefix}" 는 prefix 로 시작하는 키 전체)
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "mes:cache:evict";
+    private static final String SEPARATOR = "\n";
+
+    private final TwoTierCacheProperties properties;
+    private final StringRedisTemplate redis;
+    private final CacheValueCodec codec;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(TwoTierCacheProperties properties,
+                               StringRedisTemplate redis,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redis = redis;
+        this.codec = new CacheValueCodec(objectMapper);
+        this.meterRegistry = meterRegistry;
+
+        log.info("Two-tier cache manager initialized: redis={}, caches={}",
+                redis != null, properties.getCaches().keySet());
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 메시지 수신 → L1 제거
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(SEPARATOR);
+        String cacheName = separator < 0 ? body : body.substring(0, separator);
+        String cacheKey = separator < 0 ? null : body.substring(separator + 1);
+
+        TwoTierCache cache = caches.get(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (cacheKey != null && cacheKey.startsWith(SEPARATOR)) {
+            cache.invalidateLocalPrefix(cacheKey.substring(SEPARATOR.length()));
+        } else {
+            cache.invalidateLocal(cacheKey);
+        }
+    }
+
+    static String invalidationMessage(String cacheName, String cacheKey) {
+        return cacheKey == null ? cacheName : cacheName + SEPARATOR + cacheKey;
+    }
+
+    static String prefixInvalidationMessage(String cacheName, String prefix) {
+        return cacheName + SEPARATOR + SEPARATOR + prefix;
+    }
+
+    private TwoTierCache createCache(String name) {
+        TwoTierCacheProperties.Spec spec = properties.specFor(name);
+        Duration ttl = Duration.ofSeconds(spec.getTtlSeconds());
+
+        com.github.benmanes.caffeine.cache.Cache<String, String> localCache = Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, name);
+
+        return new TwoTierCache(name, localCache, codec, redis, ttl,
+                redisCounter(name, "hit"), redisCounter(name, "miss"),
+                Counter.builder("cache.codec.errors").tag("cache", name).register(meterRegistry));
+    }
+
+    private Counter redisCounter(String name, String result) {
+        return Counter.builder("cache.redis")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,47 @@
+package kr.co.softice.mes.common.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Two-Tier Cache Configuration Properties
+ *
+ * @author Moon Myung-seop
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.cache")
+public class TwoTierCacheProperties {
+
+    /**
+     * L2(Redis) 사용 및 노드 간 무효화 전파 여부
+     */
+    private boolean redisEnabled;
+
+    /**
+     * 캐시별 설정이 없을 때 사용하는 기본값
+     */
+    private Spec defaultSpec = new Spec();
+
+    /**
+     * 캐시별 크기/TTL
+     */
+    private Map<String, Spec> caches = new LinkedHashMap<>();
+
+    public Spec specFor(String cacheName) {
+        return caches.getOrDefault(cacheName, defaultSpec);
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+        private long maximumSize = 1000;
+        private long ttlSeconds = 600;
+    }
+}
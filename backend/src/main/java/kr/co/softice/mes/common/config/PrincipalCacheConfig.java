@@ -0,0 +1,29 @@
+package kr.co.softice.mes.common.config;
+
+import kr.co.softice.mes.common.security.PrincipalCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Principal Cache Configuration
+ * Redis 사용 시 노드 간 Principal 캐시 무효화 메시지 구독
+ *
+ * @author Moon Myung-seop
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.security.principal-cache.redis-enabled", havingValue = "true")
+public class PrincipalCacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer principalCacheListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                         PrincipalCache principalCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(principalCache, new ChannelTopic(PrincipalCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
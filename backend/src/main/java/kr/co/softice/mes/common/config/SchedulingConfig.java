@@ -0,0 +1,46 @@
+package kr.co.softice.mes.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Scheduling Configuration
+ * 백그라운드 작업 스레드 풀 (@Scheduled 주기 작업, 알람 발송 워커)
+ *
+ * - taskScheduler: 감사 로그/칭량 배치 저장, POP·일정 변경 전송, 알람 폴링, MRP 야간 실행
+ *   (WebSocket 브로커의 messageBrokerTaskScheduler 가 @Scheduled 에 쓰이지 않도록 이름으로 지정)
+ * - alarmDispatchExecutor: 알람 채널 발송 워커 (app.alarm.outbox.worker-threads)
+ * - 종료 시 실행 중인 작업 완료를 기다린 후 각 컴포넌트의 @PreDestroy 에서 잔여분 처리
+ *
+ * @author Moon Myung-seop
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${app.scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("mes-scheduler-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        return scheduler;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor alarmDispatchExecutor(
+            @Value("${app.alarm.outbox.worker-threads:4}") int workerThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setThreadNamePrefix("alarm-dispatcher-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
@@ -0,0 +1,43 @@
+package kr.co.softice.mes.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.softice.mes.common.cache.TwoTierCacheManager;
+import kr.co.softice.mes.common.cache.TwoTierCacheProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Two-Tier Cache Configuration
+ * 마스터 데이터 캐시 (@Cacheable) 관리자 등록, Redis 사용 시 노드 간 무효화 메시지 구독
+ *
+ * @author Moon Myung-seop
+ */
+@Configuration
+public class TwoTierCacheConfig {
+
+    @Bean
+    public TwoTierCacheManager cacheManager(TwoTierCacheProperties properties,
+                                            ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+                                            ObjectMapper objectMapper,
+                                            MeterRegistry meterRegistry) {
+        StringRedisTemplate redis = properties.isRedisEnabled() ? redisTemplateProvider.getObject() : null;
+        return new TwoTierCacheManager(properties, redis, objectMapper, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.redis-enabled", havingValue = "true")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            TwoTierCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoTierCacheManager.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,112 @@
+package kr.co.softice.mes.common.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV Reader
+ * RFC 4180 CSV 스트리밍 리더 (레코드 단위, 전체 파일을 메모리에 올리지 않음)
+ *
+ * - 쉼표 구분, 큰따옴표 인용 (인용 안의 쉼표/줄바꿈/"" 이스케이프 허용)
+ * - CRLF / LF 모두 허용, 선행 UTF-8 BOM 무시
+ *
+ * @author Moon Myung-seop
+ */
+public class CsvReader {
+
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private int pushback = Integer.MIN_VALUE;
+    private int line = 1;
+    private int recordLine;
+    private boolean started;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드, 파일 끝이면 null
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = read();
+            }
+        }
+        if (c == EOF) {
+            return null;
+        }
+
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == EOF) {
+                    throw new IOException("Unterminated quoted field at line " + recordLine);
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(following);
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == EOF) {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        unread(following);
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 레코드의 시작 줄 번호 (1부터)
+     */
+    public int getRecordLine() {
+        return recordLine;
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pushback != Integer.MIN_VALUE) {
+            c = pushback;
+            pushback = Integer.MIN_VALUE;
+            return c;
+        }
+        c = reader.read();
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    private void unread(int c) {
+        pushback = c;
+    }
+}
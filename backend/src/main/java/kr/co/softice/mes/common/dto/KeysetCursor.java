@@ -0,0 +1,99 @@
+package kr.co.softice.mes.common.dto;
+
+import kr.co.softice.mes.common.exception.BusinessException;
+import kr.co.softice.mes.common.exception.ErrorCode;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keyset Cursor
+ * 커서(keyset) 페이징 지원
+ *
+ * - 정렬 키: 엔티티 PK 내림차순 (최신순, 동일 값 없음 → 안정적)
+ * - 커서: 마지막 행 PK 를 인코딩한 불투명 토큰
+ * - 조회: WHERE id < :cursor ORDER BY id DESC LIMIT size + 1
+ *   (한 건 더 읽어 다음 페이지 존재 여부 판단, COUNT 쿼리 없음)
+ *
+ * @author Moon Myung-seop
+ */
+public final class KeysetCursor {
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private static final String VERSION_PREFIX = "v1:";
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * 첫 페이지 요청 여부 (커서 없음 또는 빈 문자열)
+     */
+    public static boolean isFirst(String cursor) {
+        return !StringUtils.hasText(cursor);
+    }
+
+    /**
+     * 커서 디코딩 (없으면 첫 페이지 → Long.MAX_VALUE)
+     */
+    public static long decode(String cursor) {
+        if (isFirst(cursor)) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(VERSION_PREFIX)) {
+                throw new IllegalArgumentException(raw);
+            }
+            return Long.parseLong(raw.substring(VERSION_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Invalid cursor: " + cursor);
+        }
+    }
+
+    /**
+     * 커서 인코딩
+     */
+    public static String encode(long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((VERSION_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 요청 페이지 크기 보정 (1 ~ MAX_PAGE_SIZE)
+     */
+    public static int pageSize(Integer size) {
+        if (size == null || size < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * size + 1 건 조회용 Pageable (정렬은 쿼리의 ORDER BY 사용)
+     */
+    public static Pageable limit(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    /**
+     * size + 1 건 조회 결과를 커서 페이지 응답으로 변환
+     */
+    public static <E, R> PageResponse<R> toPage(List<E> rows, int size, boolean first,
+                                                 Function<E, Long> idExtractor, Function<E, R> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext ? encode(idExtractor.apply(page.get(page.size() - 1))) : null;
+        List<R> content = page.stream().map(mapper).collect(Collectors.toList());
+
+        return PageResponse.ofCursor(content, size, first, nextCursor);
+    }
+}
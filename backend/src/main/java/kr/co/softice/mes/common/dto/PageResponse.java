@@ -28,6 +28,11 @@ public class PageResponse<T> {
     private boolean last;
     private boolean empty;
 
+    /**
+     * 커서 페이징: 다음 페이지 조회용 불투명 토큰 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
     public static <T> PageResponse<T> of(org.springframework.data.domain.Page<T> page) {
         return PageResponse.<T>builder()
                 .content(page.getContent())
@@ -40,4 +45,19 @@ public class PageResponse<T> {
                 .empty(page.isEmpty())
                 .build();
     }
+
+    /**
+     * 커서(keyset) 페이징 응답 생성
+     * 전체 건수를 세지 않으므로 totalElements/totalPages 는 제공하지 않음
+     */
+    public static <T> PageResponse<T> ofCursor(List<T> content, int pageSize, boolean first, String nextCursor) {
+        return PageResponse.<T>builder()
+                .content(content)
+                .pageSize(pageSize)
+                .first(first)
+                .last(nextCursor == null)
+                .empty(content.isEmpty())
+                .nextCursor(nextCursor)
+                .build();
+    }
 }
@@ -0,0 +1,47 @@
+package kr.co.softice.mes.common.dto.alarm;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Alarm Bulk Send Request DTO
+ * 알람 일괄 발송 요청 DTO (같은 이벤트를 여러 수신자에게)
+ *
+ * - 템플릿 조회/컴파일은 요청당 1회, 수신자별 variables 가 없는 키는 공통 variables 사용
+ * - 수신자는 요청당 최대 MAX_RECIPIENTS 명 (알람 이력 저장이 한 트랜잭션이므로 상한 필요)
+ *
+ * @author Moon Myung-seop
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlarmBulkSendRequest {
+
+    public static final int MAX_RECIPIENTS = 1000;
+
+    @NotBlank(message = "Event type is required")
+    private String eventType;
+
+    private Map<String, String> variables;  // 공통 변수
+
+    private String referenceType;
+
+    private Long referenceId;
+
+    private String referenceNo;
+
+    @Valid
+    @NotEmpty(message = "Recipients are required")
+    @Size(max = MAX_RECIPIENTS, message = "At most " + MAX_RECIPIENTS + " recipients are allowed per request")
+    private List<AlarmRecipient> recipients;
+}
@@ -0,0 +1,29 @@
+package kr.co.softice.mes.common.dto.alarm;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotNull;
+import java.util.Map;
+
+/**
+ * Alarm Recipient DTO
+ * 알람 일괄 발송 수신자
+ *
+ * @author Moon Myung-seop
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlarmRecipient {
+
+    @NotNull(message = "Recipient user ID is required")
+    private Long recipientUserId;
+
+    private String recipientName;
+
+    private Map<String, String> variables;  // 수신자별 변수 (공통 변수보다 우선)
+}
@@ -0,0 +1,29 @@
+package kr.co.softice.mes.common.dto.bom;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * BOM Where-Used Response DTO
+ * 구성품 역전개 (사용처) 응답 DTO
+ *
+ * @author Moon Myung-seop
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BomWhereUsedResponse {
+
+    private Long productId;
+    private String productCode;
+    private String productName;
+    private String productType;
+    private Integer level;          // 구성품으로부터의 최소 단계 (1 = 직접 사용)
+    private Boolean topLevel;       // 더 이상 상위 BOM 이 없는 최상위 제품
+    private List<Long> bomIds;      // 하위 품목을 직접 사용하는 이 제품의 BOM
+}
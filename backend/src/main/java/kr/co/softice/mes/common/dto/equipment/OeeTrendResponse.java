@@ -0,0 +1,37 @@
+package kr.co.softice.mes.common.dto.equipment;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * OEE Trend Response DTO
+ * OEE 추이 응답 DTO (기간 × 집계 단위 1행)
+ * @author Moon Myung-seop
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OeeTrendResponse {
+
+    private LocalDate periodStart;          // 일자 (MONTH 단위는 월 1일)
+    private String shiftCode;               // SHIFT 단위만
+    private String level;                   // EQUIPMENT, LINE, SITE, PLANT
+    private Long dimensionId;               // 설비/라인(부서)/사업장 ID (PLANT 는 null)
+    private String dimensionName;
+
+    private BigDecimal plannedMinutes;
+    private BigDecimal runMinutes;
+    private BigDecimal stopMinutes;
+    private BigDecimal totalCount;
+    private BigDecimal goodCount;
+    private Long operationCount;
+    private Long downtimeCount;
+
+    private BigDecimal availability;        // %
+    private BigDecimal performance;         // %
+    private BigDecimal quality;             // %
+    private BigDecimal oee;                 // %
+}
@@ -0,0 +1,54 @@
+package kr.co.softice.mes.common.dto.pop;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * POP Update Message DTO
+ * POP 실시간 변경 메시지 (WebSocket)
+ *
+ * 작업지시 단위의 변경 필드만 전송 (null 필드는 직렬화하지 않음)
+ * coalescedCount: 전송 주기 동안 병합된 변경 건수
+ * @author Moon Myung-seop
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class POPUpdateMessage {
+
+    private String type;  // WORK_ORDER, WORK_PROGRESS, DEFECT
+
+    // Work Order
+    private Long workOrderId;
+    private String workOrderNo;
+    private String status;
+
+    // Work Progress
+    private Long progressId;
+    private String progressStatus;
+    private Integer pauseCount;
+
+    // Quantities
+    private BigDecimal plannedQuantity;
+    private BigDecimal producedQuantity;
+    private BigDecimal goodQuantity;
+    private BigDecimal defectQuantity;
+
+    // Latest Defect
+    private Long defectId;
+    private String defectNo;
+    private String defectType;
+    private BigDecimal reportedDefectQuantity;
+    private String severity;
+
+    private Integer coalescedCount;
+    private LocalDateTime updatedAt;
+}
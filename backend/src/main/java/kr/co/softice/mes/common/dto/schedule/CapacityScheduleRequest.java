@@ -0,0 +1,25 @@
+package kr.co.softice.mes.common.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Capacity Schedule Request DTO
+ * 유한 능력 스케줄링 실행 요청 DTO
+ *
+ * @author Moon Myung-seop
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CapacityScheduleRequest {
+
+    private List<Long> workOrderIds;    // 미지정 시 PENDING/READY 작업지시 전체
+    private LocalDateTime notBefore;    // 미지정 시 현재 시각
+}
@@ -0,0 +1,45 @@
+package kr.co.softice.mes.common.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Capacity Schedule Result DTO
+ * 유한 능력 스케줄링 실행 결과 DTO
+ *
+ * @author Moon Myung-seop
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CapacityScheduleResult {
+
+    private int workOrderCount;
+    private int scheduleCount;
+    private int equipmentCount;
+    private LocalDateTime scheduleStart;
+    private LocalDateTime scheduleEnd;
+    private long elapsedMillis;
+    private List<Long> skippedWorkOrderIds;     // 라우팅 없음
+    private List<Long> fixedWorkOrderIds;       // 착수/완료 상태 (기존 일정 유지, 재배정 제외)
+    private List<LateWorkOrder> lateWorkOrders; // 계획 종료일 초과
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LateWorkOrder {
+        private Long workOrderId;
+        private String workOrderNo;
+        private Integer priority;
+        private LocalDateTime plannedEndDate;
+        private LocalDateTime scheduledEndTime;
+        private long lateMinutes;
+    }
+}
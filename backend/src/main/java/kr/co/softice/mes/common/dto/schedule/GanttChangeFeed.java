@@ -0,0 +1,33 @@
+package kr.co.softice.mes.common.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Gantt Change Feed DTO
+ * 간트차트 증분 변경 (sinceVersion 이후 등록/수정/삭제된 일정)
+ *
+ * - 클라이언트는 tasks 를 id 기준 upsert, deletedTaskIds 는 제거 후 nextVersion 으로 다음 요청
+ * - 같은 변경이 다음 응답에 다시 포함될 수 있음 (커밋 순서 역전 대비, upsert 는 멱등)
+ * - reset 이면 전체 간트차트 재조회 후 nextVersion 부터 이어서 요청
+ *
+ * @author Moon Myung-seop
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GanttChangeFeed {
+
+    private Long sinceVersion;
+    private Long nextVersion;             // 다음 요청에 사용할 버전
+    private Long latestVersion;           // 응답에 포함된 최대 변경 버전
+    private boolean reset;                // 전체 재조회 필요 (최초 요청 또는 툼스톤 정리 이전 버전)
+    private boolean hasMore;              // limit 초과로 남은 변경 있음
+    private List<GanttChartData.GanttTask> tasks;
+    private List<String> deletedTaskIds;  // "schedule-{scheduleId}"
+}
@@ -42,6 +42,7 @@ public class GanttChartData {
         private String parentId;              // workOrderId (그룹화용)
         private List<String> dependencies;   // 선행 작업 ID 목록
         private ResourceInfo resource;        // 할당 리소스
+        private Long version;                 // 변경 버전 (증분 조회용)
     }
 
     @Data
@@ -0,0 +1,31 @@
+package kr.co.softice.mes.common.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Schedule Conflict DTO
+ * 설비 일정 중복 (같은 설비에 겹치는 두 일정)
+ *
+ * @author Moon Myung-seop
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleConflict {
+
+    private Long equipmentId;
+    private String equipmentCode;
+    private Long scheduleId;
+    private String workOrderNo;
+    private Long conflictingScheduleId;
+    private String conflictingWorkOrderNo;
+    private LocalDateTime overlapStart;
+    private LocalDateTime overlapEnd;
+    private long overlapMinutes;
+}
@@ -0,0 +1,23 @@
+package kr.co.softice.mes.common.dto.weighing;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scale Ingest Result DTO
+ * 저울 측정값 수신 결과
+ *
+ * @author Moon Myung-seop
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScaleIngestResult {
+
+    private long accepted;      // 세션에 반영된 측정값 수
+    private long rejected;      // 형식 오류 / 세션 없음 / 다른 테넌트 저울
+    private long captured;      // 안정 중량 확정 → 칭량 기록 저장 완료 건수
+    private List<String> errors = new ArrayList<>();  // 최대 100건
+}
@@ -0,0 +1,28 @@
+package kr.co.softice.mes.common.dto.weighing;
+
+import lombok.*;
+
+/**
+ * Scale Reading DTO
+ * 저울 측정값 1건 (NDJSON 한 줄: {"scaleId":1,"weight":12.345,"timestamp":1767225600000})
+ *
+ * @author Moon Myung-seop
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScaleReading {
+
+    private Long scaleId;
+
+    /**
+     * 총중량 (용기 포함)
+     */
+    private Double weight;
+
+    /**
+     * 측정 시각 (epoch millis, 미지정 시 수신 시각)
+     */
+    private Long timestamp;
+}
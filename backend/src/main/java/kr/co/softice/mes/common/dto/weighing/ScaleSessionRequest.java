@@ -0,0 +1,65 @@
+package kr.co.softice.mes.common.dto.weighing;
+
+import lombok.*;
+
+import javax.validation.constraints.*;
+import java.math.BigDecimal;
+
+/**
+ * Scale Session Request DTO
+ * 저울 칭량 세션 시작 요청 (이후 수신하는 저울 측정값에 적용할 품목/작업자/기준 중량)
+ *
+ * @author Moon Myung-seop
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScaleSessionRequest {
+
+    private String scaleName;
+
+    @NotBlank(message = "Weighing type is required")
+    @Pattern(regexp = "INCOMING|OUTGOING|PRODUCTION|SAMPLING",
+             message = "Weighing type must be INCOMING, OUTGOING, PRODUCTION, or SAMPLING")
+    private String weighingType;
+
+    @Pattern(regexp = "MATERIAL_REQUEST|WORK_ORDER|GOODS_RECEIPT|SHIPPING|QUALITY_INSPECTION",
+             message = "Invalid reference type")
+    private String referenceType;
+
+    private Long referenceId;
+
+    @NotNull(message = "Product ID is required")
+    @Positive(message = "Product ID must be positive")
+    private Long productId;
+
+    private Long lotId;
+
+    @NotNull(message = "Operator user ID is required")
+    @Positive(message = "Operator user ID must be positive")
+    private Long operatorUserId;
+
+    /**
+     * 용기 중량 (저울 측정값 = 총중량)
+     */
+    @NotNull(message = "Tare weight is required")
+    @DecimalMin(value = "0.0", inclusive = true, message = "Tare weight must be non-negative")
+    private BigDecimal tareWeight;
+
+    @DecimalMin(value = "0.0", inclusive = false, message = "Expected weight must be positive")
+    private BigDecimal expectedWeight;
+
+    @DecimalMin(value = "0.0", inclusive = true, message = "Tolerance percentage must be non-negative")
+    @DecimalMax(value = "100.0", inclusive = true, message = "Tolerance percentage must not exceed 100")
+    @Builder.Default
+    private BigDecimal tolerancePercentage = new BigDecimal("2.0");
+
+    @Size(max = 20, message = "Unit must not exceed 20 characters")
+    @Builder.Default
+    private String unit = "kg";
+
+    private BigDecimal temperature;
+
+    private BigDecimal humidity;
+}
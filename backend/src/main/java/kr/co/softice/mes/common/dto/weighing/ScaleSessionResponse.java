@@ -0,0 +1,39 @@
+package kr.co.softice.mes.common.dto.weighing;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Scale Session Response DTO
+ * 저울 칭량 세션 상태
+ *
+ * @author Moon Myung-seop
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScaleSessionResponse {
+
+    private Long scaleId;
+    private String scaleName;
+    private String weighingType;
+    private Long productId;
+    private String productCode;
+    private String productName;
+    private Long lotId;
+    private Long operatorUserId;
+    private BigDecimal tareWeight;
+    private BigDecimal expectedWeight;
+    private BigDecimal tolerancePercentage;
+    private String unit;
+    private String state;               // WAITING_LOAD, LOADED (확정 후 하역 대기)
+    private Double lastWeight;
+    private boolean stable;
+    private long readingCount;
+    private long capturedCount;
+    private LocalDateTime openedAt;
+    private LocalDateTime lastReadingAt;
+}
@@ -0,0 +1,29 @@
+package kr.co.softice.mes.common.dto.weighing;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Weighing Statistics Response DTO
+ * 칭량 통계 (테넌트별 카운터)
+ *
+ * @author Moon Myung-seop
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeighingStatisticsResponse {
+
+    private String tenantId;
+    private long totalCount;
+    private long pendingCount;
+    private long verifiedCount;
+    private long rejectedCount;
+    private long toleranceExceededCount;
+    private long pendingToleranceExceededCount;  // 검증 대기 중인 허용 오차 초과 (긴급 주의)
+    private double toleranceExceededRate;        // %
+    private double verificationRate;             // (검증 + 반려) / 전체, %
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,40 @@
+package kr.co.softice.mes.common.dto.wms;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Goods Receipt Bulk Line DTO
+ * 입하 일괄 등록 라인 (productCode 또는 productId 로 품목 지정)
+ *
+ * @author Moon Myung-seop
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoodsReceiptBulkLine {
+
+    private Integer lineNo;  // 미지정 시 입력 순번 (CSV 는 파일 줄 번호)
+
+    private String productCode;
+
+    private Long productId;
+
+    private Long purchaseOrderItemId;
+
+    private BigDecimal receivedQuantity;
+
+    private String lotNo;
+
+    private LocalDate expiryDate;
+
+    private String inspectionStatus;  // NOT_REQUIRED(기본), PENDING, PASS, FAIL
+
+    private String remarks;
+}
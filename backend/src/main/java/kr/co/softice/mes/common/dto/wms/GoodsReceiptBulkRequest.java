@@ -0,0 +1,51 @@
+package kr.co.softice.mes.common.dto.wms;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Goods Receipt Bulk Request DTO
+ * 입하 일괄 등록 요청 DTO (공급업체 ASN 파일 등)
+ *
+ * - JSON 본문은 lines 포함, CSV / NDJSON 스트림은 헤더 항목만 쿼리 파라미터로 전달
+ *
+ * @author Moon Myung-seop
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoodsReceiptBulkRequest {
+
+    private String receiptNo;  // Optional: 자동 생성 가능 (GR-YYYYMMDD-0001)
+
+    @NotNull(message = "Receipt date is required")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime receiptDate;
+
+    private Long purchaseOrderId;
+
+    private Long supplierId;
+
+    @NotNull(message = "Warehouse ID is required")
+    private Long warehouseId;
+
+    @Builder.Default
+    private String receiptType = "PURCHASE";  // PURCHASE, RETURN, TRANSFER, OTHER
+
+    private Long receiverUserId;
+
+    private String remarks;
+
+    @Builder.Default
+    private boolean partial = false;  // true: 오류 없는 라인만 등록, false: 오류가 있으면 전체 미등록
+
+    private List<GoodsReceiptBulkLine> lines;
+}
@@ -0,0 +1,44 @@
+package kr.co.softice.mes.common.dto.wms;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Goods Receipt Bulk Result DTO
+ * 입하 일괄 등록 결과 (라인별 오류 포함)
+ *
+ * @author Moon Myung-seop
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoodsReceiptBulkResult {
+
+    private Long goodsReceiptId;       // 미등록 시 null
+    private String receiptNo;
+    private String receiptStatus;
+    private int totalLines;
+    private int importedLines;
+    private int failedLines;
+    private int lotsCreated;
+    private int inventoryRowsCreated;
+    private int inventoryRowsUpdated;
+    private int inspectionsCreated;
+    private long elapsedMillis;
+    private List<LineError> errors;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LineError {
+        private int lineNo;
+        private String field;
+        private String message;
+    }
+}
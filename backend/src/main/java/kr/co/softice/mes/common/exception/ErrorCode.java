@@ -30,6 +30,7 @@ public enum ErrorCode {
     INSPECTION_NOT_COMPLETED(HttpStatus.BAD_REQUEST, "C1012", "검사가 완료되지 않았습니다."),
     INSPECTION_FAILED(HttpStatus.BAD_REQUEST, "C1013", "검사에 실패했습니다."),
     CANNOT_CANCEL_SHIPPED(HttpStatus.BAD_REQUEST, "C1014", "이미 출하된 항목은 취소할 수 없습니다."),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "C1015", "다른 사용자가 먼저 수정했습니다. 다시 조회 후 시도하세요."),
 
     // Authentication & Authorization (2xxx)
     AUTHENTICATION_FAILED(HttpStatus.UNAUTHORIZED, "A2000", "인증에 실패했습니다."),
@@ -101,6 +102,7 @@ public enum ErrorCode {
     BOM_NOT_FOUND(HttpStatus.NOT_FOUND, "BM12000", "BOM을 찾을 수 없습니다."),
     BOM_ALREADY_EXISTS(HttpStatus.CONFLICT, "BM12001", "이미 존재하는 BOM입니다."),
     BOM_VERSION_ALREADY_EXISTS(HttpStatus.CONFLICT, "BM12002", "이미 존재하는 BOM 버전입니다."),
+    BOM_CIRCULAR_REFERENCE(HttpStatus.UNPROCESSABLE_ENTITY, "BM12003", "BOM 구조에 순환 참조가 있습니다."),
     BOM_DETAIL_NOT_FOUND(HttpStatus.NOT_FOUND, "BD12100", "BOM 상세를 찾을 수 없습니다."),
 
     // Business Management - Customer/Supplier (13xxx)
@@ -153,6 +155,7 @@ public enum ErrorCode {
     DISPOSAL_ALREADY_EXISTS(HttpStatus.CONFLICT, "DS18501", "이미 존재하는 폐기입니다."),
     WEIGHING_NOT_FOUND(HttpStatus.NOT_FOUND, "WG18600", "칭량 기록을 찾을 수 없습니다."),
     WEIGHING_ALREADY_EXISTS(HttpStatus.CONFLICT, "WG18601", "이미 존재하는 칭량 기록입니다."),
+    SCALE_SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "WG18602", "저울 칭량 세션을 찾을 수 없습니다."),
 
     // Defect Management (19xxx)
     DEFECT_NOT_FOUND(HttpStatus.NOT_FOUND, "DF19000", "불량을 찾을 수 없습니다."),
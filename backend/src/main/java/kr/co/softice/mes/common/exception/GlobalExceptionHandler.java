@@ -5,6 +5,7 @@ import kr.co.softice.mes.common.dto.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.BindException;
@@ -183,6 +184,25 @@ public class GlobalExceptionHandler {
                 .body(response);
     }
 
+    /**
+     * 낙관적 잠금(@Version) 충돌 처리
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    protected ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            ObjectOptimisticLockingFailureException e, HttpServletRequest request) {
+        log.warn("Optimistic Locking Failure: {}", e.getMessage());
+
+        ErrorResponse response = ErrorResponse.of(
+                ErrorCode.CONCURRENT_MODIFICATION.getCode(),
+                ErrorCode.CONCURRENT_MODIFICATION.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(response);
+    }
+
     /**
      * 기타 모든 예외 처리
      */
@@ -0,0 +1,122 @@
+package kr.co.softice.mes.common.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * CSV Export Writer
+ * RFC 4180 CSV (UTF-8 BOM, CRLF) - Excel 에서 한글이 깨지지 않도록 BOM 기록
+ * 수식으로 해석될 수 있는 텍스트(=, +, -, @, 탭, CR 시작)는 ' 를 앞에 붙여 무력화 (CSV Injection 방지, 숫자 값 제외)
+ *
+ * @author Moon Myung-seop
+ */
+public class CsvExportWriter implements ExportWriter {
+
+    static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Writer writer;
+    private long rowCount;
+
+    public CsvExportWriter(OutputStream output) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+        this.writer.write('\uFEFF');
+    }
+
+    @Override
+    public void writeHeader(List<String> headers) throws IOException {
+        writeRecord(headers.toArray());
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        writeRecord(values);
+        rowCount++;
+    }
+
+    @Override
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private void writeRecord(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = format(values[i]);
+            writeField(values[i] instanceof Number ? value : neutralizeFormula(value));
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value.isEmpty()) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    static String neutralizeFormula(String value) {
+        if (value.isEmpty()) {
+            return value;
+        }
+        switch (value.charAt(0)) {
+            case '=':
+            case '+':
+            case '-':
+            case '@':
+            case '\t':
+            case '\r':
+                return "'" + value;
+            default:
+                return value;
+        }
+    }
+
+    static String format(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime().format(DATE_TIME);
+        }
+        if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).format(DATE_TIME);
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        return value.toString();
+    }
+}
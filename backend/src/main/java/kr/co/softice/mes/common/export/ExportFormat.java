@@ -0,0 +1,75 @@
+package kr.co.softice.mes.common.export;
+
+import kr.co.softice.mes.common.exception.BusinessException;
+import kr.co.softice.mes.common.exception.ErrorCode;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Export Format
+ * 목록 내보내기 파일 형식
+ *
+ * @author Moon Myung-seop
+ */
+public enum ExportFormat {
+
+    CSV("text/csv; charset=UTF-8", "csv"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * 다운로드 응답 헤더 (파일명: {baseName}_{yyyyMMdd_HHmmss}.{확장자})
+     */
+    public void prepare(HttpServletResponse response, String baseName) {
+        String fileName = baseName + "_" + LocalDateTime.now().format(FILE_TIMESTAMP) + "." + extension;
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName, StandardCharsets.UTF_8).build().toString());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+    }
+
+    /**
+     * 형식별 행 단위 writer (헤더 행 기록 후 반환)
+     */
+    public ExportWriter open(OutputStream output, String sheetName, List<String> headers) throws IOException {
+        ExportWriter writer = this == XLSX ? new XlsxExportWriter(output, sheetName) : new CsvExportWriter(output);
+        writer.writeHeader(headers);
+        return writer;
+    }
+
+    /**
+     * 요청 파라미터 (csv / xlsx, 미지정 시 CSV)
+     */
+    public static ExportFormat from(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return CSV;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Unsupported export format: " + value);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package kr.co.softice.mes.common.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Export Writer
+ * 행 단위 스트리밍 내보내기 (행을 모아두지 않고 바로 출력 스트림에 기록)
+ *
+ * - 값: String, Number, Boolean, java.sql.Timestamp/Date, java.time 날짜, null
+ * - close() 는 형식 마무리만 하고 하위 출력 스트림은 닫지 않음
+ *
+ * @author Moon Myung-seop
+ */
+public interface ExportWriter extends Closeable {
+
+    void writeHeader(List<String> headers) throws IOException;
+
+    void writeRow(Object[] values) throws IOException;
+
+    /**
+     * 기록한 데이터 행 수 (헤더 제외)
+     */
+    long getRowCount();
+}
@@ -1,5 +1,6 @@
 package kr.co.softice.mes.common.security;
 
+import io.jsonwebtoken.Claims;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -29,6 +30,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -37,15 +39,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                Long userId = tokenProvider.getUserIdFromToken(jwt);
-                String tenantId = tokenProvider.getTenantIdFromToken(jwt);
+            Claims claims = StringUtils.hasText(jwt) ? tokenProvider.parseValidClaims(jwt) : null;
+
+            if (claims != null) {
+                Long userId = Long.parseLong(claims.getSubject());
+                String tenantId = claims.get("tenantId", String.class);
 
                 // Tenant Context 설정
                 TenantContext.setCurrentTenant(tenantId);
 
-                // UserDetails 로드
-                UserDetails userDetails = userDetailsService.loadUserById(userId);
+                // UserDetails 로드 (캐시 우선, 토큰 역할과 다르면 DB 재조회)
+                UserDetails userDetails = principalCache.get(userId,
+                        claims.get("roles", String.class),
+                        () -> (UserPrincipal) userDetailsService.loadUserById(userId));
 
                 // Authentication 객체 생성
                 UsernamePasswordAuthenticationToken authentication =
@@ -110,11 +110,18 @@ public class JwtTokenProvider {
      * Token 유효성 검증
      */
     public boolean validateToken(String token) {
+        return parseValidClaims(token) != null;
+    }
+
+    /**
+     * Token 검증 + Claims 추출 (요청당 1회 파싱용, 유효하지 않으면 null)
+     */
+    public Claims parseValidClaims(String token) {
         try {
-            Jwts.parser()
+            return Jwts.parser()
                     .setSigningKey(secretKey)
-                    .parseClaimsJws(token);
-            return true;
+                    .parseClaimsJws(token)
+                    .getBody();
         } catch (SecurityException ex) {
             log.error("Invalid JWT signature");
         } catch (MalformedJwtException ex) {
@@ -126,7 +133,7 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty");
         }
-        return false;
+        return null;
     }
 
     /**
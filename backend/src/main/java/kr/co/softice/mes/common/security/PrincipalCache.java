@@ -0,0 +1,258 @@
+package kr.co.softice.mes.common.security;
+
+import kr.co.softice.mes.common.transaction.TransactionHooks;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import javax.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Principal Cache
+ * JWT 인증 시 사용자/역할 조회 결과 캐시
+ *
+ * - L1: 노드 로컬 Caffeine (크기 제한, TTL)
+ * - L2: Redis (선택, app.security.principal-cache.redis-enabled)
+ * - 토큰의 roles 클레임과 캐시된 권한이 다르면 재조회 (토큰/역할 버전 불일치)
+ * - 사용자 상태/역할 변경 시 커밋 이후 무효화, Redis 사용 시 다른 노드에도 전파
+ *   (Redis 미사용 다중 노드 구성에서는 다른 노드가 최대 ttl-seconds 동안 이전 상태(비활성화 전 사용자 등)로 인증)
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+@Component
+public class PrincipalCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "mes:principal-cache:evict";
+    private static final String REDIS_KEY_PREFIX = "mes:principal:";
+    private static final String EVICT_ALL = "*";
+
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.security.principal-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${app.security.principal-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${app.security.principal-cache.redis-enabled:false}")
+    private boolean redisEnabled;
+
+    private Cache<Long, UserPrincipal> localCache;
+    private Counter redisHits;
+    private Counter redisMisses;
+
+    public PrincipalCache(ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry) {
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "principalCache");
+
+        this.redisHits = Counter.builder("principal.cache.redis")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.redisMisses = Counter.builder("principal.cache.redis")
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        log.info("Principal cache initialized: maximumSize={}, ttl={}s, redis={}",
+                maximumSize, ttlSeconds, redisEnabled);
+    }
+
+    /**
+     * 캐시된 Principal 조회, 없거나 토큰의 역할과 다르면 loader 로 재조회
+     *
+     * @param userId     토큰 subject
+     * @param tokenRoles 토큰의 roles 클레임 (null 이면 역할 비교 생략)
+     * @param loader     DB 조회 (CustomUserDetailsService)
+     */
+    public UserPrincipal get(Long userId, String tokenRoles, Supplier<UserPrincipal> loader) {
+        UserPrincipal principal = localCache.getIfPresent(userId);
+        if (principal != null && matchesToken(principal, tokenRoles)) {
+            return principal;
+        }
+
+        if (redisEnabled) {
+            principal = readRedis(userId);
+            if (principal != null && matchesToken(principal, tokenRoles)) {
+                redisHits.increment();
+                localCache.put(userId, principal);
+                return principal;
+            }
+            redisMisses.increment();
+        }
+
+        principal = loader.get();
+        localCache.put(userId, principal);
+        if (redisEnabled) {
+            writeRedis(principal);
+        }
+        return principal;
+    }
+
+    /**
+     * 사용자 캐시 무효화 (트랜잭션 중이면 커밋 이후)
+     */
+    public void evict(Long userId) {
+        TransactionHooks.afterCommit(() -> {
+            localCache.invalidate(userId);
+            if (redisEnabled) {
+                StringRedisTemplate redis = redisTemplateProvider.getObject();
+                redis.delete(REDIS_KEY_PREFIX + userId);
+                redis.convertAndSend(INVALIDATION_CHANNEL, userId.toString());
+            }
+        });
+    }
+
+    /**
+     * 여러 사용자 캐시 무효화 (역할 변경 시)
+     */
+    public void evictAll(Collection<Long> userIds) {
+        userIds.forEach(this::evict);
+    }
+
+    /**
+     * 전체 캐시 무효화
+     */
+    public void clear() {
+        TransactionHooks.afterCommit(() -> {
+            localCache.invalidateAll();
+            if (redisEnabled) {
+                redisTemplateProvider.getObject().convertAndSend(INVALIDATION_CHANNEL, EVICT_ALL);
+            }
+        });
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 메시지 수신 → L1 제거
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (EVICT_ALL.equals(body)) {
+            localCache.invalidateAll();
+            return;
+        }
+        try {
+            localCache.invalidate(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring invalid principal cache eviction message: {}", body);
+        }
+    }
+
+    private boolean matchesToken(UserPrincipal principal, String tokenRoles) {
+        if (tokenRoles == null) {
+            return true;
+        }
+        // 역할 조회 순서는 보장되지 않으므로 집합으로 비교
+        Set<String> cachedRoles = principal.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+        Set<String> claimedRoles = Arrays.stream(tokenRoles.split(","))
+                .map(String::trim)
+                .filter(role -> !role.isEmpty())
+                .collect(Collectors.toSet());
+        return cachedRoles.equals(claimedRoles);
+    }
+
+    private UserPrincipal readRedis(Long userId) {
+        try {
+            String json = redisTemplateProvider.getObject().opsForValue().get(REDIS_KEY_PREFIX + userId);
+            if (json == null) {
+                return null;
+            }
+            return objectMapper.readValue(json, PrincipalSnapshot.class).toPrincipal();
+        } catch (Exception e) {
+            log.warn("Failed to read principal {} from Redis: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(UserPrincipal principal) {
+        try {
+            String json = objectMapper.writeValueAsString(PrincipalSnapshot.from(principal));
+            redisTemplateProvider.getObject().opsForValue()
+                    .set(REDIS_KEY_PREFIX + principal.getUserId(), json, Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("Failed to write principal {} to Redis: {}", principal.getUserId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Redis 저장용 스냅샷 (비밀번호 해시 제외)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class PrincipalSnapshot {
+        private Long userId;
+        private String tenantId;
+        private String username;
+        private String email;
+        private List<String> authorities;
+        private boolean enabled;
+
+        static PrincipalSnapshot from(UserPrincipal principal) {
+            return new PrincipalSnapshot(
+                    principal.getUserId(),
+                    principal.getTenantId(),
+                    principal.getUsername(),
+                    principal.getEmail(),
+                    principal.getAuthorities().stream()
+                            .map(GrantedAuthority::getAuthority)
+                            .collect(Collectors.toList()),
+                    principal.isEnabled());
+        }
+
+        UserPrincipal toPrincipal() {
+            return UserPrincipal.builder()
+                    .userId(userId)
+                    .tenantId(tenantId)
+                    .username(username)
+                    .email(email)
+                    .authorities(authorities.stream()
+                            .map(SimpleGrantedAuthority::new)
+                            .collect(Collectors.toList()))
+                    .enabled(enabled)
+                    .build();
+        }
+    }
+}
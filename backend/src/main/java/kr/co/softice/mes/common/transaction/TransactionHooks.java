@@ -0,0 +1,35 @@
+package kr.co.softice.mes.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Transaction Hooks
+ * 트랜잭션 커밋 이후 실행 지원
+ *
+ * - 트랜잭션 중이면 커밋 이후 실행 (롤백 시 실행하지 않음)
+ * - 트랜잭션 밖이면 즉시 실행
+ *
+ * @author Moon Myung-seop
+ */
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    /**
+     * 커밋 이후 실행 (트랜잭션 밖이면 즉시)
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package kr.co.softice.mes.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * STOMP Cluster Relay
+ * 노드 간 STOMP 토픽 메시지 전파
+ *
+ * - SIMPLE (기본): 노드 내 simple broker 로 바로 전송 (단일 노드)
+ * - REDIS: Redis pub/sub 채널로 발행하고, 발행 노드를 포함한 모든 노드가 수신하여
+ *   각자의 simple broker 로 전달 → 어느 노드에 연결된 클라이언트든 같은 메시지 수신
+ *   Redis 발행 실패 시 로컬 broker 로만 전송
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+@Component
+public class StompClusterRelay implements MessageListener {
+
+    public enum BrokerMode { SIMPLE, REDIS }
+
+    public static final String RELAY_CHANNEL = "mes:stomp:relay";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.websocket.broker-mode:SIMPLE}")
+    private BrokerMode brokerMode;
+
+    private Counter published;
+    private Counter received;
+    private Counter failed;
+
+    public StompClusterRelay(SimpMessagingTemplate messagingTemplate,
+                             ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        this.published = counter("published");
+        this.received = counter("received");
+        this.failed = counter("failed");
+
+        log.info("STOMP cluster relay initialized: brokerMode={}", brokerMode);
+    }
+
+    /**
+     * 토픽 메시지 전송 (REDIS 모드에서는 전체 노드로 전파)
+     */
+    public void broadcast(String destination, Object payload) {
+        if (brokerMode != BrokerMode.REDIS) {
+            messagingTemplate.convertAndSend(destination, payload);
+            return;
+        }
+
+        try {
+            ObjectNode envelope = objectMapper.createObjectNode();
+            envelope.put("destination", destination);
+            envelope.set("payload", objectMapper.valueToTree(payload));
+            redisTemplateProvider.getObject().convertAndSend(RELAY_CHANNEL, objectMapper.writeValueAsString(envelope));
+            published.increment();
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("Failed to relay STOMP message to {} via Redis, sending locally: {}", destination, e.getMessage());
+            messagingTemplate.convertAndSend(destination, payload);
+        }
+    }
+
+    /**
+     * Redis 채널 수신 → 로컬 simple broker 로 전달 (이미 직렬화된 JSON 그대로 전송)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            JsonNode envelope = objectMapper.readTree(message.getBody());
+            String destination = envelope.path("destination").asText(null);
+            if (destination == null) {
+                log.warn("Ignoring STOMP relay message without destination");
+                return;
+            }
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            accessor.setLeaveMutable(true);
+
+            byte[] payload = objectMapper.writeValueAsBytes(envelope.get("payload"));
+            messagingTemplate.send(destination, MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+            received.increment();
+        } catch (Exception e) {
+            failed.increment();
+            log.error("Failed to deliver relayed STOMP message: {}", e.getMessage());
+        }
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder("websocket.relay.messages")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
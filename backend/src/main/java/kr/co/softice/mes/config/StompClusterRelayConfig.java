@@ -0,0 +1,28 @@
+package kr.co.softice.mes.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * STOMP Cluster Relay Configuration
+ * REDIS 브로커 모드에서 노드 간 STOMP 메시지 채널 구독
+ *
+ * @author Moon Myung-seop
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.websocket.broker-mode", havingValue = "REDIS")
+public class StompClusterRelayConfig {
+
+    @Bean
+    public RedisMessageListenerContainer stompRelayListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                    StompClusterRelay stompClusterRelay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(stompClusterRelay, new ChannelTopic(StompClusterRelay.RELAY_CHANNEL));
+        return container;
+    }
+}
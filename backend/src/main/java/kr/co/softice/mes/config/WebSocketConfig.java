@@ -18,6 +18,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // Enable simple broker for broadcasting messages
+        // (multi-node: app.websocket.broker-mode=REDIS fans topics out via StompClusterRelay)
         config.enableSimpleBroker("/topic", "/queue");
 
         // Set application destination prefix
@@ -0,0 +1,77 @@
+package kr.co.softice.mes.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import javax.annotation.PostConstruct;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebSocket Session Metrics
+ * 노드별 STOMP 세션 수 메트릭
+ *
+ * websocket.sessions.active (gauge), websocket.sessions (connected/disconnected counter)
+ * 모두 node 태그로 구분 (app.websocket.node-id, 미지정 시 HOSTNAME 또는 임의 ID)
+ *
+ * @author Moon Myung-seop
+ */
+@Component
+public class WebSocketSessionMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.websocket.node-id:${HOSTNAME:}}")
+    private String nodeId;
+
+    private final Set<String> activeSessions = ConcurrentHashMap.newKeySet();
+    private Counter connected;
+    private Counter disconnected;
+
+    public WebSocketSessionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!StringUtils.hasText(nodeId)) {
+            nodeId = UUID.randomUUID().toString().substring(0, 8);
+        }
+
+        Gauge.builder("websocket.sessions.active", activeSessions, Set::size)
+                .tag("node", nodeId)
+                .register(meterRegistry);
+        this.connected = Counter.builder("websocket.sessions")
+                .tag("node", nodeId)
+                .tag("event", "connected")
+                .register(meterRegistry);
+        this.disconnected = Counter.builder("websocket.sessions")
+                .tag("node", nodeId)
+                .tag("event", "disconnected")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (sessionId != null && activeSessions.add(sessionId)) {
+            connected.increment();
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        if (activeSessions.remove(event.getSessionId())) {
+            disconnected.increment();
+        }
+    }
+}
@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
         @Index(name = "idx_sd_alarm_history_recipient", columnList = "recipient_user_id"),
         @Index(name = "idx_sd_alarm_history_type", columnList = "alarm_type"),
         @Index(name = "idx_sd_alarm_history_reference", columnList = "reference_type, reference_id"),
-        @Index(name = "idx_sd_alarm_history_created", columnList = "created_at")
+        @Index(name = "idx_sd_alarm_history_created", columnList = "created_at"),
+        @Index(name = "idx_sd_alarm_history_outbox", columnList = "next_attempt_at")
     }
 )
 @Getter
@@ -112,7 +113,7 @@ public class AlarmHistoryEntity extends BaseEntity {
     // Send Status
     @Column(name = "send_status", length = 20)
     @Builder.Default
-    private String sendStatus = "PENDING";  // PENDING, SENT, FAILED
+    private String sendStatus = "PENDING";  // PENDING, SENT, FAILED (시스템 알림함 표시)
 
     @Column(name = "sent_at")
     private LocalDateTime sentAt;
@@ -120,6 +121,20 @@ public class AlarmHistoryEntity extends BaseEntity {
     @Column(name = "failed_reason", columnDefinition = "TEXT")
     private String failedReason;
 
+    // Outbox (AlarmOutboxDispatcher) - 외부 채널(EMAIL/SMS/PUSH) 발송 상태, 외부 채널이 없으면 null
+    @Column(name = "dispatch_status", length = 20)
+    private String dispatchStatus;  // PENDING, SENDING, SENT, FAILED
+
+    @Column(name = "attempt_count", nullable = false)
+    @Builder.Default
+    private Integer attemptCount = 0;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;  // SENDING 이면 점유 만료 시각
+
+    @Column(name = "delivered_channels", length = 100)
+    private String deliveredChannels;  // 발송 완료 채널 (EMAIL,SMS,PUSH)
+
     /**
      * Check if alarm is read
      */
@@ -148,6 +163,13 @@ public class AlarmHistoryEntity extends BaseEntity {
         return "PENDING".equals(sendStatus);
     }
 
+    /**
+     * Check if external channel dispatch is pending
+     */
+    public boolean isDispatchPending() {
+        return "PENDING".equals(dispatchStatus);
+    }
+
     /**
      * Check if urgent
      */
@@ -0,0 +1,48 @@
+package kr.co.softice.mes.domain.entity;
+
+import javax.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Document Sequence Entity
+ * 문서 번호 채번 시퀀스 (테넌트 / 접두어 / 일자 단위)
+ *
+ * last_value 는 지금까지 예약된 마지막 번호이며,
+ * DocumentNumberService 가 블록 단위로 증가시켜 메모리에서 소진한다.
+ *
+ * @author Moon Myung-seop
+ */
+@Entity
+@Table(schema = "common", name = "sd_document_sequences",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_sd_document_sequence",
+            columnNames = {"tenant_id", "prefix", "sequence_date"})
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DocumentSequenceEntity extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "document_sequence_id")
+    private Long documentSequenceId;
+
+    @Column(name = "tenant_id", nullable = false, length = 50)
+    private String tenantId;
+
+    @Column(name = "prefix", nullable = false, length = 20)
+    private String prefix; // GR, IQC, MR, DEF, SH, WG, ...
+
+    @Column(name = "sequence_date", nullable = false)
+    private LocalDate sequenceDate;
+
+    @Column(name = "last_value", nullable = false)
+    @Builder.Default
+    private Long lastValue = 0L;
+}
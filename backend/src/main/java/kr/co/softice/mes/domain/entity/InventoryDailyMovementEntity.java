@@ -0,0 +1,62 @@
+package kr.co.softice.mes.domain.entity;
+
+import javax.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Inventory Daily Movement Entity
+ * 일별 재고 이동 집계 (테넌트 / 일자 / 창고 / 제품 / 트랜잭션 유형)
+ *
+ * 재고 트랜잭션 등록 시 InventoryMovementRollupService 가 증분 갱신하며,
+ * 추이/회전율 분석은 원장 대신 이 테이블을 조회한다.
+ *
+ * @author Moon Myung-seop
+ */
+@Entity
+@Table(schema = "inventory", name = "sd_inventory_daily_movements",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_sd_inventory_daily_movement",
+            columnNames = {"tenant_id", "movement_date", "warehouse_id", "product_id", "transaction_type"})
+    },
+    indexes = {
+        @Index(name = "idx_inv_daily_movement_tenant_date", columnList = "tenant_id, movement_date")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryDailyMovementEntity extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "daily_movement_id")
+    private Long dailyMovementId;
+
+    @Column(name = "tenant_id", nullable = false, length = 50)
+    private String tenantId;
+
+    @Column(name = "movement_date", nullable = false)
+    private LocalDate movementDate;
+
+    @Column(name = "warehouse_id", nullable = false)
+    private Long warehouseId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "transaction_type", nullable = false, length = 20)
+    private String transactionType; // IN_RECEIVE, OUT_ISSUE, MOVE, ADJUST, ...
+
+    @Column(name = "total_quantity", nullable = false, precision = 18, scale = 3)
+    @Builder.Default
+    private BigDecimal totalQuantity = BigDecimal.ZERO;
+
+    @Column(name = "transaction_count", nullable = false)
+    @Builder.Default
+    private Long transactionCount = 0L;
+}
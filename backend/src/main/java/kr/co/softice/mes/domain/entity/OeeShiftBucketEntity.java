@@ -0,0 +1,86 @@
+package kr.co.softice.mes.domain.entity;
+
+import javax.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * OEE Shift Bucket Entity
+ * 설비/교대/일자별 OEE 집계 (테넌트 / 생산 일자 / 교대 / 설비)
+ *
+ * 가동 완료, 비가동 종료 시 OeeRollupService 가 증분 갱신하며,
+ * 설비/라인/사업장 OEE 추이는 가동 이력 대신 이 테이블을 집계한다.
+ * 비율(가동률/성능/품질/OEE)은 저장하지 않고 시간·수량 합계로부터 조회 시 계산한다.
+ *
+ * @author Moon Myung-seop
+ */
+@Entity
+@Table(schema = "equipment", name = "sd_oee_shift_buckets",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_sd_oee_shift_bucket",
+            columnNames = {"tenant_id", "bucket_date", "shift_code", "equipment_id"})
+    },
+    indexes = {
+        @Index(name = "idx_oee_bucket_tenant_date", columnList = "tenant_id, bucket_date")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OeeShiftBucketEntity extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "oee_bucket_id")
+    private Long oeeBucketId;
+
+    @Column(name = "tenant_id", nullable = false, length = 50)
+    private String tenantId;
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    @Column(name = "shift_code", nullable = false, length = 20)
+    private String shiftCode;
+
+    @Column(name = "equipment_id", nullable = false)
+    private Long equipmentId;
+
+    @Column(name = "site_id")
+    private Long siteId;
+
+    @Column(name = "line_id")
+    private Long lineId; // 설비 부서
+
+    @Column(name = "planned_minutes", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal plannedMinutes = BigDecimal.ZERO;
+
+    @Column(name = "stop_minutes", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal stopMinutes = BigDecimal.ZERO;
+
+    @Column(name = "ideal_run_minutes", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal idealRunMinutes = BigDecimal.ZERO;
+
+    @Column(name = "total_count", nullable = false, precision = 18, scale = 3)
+    @Builder.Default
+    private BigDecimal totalCount = BigDecimal.ZERO;
+
+    @Column(name = "good_count", nullable = false, precision = 18, scale = 3)
+    @Builder.Default
+    private BigDecimal goodCount = BigDecimal.ZERO;
+
+    @Column(name = "operation_count", nullable = false)
+    @Builder.Default
+    private Long operationCount = 0L;
+
+    @Column(name = "downtime_count", nullable = false)
+    @Builder.Default
+    private Long downtimeCount = 0L;
+}
@@ -66,4 +66,8 @@ public class ProductEntity extends BaseEntity {
     @Column(name = "is_active", nullable = false)
     @Builder.Default
     private Boolean isActive = true;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
@@ -26,7 +26,8 @@ import java.time.LocalDateTime;
         @Index(name = "idx_schedule_equipment", columnList = "assigned_equipment_id"),
         @Index(name = "idx_schedule_sequence", columnList = "work_order_id,sequence_order"),
         @Index(name = "idx_schedule_delayed", columnList = "is_delayed"),
-        @Index(name = "idx_schedule_user", columnList = "assigned_user_id")
+        @Index(name = "idx_schedule_user", columnList = "assigned_user_id"),
+        @Index(name = "idx_schedule_tenant_change_version", columnList = "tenant_id,change_version")
     },
     uniqueConstraints = {
         @UniqueConstraint(name = "uk_schedule_work_order_step", columnNames = {"work_order_id", "routing_step_id"})
@@ -116,4 +117,8 @@ public class ProductionScheduleEntity extends BaseEntity {
 
     @Column(name = "remarks", columnDefinition = "TEXT")
     private String remarks;
+
+    // 변경 버전 (커밋 후 변경 조회 시 테넌트 advisory lock 하에서 부여, 미부여는 NULL, 간트차트 증분 조회용)
+    @Column(name = "change_version", insertable = false, updatable = false)
+    private Long changeVersion;
 }
@@ -180,6 +180,13 @@ public class ThemeEntity {
     @Column(name = "additional_config", columnDefinition = "jsonb")
     private Map<String, Object> additionalConfig;
 
+    /**
+     * 낙관적 잠금 버전 (캐시 복사본으로 인한 동시 수정 덮어쓰기 감지)
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     /**
      * 생성 일시
      */
@@ -84,4 +84,8 @@ public class WarehouseEntity extends BaseEntity {
     // Additional Information
     @Column(name = "remarks", columnDefinition = "TEXT")
     private String remarks;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
@@ -0,0 +1,51 @@
+package kr.co.softice.mes.domain.entity;
+
+import javax.persistence.*;
+import lombok.*;
+
+/**
+ * Weighing Stats Entity
+ * 테넌트별 칭량 건수 카운터
+ *
+ * 칭량 등록/수정/검증/삭제 시 WeighingStatsService 가 같은 트랜잭션에서 증분 갱신하며,
+ * 칭량 통계는 sd_weighings 전체 조회 대신 이 행 1건을 조회한다.
+ *
+ * @author Moon Myung-seop
+ */
+@Entity
+@Table(schema = "wms", name = "sd_weighing_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WeighingStatsEntity extends BaseEntity {
+
+    @Id
+    @Column(name = "tenant_id", length = 50)
+    private String tenantId;
+
+    @Column(name = "total_count", nullable = false)
+    @Builder.Default
+    private Long totalCount = 0L;
+
+    @Column(name = "pending_count", nullable = false)
+    @Builder.Default
+    private Long pendingCount = 0L;
+
+    @Column(name = "verified_count", nullable = false)
+    @Builder.Default
+    private Long verifiedCount = 0L;
+
+    @Column(name = "rejected_count", nullable = false)
+    @Builder.Default
+    private Long rejectedCount = 0L;
+
+    @Column(name = "tolerance_exceeded_count", nullable = false)
+    @Builder.Default
+    private Long toleranceExceededCount = 0L;
+
+    @Column(name = "pending_tolerance_exceeded_count", nullable = false)
+    @Builder.Default
+    private Long pendingToleranceExceededCount = 0L;
+}
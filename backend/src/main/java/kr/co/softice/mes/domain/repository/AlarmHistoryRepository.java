@@ -2,6 +2,7 @@ package kr.co.softice.mes.domain.repository;
 
 import kr.co.softice.mes.domain.entity.AlarmHistoryEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -104,14 +105,36 @@ public interface AlarmHistoryRepository extends JpaRepository<AlarmHistoryEntity
             @Param("alarmType") String alarmType);
 
     /**
-     * Find failed alarms
+     * Find failed alarms (external channel dispatch failed after max attempts)
      */
     @Query("SELECT a FROM AlarmHistoryEntity a " +
             "WHERE a.tenant.tenantId = :tenantId " +
-            "AND a.sendStatus = 'FAILED' " +
+            "AND a.dispatchStatus = 'FAILED' " +
             "ORDER BY a.createdAt DESC")
     List<AlarmHistoryEntity> findFailedAlarms(@Param("tenantId") String tenantId);
 
+    /**
+     * Mark alarm as read (updates is_read/read_at only, never the outbox columns written by the dispatcher)
+     */
+    @Modifying
+    @Query("UPDATE AlarmHistoryEntity a SET a.isRead = true, a.readAt = :readAt " +
+            "WHERE a.alarmId = :alarmId")
+    int markAsRead(@Param("alarmId") Long alarmId, @Param("readAt") LocalDateTime readAt);
+
+    /**
+     * Mark all unread, sent alarms of the recipient as read (is_read/read_at only)
+     */
+    @Modifying
+    @Query("UPDATE AlarmHistoryEntity a SET a.isRead = true, a.readAt = :readAt " +
+            "WHERE a.tenant.tenantId = :tenantId " +
+            "AND a.recipientUserId = :userId " +
+            "AND a.isRead = false " +
+            "AND a.sendStatus = 'SENT'")
+    int markAllAsRead(
+            @Param("tenantId") String tenantId,
+            @Param("userId") Long userId,
+            @Param("readAt") LocalDateTime readAt);
+
     /**
      * Delete old alarms (retention policy)
      */
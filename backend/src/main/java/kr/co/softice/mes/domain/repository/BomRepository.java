@@ -70,4 +70,13 @@ public interface BomRepository extends JpaRepository<BomEntity, Long> {
         @Param("tenantId") String tenantId,
         @Param("isActive") Boolean isActive
     );
+
+    /**
+     * BOM 상세 구성품 → 상위 BOM 관계 (where-used 인덱스 구성용)
+     * [material_product_id, product_id, bom_id, is_active]
+     */
+    @Query("SELECT d.materialProduct.productId, b.product.productId, b.bomId, b.isActive " +
+           "FROM BomDetailEntity d JOIN d.bom b " +
+           "WHERE b.tenant.tenantId = :tenantId")
+    List<Object[]> findComponentLinksByTenantId(@Param("tenantId") String tenantId);
 }
@@ -0,0 +1,42 @@
+package kr.co.softice.mes.domain.repository;
+
+import kr.co.softice.mes.domain.entity.DocumentSequenceEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * Document Sequence Repository
+ * 문서 번호 시퀀스 리포지토리
+ *
+ * @author Moon Myung-seop
+ */
+@Repository
+public interface DocumentSequenceRepository extends JpaRepository<DocumentSequenceEntity, Long> {
+
+    /**
+     * Reserve a block of sequence numbers and return the new upper bound.
+     *
+     * Single-statement upsert: the row lock is held only for this statement and
+     * committed immediately (REQUIRES_NEW), so callers' business transactions never
+     * serialise on the sequence row. The reserved range is (result - blockSize, result].
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "INSERT INTO common.sd_document_sequences " +
+                   "(tenant_id, prefix, sequence_date, last_value, created_at, updated_at) " +
+                   "VALUES (:tenantId, :prefix, :sequenceDate, :blockSize, now(), now()) " +
+                   "ON CONFLICT (tenant_id, prefix, sequence_date) " +
+                   "DO UPDATE SET last_value = sd_document_sequences.last_value + :blockSize, " +
+                   "updated_at = now() " +
+                   "RETURNING last_value",
+           nativeQuery = true)
+    Long reserveBlock(@Param("tenantId") String tenantId,
+                      @Param("prefix") String prefix,
+                      @Param("sequenceDate") LocalDate sequenceDate,
+                      @Param("blockSize") long blockSize);
+}
@@ -43,6 +43,13 @@ public interface DowntimeRepository extends JpaRepository<DowntimeEntity, Long>
            "WHERE d.downtimeId = :downtimeId")
     Optional<DowntimeEntity> findByIdWithAllRelations(@Param("downtimeId") Long downtimeId);
 
+    /**
+     * Lock the downtime row (SELECT ... FOR UPDATE) before reading it for an OEE before/after update
+     */
+    @Query(value = "SELECT downtime_id FROM equipment.sd_downtimes WHERE downtime_id = :downtimeId FOR UPDATE",
+           nativeQuery = true)
+    Long lockById(@Param("downtimeId") Long downtimeId);
+
     /**
      * Get downtimes by equipment
      */
@@ -119,4 +126,19 @@ public interface DowntimeRepository extends JpaRepository<DowntimeEntity, Long>
      * Check if downtime code exists for tenant
      */
     boolean existsByTenant_TenantIdAndDowntimeCode(String tenantId, String downtimeCode);
+
+    /**
+     * Get ended downtimes started in [from, to) with equipment (OEE rollup rebuild)
+     */
+    @Query("SELECT d FROM DowntimeEntity d " +
+           "JOIN FETCH d.tenant " +
+           "JOIN FETCH d.equipment " +
+           "LEFT JOIN FETCH d.operation " +
+           "WHERE d.tenant.tenantId = :tenantId " +
+           "AND d.endTime IS NOT NULL " +
+           "AND d.startTime >= :from AND d.startTime < :to")
+    List<DowntimeEntity> findEndedByTenantIdAndStartTimeRange(
+            @Param("tenantId") String tenantId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
 }
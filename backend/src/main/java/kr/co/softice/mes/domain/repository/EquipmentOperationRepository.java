@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,6 +44,14 @@ public interface EquipmentOperationRepository extends JpaRepository<EquipmentOpe
            "WHERE o.operationId = :operationId")
     Optional<EquipmentOperationEntity> findByIdWithAllRelations(@Param("operationId") Long operationId);
 
+    /**
+     * Lock the operation row (SELECT ... FOR UPDATE) before reading it for an OEE before/after update
+     */
+    @Query(value = "SELECT operation_id FROM equipment.sd_equipment_operations " +
+                   "WHERE operation_id = :operationId FOR UPDATE",
+           nativeQuery = true)
+    Long lockById(@Param("operationId") Long operationId);
+
     /**
      * Get operations by equipment
      */
@@ -86,4 +95,18 @@ public interface EquipmentOperationRepository extends JpaRepository<EquipmentOpe
            "AND o.operationStatus = :operationStatus " +
            "ORDER BY o.operationDate DESC, o.startTime DESC")
     List<EquipmentOperationEntity> findByTenantIdAndOperationStatus(@Param("tenantId") String tenantId, @Param("operationStatus") String operationStatus);
+
+    /**
+     * Get completed operations started in [from, to) with equipment (OEE rollup rebuild)
+     */
+    @Query("SELECT o FROM EquipmentOperationEntity o " +
+           "JOIN FETCH o.tenant " +
+           "JOIN FETCH o.equipment " +
+           "WHERE o.tenant.tenantId = :tenantId " +
+           "AND o.operationStatus = 'COMPLETED' " +
+           "AND o.startTime >= :from AND o.startTime < :to")
+    List<EquipmentOperationEntity> findCompletedByTenantIdAndStartTimeRange(
+            @Param("tenantId") String tenantId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
 }
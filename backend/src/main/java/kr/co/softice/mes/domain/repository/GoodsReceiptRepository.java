@@ -1,6 +1,7 @@
 package kr.co.softice.mes.domain.repository;
 
 import kr.co.softice.mes.domain.entity.GoodsReceiptEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -40,6 +41,39 @@ public interface GoodsReceiptRepository extends JpaRepository<GoodsReceiptEntity
            "ORDER BY gr.receiptDate DESC")
     List<GoodsReceiptEntity> findByTenantIdWithAllRelations(@Param("tenantId") String tenantId);
 
+    /**
+     * Keyset page of IDs by tenant: ids below the cursor, newest first (size + 1 rows via pageable)
+     * Items are a collection fetch, so the page is selected by id first and loaded with findByIdsWithAllRelations.
+     */
+    @Query("SELECT gr.goodsReceiptId FROM GoodsReceiptEntity gr " +
+           "WHERE gr.tenant.tenantId = :tenantId " +
+           "AND gr.goodsReceiptId < :cursor " +
+           "ORDER BY gr.goodsReceiptId DESC")
+    List<Long> findIdsByTenantIdAfterCursor(@Param("tenantId") String tenantId,
+                                            @Param("cursor") Long cursor,
+                                            Pageable pageable);
+
+    /**
+     * Find by IDs with all relations, newest first
+     */
+    @Query("SELECT DISTINCT gr FROM GoodsReceiptEntity gr " +
+           "JOIN FETCH gr.tenant " +
+           "LEFT JOIN FETCH gr.purchaseOrder po " +
+           "LEFT JOIN FETCH po.tenant " +
+           "LEFT JOIN FETCH gr.supplier s " +
+           "LEFT JOIN FETCH s.tenant " +
+           "JOIN FETCH gr.warehouse w " +
+           "JOIN FETCH w.tenant " +
+           "LEFT JOIN FETCH gr.receiver " +
+           "LEFT JOIN FETCH gr.items gri " +
+           "LEFT JOIN FETCH gri.purchaseOrderItem " +
+           "LEFT JOIN FETCH gri.product p " +
+           "LEFT JOIN FETCH p.tenant " +
+           "LEFT JOIN FETCH gri.qualityInspection " +
+           "WHERE gr.goodsReceiptId IN :ids " +
+           "ORDER BY gr.goodsReceiptId DESC")
+    List<GoodsReceiptEntity> findByIdsWithAllRelations(@Param("ids") List<Long> ids);
+
     /**
      * Find goods receipt by ID with all relations
      */
@@ -116,6 +116,19 @@ public interface HolidayRepository extends JpaRepository<HolidayEntity, Long> {
             @Param("tenantId") String tenantId,
             @Param("date") LocalDate date);
 
+    /**
+     * Find non-working holiday dates in date range (business day calendar)
+     */
+    @Query("SELECT h.holidayDate FROM HolidayEntity h " +
+            "WHERE h.tenant.tenantId = :tenantId " +
+            "AND h.holidayDate BETWEEN :startDate AND :endDate " +
+            "AND h.isWorkingDay = false " +
+            "AND h.isActive = true")
+    List<LocalDate> findNonWorkingDatesInRange(
+            @Param("tenantId") String tenantId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
     /**
      * Count holidays in date range
      */
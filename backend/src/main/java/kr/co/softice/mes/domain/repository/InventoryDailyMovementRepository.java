@@ -0,0 +1,70 @@
+package kr.co.softice.mes.domain.repository;
+
+import kr.co.softice.mes.domain.entity.InventoryDailyMovementEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Inventory Daily Movement Repository
+ * 일별 재고 이동 집계 리포지토리
+ *
+ * @author Moon Myung-seop
+ */
+@Repository
+public interface InventoryDailyMovementRepository extends JpaRepository<InventoryDailyMovementEntity, Long> {
+
+    /**
+     * Add transactions to their daily bucket (single-statement upsert, runs in the caller's transaction)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO inventory.sd_inventory_daily_movements " +
+                   "(tenant_id, movement_date, warehouse_id, product_id, transaction_type, " +
+                   "total_quantity, transaction_count, created_at, updated_at) " +
+                   "VALUES (:tenantId, :movementDate, :warehouseId, :productId, :transactionType, " +
+                   ":quantity, :transactionCount, now(), now()) " +
+                   "ON CONFLICT (tenant_id, movement_date, warehouse_id, product_id, transaction_type) " +
+                   "DO UPDATE SET total_quantity = sd_inventory_daily_movements.total_quantity + EXCLUDED.total_quantity, " +
+                   "transaction_count = sd_inventory_daily_movements.transaction_count + EXCLUDED.transaction_count, " +
+                   "updated_at = now()",
+           nativeQuery = true)
+    int addMovement(@Param("tenantId") String tenantId,
+                    @Param("movementDate") LocalDate movementDate,
+                    @Param("warehouseId") Long warehouseId,
+                    @Param("productId") Long productId,
+                    @Param("transactionType") String transactionType,
+                    @Param("quantity") BigDecimal quantity,
+                    @Param("transactionCount") long transactionCount);
+
+    @Modifying
+    @Query(value = "DELETE FROM inventory.sd_inventory_daily_movements " +
+                   "WHERE tenant_id = :tenantId AND movement_date BETWEEN :startDate AND :endDate",
+           nativeQuery = true)
+    int deleteByTenantAndDateRange(@Param("tenantId") String tenantId,
+                                   @Param("startDate") LocalDate startDate,
+                                   @Param("endDate") LocalDate endDate);
+
+    /**
+     * Rebuild daily buckets from the transaction ledger for [from, to)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO inventory.sd_inventory_daily_movements " +
+                   "(tenant_id, movement_date, warehouse_id, product_id, transaction_type, " +
+                   "total_quantity, transaction_count, created_at, updated_at) " +
+                   "SELECT t.tenant_id, CAST(t.transaction_date AS DATE), t.warehouse_id, t.product_id, " +
+                   "t.transaction_type, SUM(t.quantity), COUNT(*), now(), now() " +
+                   "FROM inventory.sd_inventory_transactions t " +
+                   "WHERE t.tenant_id = :tenantId " +
+                   "AND t.transaction_date >= :from AND t.transaction_date < :to " +
+                   "GROUP BY t.tenant_id, CAST(t.transaction_date AS DATE), t.warehouse_id, t.product_id, t.transaction_type",
+           nativeQuery = true)
+    int insertFromLedger(@Param("tenantId") String tenantId,
+                         @Param("from") LocalDateTime from,
+                         @Param("to") LocalDateTime to);
+}
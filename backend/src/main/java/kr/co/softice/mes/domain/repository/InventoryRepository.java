@@ -1,12 +1,16 @@
 package kr.co.softice.mes.domain.repository;
 
 import kr.co.softice.mes.domain.entity.InventoryEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +18,9 @@ import java.util.Optional;
  * Inventory Repository
  * 재고 현황 리포지토리
  *
+ * 수량 변경은 조건부 단일 UPDATE 문으로 수행 (반환값 0 = 조건 불충족, 재고 부족)
+ * 행 잠금은 UPDATE 한 문장 동안만 유지되며, 같은 재고 행을 갱신하는 요청끼리만 경합
+ *
  * @author Moon Myung-seop
  */
 @Repository
@@ -40,6 +47,21 @@ public interface InventoryRepository extends JpaRepository<InventoryEntity, Long
            "ORDER BY i.warehouse.warehouseCode, i.product.productCode")
     List<InventoryEntity> findByTenantIdWithAllRelations(@Param("tenantId") String tenantId);
 
+    /**
+     * Keyset page by tenant: rows with id below the cursor, newest first (size + 1 rows via pageable)
+     */
+    @Query("SELECT i FROM InventoryEntity i " +
+           "JOIN FETCH i.tenant " +
+           "JOIN FETCH i.warehouse " +
+           "JOIN FETCH i.product " +
+           "LEFT JOIN FETCH i.lot " +
+           "WHERE i.tenant.tenantId = :tenantId " +
+           "AND i.inventoryId < :cursor " +
+           "ORDER BY i.inventoryId DESC")
+    List<InventoryEntity> findByTenantIdAfterCursor(@Param("tenantId") String tenantId,
+                                                    @Param("cursor") Long cursor,
+                                                    Pageable pageable);
+
     @Query("SELECT i FROM InventoryEntity i " +
            "JOIN FETCH i.tenant " +
            "JOIN FETCH i.warehouse " +
@@ -58,4 +80,83 @@ public interface InventoryRepository extends JpaRepository<InventoryEntity, Long
         @Param("tenantId") String tenantId,
         @Param("warehouseId") Long warehouseId
     );
+
+    /**
+     * Atomically move available → reserved, only if enough is available
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InventoryEntity i " +
+           "SET i.availableQuantity = i.availableQuantity - :quantity, " +
+           "i.reservedQuantity = i.reservedQuantity + :quantity, " +
+           "i.lastTransactionDate = :now, i.lastTransactionType = :transactionType, i.updatedAt = :now " +
+           "WHERE i.inventoryId = :inventoryId AND i.availableQuantity >= :quantity")
+    int reserveQuantity(@Param("inventoryId") Long inventoryId,
+                        @Param("quantity") BigDecimal quantity,
+                        @Param("transactionType") String transactionType,
+                        @Param("now") LocalDateTime now);
+
+    /**
+     * Atomically move reserved → available, only if enough is reserved
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InventoryEntity i " +
+           "SET i.reservedQuantity = i.reservedQuantity - :quantity, " +
+           "i.availableQuantity = i.availableQuantity + :quantity, " +
+           "i.lastTransactionDate = :now, i.lastTransactionType = :transactionType, i.updatedAt = :now " +
+           "WHERE i.inventoryId = :inventoryId AND i.reservedQuantity >= :quantity")
+    int releaseQuantity(@Param("inventoryId") Long inventoryId,
+                        @Param("quantity") BigDecimal quantity,
+                        @Param("transactionType") String transactionType,
+                        @Param("now") LocalDateTime now);
+
+    /**
+     * Atomically add a signed delta to available, only if the result stays non-negative
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InventoryEntity i " +
+           "SET i.availableQuantity = i.availableQuantity + :delta, " +
+           "i.lastTransactionDate = :now, i.lastTransactionType = :transactionType, i.updatedAt = :now " +
+           "WHERE i.inventoryId = :inventoryId AND i.availableQuantity + :delta >= 0")
+    int addAvailableQuantity(@Param("inventoryId") Long inventoryId,
+                             @Param("delta") BigDecimal delta,
+                             @Param("transactionType") String transactionType,
+                             @Param("now") LocalDateTime now);
+
+    /**
+     * Atomically issue from available first, then reserved, only if available + reserved covers it
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InventoryEntity i " +
+           "SET i.availableQuantity = greatest(i.availableQuantity - :quantity, 0), " +
+           "i.reservedQuantity = least(i.reservedQuantity, i.reservedQuantity + i.availableQuantity - :quantity), " +
+           "i.lastTransactionDate = :now, i.lastTransactionType = :transactionType, i.updatedAt = :now " +
+           "WHERE i.inventoryId = :inventoryId AND i.availableQuantity + i.reservedQuantity >= :quantity")
+    int issueQuantity(@Param("inventoryId") Long inventoryId,
+                      @Param("quantity") BigDecimal quantity,
+                      @Param("transactionType") String transactionType,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * Set available to an absolute value (stock count adjustment)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InventoryEntity i " +
+           "SET i.availableQuantity = :quantity, " +
+           "i.lastTransactionDate = :now, i.lastTransactionType = :transactionType, i.updatedAt = :now " +
+           "WHERE i.inventoryId = :inventoryId")
+    int setAvailableQuantity(@Param("inventoryId") Long inventoryId,
+                             @Param("quantity") BigDecimal quantity,
+                             @Param("transactionType") String transactionType,
+                             @Param("now") LocalDateTime now);
+
+    // 창고 내 제품별 재고 행 일괄 조회 (입하 일괄 등록용)
+    // [inventoryId, productId, lotId(nullable)]
+    @Query("SELECT i.inventoryId, i.product.productId, l.lotId FROM InventoryEntity i " +
+           "LEFT JOIN i.lot l " +
+           "WHERE i.tenant.tenantId = :tenantId " +
+           "AND i.warehouse.warehouseId = :warehouseId " +
+           "AND i.product.productId IN :productIds")
+    List<Object[]> findInventoryKeysByWarehouseAndProducts(@Param("tenantId") String tenantId,
+                                                           @Param("warehouseId") Long warehouseId,
+                                                           @Param("productIds") Collection<Long> productIds);
 }
@@ -2,6 +2,7 @@ package kr.co.softice.mes.domain.repository;
 
 import kr.co.softice.mes.domain.entity.InventoryTransactionEntity;
 import kr.co.softice.mes.domain.entity.TenantEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -53,6 +54,27 @@ public interface InventoryTransactionRepository extends JpaRepository<InventoryT
            "ORDER BY t.transactionDate DESC")
     List<InventoryTransactionEntity> findByTenantIdWithAllRelations(@Param("tenantId") String tenantId);
 
+    /**
+     * Keyset page by tenant: rows with id below the cursor, newest first (size + 1 rows via pageable)
+     */
+    @Query("SELECT t FROM InventoryTransactionEntity t " +
+           "JOIN FETCH t.tenant " +
+           "JOIN FETCH t.warehouse " +
+           "JOIN FETCH t.product " +
+           "LEFT JOIN FETCH t.lot " +
+           "LEFT JOIN FETCH t.fromWarehouse " +
+           "LEFT JOIN FETCH t.toWarehouse " +
+           "LEFT JOIN FETCH t.workOrder " +
+           "LEFT JOIN FETCH t.qualityInspection " +
+           "JOIN FETCH t.transactionUser " +
+           "LEFT JOIN FETCH t.approvedBy " +
+           "WHERE t.tenant.tenantId = :tenantId " +
+           "AND t.transactionId < :cursor " +
+           "ORDER BY t.transactionId DESC")
+    List<InventoryTransactionEntity> findByTenantIdAfterCursor(@Param("tenantId") String tenantId,
+                                                               @Param("cursor") Long cursor,
+                                                               Pageable pageable);
+
     @Query("SELECT t FROM InventoryTransactionEntity t " +
            "JOIN FETCH t.tenant " +
            "JOIN FETCH t.warehouse " +
@@ -2,12 +2,16 @@ package kr.co.softice.mes.domain.repository;
 
 import kr.co.softice.mes.domain.entity.LotEntity;
 import kr.co.softice.mes.domain.entity.TenantEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +26,8 @@ public interface LotRepository extends JpaRepository<LotEntity, Long> {
 
     Optional<LotEntity> findByTenantAndLotNo(TenantEntity tenant, String lotNo);
     Optional<LotEntity> findByTenant_TenantIdAndLotNo(String tenantId, String lotNo);
+    Optional<LotEntity> findByLotIdAndTenant_TenantId(Long lotId, String tenantId);
+    List<LotEntity> findByTenant_TenantIdAndLotNoIn(String tenantId, Collection<String> lotNos);
     List<LotEntity> findByTenant_TenantId(String tenantId);
     List<LotEntity> findByTenant_TenantIdAndQualityStatus(String tenantId, String qualityStatus);
     List<LotEntity> findByTenant_TenantIdAndProduct_ProductId(String tenantId, Long productId);
@@ -37,10 +43,33 @@ public interface LotRepository extends JpaRepository<LotEntity, Long> {
            "ORDER BY l.lotNo ASC")
     List<LotEntity> findByTenantIdWithAllRelations(@Param("tenantId") String tenantId);
 
+    /**
+     * Keyset page by tenant: rows with id below the cursor, newest first (size + 1 rows via pageable)
+     */
+    @Query("SELECT l FROM LotEntity l " +
+           "JOIN FETCH l.tenant " +
+           "JOIN FETCH l.product " +
+           "LEFT JOIN FETCH l.workOrder " +
+           "WHERE l.tenant.tenantId = :tenantId " +
+           "AND l.lotId < :cursor " +
+           "ORDER BY l.lotId DESC")
+    List<LotEntity> findByTenantIdAfterCursor(@Param("tenantId") String tenantId,
+                                              @Param("cursor") Long cursor,
+                                              Pageable pageable);
+
     @Query("SELECT l FROM LotEntity l " +
            "JOIN FETCH l.tenant " +
            "JOIN FETCH l.product " +
            "LEFT JOIN FETCH l.workOrder " +
            "WHERE l.lotId = :lotId")
     Optional<LotEntity> findByIdWithAllRelations(@Param("lotId") Long lotId);
+
+    /**
+     * Atomically add a signed delta to the LOT current quantity, only if the result stays non-negative
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE LotEntity l " +
+           "SET l.currentQuantity = l.currentQuantity + :delta " +
+           "WHERE l.lotId = :lotId AND l.currentQuantity + :delta >= 0")
+    int addCurrentQuantity(@Param("lotId") Long lotId, @Param("delta") BigDecimal delta);
 }
@@ -0,0 +1,81 @@
+package kr.co.softice.mes.domain.repository;
+
+import kr.co.softice.mes.domain.entity.OeeShiftBucketEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * OEE Shift Bucket Repository
+ * 설비/교대/일자별 OEE 집계 리포지토리
+ *
+ * @author Moon Myung-seop
+ */
+@Repository
+public interface OeeShiftBucketRepository extends JpaRepository<OeeShiftBucketEntity, Long> {
+
+    /**
+     * Add (or subtract, with negative values) to a shift bucket
+     * (single-statement upsert, runs in the caller's transaction; site/line keep the first recorded value)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO equipment.sd_oee_shift_buckets " +
+                   "(tenant_id, bucket_date, shift_code, equipment_id, site_id, line_id, " +
+                   "planned_minutes, stop_minutes, ideal_run_minutes, total_count, good_count, " +
+                   "operation_count, downtime_count, created_at, updated_at) " +
+                   "VALUES (:tenantId, :bucketDate, :shiftCode, :equipmentId, :siteId, :lineId, " +
+                   ":plannedMinutes, :stopMinutes, :idealRunMinutes, :totalCount, :goodCount, " +
+                   ":operationCount, :downtimeCount, now(), now()) " +
+                   "ON CONFLICT (tenant_id, bucket_date, shift_code, equipment_id) " +
+                   "DO UPDATE SET planned_minutes = sd_oee_shift_buckets.planned_minutes + EXCLUDED.planned_minutes, " +
+                   "stop_minutes = sd_oee_shift_buckets.stop_minutes + EXCLUDED.stop_minutes, " +
+                   "ideal_run_minutes = sd_oee_shift_buckets.ideal_run_minutes + EXCLUDED.ideal_run_minutes, " +
+                   "total_count = sd_oee_shift_buckets.total_count + EXCLUDED.total_count, " +
+                   "good_count = sd_oee_shift_buckets.good_count + EXCLUDED.good_count, " +
+                   "operation_count = sd_oee_shift_buckets.operation_count + EXCLUDED.operation_count, " +
+                   "downtime_count = sd_oee_shift_buckets.downtime_count + EXCLUDED.downtime_count, " +
+                   "site_id = COALESCE(sd_oee_shift_buckets.site_id, EXCLUDED.site_id), " +
+                   "line_id = COALESCE(sd_oee_shift_buckets.line_id, EXCLUDED.line_id), " +
+                   "updated_at = now()",
+           nativeQuery = true)
+    int addBucket(@Param("tenantId") String tenantId,
+                  @Param("bucketDate") LocalDate bucketDate,
+                  @Param("shiftCode") String shiftCode,
+                  @Param("equipmentId") Long equipmentId,
+                  @Param("siteId") Long siteId,
+                  @Param("lineId") Long lineId,
+                  @Param("plannedMinutes") BigDecimal plannedMinutes,
+                  @Param("stopMinutes") BigDecimal stopMinutes,
+                  @Param("idealRunMinutes") BigDecimal idealRunMinutes,
+                  @Param("totalCount") BigDecimal totalCount,
+                  @Param("goodCount") BigDecimal goodCount,
+                  @Param("operationCount") long operationCount,
+                  @Param("downtimeCount") long downtimeCount);
+
+    /**
+     * Tenant advisory lock, shared (apply) - held until commit; concurrent applies do not block each other
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock_shared(hashtext('oee-rollup:' || :tenantId))) l",
+           nativeQuery = true)
+    long lockTenantShared(@Param("tenantId") String tenantId);
+
+    /**
+     * Tenant advisory lock, exclusive (rebuild) - waits for in-flight applies to commit and blocks new ones
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock(hashtext('oee-rollup:' || :tenantId))) l",
+           nativeQuery = true)
+    long lockTenantExclusive(@Param("tenantId") String tenantId);
+
+    @Modifying
+    @Query(value = "DELETE FROM equipment.sd_oee_shift_buckets " +
+                   "WHERE tenant_id = :tenantId AND bucket_date BETWEEN :startDate AND :endDate",
+           nativeQuery = true)
+    int deleteByTenantAndDateRange(@Param("tenantId") String tenantId,
+                                   @Param("startDate") LocalDate startDate,
+                                   @Param("endDate") LocalDate endDate);
+}
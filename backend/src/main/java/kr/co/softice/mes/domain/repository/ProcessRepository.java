@@ -80,4 +80,10 @@ public interface ProcessRepository extends JpaRepository<ProcessEntity, Long> {
      */
     @Query("SELECT p FROM ProcessEntity p JOIN FETCH p.tenant WHERE p.tenant.tenantId = :tenantId AND p.isActive = :isActive")
     List<ProcessEntity> findByTenantIdAndIsActiveWithTenant(@Param("tenantId") String tenantId, @Param("isActive") Boolean isActive);
+
+    /**
+     * Find process by ID with tenant eagerly loaded
+     */
+    @Query("SELECT p FROM ProcessEntity p JOIN FETCH p.tenant WHERE p.processId = :processId")
+    Optional<ProcessEntity> findByIdWithTenant(@Param("processId") Long processId);
 }
@@ -2,8 +2,13 @@ package kr.co.softice.mes.domain.repository;
 
 import kr.co.softice.mes.domain.entity.ProcessRoutingStepEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Process Routing Step Repository
  * 공정 라우팅 단계 저장소
@@ -12,4 +17,14 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface ProcessRoutingStepRepository extends JpaRepository<ProcessRoutingStepEntity, Long> {
+
+    /**
+     * 여러 라우팅의 단계 일괄 조회 (공정/설비 포함, 라우팅·순서 정렬)
+     */
+    @Query("SELECT s FROM ProcessRoutingStepEntity s " +
+           "JOIN FETCH s.process " +
+           "LEFT JOIN FETCH s.equipment " +
+           "WHERE s.routing.routingId IN :routingIds " +
+           "ORDER BY s.routing.routingId ASC, s.sequenceOrder ASC")
+    List<ProcessRoutingStepEntity> findByRoutingIdsWithRelations(@Param("routingIds") Collection<Long> routingIds);
 }
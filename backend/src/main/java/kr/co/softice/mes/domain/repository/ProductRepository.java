@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +30,21 @@ public interface ProductRepository extends JpaRepository<ProductEntity, Long> {
      */
     Optional<ProductEntity> findByTenant_TenantIdAndProductCode(String tenantId, String productCode);
 
+    /**
+     * Find by product ID within tenant
+     */
+    Optional<ProductEntity> findByProductIdAndTenant_TenantId(Long productId, String tenantId);
+
+    /**
+     * Find products by codes (bulk import)
+     */
+    List<ProductEntity> findByTenant_TenantIdAndProductCodeIn(String tenantId, Collection<String> productCodes);
+
+    /**
+     * Find products by IDs within tenant (bulk import)
+     */
+    List<ProductEntity> findByTenant_TenantIdAndProductIdIn(String tenantId, Collection<Long> productIds);
+
     /**
      * Find by tenant
      */
@@ -75,4 +91,10 @@ public interface ProductRepository extends JpaRepository<ProductEntity, Long> {
      */
     @Query("SELECT p FROM ProductEntity p JOIN FETCH p.tenant WHERE p.tenant.tenantId = :tenantId AND p.isActive = :isActive")
     List<ProductEntity> findByTenantIdAndIsActiveWithTenant(@Param("tenantId") String tenantId, @Param("isActive") Boolean isActive);
+
+    /**
+     * Find product by ID with tenant eagerly loaded
+     */
+    @Query("SELECT p FROM ProductEntity p JOIN FETCH p.tenant WHERE p.productId = :productId")
+    Optional<ProductEntity> findByIdWithTenant(@Param("productId") Long productId);
 }
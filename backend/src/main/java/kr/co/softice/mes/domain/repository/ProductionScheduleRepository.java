@@ -1,12 +1,15 @@
 package kr.co.softice.mes.domain.repository;
 
 import kr.co.softice.mes.domain.entity.ProductionScheduleEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -126,6 +129,69 @@ public interface ProductionScheduleRepository extends JpaRepository<ProductionSc
         @Param("endTime") LocalDateTime endTime
     );
 
+    // 설비 점유 구간 일괄 조회 (유한 능력 스케줄링/충돌 보고용)
+    // [scheduleId, equipmentId, equipmentCode, workOrderId, workOrderNo, plannedStartTime, plannedEndTime]
+    @Query("SELECT s.scheduleId, e.equipmentId, e.equipmentCode, wo.workOrderId, wo.workOrderNo, " +
+           "s.plannedStartTime, s.plannedEndTime " +
+           "FROM ProductionScheduleEntity s " +
+           "JOIN s.assignedEquipment e " +
+           "JOIN s.workOrder wo " +
+           "WHERE s.tenant.tenantId = :tenantId " +
+           "AND s.status NOT IN ('COMPLETED', 'CANCELLED') " +
+           "AND s.plannedEndTime > :startTime " +
+           "AND s.plannedStartTime < :endTime " +
+           "ORDER BY s.plannedStartTime ASC")
+    List<Object[]> findEquipmentOccupancy(
+        @Param("tenantId") String tenantId,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("endTime") LocalDateTime endTime
+    );
+
+    // 설비 예약 구간 일괄 조회 (스케줄링 입력, 착수/완료 일정도 고정 예약으로 포함)
+    // [scheduleId, equipmentId, equipmentCode, workOrderId, workOrderNo, plannedStartTime, plannedEndTime]
+    @Query("SELECT s.scheduleId, e.equipmentId, e.equipmentCode, wo.workOrderId, wo.workOrderNo, " +
+           "s.plannedStartTime, s.plannedEndTime " +
+           "FROM ProductionScheduleEntity s " +
+           "JOIN s.assignedEquipment e " +
+           "JOIN s.workOrder wo " +
+           "WHERE s.tenant.tenantId = :tenantId " +
+           "AND s.status <> 'CANCELLED' " +
+           "AND s.plannedEndTime > :startTime " +
+           "AND s.plannedStartTime < :endTime " +
+           "ORDER BY s.plannedStartTime ASC")
+    List<Object[]> findEquipmentReservations(
+        @Param("tenantId") String tenantId,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("endTime") LocalDateTime endTime
+    );
+
+    // 변경 버전 이후 등록/수정된 일정 (간트차트 증분 조회용, 버전 오름차순)
+    @Query("SELECT s FROM ProductionScheduleEntity s " +
+           "LEFT JOIN FETCH s.workOrder wo " +
+           "LEFT JOIN FETCH s.routingStep rs " +
+           "LEFT JOIN FETCH rs.process " +
+           "LEFT JOIN FETCH s.assignedEquipment " +
+           "LEFT JOIN FETCH s.assignedUser " +
+           "WHERE s.tenant.tenantId = :tenantId " +
+           "AND s.changeVersion > :sinceVersion " +
+           "ORDER BY s.changeVersion ASC")
+    List<ProductionScheduleEntity> findChangedSince(
+        @Param("tenantId") String tenantId,
+        @Param("sinceVersion") Long sinceVersion,
+        Pageable pageable
+    );
+
+    // 작업지시의 미착수 일정 일괄 삭제 (재스케줄링, 착수/완료 일정은 유지)
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ProductionScheduleEntity s " +
+           "WHERE s.workOrder.workOrderId IN :workOrderIds " +
+           "AND s.status IN :statuses " +
+           "AND s.actualStartTime IS NULL")
+    int deleteNotStartedByWorkOrderIds(
+        @Param("workOrderIds") Collection<Long> workOrderIds,
+        @Param("statuses") Collection<String> statuses
+    );
+
     // 작업자별 일정 조회
     @Query("SELECT DISTINCT s FROM ProductionScheduleEntity s " +
            "LEFT JOIN FETCH s.tenant " +
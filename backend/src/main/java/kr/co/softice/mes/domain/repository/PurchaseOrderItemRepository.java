@@ -4,6 +4,7 @@ import kr.co.softice.mes.domain.entity.PurchaseOrderItemEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -16,4 +17,8 @@ import java.util.List;
 public interface PurchaseOrderItemRepository extends JpaRepository<PurchaseOrderItemEntity, Long> {
 
     List<PurchaseOrderItemEntity> findByPurchaseOrder_PurchaseOrderId(Long purchaseOrderId);
+
+    // 테넌트 범위 일괄 조회 (다른 테넌트 주문 상세는 제외)
+    List<PurchaseOrderItemEntity> findByPurchaseOrder_Tenant_TenantIdAndPurchaseOrderItemIdIn(
+        String tenantId, Collection<Long> purchaseOrderItemIds);
 }
@@ -82,4 +82,9 @@ public interface PurchaseOrderRepository extends JpaRepository<PurchaseOrderEnti
      * 테넌트 및 주문 번호로 존재 여부 확인
      */
     boolean existsByTenant_TenantIdAndOrderNo(String tenantId, String orderNo);
+
+    /**
+     * 테넌트 범위 ID 조회
+     */
+    Optional<PurchaseOrderEntity> findByPurchaseOrderIdAndTenant_TenantId(Long purchaseOrderId, String tenantId);
 }
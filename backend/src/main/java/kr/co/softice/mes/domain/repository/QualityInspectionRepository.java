@@ -1,6 +1,7 @@
 package kr.co.softice.mes.domain.repository;
 
 import kr.co.softice.mes.domain.entity.*;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -99,6 +100,24 @@ public interface QualityInspectionRepository extends JpaRepository<QualityInspec
            "WHERE qi.tenant.tenantId = :tenantId")
     List<QualityInspectionEntity> findByTenantIdWithAllRelations(@Param("tenantId") String tenantId);
 
+    /**
+     * Keyset page by tenant: rows with id below the cursor, newest first (size + 1 rows via pageable)
+     */
+    @Query("SELECT qi FROM QualityInspectionEntity qi " +
+           "JOIN FETCH qi.tenant " +
+           "JOIN FETCH qi.qualityStandard qs " +
+           "JOIN FETCH qs.product " +
+           "JOIN FETCH qi.product " +
+           "JOIN FETCH qi.inspector " +
+           "LEFT JOIN FETCH qi.workOrder " +
+           "LEFT JOIN FETCH qi.workResult " +
+           "WHERE qi.tenant.tenantId = :tenantId " +
+           "AND qi.qualityInspectionId < :cursor " +
+           "ORDER BY qi.qualityInspectionId DESC")
+    List<QualityInspectionEntity> findByTenantIdAfterCursor(@Param("tenantId") String tenantId,
+                                                            @Param("cursor") Long cursor,
+                                                            Pageable pageable);
+
     /**
      * Find by ID with all relationships eagerly loaded
      */
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -113,4 +114,16 @@ public interface QualityStandardRepository extends JpaRepository<QualityStandard
            "WHERE qs.tenant.tenantId = :tenantId AND qs.inspectionType = :inspectionType")
     List<QualityStandardEntity> findByTenantIdAndInspectionTypeWithRelations(
         @Param("tenantId") String tenantId, @Param("inspectionType") String inspectionType);
+
+    /**
+     * Find active incoming (IQC) standards for products (bulk goods receipt)
+     */
+    @Query("SELECT qs FROM QualityStandardEntity qs " +
+           "WHERE qs.tenant.tenantId = :tenantId " +
+           "AND qs.product.productId IN :productIds " +
+           "AND qs.inspectionType = 'INCOMING' " +
+           "AND qs.isActive = true " +
+           "ORDER BY qs.qualityStandardId")
+    List<QualityStandardEntity> findActiveIncomingByProductIds(@Param("tenantId") String tenantId,
+                                                               @Param("productIds") Collection<Long> productIds);
 }
@@ -1,6 +1,7 @@
 package kr.co.softice.mes.domain.repository;
 
 import kr.co.softice.mes.domain.entity.ShippingEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -40,6 +41,39 @@ public interface ShippingRepository extends JpaRepository<ShippingEntity, Long>
            "ORDER BY s.shippingDate DESC")
     List<ShippingEntity> findByTenantIdWithAllRelations(@Param("tenantId") String tenantId);
 
+    /**
+     * Keyset page of IDs by tenant: ids below the cursor, newest first (size + 1 rows via pageable)
+     * Items are a collection fetch, so the page is selected by id first and loaded with findByIdsWithAllRelations.
+     */
+    @Query("SELECT s.shippingId FROM ShippingEntity s " +
+           "WHERE s.tenant.tenantId = :tenantId " +
+           "AND s.shippingId < :cursor " +
+           "ORDER BY s.shippingId DESC")
+    List<Long> findIdsByTenantIdAfterCursor(@Param("tenantId") String tenantId,
+                                            @Param("cursor") Long cursor,
+                                            Pageable pageable);
+
+    /**
+     * Find by IDs with all relations, newest first
+     */
+    @Query("SELECT DISTINCT s FROM ShippingEntity s " +
+           "JOIN FETCH s.tenant " +
+           "LEFT JOIN FETCH s.salesOrder so " +
+           "LEFT JOIN FETCH so.tenant " +
+           "LEFT JOIN FETCH s.customer c " +
+           "LEFT JOIN FETCH c.tenant " +
+           "JOIN FETCH s.warehouse w " +
+           "JOIN FETCH w.tenant " +
+           "LEFT JOIN FETCH s.shipper " +
+           "LEFT JOIN FETCH s.items si " +
+           "LEFT JOIN FETCH si.salesOrderItem " +
+           "LEFT JOIN FETCH si.product p " +
+           "LEFT JOIN FETCH p.tenant " +
+           "LEFT JOIN FETCH si.qualityInspection " +
+           "WHERE s.shippingId IN :ids " +
+           "ORDER BY s.shippingId DESC")
+    List<ShippingEntity> findByIdsWithAllRelations(@Param("ids") List<Long> ids);
+
     /**
      * Find shipping by ID with all relations
      */
@@ -21,6 +21,7 @@ public interface SupplierRepository extends JpaRepository<SupplierEntity, Long>
 
     Optional<SupplierEntity> findByTenantAndSupplierCode(TenantEntity tenant, String supplierCode);
     Optional<SupplierEntity> findByTenant_TenantIdAndSupplierCode(String tenantId, String supplierCode);
+    Optional<SupplierEntity> findBySupplierIdAndTenant_TenantId(Long supplierId, String tenantId);
     List<SupplierEntity> findByTenant_TenantId(String tenantId);
     List<SupplierEntity> findByTenant_TenantIdAndSupplierType(String tenantId, String supplierType);
     List<SupplierEntity> findByTenant_TenantIdAndIsActive(String tenantId, Boolean isActive);
@@ -31,6 +31,11 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
      */
     Optional<UserEntity> findByTenant_TenantIdAndUsername(String tenantId, String username);
 
+    /**
+     * Find by user ID within tenant
+     */
+    Optional<UserEntity> findByUserIdAndTenant_TenantId(Long userId, String tenantId);
+
     /**
      * Find by username (without tenant filter)
      */
@@ -1,7 +1,6 @@
 package kr.co.softice.mes.domain.repository;
 
 import kr.co.softice.mes.domain.entity.RoleEntity;
-import kr.co.softice.mes.domain.entity.TenantEntity;
 import kr.co.softice.mes.domain.entity.UserEntity;
 import kr.co.softice.mes.domain.entity.UserRoleEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -62,8 +61,8 @@ public interface UserRoleRepository extends JpaRepository<UserRoleEntity, Long>
      */
     @Query("SELECT ur.role.roleCode as roleCode, ur.role.roleName as roleName, COUNT(DISTINCT ur.user) as userCount " +
            "FROM UserRoleEntity ur " +
-           "WHERE ur.user.tenant = :tenant " +
+           "WHERE ur.user.tenant.tenantId = :tenantId " +
            "GROUP BY ur.role.roleCode, ur.role.roleName " +
            "ORDER BY COUNT(DISTINCT ur.user) DESC")
-    List<Object[]> countUsersByRoleForTenant(@Param("tenant") TenantEntity tenant);
+    List<Object[]> countUsersByRoleForTenant(@Param("tenantId") String tenantId);
 }
@@ -1,11 +1,14 @@
 package kr.co.softice.mes.domain.repository;
 
 import kr.co.softice.mes.domain.entity.WeighingEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -84,6 +87,22 @@ public interface WeighingRepository extends JpaRepository<WeighingEntity, Long>
            "ORDER BY w.weighingDate DESC")
     List<WeighingEntity> findByTenantIdWithAllRelations(@Param("tenantId") String tenantId);
 
+    /**
+     * Keyset page by tenant: rows with id below the cursor, newest first (size + 1 rows via pageable)
+     */
+    @Query("SELECT w FROM WeighingEntity w " +
+           "JOIN FETCH w.tenant " +
+           "JOIN FETCH w.product " +
+           "JOIN FETCH w.operator " +
+           "LEFT JOIN FETCH w.lot " +
+           "LEFT JOIN FETCH w.verifier " +
+           "WHERE w.tenant.tenantId = :tenantId " +
+           "AND w.weighingId < :cursor " +
+           "ORDER BY w.weighingId DESC")
+    List<WeighingEntity> findByTenantIdAfterCursor(@Param("tenantId") String tenantId,
+                                                   @Param("cursor") Long cursor,
+                                                   Pageable pageable);
+
     /**
      * Find by ID with all relationships eagerly loaded
      */
@@ -96,6 +115,13 @@ public interface WeighingRepository extends JpaRepository<WeighingEntity, Long>
            "WHERE w.weighingId = :id")
     Optional<WeighingEntity> findByIdWithAllRelations(@Param("id") Long id);
 
+    /**
+     * Find by ID with a row lock (SELECT ... FOR UPDATE), for status changes that adjust the stats counters
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM WeighingEntity w WHERE w.weighingId = :id")
+    Optional<WeighingEntity> findByIdForUpdate(@Param("id") Long id);
+
     /**
      * Find by reference type and ID with relationships
      */
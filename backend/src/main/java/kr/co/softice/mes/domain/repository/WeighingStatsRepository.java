@@ -0,0 +1,92 @@
+package kr.co.softice.mes.domain.repository;
+
+import kr.co.softice.mes.domain.entity.WeighingStatsEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Weighing Stats Repository
+ * 테넌트별 칭량 건수 카운터 리포지토리
+ *
+ * @author Moon Myung-seop
+ */
+@Repository
+public interface WeighingStatsRepository extends JpaRepository<WeighingStatsEntity, String> {
+
+    /**
+     * Add deltas to the tenant's counter row (single-statement upsert, runs in the caller's transaction)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO wms.sd_weighing_stats " +
+                   "(tenant_id, total_count, pending_count, verified_count, rejected_count, " +
+                   "tolerance_exceeded_count, pending_tolerance_exceeded_count, created_at, updated_at) " +
+                   "VALUES (:tenantId, :total, :pending, :verified, :rejected, " +
+                   ":toleranceExceeded, :pendingToleranceExceeded, now(), now()) " +
+                   "ON CONFLICT (tenant_id) " +
+                   "DO UPDATE SET total_count = sd_weighing_stats.total_count + EXCLUDED.total_count, " +
+                   "pending_count = sd_weighing_stats.pending_count + EXCLUDED.pending_count, " +
+                   "verified_count = sd_weighing_stats.verified_count + EXCLUDED.verified_count, " +
+                   "rejected_count = sd_weighing_stats.rejected_count + EXCLUDED.rejected_count, " +
+                   "tolerance_exceeded_count = sd_weighing_stats.tolerance_exceeded_count + EXCLUDED.tolerance_exceeded_count, " +
+                   "pending_tolerance_exceeded_count = sd_weighing_stats.pending_tolerance_exceeded_count " +
+                   "+ EXCLUDED.pending_tolerance_exceeded_count, " +
+                   "updated_at = now()",
+           nativeQuery = true)
+    int addCounts(@Param("tenantId") String tenantId,
+                  @Param("total") long total,
+                  @Param("pending") long pending,
+                  @Param("verified") long verified,
+                  @Param("rejected") long rejected,
+                  @Param("toleranceExceeded") long toleranceExceeded,
+                  @Param("pendingToleranceExceeded") long pendingToleranceExceeded);
+
+    /**
+     * Create the tenant's counter row if missing (zero counts)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO wms.sd_weighing_stats " +
+                   "(tenant_id, total_count, pending_count, verified_count, rejected_count, " +
+                   "tolerance_exceeded_count, pending_tolerance_exceeded_count, created_at, updated_at) " +
+                   "VALUES (:tenantId, 0, 0, 0, 0, 0, 0, now(), now()) " +
+                   "ON CONFLICT (tenant_id) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("tenantId") String tenantId);
+
+    /**
+     * Lock the tenant's counter row (SELECT ... FOR UPDATE); waits for in-flight addCounts transactions
+     * and blocks new ones until the caller commits
+     */
+    @Query(value = "SELECT tenant_id FROM wms.sd_weighing_stats WHERE tenant_id = :tenantId FOR UPDATE",
+           nativeQuery = true)
+    String lockRow(@Param("tenantId") String tenantId);
+
+    /**
+     * Recompute the tenant's counter row from sd_weighings (SQL aggregate)
+     * (call lockRow first in the same transaction, otherwise concurrent deltas can be overwritten)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO wms.sd_weighing_stats " +
+                   "(tenant_id, total_count, pending_count, verified_count, rejected_count, " +
+                   "tolerance_exceeded_count, pending_tolerance_exceeded_count, created_at, updated_at) " +
+                   "SELECT :tenantId, COUNT(*), " +
+                   "COUNT(*) FILTER (WHERE w.verification_status = 'PENDING'), " +
+                   "COUNT(*) FILTER (WHERE w.verification_status = 'VERIFIED'), " +
+                   "COUNT(*) FILTER (WHERE w.verification_status = 'REJECTED'), " +
+                   "COUNT(*) FILTER (WHERE w.tolerance_exceeded), " +
+                   "COUNT(*) FILTER (WHERE w.tolerance_exceeded AND w.verification_status = 'PENDING'), " +
+                   "now(), now() " +
+                   "FROM wms.sd_weighings w WHERE w.tenant_id = :tenantId " +
+                   "ON CONFLICT (tenant_id) " +
+                   "DO UPDATE SET total_count = EXCLUDED.total_count, " +
+                   "pending_count = EXCLUDED.pending_count, " +
+                   "verified_count = EXCLUDED.verified_count, " +
+                   "rejected_count = EXCLUDED.rejected_count, " +
+                   "tolerance_exceeded_count = EXCLUDED.tolerance_exceeded_count, " +
+                   "pending_tolerance_exceeded_count = EXCLUDED.pending_tolerance_exceeded_count, " +
+                   "updated_at = now()",
+           nativeQuery = true)
+    int rebuild(@Param("tenantId") String tenantId);
+}
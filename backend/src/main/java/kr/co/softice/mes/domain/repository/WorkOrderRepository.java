@@ -3,12 +3,14 @@ package kr.co.softice.mes.domain.repository;
 import kr.co.softice.mes.domain.entity.TenantEntity;
 import kr.co.softice.mes.domain.entity.UserEntity;
 import kr.co.softice.mes.domain.entity.WorkOrderEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -119,6 +121,21 @@ public interface WorkOrderRepository extends JpaRepository<WorkOrderEntity, Long
            "ORDER BY wo.plannedStartDate DESC")
     List<WorkOrderEntity> findByTenantIdWithAllRelations(@Param("tenantId") String tenantId);
 
+    /**
+     * Keyset page by tenant: rows with id below the cursor, newest first (size + 1 rows via pageable)
+     */
+    @Query("SELECT wo FROM WorkOrderEntity wo " +
+           "JOIN FETCH wo.tenant " +
+           "JOIN FETCH wo.product " +
+           "JOIN FETCH wo.process " +
+           "LEFT JOIN FETCH wo.assignedUser " +
+           "WHERE wo.tenant.tenantId = :tenantId " +
+           "AND wo.workOrderId < :cursor " +
+           "ORDER BY wo.workOrderId DESC")
+    List<WorkOrderEntity> findByTenantIdAfterCursor(@Param("tenantId") String tenantId,
+                                                    @Param("cursor") Long cursor,
+                                                    Pageable pageable);
+
     /**
      * Find work orders by tenant ID and status with all relationships eagerly loaded
      */
@@ -171,4 +188,26 @@ public interface WorkOrderRepository extends JpaRepository<WorkOrderEntity, Long
            "WHERE wo.tenant.tenantId = :tenantId " +
            "ORDER BY wo.plannedStartDate DESC")
     List<WorkOrderEntity> findByTenant_TenantIdWithAllRelations(@Param("tenantId") String tenantId);
+
+    /**
+     * Find work orders by IDs with routing (finite-capacity scheduling)
+     */
+    @Query("SELECT wo FROM WorkOrderEntity wo " +
+           "JOIN FETCH wo.tenant " +
+           "LEFT JOIN FETCH wo.routing " +
+           "WHERE wo.tenant.tenantId = :tenantId AND wo.workOrderId IN :workOrderIds")
+    List<WorkOrderEntity> findByTenantIdAndIdsWithRouting(
+            @Param("tenantId") String tenantId,
+            @Param("workOrderIds") Collection<Long> workOrderIds);
+
+    /**
+     * Find work orders by statuses with routing (finite-capacity scheduling)
+     */
+    @Query("SELECT wo FROM WorkOrderEntity wo " +
+           "JOIN FETCH wo.tenant " +
+           "LEFT JOIN FETCH wo.routing " +
+           "WHERE wo.tenant.tenantId = :tenantId AND wo.status IN :statuses")
+    List<WorkOrderEntity> findByTenantIdAndStatusesWithRouting(
+            @Param("tenantId") String tenantId,
+            @Param("statuses") Collection<String> statuses);
 }
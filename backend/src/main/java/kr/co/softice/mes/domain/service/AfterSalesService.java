@@ -25,9 +25,9 @@ import java.util.List;
 public class AfterSalesService {
 
     private final AfterSalesRepository afterSalesRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final CustomerRepository customerRepository;
-    private final ProductRepository productRepository;
+    private final ProductService productService;
     private final SalesOrderRepository salesOrderRepository;
     private final ShippingRepository shippingRepository;
     private final UserRepository userRepository;
@@ -78,7 +78,7 @@ public class AfterSalesService {
         }
 
         // Get tenant
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         afterSales.setTenant(tenant);
 
@@ -90,7 +90,7 @@ public class AfterSalesService {
         afterSales.setCustomerName(customer.getCustomerName());
 
         // Get product
-        ProductEntity product = productRepository.findById(afterSales.getProduct().getProductId())
+        ProductEntity product = productService.findById(afterSales.getProduct().getProductId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
         afterSales.setProduct(product);
         afterSales.setProductCode(product.getProductCode());
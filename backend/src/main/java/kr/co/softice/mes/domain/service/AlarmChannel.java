@@ -0,0 +1,22 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.domain.entity.AlarmHistoryEntity;
+
+/**
+ * Alarm Channel
+ * 알람 외부 발송 채널 (EMAIL, SMS, PUSH)
+ *
+ * - AlarmOutboxDispatcher 워커 스레드에서 트랜잭션 밖으로 호출됨 (alarm 은 detached)
+ * - 예외를 던지면 해당 알람은 백오프 후 재시도, 이미 성공한 채널은 재시도에서 제외
+ *
+ * @author Moon Myung-seop
+ */
+public interface AlarmChannel {
+
+    /**
+     * 채널 이름 (EMAIL, SMS, PUSH)
+     */
+    String getChannel();
+
+    void send(AlarmHistoryEntity alarm) throws Exception;
+}
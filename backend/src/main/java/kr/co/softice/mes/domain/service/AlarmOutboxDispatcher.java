@@ -0,0 +1,316 @@
+package kr.co.softice.mes.domain.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.co.softice.mes.common.transaction.TransactionHooks;
+import kr.co.softice.mes.domain.entity.AlarmHistoryEntity;
+import kr.co.softice.mes.domain.repository.AlarmHistoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Alarm Outbox Dispatcher
+ * 알람 비동기 발송기 (알람 이력 테이블을 transactional outbox 로 사용)
+ *
+ * - AlarmService.sendAlarm 은 업무 트랜잭션 안에서 이력만 저장 (dispatch_status = PENDING) → 외부 채널이 느려도 업무 처리에 영향 없음
+ * - 외부 채널 발송 상태(dispatch_status)는 알림함 표시 상태(send_status)와 별도 → 발송 지연/실패와 무관하게 시스템 알림 표시
+ * - poll-interval-ms 주기로 taskScheduler 가 발송 시각이 된 건을 FOR UPDATE SKIP LOCKED 로
+ *   batch-size 건씩 SENDING 점유 (점유 만료 시각 = now + lease-seconds, 노드가 죽으면 만료 후 다른 노드가 다시 점유)
+ * - alarmDispatchExecutor(worker-threads) 가 채널별 발송, 채널 지연은 alarm.channel.latency 타이머로 기록
+ * - 실패 시 지수 백오프(+지터)로 PENDING 복귀, max-attempts 초과 시 FAILED
+ *   이미 성공한 채널은 delivered_channels 에 기록하여 재시도에서 제외
+ * - 결과 반영은 점유한 시도 번호(attempt_count)가 그대로일 때만 (점유 만료 후 다른 노드가 재점유했으면 무시)
+ * - 알람 저장 트랜잭션 커밋 시 즉시 폴링 (poll-interval-ms 대기 없이 발송)
+ * - AlarmChannel 빈이 없는 채널은 로컬 스텁 채널 사용 (실제 SMTP/SMS/FCM 연동 빈을 등록하면 대체)
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+@Component
+public class AlarmOutboxDispatcher {
+
+    static final String CLAIM_SQL =
+            "UPDATE common.sd_alarm_history SET dispatch_status = 'SENDING', " +
+            "       attempt_count = attempt_count + 1, next_attempt_at = ? " +
+            "WHERE alarm_id IN ( " +
+            "    SELECT alarm_id FROM common.sd_alarm_history " +
+            "    WHERE dispatch_status IN ('PENDING', 'SENDING') AND next_attempt_at <= ? " +
+            "    ORDER BY next_attempt_at " +
+            "    LIMIT ? " +
+            "    FOR UPDATE SKIP LOCKED " +
+            ") " +
+            "RETURNING alarm_id";
+
+    static final String SENT_SQL =
+            "UPDATE common.sd_alarm_history SET dispatch_status = 'SENT', delivered_channels = ?, " +
+            "       failed_reason = NULL, next_attempt_at = NULL, updated_at = ? " +
+            "WHERE alarm_id = ? AND dispatch_status = 'SENDING' AND attempt_count = ?";
+
+    static final String RETRY_SQL =
+            "UPDATE common.sd_alarm_history SET dispatch_status = 'PENDING', next_attempt_at = ?, " +
+            "       delivered_channels = ?, failed_reason = ?, updated_at = ? " +
+            "WHERE alarm_id = ? AND dispatch_status = 'SENDING' AND attempt_count = ?";
+
+    static final String FAILED_SQL =
+            "UPDATE common.sd_alarm_history SET dispatch_status = 'FAILED', delivered_channels = ?, " +
+            "       failed_reason = ?, next_attempt_at = NULL, updated_at = ? " +
+            "WHERE alarm_id = ? AND dispatch_status = 'SENDING' AND attempt_count = ?";
+
+    private final AlarmHistoryRepository historyRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final TaskScheduler taskScheduler;
+    private final TaskExecutor workers;
+    private final Map<String, AlarmChannel> channels = new ConcurrentHashMap<>();
+
+    @Value("${app.alarm.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.alarm.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.alarm.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.alarm.outbox.backoff-initial-ms:5000}")
+    private long backoffInitialMs;
+
+    @Value("${app.alarm.outbox.backoff-max-ms:600000}")
+    private long backoffMaxMs;
+
+    @Value("${app.alarm.outbox.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${app.alarm.stub.latency-ms:0}")
+    private long stubLatencyMs;
+
+    @Value("${app.alarm.stub.failure-rate:0.0}")
+    private double stubFailureRate;
+
+    private final AtomicBoolean pollRequested = new AtomicBoolean();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock pollLock = new ReentrantLock();
+
+    private Counter sent;
+    private Counter retried;
+    private Counter failed;
+
+    public AlarmOutboxDispatcher(AlarmHistoryRepository historyRepository, JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+                                 @Qualifier("taskScheduler") TaskScheduler taskScheduler,
+                                 @Qualifier("alarmDispatchExecutor") TaskExecutor alarmDispatchExecutor,
+                                 List<AlarmChannel> alarmChannels) {
+        this.historyRepository = historyRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.taskScheduler = taskScheduler;
+        this.workers = alarmDispatchExecutor;
+        alarmChannels.forEach(channel -> channels.put(channel.getChannel(), channel));
+    }
+
+    @PostConstruct
+    public void start() {
+        this.sent = counter("sent");
+        this.retried = counter("retried");
+        this.failed = counter("failed");
+
+        for (String channel : List.of("EMAIL", "SMS", "PUSH")) {
+            channels.computeIfAbsent(channel, name -> new StubAlarmChannel(name, stubLatencyMs, stubFailureRate));
+        }
+
+        Gauge.builder("alarm.outbox.in.flight", inFlight, AtomicInteger::get).register(meterRegistry);
+
+        if (!enabled) {
+            log.info("Alarm outbox dispatcher disabled, alarms stay PENDING until a dispatching node picks them up");
+            return;
+        }
+        log.info("Alarm outbox dispatcher started: batchSize={}, maxAttempts={}, channels={}",
+                batchSize, maxAttempts, channels.keySet());
+    }
+
+    /**
+     * 새 알람 저장 알림 (트랜잭션 중이면 커밋 이후 즉시 폴링)
+     */
+    public void wakeUp() {
+        TransactionHooks.afterCommit(this::requestPoll);
+    }
+
+    private void requestPoll() {
+        if (enabled && pollRequested.compareAndSet(false, true)) {
+            try {
+                taskScheduler.schedule(this::poll, new Date());
+            } catch (Exception e) {
+                pollRequested.set(false);
+            }
+        }
+    }
+
+    /**
+     * 발송 시각이 된 건 점유 후 워커에 전달 (주기 폴링과 즉시 폴링이 겹치면 한쪽만 실행)
+     */
+    @Scheduled(fixedDelayString = "${app.alarm.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        pollRequested.set(false);
+        if (!enabled || !pollLock.tryLock()) {
+            return;
+        }
+        try {
+            // 워커 풀이 처리 중인 건이 batch-size 를 넘지 않는 만큼만 점유
+            int capacity;
+            while ((capacity = batchSize - inFlight.get()) > 0) {
+                List<Long> ids = claim(capacity);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                for (AlarmHistoryEntity alarm : historyRepository.findAllById(ids)) {
+                    inFlight.incrementAndGet();
+                    workers.execute(() -> {
+                        try {
+                            deliver(alarm);
+                        } finally {
+                            inFlight.decrementAndGet();
+                        }
+                    });
+                }
+                if (ids.size() < capacity) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to poll alarm outbox: {}", e.getMessage());
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    private List<Long> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = transactionTemplate.execute(status -> jdbcTemplate.queryForList(CLAIM_SQL, Long.class,
+                Timestamp.valueOf(now.plusSeconds(leaseSeconds)), Timestamp.valueOf(now), limit));
+        return ids != null ? ids : new ArrayList<>();
+    }
+
+    /**
+     * 요청 채널 중 아직 성공하지 않은 채널로 발송 (SYSTEM 은 이력 자체가 알림이므로 발송 없음)
+     */
+    private void deliver(AlarmHistoryEntity alarm) {
+        int attempt = alarm.getAttemptCount();  // 점유 시 증가된 값 (이번 시도 번호)
+        Set<String> delivered = new LinkedHashSet<>();
+        if (alarm.getDeliveredChannels() != null && !alarm.getDeliveredChannels().isEmpty()) {
+            delivered.addAll(Arrays.asList(alarm.getDeliveredChannels().split(",")));
+        }
+
+        String error = null;
+        for (String channelName : requestedChannels(alarm)) {
+            if (delivered.contains(channelName)) {
+                continue;
+            }
+            AlarmChannel channel = channels.get(channelName);
+            if (channel == null) {
+                error = "No alarm channel configured: " + channelName;
+                continue;
+            }
+            long started = System.nanoTime();
+            try {
+                channel.send(alarm);
+                delivered.add(channelName);
+                record(channelName, "success", started);
+            } catch (Exception e) {
+                record(channelName, "failure", started);
+                error = channelName + ": " + e.getMessage();
+                log.warn("Alarm channel {} failed [alarmId={}, attempt={}]: {}",
+                        channelName, alarm.getAlarmId(), attempt, e.getMessage());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        String deliveredChannels = delivered.isEmpty() ? null : String.join(",", delivered);
+        int updated;
+        try {
+            if (error == null) {
+                updated = jdbcTemplate.update(SENT_SQL, deliveredChannels,
+                        Timestamp.valueOf(now), alarm.getAlarmId(), attempt);
+                sent.increment();
+            } else if (attempt >= maxAttempts) {
+                updated = jdbcTemplate.update(FAILED_SQL, deliveredChannels, error,
+                        Timestamp.valueOf(now), alarm.getAlarmId(), attempt);
+                failed.increment();
+                log.error("Alarm delivery failed after {} attempts [alarmId={}, eventType={}]: {}",
+                        attempt, alarm.getAlarmId(), alarm.getEventType(), error);
+            } else {
+                LocalDateTime nextAttemptAt = now.plus(backoffMillis(attempt), ChronoUnit.MILLIS);
+                updated = jdbcTemplate.update(RETRY_SQL, Timestamp.valueOf(nextAttemptAt), deliveredChannels,
+                        error, Timestamp.valueOf(now), alarm.getAlarmId(), attempt);
+                retried.increment();
+            }
+            if (updated == 0) {
+                // 점유 만료 후 다른 노드가 재점유 (그 시도의 결과가 최종 상태)
+                log.warn("Alarm claim superseded, send status not updated [alarmId={}, attempt={}]",
+                        alarm.getAlarmId(), attempt);
+            }
+        } catch (Exception e) {
+            // 상태 갱신 실패 시 점유 만료 후 재발송 (이미 성공한 채널은 중복 발송될 수 있음)
+            log.error("Failed to update alarm send status [alarmId={}]: {}", alarm.getAlarmId(), e.getMessage());
+        }
+    }
+
+    private static List<String> requestedChannels(AlarmHistoryEntity alarm) {
+        List<String> requested = new ArrayList<>(3);
+        if (Boolean.TRUE.equals(alarm.getSentViaEmail())) requested.add("EMAIL");
+        if (Boolean.TRUE.equals(alarm.getSentViaSms())) requested.add("SMS");
+        if (Boolean.TRUE.equals(alarm.getSentViaPush())) requested.add("PUSH");
+        return requested;
+    }
+
+    /**
+     * 지수 백오프 (initial * 2^(attempt-1), 최대 backoff-max-ms) + 0~20% 지터
+     */
+    long backoffMillis(int attempt) {
+        long backoff = backoffInitialMs << Math.min(attempt - 1, 20);
+        backoff = Math.min(backoff, backoffMaxMs);
+        return backoff + ThreadLocalRandom.current().nextLong(backoff / 5 + 1);
+    }
+
+    private void record(String channel, String result, long startedNanos) {
+        Timer.builder("alarm.channel.latency")
+                .tag("channel", channel)
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder("alarm.outbox.dispatched")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
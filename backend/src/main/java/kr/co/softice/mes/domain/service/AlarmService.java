@@ -1,5 +1,7 @@
 package kr.co.softice.mes.domain.service;
 
+import kr.co.softice.mes.common.dto.alarm.AlarmBulkSendRequest;
+import kr.co.softice.mes.common.dto.alarm.AlarmRecipient;
 import kr.co.softice.mes.common.exception.BusinessException;
 import kr.co.softice.mes.common.exception.ErrorCode;
 import kr.co.softice.mes.domain.entity.AlarmHistoryEntity;
@@ -12,6 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -29,6 +32,8 @@ public class AlarmService {
 
     private final AlarmTemplateRepository templateRepository;
     private final AlarmHistoryRepository historyRepository;
+    private final AlarmOutboxDispatcher outboxDispatcher;
+    private final AlarmTemplateCompiler templateCompiler;
 
     // ==================== Template Management ====================
 
@@ -52,6 +57,8 @@ public class AlarmService {
 
     /**
      * Send alarm
+     *
+     * 호출자 트랜잭션에서 알람 이력 저장 (시스템 알림은 즉시 표시), 외부 채널 발송은 커밋 후 AlarmOutboxDispatcher 가 비동기 처리
      */
     @Transactional
     public AlarmHistoryEntity sendAlarm(
@@ -66,27 +73,82 @@ public class AlarmService {
     ) {
         log.info("Sending alarm: eventType={}, recipient={}", eventType, recipientUserId);
 
-        // Find template
-        AlarmTemplateEntity template = findTemplateByEventType(tenantId, eventType)
+        AlarmTemplateEntity template = getTemplate(tenantId, eventType);
+        AlarmTemplateCompiler.CompiledAlarmTemplate compiled = templateCompiler.compile(template);
+
+        AlarmHistoryEntity saved = historyRepository.save(buildAlarm(template, compiled,
+                recipientUserId, recipientName, variables, null, referenceType, referenceId, referenceNo));
+        if (saved.isDispatchPending()) {
+            outboxDispatcher.wakeUp();
+        }
+
+        return saved;
+    }
+
+    /**
+     * Send alarms in bulk
+     *
+     * 같은 이벤트를 여러 수신자에게 발송 - 템플릿 조회/컴파일 1회, 이력 일괄 저장, outbox wake-up 1회
+     */
+    @Transactional
+    public List<AlarmHistoryEntity> sendAlarms(String tenantId, AlarmBulkSendRequest request) {
+        List<AlarmRecipient> recipients = request.getRecipients();
+        if (recipients == null || recipients.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "알람 수신자가 없습니다.");
+        }
+        if (recipients.size() > AlarmBulkSendRequest.MAX_RECIPIENTS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "알람 수신자는 요청당 최대 " + AlarmBulkSendRequest.MAX_RECIPIENTS + "명입니다.");
+        }
+        log.info("Sending alarms: eventType={}, recipients={}", request.getEventType(), recipients.size());
+
+        AlarmTemplateEntity template = getTemplate(tenantId, request.getEventType());
+        AlarmTemplateCompiler.CompiledAlarmTemplate compiled = templateCompiler.compile(template);
+
+        List<AlarmHistoryEntity> alarms = new ArrayList<>(recipients.size());
+        for (AlarmRecipient recipient : recipients) {
+            alarms.add(buildAlarm(template, compiled,
+                    recipient.getRecipientUserId(), recipient.getRecipientName(),
+                    recipient.getVariables(), request.getVariables(),
+                    request.getReferenceType(), request.getReferenceId(), request.getReferenceNo()));
+        }
+
+        List<AlarmHistoryEntity> saved = historyRepository.saveAll(alarms);
+        if (saved.stream().anyMatch(AlarmHistoryEntity::isDispatchPending)) {
+            outboxDispatcher.wakeUp();
+        }
+
+        return saved;
+    }
+
+    private AlarmTemplateEntity getTemplate(String tenantId, String eventType) {
+        return findTemplateByEventType(tenantId, eventType)
                 .orElseThrow(() -> {
                     log.warn("No template found for event type: {}", eventType);
                     return new BusinessException(ErrorCode.ALARM_TEMPLATE_NOT_FOUND,
                             "알람 템플릿을 찾을 수 없습니다: eventType=" + eventType);
                 });
+    }
 
-        // Render message
-        String title = template.renderTitle(variables);
-        String message = template.renderMessage(variables);
-
-        // Create alarm history
+    private AlarmHistoryEntity buildAlarm(
+            AlarmTemplateEntity template,
+            AlarmTemplateCompiler.CompiledAlarmTemplate compiled,
+            Long recipientUserId,
+            String recipientName,
+            Map<String, String> variables,
+            Map<String, String> defaultVariables,
+            String referenceType,
+            Long referenceId,
+            String referenceNo
+    ) {
         AlarmHistoryEntity alarm = AlarmHistoryEntity.builder()
                 .recipientUserId(recipientUserId)
                 .recipientName(recipientName)
                 .alarmType(template.getAlarmType())
                 .eventType(template.getEventType())
                 .priority(template.getPriority())
-                .title(title)
-                .message(message)
+                .title(compiled.getTitle().render(variables, defaultVariables))
+                .message(compiled.getMessage().render(variables, defaultVariables))
                 .referenceType(referenceType)
                 .referenceId(referenceId)
                 .referenceNo(referenceNo)
@@ -100,77 +162,13 @@ public class AlarmService {
         alarm.setTenant(template.getTenant());
         alarm.setTemplate(template);
 
-        AlarmHistoryEntity saved = historyRepository.save(alarm);
-
-        // Send via channels (in real implementation, integrate with email/SMS/push services)
-        sendViaChannels(saved, template);
-
-        return saved;
-    }
-
-    /**
-     * Send via channels
-     */
-    private void sendViaChannels(AlarmHistoryEntity alarm, AlarmTemplateEntity template) {
-        try {
-            if (template.isEmailEnabled()) {
-                sendViaEmail(alarm);
-            }
-
-            if (template.isSmsEnabled()) {
-                sendViaSms(alarm);
-            }
-
-            if (template.isPushEnabled()) {
-                sendViaPush(alarm);
-            }
-
-            // System notification is always sent
-            alarm.markAsSent();
-            historyRepository.save(alarm);
-
-        } catch (Exception e) {
-            log.error("Failed to send alarm [id={}, type={}, recipient={}]: {}",
-                    alarm.getAlarmId(), alarm.getEventType(),
-                    alarm.getRecipientUserId(), e.getMessage(), e);
-            alarm.markAsFailed(e.getMessage());
-            historyRepository.save(alarm);
+        // 시스템 알림은 저장 즉시 발송 완료, 외부 채널 발송 상태는 dispatch_status 로 따로 관리 (outbox 발송 대기)
+        alarm.markAsSent();
+        if (template.isEmailEnabled() || template.isSmsEnabled() || template.isPushEnabled()) {
+            alarm.setDispatchStatus("PENDING");
+            alarm.setNextAttemptAt(LocalDateTime.now());
         }
-    }
-
-    /**
-     * Send alarm via email channel.
-     * When an external email service (e.g., SMTP, SES) is configured,
-     * replace the placeholder logic below with the actual integration call.
-     */
-    private void sendViaEmail(AlarmHistoryEntity alarm) {
-        log.info("Sending email notification [alarmId={}, recipient={}, email={}, title={}]",
-                alarm.getAlarmId(), alarm.getRecipientName(),
-                alarm.getRecipientEmail(), alarm.getTitle());
-        alarm.setSentViaEmail(true);
-    }
-
-    /**
-     * Send alarm via SMS channel.
-     * When an external SMS gateway is configured,
-     * replace the placeholder logic below with the actual integration call.
-     */
-    private void sendViaSms(AlarmHistoryEntity alarm) {
-        log.info("Sending SMS notification [alarmId={}, recipient={}, phone={}, title={}]",
-                alarm.getAlarmId(), alarm.getRecipientName(),
-                alarm.getRecipientPhone(), alarm.getTitle());
-        alarm.setSentViaSms(true);
-    }
-
-    /**
-     * Send alarm via push notification channel.
-     * When an external push service (e.g., FCM, APNs) is configured,
-     * replace the placeholder logic below with the actual integration call.
-     */
-    private void sendViaPush(AlarmHistoryEntity alarm) {
-        log.info("Sending push notification [alarmId={}, recipientUserId={}, title={}]",
-                alarm.getAlarmId(), alarm.getRecipientUserId(), alarm.getTitle());
-        alarm.setSentViaPush(true);
+        return alarm;
     }
 
     // ==================== Alarm History Management ====================
@@ -213,12 +211,7 @@ public class AlarmService {
      */
     @Transactional
     public void markAsRead(Long alarmId) {
-        Optional<AlarmHistoryEntity> alarmOpt = historyRepository.findById(alarmId);
-        if (alarmOpt.isPresent()) {
-            AlarmHistoryEntity alarm = alarmOpt.get();
-            alarm.markAsRead();
-            historyRepository.save(alarm);
-        }
+        historyRepository.markAsRead(alarmId, LocalDateTime.now());
     }
 
     /**
@@ -226,11 +219,7 @@ public class AlarmService {
      */
     @Transactional
     public void markAllAsRead(String tenantId, Long userId) {
-        List<AlarmHistoryEntity> unreadAlarms = findUnreadAlarms(tenantId, userId);
-        for (AlarmHistoryEntity alarm : unreadAlarms) {
-            alarm.markAsRead();
-            historyRepository.save(alarm);
-        }
+        historyRepository.markAllAsRead(tenantId, userId, LocalDateTime.now());
     }
 
     /**
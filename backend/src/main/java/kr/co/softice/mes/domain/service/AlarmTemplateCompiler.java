@@ -0,0 +1,203 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.domain.entity.AlarmTemplateEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Alarm Template Compiler
+ * 알람 템플릿 컴파일러 ({{key}} 치환)
+ *
+ * - titleTemplate / messageTemplate 을 리터럴/변수 세그먼트 목록으로 한 번만 파싱
+ * - (templateId, updatedAt) 단위 캐시, 템플릿 수정 시 updatedAt 이 바뀌면 재컴파일
+ * - 렌더링은 세그먼트 1회 순회 + 미리 크기를 잡은 StringBuilder (변수마다 String.replace 로 전체 복사 X)
+ * - 값이 없는 변수는 기존 AlarmTemplateEntity.renderTitle/renderMessage 와 동일하게 {{key}} 그대로 유지
+ *
+ * @author Moon Myung-seop
+ */
+@Component
+public class AlarmTemplateCompiler {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final int ESTIMATED_VARIABLE_LENGTH = 16;
+
+    private final Map<Long, CompiledAlarmTemplate> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 템플릿 엔티티의 제목/본문 컴파일 결과 (캐시)
+     */
+    public CompiledAlarmTemplate compile(AlarmTemplateEntity template) {
+        Long templateId = template.getTemplateId();
+        if (templateId == null) {
+            return new CompiledAlarmTemplate(null, template.getUpdatedAt(),
+                    compile(template.getTitleTemplate()), compile(template.getMessageTemplate()));
+        }
+
+        CompiledAlarmTemplate cached = cache.get(templateId);
+        if (cached != null && Objects.equals(cached.getUpdatedAt(), template.getUpdatedAt())) {
+            return cached;
+        }
+
+        CompiledAlarmTemplate compiled = new CompiledAlarmTemplate(templateId, template.getUpdatedAt(),
+                compile(template.getTitleTemplate()), compile(template.getMessageTemplate()));
+        cache.put(templateId, compiled);
+        return compiled;
+    }
+
+    /**
+     * 템플릿 문자열 파싱
+     *
+     * "{{" 와 가장 가까운 "}}" 사이를 변수명으로 인식 (앞뒤 공백 포함 그대로, String.replace 방식과 동일)
+     * 닫히지 않은 "{{" 는 리터럴
+     */
+    public static CompiledTemplate compile(String source) {
+        if (source == null || source.isEmpty()) {
+            return new CompiledTemplate(Collections.emptyList(), 0);
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        int literalLength = 0;
+        int pos = 0;
+        int length = source.length();
+
+        while (pos < length) {
+            int open = source.indexOf(OPEN, pos);
+            int close = open < 0 ? -1 : source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                break;
+            }
+            // "{{a {{b}}" → 변수는 b (닫는 괄호에 가장 가까운 여는 괄호 기준)
+            int start = source.lastIndexOf(OPEN, close - OPEN.length());
+
+            if (start > pos) {
+                segments.add(Segment.literal(source.substring(pos, start)));
+                literalLength += start - pos;
+            }
+            segments.add(Segment.variable(source.substring(start + OPEN.length(), close)));
+            pos = close + CLOSE.length();
+        }
+
+        if (pos < length) {
+            segments.add(Segment.literal(source.substring(pos)));
+            literalLength += length - pos;
+        }
+
+        return new CompiledTemplate(segments, literalLength);
+    }
+
+    /**
+     * 템플릿 1건의 제목/본문 컴파일 결과
+     */
+    public static final class CompiledAlarmTemplate {
+        private final Long templateId;
+        private final LocalDateTime updatedAt;
+        private final CompiledTemplate title;
+        private final CompiledTemplate message;
+
+        CompiledAlarmTemplate(Long templateId, LocalDateTime updatedAt,
+                              CompiledTemplate title, CompiledTemplate message) {
+            this.templateId = templateId;
+            this.updatedAt = updatedAt;
+            this.title = title;
+            this.message = message;
+        }
+
+        public Long getTemplateId() {
+            return templateId;
+        }
+
+        public LocalDateTime getUpdatedAt() {
+            return updatedAt;
+        }
+
+        public CompiledTemplate getTitle() {
+            return title;
+        }
+
+        public CompiledTemplate getMessage() {
+            return message;
+        }
+    }
+
+    /**
+     * 컴파일된 템플릿 (불변, 스레드 안전)
+     */
+    public static final class CompiledTemplate {
+        private final Segment[] segments;
+        private final int literalLength;
+        private final int variableCount;
+
+        CompiledTemplate(List<Segment> segments, int literalLength) {
+            this.segments = segments.toArray(new Segment[0]);
+            this.literalLength = literalLength;
+            int count = 0;
+            for (Segment segment : this.segments) {
+                if (segment.variable) {
+                    count++;
+                }
+            }
+            this.variableCount = count;
+        }
+
+        public String render(Map<String, String> variables) {
+            return render(variables, null);
+        }
+
+        /**
+         * 렌더링 (variables 우선, 없으면 defaults 조회)
+         */
+        public String render(Map<String, String> variables, Map<String, String> defaults) {
+            if (variableCount == 0) {
+                return segments.length == 0 ? "" : segments[0].text;
+            }
+
+            StringBuilder sb = new StringBuilder(literalLength + variableCount * ESTIMATED_VARIABLE_LENGTH);
+            for (Segment segment : segments) {
+                if (!segment.variable) {
+                    sb.append(segment.text);
+                    continue;
+                }
+                String value = variables != null ? variables.get(segment.text) : null;
+                if (value == null && defaults != null) {
+                    value = defaults.get(segment.text);
+                }
+                if (value != null) {
+                    sb.append(value);
+                } else {
+                    sb.append(OPEN).append(segment.text).append(CLOSE);
+                }
+            }
+            return sb.toString();
+        }
+
+        public int getVariableCount() {
+            return variableCount;
+        }
+    }
+
+    private static final class Segment {
+        private final String text;       // 리터럴 문자열 또는 변수명
+        private final boolean variable;
+
+        private Segment(String text, boolean variable) {
+            this.text = text;
+            this.variable = variable;
+        }
+
+        static Segment literal(String text) {
+            return new Segment(text, false);
+        }
+
+        static Segment variable(String name) {
+            return new Segment(name, true);
+        }
+    }
+}
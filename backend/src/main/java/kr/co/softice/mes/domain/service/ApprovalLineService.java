@@ -7,7 +7,6 @@ import kr.co.softice.mes.domain.entity.DepartmentEntity;
 import kr.co.softice.mes.domain.entity.TenantEntity;
 import kr.co.softice.mes.domain.repository.ApprovalLineRepository;
 import kr.co.softice.mes.domain.repository.DepartmentRepository;
-import kr.co.softice.mes.domain.repository.TenantRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -28,7 +27,7 @@ import java.util.List;
 public class ApprovalLineService {
 
     private final ApprovalLineRepository approvalLineRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final DepartmentRepository departmentRepository;
 
     /**
@@ -95,7 +94,7 @@ public class ApprovalLineService {
         }
 
         // Validate tenant
-        TenantEntity tenant = tenantRepository.findById(approvalLine.getTenant().getTenantId())
+        TenantEntity tenant = tenantService.findById(approvalLine.getTenant().getTenantId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         approvalLine.setTenant(tenant);
 
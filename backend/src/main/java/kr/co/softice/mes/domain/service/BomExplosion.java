@@ -0,0 +1,175 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.common.exception.BusinessException;
+import kr.co.softice.mes.common.exception.ErrorCode;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+
+/**
+ * BOM Explosion
+ * 테넌트 BOM 구조(제품 → 현재 유효 BOM 1건) 스냅샷과 다단계 전개
+ *
+ * - 구성품 단위 소요량 = quantity × usageRate% × (1 + scrapRate%)
+ * - explode: 제품 1단위의 전 레벨 소요량 (반제품 포함), (bomId, version) 단위로 메모이제이션
+ * - topologicalOrder: 상위 품목이 항상 하위 품목보다 먼저 오는 순서 (Low-Level Code 순 네팅용)
+ * - 순환 참조는 BOM_CIRCULAR_REFERENCE 예외
+ *
+ * @author Moon Myung-seop
+ */
+final class BomExplosion {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+    private static final int PER_UNIT_SCALE = 6;
+
+    private final Map<Long, Bom> bomsByProduct = new HashMap<>();
+    private final Map<String, Map<Long, BigDecimal>> explosions = new HashMap<>();
+
+    /**
+     * BOM 상세 1행 추가 (같은 제품은 같은 bomId 로만 추가)
+     */
+    void addLine(Long bomId, String version, Long productId,
+                 Long componentProductId, BigDecimal quantity, BigDecimal usageRate, BigDecimal scrapRate) {
+        Bom bom = bomsByProduct.computeIfAbsent(productId, id -> new Bom(bomId, version));
+        bom.components.merge(componentProductId, perUnit(quantity, usageRate, scrapRate), BigDecimal::add);
+    }
+
+    boolean hasBom(Long productId) {
+        return bomsByProduct.containsKey(productId);
+    }
+
+    /**
+     * 제품 1단위의 직접 구성품 소요량
+     */
+    Map<Long, BigDecimal> components(Long productId) {
+        Bom bom = bomsByProduct.get(productId);
+        return bom == null ? Collections.emptyMap() : bom.components;
+    }
+
+    /**
+     * 제품 1단위의 전 레벨 구성품 소요량 (메모이제이션)
+     */
+    Map<Long, BigDecimal> explode(Long productId) {
+        return explode(productId, new LinkedHashSet<>());
+    }
+
+    /**
+     * roots 에서 도달 가능한 품목을 상위 → 하위 순으로 정렬
+     */
+    List<Long> topologicalOrder(Collection<Long> roots) {
+        Set<Long> reachable = new LinkedHashSet<>();
+        Deque<Long> stack = new ArrayDeque<>(roots);
+        while (!stack.isEmpty()) {
+            Long productId = stack.pop();
+            if (reachable.add(productId)) {
+                stack.addAll(components(productId).keySet());
+            }
+        }
+
+        Map<Long, Integer> parentCount = new HashMap<>();
+        for (Long productId : reachable) {
+            for (Long child : components(productId).keySet()) {
+                parentCount.merge(child, 1, Integer::sum);
+            }
+        }
+
+        Deque<Long> ready = new ArrayDeque<>();
+        for (Long productId : reachable) {
+            if (!parentCount.containsKey(productId)) {
+                ready.add(productId);
+            }
+        }
+
+        List<Long> order = new ArrayList<>(reachable.size());
+        while (!ready.isEmpty()) {
+            Long productId = ready.poll();
+            order.add(productId);
+            for (Long child : components(productId).keySet()) {
+                if (parentCount.merge(child, -1, Integer::sum) == 0) {
+                    ready.add(child);
+                }
+            }
+        }
+
+        if (order.size() < reachable.size()) {
+            // 정렬되지 않은 품목에서 전개하면 순환 경로가 예외 메시지에 포함됨
+            Set<Long> ordered = new HashSet<>(order);
+            for (Long productId : reachable) {
+                if (!ordered.contains(productId)) {
+                    explode(productId);
+                }
+            }
+            throw new BusinessException(ErrorCode.BOM_CIRCULAR_REFERENCE);
+        }
+        return order;
+    }
+
+    private Map<Long, BigDecimal> explode(Long productId, LinkedHashSet<Long> path) {
+        Bom bom = bomsByProduct.get(productId);
+        if (bom == null) {
+            return Collections.emptyMap();
+        }
+
+        String key = bom.bomId + ":" + bom.version;
+        Map<Long, BigDecimal> cached = explosions.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        if (!path.add(productId)) {
+            throw new BusinessException(ErrorCode.BOM_CIRCULAR_REFERENCE,
+                    "BOM 순환 참조: " + cyclePath(path, productId));
+        }
+
+        Map<Long, BigDecimal> result = new HashMap<>();
+        for (Map.Entry<Long, BigDecimal> component : bom.components.entrySet()) {
+            Long child = component.getKey();
+            BigDecimal perUnit = component.getValue();
+            result.merge(child, perUnit, BigDecimal::add);
+            for (Map.Entry<Long, BigDecimal> nested : explode(child, path).entrySet()) {
+                result.merge(nested.getKey(),
+                        nested.getValue().multiply(perUnit).setScale(PER_UNIT_SCALE, RoundingMode.HALF_UP),
+                        BigDecimal::add);
+            }
+        }
+
+        path.remove(productId);
+        Map<Long, BigDecimal> explosion = Collections.unmodifiableMap(result);
+        explosions.put(key, explosion);
+        return explosion;
+    }
+
+    private static String cyclePath(LinkedHashSet<Long> path, Long repeated) {
+        StringBuilder builder = new StringBuilder();
+        boolean inCycle = false;
+        for (Long productId : path) {
+            if (productId.equals(repeated)) {
+                inCycle = true;
+            }
+            if (inCycle) {
+                builder.append(productId).append(" -> ");
+            }
+        }
+        return builder.append(repeated).toString();
+    }
+
+    private static BigDecimal perUnit(BigDecimal quantity, BigDecimal usageRate, BigDecimal scrapRate) {
+        BigDecimal usage = usageRate == null ? HUNDRED : usageRate;
+        BigDecimal scrap = scrapRate == null ? BigDecimal.ZERO : scrapRate;
+        return quantity
+                .multiply(usage).divide(HUNDRED, PER_UNIT_SCALE, RoundingMode.HALF_UP)
+                .multiply(HUNDRED.add(scrap)).divide(HUNDRED, PER_UNIT_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static final class Bom {
+        private final Long bomId;
+        private final String version;
+        private final Map<Long, BigDecimal> components = new LinkedHashMap<>();
+
+        private Bom(Long bomId, String version) {
+            this.bomId = bomId;
+            this.version = version;
+        }
+    }
+}
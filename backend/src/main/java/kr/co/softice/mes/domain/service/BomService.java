@@ -1,18 +1,25 @@
 package kr.co.softice.mes.domain.service;
 
+import kr.co.softice.mes.common.dto.bom.BomWhereUsedResponse;
 import kr.co.softice.mes.common.exception.BusinessException;
 import kr.co.softice.mes.common.exception.ErrorCode;
 import kr.co.softice.mes.domain.entity.BomDetailEntity;
 import kr.co.softice.mes.domain.entity.BomEntity;
+import kr.co.softice.mes.domain.entity.ProductEntity;
 import kr.co.softice.mes.domain.repository.BomRepository;
+import kr.co.softice.mes.domain.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * BOM Service
@@ -27,6 +34,8 @@ import java.util.Optional;
 public class BomService {
 
     private final BomRepository bomRepository;
+    private final ProductRepository productRepository;
+    private final BomWhereUsedIndex bomWhereUsedIndex;
 
     public List<BomEntity> findByTenant(String tenantId) {
         return bomRepository.findByTenantIdWithAllRelations(tenantId);
@@ -68,6 +77,7 @@ public class BomService {
         }
 
         BomEntity saved = bomRepository.save(bom);
+        bomWhereUsedIndex.bomSaved(saved);
         return bomRepository.findByIdWithAllRelations(saved.getBomId()).orElse(saved);
     }
 
@@ -90,6 +100,7 @@ public class BomService {
         }
 
         BomEntity updated = bomRepository.save(bom);
+        bomWhereUsedIndex.bomSaved(updated);
         return bomRepository.findByIdWithAllRelations(updated.getBomId()).orElse(updated);
     }
 
@@ -97,6 +108,7 @@ public class BomService {
     public void deleteBom(Long bomId) {
         log.info("Deleting BOM: {}", bomId);
         bomRepository.deleteById(bomId);
+        bomWhereUsedIndex.bomDeleted(bomId);
     }
 
     @Transactional
@@ -109,6 +121,7 @@ public class BomService {
 
         bom.setIsActive(!bom.getIsActive());
         BomEntity updated = bomRepository.save(bom);
+        bomWhereUsedIndex.bomSaved(updated);
         return bomRepository.findByIdWithAllRelations(updated.getBomId()).orElse(updated);
     }
 
@@ -159,6 +172,36 @@ public class BomService {
         }
 
         BomEntity saved = bomRepository.save(newBom);
+        bomWhereUsedIndex.bomSaved(saved);
         return bomRepository.findByIdWithAllRelations(saved.getBomId()).orElse(saved);
     }
+
+    /**
+     * Where-used (reverse explosion)
+     * 구성품을 사용하는 상위 제품 전체 조회 (전 레벨, 역방향 인덱스 기준)
+     */
+    public List<BomWhereUsedResponse> findWhereUsed(String tenantId, Long componentProductId, boolean activeOnly) {
+        Map<Long, BomWhereUsedIndex.WhereUsed> whereUsed =
+            bomWhereUsedIndex.findWhereUsed(tenantId, componentProductId, activeOnly);
+
+        Map<Long, ProductEntity> products = productRepository.findAllById(whereUsed.keySet()).stream()
+            .collect(Collectors.toMap(ProductEntity::getProductId, Function.identity()));
+
+        return whereUsed.values().stream()
+            .map(usage -> {
+                ProductEntity product = products.get(usage.getProductId());
+                return BomWhereUsedResponse.builder()
+                    .productId(usage.getProductId())
+                    .productCode(product != null ? product.getProductCode() : null)
+                    .productName(product != null ? product.getProductName() : null)
+                    .productType(product != null ? product.getProductType() : null)
+                    .level(usage.getLevel())
+                    .topLevel(usage.isTopLevel())
+                    .bomIds(new ArrayList<>(usage.getBomIds()))
+                    .build();
+            })
+            .sorted(Comparator.comparing(BomWhereUsedResponse::getLevel)
+                .thenComparing(BomWhereUsedResponse::getProductCode, Comparator.nullsLast(Comparator.naturalOrder())))
+            .collect(Collectors.toList());
+    }
 }
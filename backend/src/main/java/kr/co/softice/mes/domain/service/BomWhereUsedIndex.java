@@ -0,0 +1,214 @@
+package kr.co.softice.mes.domain.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.co.softice.mes.common.transaction.TransactionHooks;
+import kr.co.softice.mes.domain.entity.BomDetailEntity;
+import kr.co.softice.mes.domain.entity.BomEntity;
+import kr.co.softice.mes.domain.repository.BomRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * BOM Where-Used Index
+ * 구성품 → 상위 BOM 역방향 인덱스 (테넌트별, 메모리)
+ *
+ * - 최초 조회 시 테넌트 BOM 상세 관계를 1회 조회하여 구성
+ * - BOM 등록/수정/복사/삭제/활성 전환 시 커밋 이후 해당 BOM 간선만 교체 (copy-on-write, 조회는 잠금 없음)
+ * - 다른 노드의 변경은 TTL 만료 후 재구성 시 반영
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+@Component
+public class BomWhereUsedIndex {
+
+    private final BomRepository bomRepository;
+
+    @Value("${app.bom.where-used.maximum-size:1000}")
+    private long maximumSize;
+
+    @Value("${app.bom.where-used.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    private Cache<String, ReverseIndex> indexes;
+
+    public BomWhereUsedIndex(BomRepository bomRepository) {
+        this.bomRepository = bomRepository;
+    }
+
+    @PostConstruct
+    public void init() {
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 구성품을 사용하는 상위 제품 전체 (전 레벨)
+     *
+     * @param activeOnly true 이면 활성 BOM 관계만 따라감
+     * @return 상위 제품 ID → 사용 정보 (단계 오름차순)
+     */
+    public Map<Long, WhereUsed> findWhereUsed(String tenantId, Long componentProductId, boolean activeOnly) {
+        ReverseIndex index = indexes.get(tenantId, this::load);
+
+        Map<Long, WhereUsed> result = new LinkedHashMap<>();
+        Deque<Long> queue = new ArrayDeque<>();
+        queue.add(componentProductId);
+        Map<Long, Integer> levels = new HashMap<>();
+        levels.put(componentProductId, 0);
+
+        // BFS: 먼저 도달한 단계가 최소 단계
+        while (!queue.isEmpty()) {
+            Long productId = queue.poll();
+            int level = levels.get(productId);
+
+            for (Edge edge : index.parentsOf(productId)) {
+                if (activeOnly && !edge.active) {
+                    continue;
+                }
+                WhereUsed whereUsed = result.get(edge.parentProductId);
+                if (whereUsed == null && !levels.containsKey(edge.parentProductId)) {
+                    whereUsed = new WhereUsed(edge.parentProductId, level + 1);
+                    result.put(edge.parentProductId, whereUsed);
+                    levels.put(edge.parentProductId, level + 1);
+                    queue.add(edge.parentProductId);
+                }
+                if (whereUsed != null) {
+                    whereUsed.bomIds.add(edge.bomId);
+                }
+            }
+        }
+
+        for (WhereUsed whereUsed : result.values()) {
+            whereUsed.topLevel = index.parentsOf(whereUsed.productId).stream()
+                    .noneMatch(edge -> !activeOnly || edge.active);
+        }
+        return result;
+    }
+
+    /**
+     * BOM 저장 후 간선 교체 (트랜잭션 중이면 커밋 이후)
+     */
+    public void bomSaved(BomEntity bom) {
+        String tenantId = bom.getTenant().getTenantId();
+        Long bomId = bom.getBomId();
+        Long parentProductId = bom.getProduct().getProductId();
+        boolean active = Boolean.TRUE.equals(bom.getIsActive());
+
+        List<Edge> edges = new ArrayList<>();
+        for (BomDetailEntity detail : bom.getDetails()) {
+            edges.add(new Edge(detail.getMaterialProduct().getProductId(), parentProductId, bomId, active));
+        }
+
+        TransactionHooks.afterCommit(() ->
+                indexes.asMap().computeIfPresent(tenantId, (key, index) -> index.replaceBom(bomId, edges)));
+    }
+
+    /**
+     * BOM 삭제 후 간선 제거 (트랜잭션 중이면 커밋 이후)
+     */
+    public void bomDeleted(Long bomId) {
+        TransactionHooks.afterCommit(() -> indexes.asMap().replaceAll((key, index) ->
+                index.containsBom(bomId) ? index.replaceBom(bomId, Collections.emptyList()) : index));
+    }
+
+    private ReverseIndex load(String tenantId) {
+        List<Object[]> rows = bomRepository.findComponentLinksByTenantId(tenantId);
+        List<Edge> edges = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            edges.add(new Edge((Long) row[0], (Long) row[1], (Long) row[2], Boolean.TRUE.equals(row[3])));
+        }
+
+        log.debug("Built BOM where-used index for tenant: {}, links: {}", tenantId, edges.size());
+        return new ReverseIndex(edges);
+    }
+
+    /**
+     * 사용처 1건 (상위 제품)
+     */
+    public static final class WhereUsed {
+        private final Long productId;
+        private final int level;
+        private final Set<Long> bomIds = new TreeSet<>();
+        private boolean topLevel;
+
+        private WhereUsed(Long productId, int level) {
+            this.productId = productId;
+            this.level = level;
+        }
+
+        public Long getProductId() {
+            return productId;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+
+        public Set<Long> getBomIds() {
+            return bomIds;
+        }
+
+        public boolean isTopLevel() {
+            return topLevel;
+        }
+    }
+
+    private static final class Edge {
+        private final Long componentProductId;
+        private final Long parentProductId;
+        private final Long bomId;
+        private final boolean active;
+
+        private Edge(Long componentProductId, Long parentProductId, Long bomId, boolean active) {
+            this.componentProductId = componentProductId;
+            this.parentProductId = parentProductId;
+            this.bomId = bomId;
+            this.active = active;
+        }
+    }
+
+    /**
+     * 불변 역방향 인덱스 (구성품 ID → 상위 간선)
+     */
+    private static final class ReverseIndex {
+        private final List<Edge> edges;
+        private final Map<Long, List<Edge>> parentsByComponent = new HashMap<>();
+        private final Set<Long> bomIds = new HashSet<>();
+
+        private ReverseIndex(List<Edge> edges) {
+            this.edges = edges;
+            for (Edge edge : edges) {
+                parentsByComponent.computeIfAbsent(edge.componentProductId, id -> new ArrayList<>()).add(edge);
+                bomIds.add(edge.bomId);
+            }
+        }
+
+        private List<Edge> parentsOf(Long productId) {
+            return parentsByComponent.getOrDefault(productId, Collections.emptyList());
+        }
+
+        private boolean containsBom(Long bomId) {
+            return bomIds.contains(bomId);
+        }
+
+        private ReverseIndex replaceBom(Long bomId, List<Edge> replacement) {
+            List<Edge> next = new ArrayList<>(edges.size() + replacement.size());
+            for (Edge edge : edges) {
+                if (!edge.bomId.equals(bomId)) {
+                    next.add(edge);
+                }
+            }
+            next.addAll(replacement);
+            return new ReverseIndex(next);
+        }
+    }
+}
@@ -26,10 +26,11 @@ import java.util.Set;
 public class BreakdownService {
 
     private final BreakdownRepository breakdownRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final EquipmentRepository equipmentRepository;
     private final DowntimeRepository downtimeRepository;
     private final UserRepository userRepository;
+    private final BreakdownStatisticsService breakdownStatisticsService;
 
     // Valid status transitions: REPORTED -> ASSIGNED -> IN_PROGRESS -> COMPLETED -> CLOSED
     private static final Map<String, Set<String>> VALID_TRANSITIONS = Map.of(
@@ -86,7 +87,7 @@ public class BreakdownService {
         }
 
         // Get tenant
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         breakdown.setTenant(tenant);
 
@@ -113,6 +114,7 @@ public class BreakdownService {
         breakdown.setStatus("REPORTED");
 
         BreakdownEntity saved = breakdownRepository.save(breakdown);
+        breakdownStatisticsService.invalidate(tenantId);
         log.info("Breakdown created successfully: {}", saved.getBreakdownNo());
         return saved;
     }
@@ -164,6 +166,7 @@ public class BreakdownService {
         }
 
         BreakdownEntity updated = breakdownRepository.save(existing);
+        breakdownStatisticsService.invalidate(existing.getTenant().getTenantId());
         log.info("Breakdown updated successfully: {}", updated.getBreakdownNo());
         return updated;
     }
@@ -217,6 +220,7 @@ public class BreakdownService {
         }
 
         BreakdownEntity updated = breakdownRepository.save(breakdown);
+        breakdownStatisticsService.invalidate(breakdown.getTenant().getTenantId());
         log.info("Breakdown status changed successfully: {} -> {}", currentStatus, newStatus);
         return updated;
     }
@@ -232,6 +236,7 @@ public class BreakdownService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.BREAKDOWN_NOT_FOUND));
 
         breakdownRepository.delete(breakdown);
+        breakdownStatisticsService.invalidate(breakdown.getTenant().getTenantId());
         log.info("Breakdown deleted successfully: {}", breakdown.getBreakdownNo());
     }
 }
@@ -1,5 +1,7 @@
 package kr.co.softice.mes.domain.service;
 
+import kr.co.softice.mes.common.cache.TwoTierCache;
+import kr.co.softice.mes.common.cache.TwoTierCacheManager;
 import kr.co.softice.mes.common.dto.equipment.BreakdownStatisticsResponse;
 import kr.co.softice.mes.common.dto.equipment.BreakdownTrendResponse;
 import lombok.RequiredArgsConstructor;
@@ -7,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.annotation.PostConstruct;
 import javax.persistence.EntityManager;
 import javax.persistence.Query;
 import java.math.BigDecimal;
@@ -18,6 +21,13 @@ import java.util.*;
 /**
  * Breakdown Statistics Service
  * 고장 통계 서비스
+ *
+ * - 건수/상태별/유형별/심각도별/MTTR/설비별 집계를 GROUPING SETS 쿼리 1회로 조회
+ * - MTBF = 기간 내 설비 가동 이력(sd_equipment_operations) 가동 시간 합계 / 고장 건수
+ *   (가동 이력이 없는 테넌트는 기존과 같이 24시간 가동 가정)
+ * - 종료된 기간(종료일이 이번 달 이전)의 결과만 breakdownStatistics 캐시(TwoTierCache)에 보관
+ *   고장/가동 이력 변경 시 커밋 이후 테넌트 단위 무효화 (L2 사용 시 다른 노드에도 전파)
+ *
  * @author Moon Myung-seop
  */
 @Service
@@ -26,123 +36,153 @@ import java.util.*;
 @Slf4j
 public class BreakdownStatisticsService {
 
+    private static final String CACHE_NAME = "breakdownStatistics";
+    private static final String CACHE_KEY_SEPARATOR = ":";
+    private static final int TOP_EQUIPMENT_LIMIT = 5;
+
+    // GROUPING(status, failure_type, severity, equipment_id) 비트 (집계되지 않은 컬럼 = 1)
+    private static final int GROUP_TOTAL = 0b1111;
+    private static final int GROUP_STATUS = 0b0111;
+    private static final int GROUP_FAILURE_TYPE = 0b1011;
+    private static final int GROUP_SEVERITY = 0b1101;
+    private static final int GROUP_EQUIPMENT = 0b1110;
+
+    private static final String STATISTICS_SQL =
+            "WITH b AS (" +
+            "    SELECT status, failure_type, severity, equipment_id, repair_duration_minutes " +
+            "    FROM equipment.sd_breakdowns " +
+            "    WHERE tenant_id = :tenantId AND reported_at >= :startAt AND reported_at < :endAt" +
+            "), g AS (" +
+            "    SELECT GROUPING(status, failure_type, severity, equipment_id) AS grp, " +
+            "           status, COALESCE(failure_type, 'UNKNOWN') AS failure_type_key, " +
+            "           COALESCE(severity, 'UNKNOWN') AS severity_key, equipment_id, " +
+            "           COUNT(*) AS cnt, AVG(repair_duration_minutes) AS avg_repair_minutes " +
+            "    FROM b " +
+            "    GROUP BY GROUPING SETS ((), (status), (failure_type), (severity), (equipment_id))" +
+            ") " +
+            "SELECT g.grp, g.status, g.failure_type_key, g.severity_key, g.equipment_id, g.cnt, g.avg_repair_minutes, " +
+            "       e.equipment_code, e.equipment_name, " +
+            "       (SELECT SUM(COALESCE(o.operation_hours, " +
+            "                   EXTRACT(EPOCH FROM (o.end_time - o.start_time)) / 3600)) " +
+            "        FROM equipment.sd_equipment_operations o " +
+            "        WHERE o.tenant_id = :tenantId " +
+            "          AND o.operation_date BETWEEN :startDate AND :endDate) AS operating_hours " +
+            "FROM g " +
+            "LEFT JOIN equipment.sd_equipments e ON g.grp = " + GROUP_EQUIPMENT + " AND e.equipment_id = g.equipment_id";
+
     private final EntityManager entityManager;
+    private final TwoTierCacheManager cacheManager;
+
+    // "tenantId:startDate:endDate" → 종료된 기간 통계
+    private TwoTierCache closedPeriodStatistics;
+
+    @PostConstruct
+    public void init() {
+        closedPeriodStatistics = (TwoTierCache) cacheManager.getCache(CACHE_NAME);
+    }
 
     /**
      * Get breakdown statistics for date range
      */
-    @SuppressWarnings("unchecked")
     public BreakdownStatisticsResponse getStatistics(String tenantId, LocalDate startDate, LocalDate endDate) {
         log.info("Getting breakdown statistics for tenant: {} from {} to {}", tenantId, startDate, endDate);
 
-        // Total breakdowns
-        Query totalQuery = entityManager.createNativeQuery(
-                "SELECT COUNT(*) FROM equipment.sd_breakdowns " +
-                "WHERE tenant_id = (SELECT tenant_id FROM common.sd_tenants WHERE tenant_id = :tenantId) " +
-                "AND reported_at BETWEEN :startDate AND :endDate");
-        totalQuery.setParameter("tenantId", tenantId);
-        totalQuery.setParameter("startDate", startDate.atStartOfDay());
-        totalQuery.setParameter("endDate", endDate.plusDays(1).atStartOfDay());
-        Long totalBreakdowns = ((Number) totalQuery.getSingleResult()).longValue();
-
-        // By status
-        Query statusQuery = entityManager.createNativeQuery(
-                "SELECT status, COUNT(*) FROM equipment.sd_breakdowns " +
-                "WHERE tenant_id = (SELECT tenant_id FROM common.sd_tenants WHERE tenant_id = :tenantId) " +
-                "AND reported_at BETWEEN :startDate AND :endDate " +
-                "GROUP BY status");
-        statusQuery.setParameter("tenantId", tenantId);
-        statusQuery.setParameter("startDate", startDate.atStartOfDay());
-        statusQuery.setParameter("endDate", endDate.plusDays(1).atStartOfDay());
-        List<Object[]> statusResults = statusQuery.getResultList();
-        Map<String, Long> byStatus = new LinkedHashMap<>();
-        for (Object[] row : statusResults) {
-            byStatus.put((String) row[0], ((Number) row[1]).longValue());
+        // 진행 중인 기간은 신규 고장이 계속 쌓이므로 캐시하지 않음
+        if (!endDate.isBefore(LocalDate.now().withDayOfMonth(1))) {
+            return loadStatistics(tenantId, startDate, endDate);
         }
+        return closedPeriodStatistics.get(
+                tenantId + CACHE_KEY_SEPARATOR + startDate + CACHE_KEY_SEPARATOR + endDate,
+                () -> loadStatistics(tenantId, startDate, endDate));
+    }
 
-        // By failure type
-        Query failureTypeQuery = entityManager.createNativeQuery(
-                "SELECT COALESCE(failure_type, 'UNKNOWN'), COUNT(*) FROM equipment.sd_breakdowns " +
-                "WHERE tenant_id = (SELECT tenant_id FROM common.sd_tenants WHERE tenant_id = :tenantId) " +
-                "AND reported_at BETWEEN :startDate AND :endDate " +
-                "GROUP BY failure_type");
-        failureTypeQuery.setParameter("tenantId", tenantId);
-        failureTypeQuery.setParameter("startDate", startDate.atStartOfDay());
-        failureTypeQuery.setParameter("endDate", endDate.plusDays(1).atStartOfDay());
-        List<Object[]> failureTypeResults = failureTypeQuery.getResultList();
-        Map<String, Long> byFailureType = new LinkedHashMap<>();
-        for (Object[] row : failureTypeResults) {
-            byFailureType.put((String) row[0], ((Number) row[1]).longValue());
-        }
+    /**
+     * Invalidate cached statistics (after commit when in a transaction)
+     * 고장/가동 이력 등록·수정·삭제 시 호출 (지난 기간 고장의 상태 변경도 통계에 반영)
+     * 커밋 전 데이터로 적재 중이던 통계는 무효화 이후 저장되지 않음 (TwoTierCache.get)
+     */
+    public void invalidate(String tenantId) {
+        closedPeriodStatistics.evictPrefix(tenantId + CACHE_KEY_SEPARATOR);
+    }
 
-        // By severity
-        Query severityQuery = entityManager.createNativeQuery(
-                "SELECT COALESCE(severity, 'UNKNOWN'), COUNT(*) FROM equipment.sd_breakdowns " +
-                "WHERE tenant_id = (SELECT tenant_id FROM common.sd_tenants WHERE tenant_id = :tenantId) " +
-                "AND reported_at BETWEEN :startDate AND :endDate " +
-                "GROUP BY severity");
-        severityQuery.setParameter("tenantId", tenantId);
-        severityQuery.setParameter("startDate", startDate.atStartOfDay());
-        severityQuery.setParameter("endDate", endDate.plusDays(1).atStartOfDay());
-        List<Object[]> severityResults = severityQuery.getResultList();
+    @SuppressWarnings("unchecked")
+    private BreakdownStatisticsResponse loadStatistics(String tenantId, LocalDate startDate, LocalDate endDate) {
+        Query query = entityManager.createNativeQuery(STATISTICS_SQL);
+        query.setParameter("tenantId", tenantId);
+        query.setParameter("startAt", startDate.atStartOfDay());
+        query.setParameter("endAt", endDate.plusDays(1).atStartOfDay());
+        query.setParameter("startDate", startDate);
+        query.setParameter("endDate", endDate);
+        List<Object[]> rows = query.getResultList();
+
+        long totalBreakdowns = 0;
+        BigDecimal mttrMinutes = BigDecimal.ZERO.setScale(2);
+        BigDecimal operatingHours = null;
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        Map<String, Long> byFailureType = new LinkedHashMap<>();
         Map<String, Long> bySeverity = new LinkedHashMap<>();
-        for (Object[] row : severityResults) {
-            bySeverity.put((String) row[0], ((Number) row[1]).longValue());
+        List<BreakdownStatisticsResponse.TopEquipmentBreakdown> equipments = new ArrayList<>();
+
+        for (Object[] row : rows) {
+            long count = ((Number) row[5]).longValue();
+            switch (((Number) row[0]).intValue()) {
+                case GROUP_TOTAL:
+                    totalBreakdowns = count;
+                    if (row[6] != null) {
+                        mttrMinutes = BigDecimal.valueOf(((Number) row[6]).doubleValue())
+                                .setScale(2, RoundingMode.HALF_UP);
+                    }
+                    if (row[9] != null) {
+                        operatingHours = BigDecimal.valueOf(((Number) row[9]).doubleValue());
+                    }
+                    break;
+                case GROUP_STATUS:
+                    byStatus.put((String) row[1], count);
+                    break;
+                case GROUP_FAILURE_TYPE:
+                    byFailureType.merge((String) row[2], count, Long::sum);
+                    break;
+                case GROUP_SEVERITY:
+                    bySeverity.merge((String) row[3], count, Long::sum);
+                    break;
+                case GROUP_EQUIPMENT:
+                    if (row[4] != null && row[7] != null) {
+                        equipments.add(BreakdownStatisticsResponse.TopEquipmentBreakdown.builder()
+                                .equipmentId(((Number) row[4]).longValue())
+                                .equipmentCode((String) row[7])
+                                .equipmentName((String) row[8])
+                                .breakdownCount(count)
+                                .build());
+                    }
+                    break;
+                default:
+                    break;
+            }
         }
 
+        equipments.sort(Comparator.comparing(
+                BreakdownStatisticsResponse.TopEquipmentBreakdown::getBreakdownCount).reversed());
+        List<BreakdownStatisticsResponse.TopEquipmentBreakdown> topEquipments =
+                new ArrayList<>(equipments.subList(0, Math.min(TOP_EQUIPMENT_LIMIT, equipments.size())));
+
+        long totalDays = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+
         // MTBF (Mean Time Between Failures): total operating hours / number of breakdowns
         BigDecimal mtbfHours = BigDecimal.ZERO;
         if (totalBreakdowns > 0) {
-            long totalDays = ChronoUnit.DAYS.between(startDate, endDate) + 1;
-            long totalOperatingHours = totalDays * 24; // Assume 24hr operation
-            mtbfHours = BigDecimal.valueOf(totalOperatingHours)
-                    .divide(BigDecimal.valueOf(totalBreakdowns), 2, RoundingMode.HALF_UP);
+            if (operatingHours == null) {
+                operatingHours = BigDecimal.valueOf(totalDays * 24); // No operation records: assume 24hr operation
+            }
+            mtbfHours = operatingHours.divide(BigDecimal.valueOf(totalBreakdowns), 2, RoundingMode.HALF_UP);
         }
 
-        // MTTR (Mean Time To Repair): avg of repair_duration_minutes
-        Query mttrQuery = entityManager.createNativeQuery(
-                "SELECT COALESCE(AVG(repair_duration_minutes), 0) FROM equipment.sd_breakdowns " +
-                "WHERE tenant_id = (SELECT tenant_id FROM common.sd_tenants WHERE tenant_id = :tenantId) " +
-                "AND reported_at BETWEEN :startDate AND :endDate " +
-                "AND repair_duration_minutes IS NOT NULL");
-        mttrQuery.setParameter("tenantId", tenantId);
-        mttrQuery.setParameter("startDate", startDate.atStartOfDay());
-        mttrQuery.setParameter("endDate", endDate.plusDays(1).atStartOfDay());
-        BigDecimal mttrMinutes = BigDecimal.valueOf(((Number) mttrQuery.getSingleResult()).doubleValue())
-                .setScale(2, RoundingMode.HALF_UP);
-
         // Failure rate (failures per day)
         BigDecimal failureRate = BigDecimal.ZERO;
-        long totalDays = ChronoUnit.DAYS.between(startDate, endDate) + 1;
         if (totalDays > 0) {
             failureRate = BigDecimal.valueOf(totalBreakdowns)
                     .divide(BigDecimal.valueOf(totalDays), 2, RoundingMode.HALF_UP);
         }
 
-        // Top 5 equipment by breakdown count
-        Query topEquipmentQuery = entityManager.createNativeQuery(
-                "SELECT b.equipment_id, e.equipment_code, e.equipment_name, COUNT(*) as cnt " +
-                "FROM equipment.sd_breakdowns b " +
-                "JOIN equipment.sd_equipments e ON b.equipment_id = e.equipment_id " +
-                "WHERE b.tenant_id = (SELECT tenant_id FROM common.sd_tenants WHERE tenant_id = :tenantId) " +
-                "AND b.reported_at BETWEEN :startDate AND :endDate " +
-                "GROUP BY b.equipment_id, e.equipment_code, e.equipment_name " +
-                "ORDER BY cnt DESC " +
-                "LIMIT 5");
-        topEquipmentQuery.setParameter("tenantId", tenantId);
-        topEquipmentQuery.setParameter("startDate", startDate.atStartOfDay());
-        topEquipmentQuery.setParameter("endDate", endDate.plusDays(1).atStartOfDay());
-        List<Object[]> topEquipmentResults = topEquipmentQuery.getResultList();
-        List<BreakdownStatisticsResponse.TopEquipmentBreakdown> topEquipments = new ArrayList<>();
-        for (Object[] row : topEquipmentResults) {
-            topEquipments.add(BreakdownStatisticsResponse.TopEquipmentBreakdown.builder()
-                    .equipmentId(((Number) row[0]).longValue())
-                    .equipmentCode((String) row[1])
-                    .equipmentName((String) row[2])
-                    .breakdownCount(((Number) row[3]).longValue())
-                    .build());
-        }
-
         return BreakdownStatisticsResponse.builder()
                 .totalBreakdowns(totalBreakdowns)
                 .byStatus(byStatus)
@@ -167,7 +207,7 @@ public class BreakdownStatisticsService {
                 "COUNT(*) as breakdown_count, " +
                 "COALESCE(AVG(repair_duration_minutes), 0) as avg_repair_minutes " +
                 "FROM equipment.sd_breakdowns " +
-                "WHERE tenant_id = (SELECT tenant_id FROM common.sd_tenants WHERE tenant_id = :tenantId) " +
+                "WHERE tenant_id = :tenantId " +
                 "AND reported_at >= (CURRENT_DATE - INTERVAL '" + months + " months') " +
                 "GROUP BY TO_CHAR(reported_at, 'YYYY-MM') " +
                 "ORDER BY month");
@@ -0,0 +1,104 @@
+package kr.co.softice.mes.domain.service;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Business Day Calendar
+ * 테넌트 1개 연도의 영업일 달력 (불변)
+ *
+ * - days: 해당 연도 일자(0 = 1월 1일)별 영업일 여부
+ * - prefix[i]: 0 ~ i-1 일자의 영업일 수 → 구간 영업일 수 O(1), n번째 영업일 이진 탐색 O(log n)
+ *
+ * @author Moon Myung-seop
+ */
+final class BusinessDayCalendar {
+
+    private final int year;
+    private final LocalDate firstDay;
+    private final int length;
+    private final BitSet days;
+    private final int[] prefix;
+
+    BusinessDayCalendar(int year, Set<LocalDate> holidays, Predicate<LocalDate> workingDayOfWeek) {
+        this.year = year;
+        this.firstDay = LocalDate.of(year, 1, 1);
+        this.length = firstDay.lengthOfYear();
+        this.days = new BitSet(length);
+        this.prefix = new int[length + 1];
+
+        for (int i = 0; i < length; i++) {
+            LocalDate date = firstDay.plusDays(i);
+            boolean businessDay = !holidays.contains(date) && workingDayOfWeek.test(date);
+            days.set(i, businessDay);
+            prefix[i + 1] = prefix[i] + (businessDay ? 1 : 0);
+        }
+    }
+
+    int getYear() {
+        return year;
+    }
+
+    int length() {
+        return length;
+    }
+
+    int indexOf(LocalDate date) {
+        return date.getDayOfYear() - 1;
+    }
+
+    LocalDate dateAt(int index) {
+        return firstDay.plusDays(index);
+    }
+
+    boolean isBusinessDay(int index) {
+        return days.get(index);
+    }
+
+    /**
+     * fromIndex ~ toIndex (양 끝 포함) 영업일 수
+     */
+    int count(int fromIndex, int toIndex) {
+        return prefix[toIndex + 1] - prefix[fromIndex];
+    }
+
+    int total() {
+        return prefix[length];
+    }
+
+    /**
+     * fromIndex 이후(fromIndex 제외) n번째 영업일 인덱스, 연도 안에 없으면 -1 (n ≤ 0 이면 fromIndex)
+     */
+    int nthAfter(int fromIndex, int n) {
+        if (n <= 0) {
+            return fromIndex;
+        }
+        int target = prefix[fromIndex + 1] + n;
+        if (target > prefix[length]) {
+            return -1;
+        }
+
+        // prefix[i + 1] >= target 을 만족하는 최소 i
+        int low = fromIndex + 1;
+        int high = length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prefix[mid + 1] >= target) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    int nextFrom(int index) {
+        return days.nextSetBit(index);
+    }
+
+    int previousFrom(int index) {
+        return days.previousSetBit(index);
+    }
+}
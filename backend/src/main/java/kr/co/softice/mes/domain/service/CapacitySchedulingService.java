@@ -0,0 +1,322 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.common.dto.schedule.CapacityScheduleResult;
+import kr.co.softice.mes.common.dto.schedule.ScheduleConflict;
+import kr.co.softice.mes.domain.entity.EquipmentEntity;
+import kr.co.softice.mes.domain.entity.ProcessRoutingStepEntity;
+import kr.co.softice.mes.domain.entity.ProductionScheduleEntity;
+import kr.co.softice.mes.domain.entity.WorkOrderEntity;
+import kr.co.softice.mes.domain.entity.WorkingHoursEntity;
+import kr.co.softice.mes.domain.repository.ProcessRoutingStepRepository;
+import kr.co.softice.mes.domain.repository.ProductionScheduleRepository;
+import kr.co.softice.mes.domain.repository.WorkOrderRepository;
+import kr.co.softice.mes.domain.repository.WorkingHoursRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Capacity Scheduling Service
+ * 유한 능력 생산 스케줄링
+ *
+ * - 설비별 기존 일정(취소 제외)을 IntervalTree 로 적재, 설비당 동시에 1개 작업만 배정
+ * - 재배정 대상은 미착수(PENDING/READY) 작업지시의 미착수 일정만, 착수/완료 일정은 고정 예약으로 유지
+ * - 작업지시를 우선순위(1 높음) → 계획 시작일 순으로 1회 순회하며 공정 단계별 가장 이른 가용 구간 배정
+ * - 연속된 isParallel 단계 중 parallelGroup 이 같은 단계는 같은 시점에 시작 가능, 다음 단계는 그룹 전체 종료 후
+ * - 가공 시간(준비 + 표준)은 영업일 근무 시간(WorkingTimeCalendar)으로만 진행, 대기 시간은 설비 비점유
+ * - 입력은 작업지시/라우팅 단계/설비 점유 일괄 조회 3회, 저장은 일괄 삭제 + saveAll
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CapacitySchedulingService {
+
+    static final List<String> SCHEDULABLE_STATUSES = Arrays.asList("PENDING", "READY");
+    private static final List<String> REPLACEABLE_SCHEDULE_STATUSES = Arrays.asList("SCHEDULED", "READY", "DELAYED");
+    private static final int DEFAULT_PRIORITY = 5;
+    private static final int OCCUPANCY_HORIZON_YEARS = 10;
+
+    private final WorkOrderRepository workOrderRepository;
+    private final ProcessRoutingStepRepository routingStepRepository;
+    private final ProductionScheduleRepository scheduleRepository;
+    private final WorkingHoursRepository workingHoursRepository;
+    private final HolidayService holidayService;
+    private final ScheduleChangePublisher scheduleChangePublisher;
+
+    /**
+     * 작업지시 일괄 스케줄링 (미착수 일정 교체)
+     *
+     * @param tenantId 테넌트 ID
+     * @param workOrderIds 대상 작업지시 (null/빈 목록이면 PENDING/READY 전체, 지정해도 PENDING/READY 만 재배정)
+     * @param notBefore 이 시각 이전에는 배정하지 않음 (null 이면 작업지시 계획 시작일, 없으면 현재)
+     */
+    @Transactional
+    public ScheduleRun schedule(String tenantId, Collection<Long> workOrderIds, LocalDateTime notBefore) {
+        long startedAt = System.currentTimeMillis();
+
+        List<WorkOrderEntity> workOrders = workOrderIds == null || workOrderIds.isEmpty()
+            ? workOrderRepository.findByTenantIdAndStatusesWithRouting(tenantId, SCHEDULABLE_STATUSES)
+            : workOrderRepository.findByTenantIdAndIdsWithRouting(tenantId, workOrderIds);
+
+        List<Long> skipped = new ArrayList<>();
+        List<Long> fixed = new ArrayList<>();
+        List<WorkOrderEntity> routed = new ArrayList<>();
+        for (WorkOrderEntity workOrder : workOrders) {
+            if (!SCHEDULABLE_STATUSES.contains(workOrder.getStatus())) {
+                fixed.add(workOrder.getWorkOrderId());
+            } else if (workOrder.getRouting() == null) {
+                skipped.add(workOrder.getWorkOrderId());
+            } else {
+                routed.add(workOrder);
+            }
+        }
+        routed.sort(Comparator
+            .comparing((WorkOrderEntity wo) -> wo.getPriority() != null ? wo.getPriority() : DEFAULT_PRIORITY)
+            .thenComparing(WorkOrderEntity::getPlannedStartDate, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(WorkOrderEntity::getWorkOrderId));
+
+        log.info("Capacity scheduling - Tenant: {}, work orders: {}, skipped (no routing): {}, fixed (started): {}",
+            tenantId, routed.size(), skipped.size(), fixed.size());
+
+        // 라우팅 단계 일괄 조회
+        Set<Long> routingIds = routed.stream()
+            .map(wo -> wo.getRouting().getRoutingId())
+            .collect(Collectors.toSet());
+        Map<Long, List<ProcessRoutingStepEntity>> stepsByRouting = routingIds.isEmpty()
+            ? Collections.emptyMap()
+            : routingStepRepository.findByRoutingIdsWithRelations(routingIds).stream()
+                .collect(Collectors.groupingBy(step -> step.getRouting().getRoutingId(),
+                    LinkedHashMap::new, Collectors.toList()));
+
+        // 대상 작업지시의 미착수 일정은 교체하므로 점유에서 제외
+        Set<Long> scheduledWorkOrderIds = routed.stream()
+            .map(WorkOrderEntity::getWorkOrderId)
+            .collect(Collectors.toSet());
+        if (!scheduledWorkOrderIds.isEmpty()) {
+            scheduleRepository.deleteNotStartedByWorkOrderIds(scheduledWorkOrderIds, REPLACEABLE_SCHEDULE_STATUSES);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, LocalDateTime> releases = new HashMap<>();
+        for (WorkOrderEntity workOrder : routed) {
+            LocalDateTime release = workOrder.getPlannedStartDate() != null ? workOrder.getPlannedStartDate() : now;
+            releases.put(workOrder.getWorkOrderId(),
+                notBefore != null && release.isBefore(notBefore) ? notBefore : release);
+        }
+        LocalDateTime horizonStart = releases.values().stream().min(Comparator.naturalOrder()).orElse(now);
+        Map<Long, IntervalTree<Long>> equipmentTrees = loadOccupancy(tenantId, horizonStart);
+        WorkingTimeCalendar calendar = calendar(tenantId);
+
+        List<ProductionScheduleEntity> schedules = new ArrayList<>();
+        List<CapacityScheduleResult.LateWorkOrder> late = new ArrayList<>();
+        long earliestStart = Long.MAX_VALUE;
+        long latestEnd = Long.MIN_VALUE;
+
+        for (WorkOrderEntity workOrder : routed) {
+            long ready = WorkingTimeCalendar.toMinutes(releases.get(workOrder.getWorkOrderId()));
+            long workOrderEnd = ready;
+
+            for (List<ProcessRoutingStepEntity> stage : stages(
+                    stepsByRouting.getOrDefault(workOrder.getRouting().getRoutingId(), Collections.emptyList()))) {
+                long stageEnd = ready;
+                for (ProcessRoutingStepEntity step : stage) {
+                    int processMinutes = minutes(step.getSetupTime()) + minutes(step.getStandardTime());
+                    EquipmentEntity equipment = step.getEquipment();
+                    IntervalTree<Long> tree = equipment == null ? null
+                        : equipmentTrees.computeIfAbsent(equipment.getEquipmentId(), id -> new IntervalTree<>());
+
+                    long start = earliestSlot(calendar, tree, ready, processMinutes);
+                    long end = calendar.addWorkingMinutes(start, processMinutes);
+                    if (tree != null && end > start) {
+                        tree.insert(start, end, workOrder.getWorkOrderId());
+                    }
+
+                    schedules.add(ProductionScheduleEntity.builder()
+                        .tenant(workOrder.getTenant())
+                        .workOrder(workOrder)
+                        .routingStep(step)
+                        .sequenceOrder(step.getSequenceOrder())
+                        .plannedStartTime(WorkingTimeCalendar.toDateTime(start))
+                        .plannedEndTime(WorkingTimeCalendar.toDateTime(end))
+                        .plannedDuration(processMinutes)
+                        .assignedEquipment(equipment)
+                        .assignedWorkers(step.getRequiredWorkers() != null ? step.getRequiredWorkers() : 1)
+                        .status("SCHEDULED")
+                        .progressRate(BigDecimal.ZERO)
+                        .isDelayed(false)
+                        .delayMinutes(0)
+                        .build());
+
+                    earliestStart = Math.min(earliestStart, start);
+                    stageEnd = Math.max(stageEnd, end + minutes(step.getWaitTime()));
+                    workOrderEnd = Math.max(workOrderEnd, end);
+                }
+                ready = stageEnd;
+            }
+
+            latestEnd = Math.max(latestEnd, workOrderEnd);
+            LocalDateTime scheduledEnd = WorkingTimeCalendar.toDateTime(workOrderEnd);
+            if (workOrder.getPlannedEndDate() != null && scheduledEnd.isAfter(workOrder.getPlannedEndDate())) {
+                late.add(CapacityScheduleResult.LateWorkOrder.builder()
+                    .workOrderId(workOrder.getWorkOrderId())
+                    .workOrderNo(workOrder.getWorkOrderNo())
+                    .priority(workOrder.getPriority())
+                    .plannedEndDate(workOrder.getPlannedEndDate())
+                    .scheduledEndTime(scheduledEnd)
+                    .lateMinutes(ChronoUnit.MINUTES.between(workOrder.getPlannedEndDate(), scheduledEnd))
+                    .build());
+            }
+        }
+
+        List<ProductionScheduleEntity> saved = scheduleRepository.saveAll(schedules);
+        scheduleChangePublisher.markChanged(tenantId);
+
+        CapacityScheduleResult result = CapacityScheduleResult.builder()
+            .workOrderCount(routed.size())
+            .scheduleCount(saved.size())
+            .equipmentCount(equipmentTrees.size())
+            .scheduleStart(earliestStart == Long.MAX_VALUE ? null : WorkingTimeCalendar.toDateTime(earliestStart))
+            .scheduleEnd(latestEnd == Long.MIN_VALUE ? null : WorkingTimeCalendar.toDateTime(latestEnd))
+            .elapsedMillis(System.currentTimeMillis() - startedAt)
+            .skippedWorkOrderIds(skipped)
+            .fixedWorkOrderIds(fixed)
+            .lateWorkOrders(late)
+            .build();
+
+        log.info("Capacity scheduling completed - Tenant: {}, schedules: {}, late: {}, elapsed: {}ms",
+            tenantId, saved.size(), late.size(), result.getElapsedMillis());
+
+        return new ScheduleRun(result, saved);
+    }
+
+    /**
+     * 기간 내 설비 일정 중복 보고 (완료/취소 제외)
+     */
+    public List<ScheduleConflict> findConflicts(String tenantId, LocalDateTime startTime, LocalDateTime endTime) {
+        Map<Long, IntervalTree<Object[]>> trees = new HashMap<>();
+        List<ScheduleConflict> conflicts = new ArrayList<>();
+
+        // 시작 시각 순으로 적재하면서 이미 적재된 일정과의 겹침만 조회 → 쌍별 1회 보고
+        for (Object[] row : scheduleRepository.findEquipmentOccupancy(tenantId, startTime, endTime)) {
+            Long equipmentId = (Long) row[1];
+            long start = WorkingTimeCalendar.toMinutes((LocalDateTime) row[5]);
+            long end = WorkingTimeCalendar.toMinutes((LocalDateTime) row[6]);
+            IntervalTree<Object[]> tree = trees.computeIfAbsent(equipmentId, id -> new IntervalTree<>());
+
+            for (IntervalTree.Interval<Object[]> other : tree.overlapping(start, end)) {
+                long overlapStart = Math.max(start, other.getStart());
+                long overlapEnd = Math.min(end, other.getEnd());
+                conflicts.add(ScheduleConflict.builder()
+                    .equipmentId(equipmentId)
+                    .equipmentCode((String) row[2])
+                    .scheduleId((Long) other.getValue()[0])
+                    .workOrderNo((String) other.getValue()[4])
+                    .conflictingScheduleId((Long) row[0])
+                    .conflictingWorkOrderNo((String) row[4])
+                    .overlapStart(WorkingTimeCalendar.toDateTime(overlapStart))
+                    .overlapEnd(WorkingTimeCalendar.toDateTime(overlapEnd))
+                    .overlapMinutes(overlapEnd - overlapStart)
+                    .build());
+            }
+            if (end > start) {
+                tree.insert(start, end, row);
+            }
+        }
+
+        log.info("Schedule conflict report - Tenant: {}, equipments: {}, conflicts: {}",
+            tenantId, trees.size(), conflicts.size());
+        return conflicts;
+    }
+
+    private Map<Long, IntervalTree<Long>> loadOccupancy(String tenantId, LocalDateTime from) {
+        Map<Long, IntervalTree<Long>> trees = new HashMap<>();
+        LocalDateTime until = from.plusYears(OCCUPANCY_HORIZON_YEARS);
+        for (Object[] row : scheduleRepository.findEquipmentReservations(tenantId, from, until)) {
+            long start = WorkingTimeCalendar.toMinutes((LocalDateTime) row[5]);
+            long end = WorkingTimeCalendar.toMinutes((LocalDateTime) row[6]);
+            if (end > start) {
+                trees.computeIfAbsent((Long) row[1], id -> new IntervalTree<>()).insert(start, end, (Long) row[3]);
+            }
+        }
+        return trees;
+    }
+
+    private WorkingTimeCalendar calendar(String tenantId) {
+        WorkingHoursEntity workingHours = workingHoursRepository.findDefaultByTenantId(tenantId).orElse(null);
+        return new WorkingTimeCalendar(date -> holidayService.isBusinessDay(tenantId, date), workingHours);
+    }
+
+    /**
+     * ready 이후 설비가 비어 있고 processMinutes 근무 시간을 연속 배정할 수 있는 가장 이른 시작 시각
+     */
+    private static long earliestSlot(WorkingTimeCalendar calendar, IntervalTree<Long> tree,
+                                     long ready, int processMinutes) {
+        long start = calendar.nextWorkingMinute(ready);
+        if (tree == null || processMinutes == 0) {
+            return start;
+        }
+        while (true) {
+            long end = calendar.addWorkingMinutes(start, processMinutes);
+            long busyUntil = tree.latestOverlappingEnd(start, end);
+            if (busyUntil == Long.MIN_VALUE) {
+                return start;
+            }
+            start = calendar.nextWorkingMinute(busyUntil);
+        }
+    }
+
+    /**
+     * 단계 묶음: 연속된 isParallel 단계 중 parallelGroup 이 같으면 한 묶음
+     */
+    private static List<List<ProcessRoutingStepEntity>> stages(List<ProcessRoutingStepEntity> steps) {
+        List<List<ProcessRoutingStepEntity>> stages = new ArrayList<>();
+        Integer currentGroup = null;
+        for (ProcessRoutingStepEntity step : steps) {
+            boolean parallel = Boolean.TRUE.equals(step.getIsParallel()) && step.getParallelGroup() != null;
+            if (parallel && step.getParallelGroup().equals(currentGroup)) {
+                stages.get(stages.size() - 1).add(step);
+            } else {
+                List<ProcessRoutingStepEntity> stage = new ArrayList<>();
+                stage.add(step);
+                stages.add(stage);
+                currentGroup = parallel ? step.getParallelGroup() : null;
+            }
+        }
+        return stages;
+    }
+
+    private static int minutes(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    /**
+     * 스케줄링 결과 요약 + 생성된 일정
+     */
+    public static final class ScheduleRun {
+        private final CapacityScheduleResult result;
+        private final List<ProductionScheduleEntity> schedules;
+
+        private ScheduleRun(CapacityScheduleResult result, List<ProductionScheduleEntity> schedules) {
+            this.result = result;
+            this.schedules = schedules;
+        }
+
+        public CapacityScheduleResult getResult() {
+            return result;
+        }
+
+        public List<ProductionScheduleEntity> getSchedules() {
+            return schedules;
+        }
+    }
+}
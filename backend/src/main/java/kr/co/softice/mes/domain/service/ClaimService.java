@@ -25,9 +25,9 @@ import java.util.List;
 public class ClaimService {
 
     private final ClaimRepository claimRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final CustomerRepository customerRepository;
-    private final ProductRepository productRepository;
+    private final ProductService productService;
     private final SalesOrderRepository salesOrderRepository;
     private final ShippingRepository shippingRepository;
     private final DepartmentRepository departmentRepository;
@@ -79,7 +79,7 @@ public class ClaimService {
         }
 
         // Get tenant
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         claim.setTenant(tenant);
 
@@ -92,7 +92,7 @@ public class ClaimService {
 
         // Set optional product
         if (claim.getProduct() != null && claim.getProduct().getProductId() != null) {
-            ProductEntity product = productRepository.findById(claim.getProduct().getProductId())
+            ProductEntity product = productService.findById(claim.getProduct().getProductId())
                     .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
             claim.setProduct(product);
             claim.setProductCode(product.getProductCode());
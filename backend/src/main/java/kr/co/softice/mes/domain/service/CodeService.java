@@ -8,6 +8,8 @@ import kr.co.softice.mes.domain.repository.CodeGroupRepository;
 import kr.co.softice.mes.domain.repository.CodeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -89,6 +91,7 @@ public class CodeService {
      * Delete code group
      */
     @Transactional
+    @CacheEvict(cacheNames = "activeCodes", key = "#groupId")
     public void deleteCodeGroup(Long groupId) {
         log.info("Deleting code group: {}", groupId);
         codeGroupRepository.deleteById(groupId);
@@ -131,6 +134,7 @@ public class CodeService {
     /**
      * Find active codes by group
      */
+    @Cacheable(cacheNames = "activeCodes", key = "#groupId")
     public List<CodeEntity> findActiveCodesByGroup(Long groupId) {
         log.debug("Finding active codes by group: {}", groupId);
 
@@ -144,6 +148,7 @@ public class CodeService {
      * Create code
      */
     @Transactional
+    @CacheEvict(cacheNames = "activeCodes", key = "#code.codeGroup.groupId")
     public CodeEntity createCode(CodeEntity code) {
         log.info("Creating code: {} for group: {}",
                 code.getCode(), code.getCodeGroup().getGroupId());
@@ -160,6 +165,7 @@ public class CodeService {
      * Update code
      */
     @Transactional
+    @CacheEvict(cacheNames = "activeCodes", allEntries = true)
     public CodeEntity updateCode(CodeEntity code) {
         log.info("Updating code: {}", code.getCodeId());
 
@@ -174,6 +180,7 @@ public class CodeService {
      * Delete code
      */
     @Transactional
+    @CacheEvict(cacheNames = "activeCodes", allEntries = true)
     public void deleteCode(Long codeId) {
         log.info("Deleting code: {}", codeId);
         codeRepository.deleteById(codeId);
@@ -25,7 +25,7 @@ import java.util.List;
 public class ConsumableService {
 
     private final ConsumableRepository consumableRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final EquipmentRepository equipmentRepository;
 
     /**
@@ -66,7 +66,7 @@ public class ConsumableService {
         }
 
         // Get tenant
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         consumable.setTenant(tenant);
 
@@ -4,18 +4,20 @@ import kr.co.softice.mes.common.dto.dashboard.DashboardStatsResponse;
 import kr.co.softice.mes.common.dto.dashboard.LoginTrendResponse;
 import kr.co.softice.mes.common.dto.dashboard.RoleDistributionResponse;
 import kr.co.softice.mes.common.dto.dashboard.UserStatsResponse;
-import kr.co.softice.mes.domain.entity.TenantEntity;
-import kr.co.softice.mes.domain.entity.UserEntity;
-import kr.co.softice.mes.domain.repository.*;
+import kr.co.softice.mes.domain.repository.UserRoleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.sql.Date;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -24,6 +26,10 @@ import java.util.stream.Collectors;
  * Dashboard Service
  * 대시보드 통계 서비스
  *
+ * - 위젯별 단일 집계 쿼리 (COUNT(*) FILTER, GROUP BY date_trunc)
+ * - 결과는 테넌트별 "dashboard" 캐시에 짧은 TTL 로 보관 (app.cache.caches.dashboard)
+ *   → 여러 대시보드가 수 초 간격으로 폴링해도 TTL 당 위젯별 쿼리 1회
+ *
  * @author Moon Myung-seop
  */
 @Slf4j
@@ -32,83 +38,65 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class DashboardService {
 
-    private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
-    private final PermissionRepository permissionRepository;
-    private final TenantRepository tenantRepository;
+    private static final String USER_COUNTS_SQL =
+            "SELECT " +
+            "  (SELECT COUNT(*) FROM common.sd_tenants t WHERE t.tenant_id = :tenantId), " +
+            "  COUNT(u.user_id), " +
+            "  COUNT(u.user_id) FILTER (WHERE u.status = 'active'), " +
+            "  COUNT(u.user_id) FILTER (WHERE u.status = 'inactive'), " +
+            "  COUNT(u.user_id) FILTER (WHERE u.status = 'locked'), " +
+            "  COUNT(u.user_id) FILTER (WHERE u.last_login_at > :todayStart), " +
+            "  COUNT(u.user_id) FILTER (WHERE u.last_login_at > :recentLoginTime), " +
+            "  (SELECT COUNT(*) FROM common.sd_roles r WHERE r.tenant_id = :tenantId), " +
+            "  (SELECT COUNT(*) FROM common.sd_permissions p) " +
+            "FROM common.sd_users u " +
+            "WHERE u.tenant_id = :tenantId";
+
     private final UserRoleRepository userRoleRepository;
+    private final EntityManager entityManager;
 
     /**
      * 대시보드 통계 조회
      */
+    @Cacheable(cacheNames = "dashboard", key = "'stats:' + #tenantId")
     public DashboardStatsResponse getDashboardStats(String tenantId) {
         log.debug("Getting dashboard stats for tenant: {}", tenantId);
 
-        TenantEntity tenant = tenantRepository.findById(tenantId)
-                .orElseThrow(() -> new IllegalArgumentException("Tenant not found: " + tenantId));
-
-        // 전체 사용자 수
-        long totalUsers = userRepository.countByTenant(tenant);
-
-        // 활성 사용자 수
-        long activeUsers = userRepository.countByTenantAndStatus(tenant, "active");
-
-        // 전체 역할 수
-        long totalRoles = roleRepository.countByTenant(tenant);
-
-        // 전체 권한 수 (권한은 테넌트 무관)
-        long totalPermissions = permissionRepository.count();
-
-        // 오늘 로그인 수 (lastLoginAt 기준)
-        LocalDateTime todayStart = LocalDate.now().atStartOfDay();
-        long todayLogins = userRepository.countByTenantAndLastLoginAtAfter(tenant, todayStart);
-
-        // 활성 세션 수 (최근 30분 이내 로그인)
-        LocalDateTime recentLoginTime = LocalDateTime.now().minusMinutes(30);
-        long activeSessions = userRepository.countByTenantAndLastLoginAtAfter(tenant, recentLoginTime);
+        Object[] counts = queryUserCounts(tenantId);
 
         return DashboardStatsResponse.builder()
-                .totalUsers(totalUsers)
-                .activeUsers(activeUsers)
-                .totalRoles(totalRoles)
-                .totalPermissions(totalPermissions)
-                .todayLogins(todayLogins)
-                .activeSessions(activeSessions)
+                .totalUsers(toLong(counts[1]))
+                .activeUsers(toLong(counts[2]))
+                .totalRoles(toLong(counts[7]))
+                .totalPermissions(toLong(counts[8]))   // 권한은 테넌트 무관
+                .todayLogins(toLong(counts[5]))
+                .activeSessions(toLong(counts[6]))     // 최근 30분 이내 로그인
                 .build();
     }
 
     /**
      * 사용자 상태별 통계
      */
+    @Cacheable(cacheNames = "dashboard", key = "'user-stats:' + #tenantId")
     public List<UserStatsResponse> getUserStats(String tenantId) {
         log.debug("Getting user stats for tenant: {}", tenantId);
 
-        TenantEntity tenant = tenantRepository.findById(tenantId)
-                .orElseThrow(() -> new IllegalArgumentException("Tenant not found: " + tenantId));
+        Object[] counts = queryUserCounts(tenantId);
 
         List<UserStatsResponse> stats = new ArrayList<>();
-
-        // 활성 사용자
-        long activeCount = userRepository.countByTenantAndStatus(tenant, "active");
         stats.add(UserStatsResponse.builder()
                 .status("active")
-                .count(activeCount)
+                .count(toLong(counts[2]))
                 .displayName("활성")
                 .build());
-
-        // 비활성 사용자
-        long inactiveCount = userRepository.countByTenantAndStatus(tenant, "inactive");
         stats.add(UserStatsResponse.builder()
                 .status("inactive")
-                .count(inactiveCount)
+                .count(toLong(counts[3]))
                 .displayName("비활성")
                 .build());
-
-        // 잠긴 사용자
-        long lockedCount = userRepository.countByTenantAndStatus(tenant, "locked");
         stats.add(UserStatsResponse.builder()
                 .status("locked")
-                .count(lockedCount)
+                .count(toLong(counts[4]))
                 .displayName("잠김")
                 .build());
 
@@ -120,43 +108,32 @@ public class DashboardService {
      * @param tenantId 테넌트 ID
      * @param days 조회할 일수 (기본 7일)
      */
+    @Cacheable(cacheNames = "dashboard", key = "'login-trend:' + #tenantId + ':' + #days")
+    @SuppressWarnings("unchecked")
     public List<LoginTrendResponse> getLoginTrend(String tenantId, int days) {
         log.debug("Getting login trend for tenant: {}, days: {}", tenantId, days);
 
-        TenantEntity tenant = tenantRepository.findById(tenantId)
-                .orElseThrow(() -> new IllegalArgumentException("Tenant not found: " + tenantId));
-
         LocalDate endDate = LocalDate.now();
         LocalDate startDate = endDate.minusDays(days - 1);
 
-        // 날짜별로 데이터 초기화
-        List<LoginTrendResponse> trendList = new ArrayList<>();
-        Map<LocalDate, Long> loginCountByDate = new java.util.HashMap<>();
-
-        // 초기값 0으로 설정
-        for (int i = 0; i < days; i++) {
-            LocalDate date = startDate.plusDays(i);
-            loginCountByDate.put(date, 0L);
-        }
-
-        // 기간 내 로그인한 사용자 조회
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.plusDays(1).atStartOfDay();
-
-        List<UserEntity> users = userRepository.findByTenantAndLastLoginAtBetween(
-                tenant, startDateTime, endDateTime);
-
-        // 날짜별로 그룹핑하여 count
-        for (UserEntity user : users) {
-            if (user.getLastLoginAt() != null) {
-                LocalDate loginDate = user.getLastLoginAt().toLocalDate();
-                if (!loginDate.isBefore(startDate) && !loginDate.isAfter(endDate)) {
-                    loginCountByDate.merge(loginDate, 1L, Long::sum);
-                }
-            }
+        List<Object[]> rows = entityManager.createNativeQuery(
+                "SELECT CAST(date_trunc('day', u.last_login_at) AS DATE), COUNT(*) " +
+                "FROM common.sd_users u " +
+                "WHERE u.tenant_id = :tenantId " +
+                "AND u.last_login_at >= :startDateTime AND u.last_login_at < :endDateTime " +
+                "GROUP BY 1")
+                .setParameter("tenantId", tenantId)
+                .setParameter("startDateTime", startDate.atStartOfDay())
+                .setParameter("endDateTime", endDate.plusDays(1).atStartOfDay())
+                .getResultList();
+
+        Map<LocalDate, Long> loginCountByDate = new HashMap<>();
+        for (Object[] row : rows) {
+            loginCountByDate.put(((Date) row[0]).toLocalDate(), toLong(row[1]));
         }
 
-        // 결과 생성
+        // 로그인이 없는 날짜는 0
+        List<LoginTrendResponse> trendList = new ArrayList<>();
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
         for (int i = 0; i < days; i++) {
             LocalDate date = startDate.plusDays(i);
@@ -173,14 +150,12 @@ public class DashboardService {
     /**
      * 역할별 사용자 분포 조회
      */
+    @Cacheable(cacheNames = "dashboard", key = "'role-distribution:' + #tenantId")
     public List<RoleDistributionResponse> getRoleDistribution(String tenantId) {
         log.debug("Getting role distribution for tenant: {}", tenantId);
 
-        TenantEntity tenant = tenantRepository.findById(tenantId)
-                .orElseThrow(() -> new IllegalArgumentException("Tenant not found: " + tenantId));
-
         // 역할별 사용자 수 조회
-        List<Object[]> results = userRoleRepository.countUsersByRoleForTenant(tenant);
+        List<Object[]> results = userRoleRepository.countUsersByRoleForTenant(tenantId);
 
         // DTO로 변환
         return results.stream()
@@ -191,4 +166,25 @@ public class DashboardService {
                         .build())
                 .collect(Collectors.toList());
     }
+
+    /**
+     * 사용자/역할/권한 건수 단일 조회 (대시보드 통계, 사용자 상태별 통계 공용)
+     */
+    private Object[] queryUserCounts(String tenantId) {
+        LocalDateTime now = LocalDateTime.now();
+        Object[] counts = (Object[]) entityManager.createNativeQuery(USER_COUNTS_SQL)
+                .setParameter("tenantId", tenantId)
+                .setParameter("todayStart", now.toLocalDate().atStartOfDay())
+                .setParameter("recentLoginTime", now.minusMinutes(30))
+                .getSingleResult();
+
+        if (toLong(counts[0]) == 0) {
+            throw new IllegalArgumentException("Tenant not found: " + tenantId);
+        }
+        return counts;
+    }
+
+    private long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
 }
@@ -0,0 +1,211 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.common.export.ExportFormat;
+import kr.co.softice.mes.common.export.ExportWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.QueryHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Data Export Service
+ * 대용량 목록 스트리밍 내보내기 (재고, 재고 이동, 감사 로그, 칭량)
+ *
+ * - 목록 API 처럼 List<Entity> + List<Response> 를 만들지 않고, native 조회 결과를 forward-only
+ *   커서(getResultStream + fetch size)로 읽어 행마다 바로 CSV/XLSX 로 기록 → 건수와 무관하게 메모리 일정
+ * - 엔티티가 아닌 Object[] 로 조회하므로 영속성 컨텍스트에 아무것도 쌓이지 않음 (detach 불필요)
+ * - PostgreSQL 드라이버는 auto-commit 이 꺼진 연결에서만 fetch size 단위로 읽으므로 읽기 전용 트랜잭션 안에서 실행
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DataExportService {
+
+    private static final List<String> INVENTORY_HEADERS = Arrays.asList(
+            "Inventory ID", "Warehouse Code", "Warehouse Name", "Product Code", "Product Name", "LOT No",
+            "Available Qty", "Reserved Qty", "Unit", "Zone", "Rack", "Shelf", "Bin",
+            "Last Transaction Date", "Last Transaction Type", "Updated At");
+
+    private static final List<String> TRANSACTION_HEADERS = Arrays.asList(
+            "Transaction ID", "Transaction No", "Transaction Date", "Type", "Warehouse Code", "Product Code",
+            "Product Name", "LOT No", "From Warehouse", "To Warehouse", "Quantity", "Unit", "Reference No",
+            "User", "Approval Status", "Approved By", "Approved Date", "Remarks");
+
+    private static final List<String> AUDIT_LOG_HEADERS = Arrays.asList(
+            "Audit ID", "Created At", "Username", "Action", "Entity Type", "Entity ID", "Description",
+            "IP Address", "HTTP Method", "Endpoint", "Success", "Error Message");
+
+    private static final List<String> WEIGHING_HEADERS = Arrays.asList(
+            "Weighing ID", "Weighing No", "Weighing Date", "Type", "Reference Type", "Reference ID",
+            "Product Code", "Product Name", "LOT No", "Tare Weight", "Gross Weight", "Net Weight",
+            "Expected Weight", "Variance", "Variance %", "Unit", "Scale", "Operator", "Verifier",
+            "Verification Status", "Verification Date", "Tolerance Exceeded", "Remarks");
+
+    private final EntityManager entityManager;
+
+    @Value("${app.export.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * 재고 현황 내보내기
+     */
+    public long exportInventory(String tenantId, Long warehouseId, ExportFormat format, OutputStream output)
+            throws IOException {
+        StringBuilder sql = new StringBuilder(
+                "SELECT i.inventory_id, w.warehouse_code, w.warehouse_name, p.product_code, p.product_name, l.lot_no, " +
+                "       i.available_quantity, i.reserved_quantity, i.unit, i.zone, i.rack, i.shelf, i.bin, " +
+                "       i.last_transaction_date, i.last_transaction_type, i.updated_at " +
+                "FROM inventory.sd_inventory i " +
+                "JOIN inventory.sd_warehouses w ON w.warehouse_id = i.warehouse_id " +
+                "JOIN mes.sd_products p ON p.product_id = i.product_id " +
+                "LEFT JOIN inventory.sd_lots l ON l.lot_id = i.lot_id " +
+                "WHERE i.tenant_id = :tenantId");
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("tenantId", tenantId);
+        if (warehouseId != null) {
+            sql.append(" AND i.warehouse_id = :warehouseId");
+            params.put("warehouseId", warehouseId);
+        }
+        sql.append(" ORDER BY i.inventory_id");
+
+        return export("inventory", tenantId, sql.toString(), params, INVENTORY_HEADERS, "Inventory", format, output);
+    }
+
+    /**
+     * 재고 이동 이력 내보내기
+     */
+    public long exportInventoryTransactions(String tenantId, LocalDateTime from, LocalDateTime to,
+                                            String transactionType, ExportFormat format, OutputStream output)
+            throws IOException {
+        StringBuilder sql = new StringBuilder(
+                "SELECT t.transaction_id, t.transaction_no, t.transaction_date, t.transaction_type, w.warehouse_code, " +
+                "       p.product_code, p.product_name, l.lot_no, fw.warehouse_code, tw.warehouse_code, " +
+                "       t.quantity, t.unit, t.reference_no, u.username, t.approval_status, au.username, " +
+                "       t.approved_date, t.remarks " +
+                "FROM inventory.sd_inventory_transactions t " +
+                "JOIN inventory.sd_warehouses w ON w.warehouse_id = t.warehouse_id " +
+                "JOIN mes.sd_products p ON p.product_id = t.product_id " +
+                "LEFT JOIN inventory.sd_lots l ON l.lot_id = t.lot_id " +
+                "LEFT JOIN inventory.sd_warehouses fw ON fw.warehouse_id = t.from_warehouse_id " +
+                "LEFT JOIN inventory.sd_warehouses tw ON tw.warehouse_id = t.to_warehouse_id " +
+                "LEFT JOIN common.sd_users u ON u.user_id = t.transaction_user_id " +
+                "LEFT JOIN common.sd_users au ON au.user_id = t.approved_by_user_id " +
+                "WHERE t.tenant_id = :tenantId");
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("tenantId", tenantId);
+        appendPeriod(sql, params, "t.transaction_date", from, to);
+        if (transactionType != null && !transactionType.isEmpty()) {
+            sql.append(" AND t.transaction_type = :transactionType");
+            params.put("transactionType", transactionType);
+        }
+        sql.append(" ORDER BY t.transaction_id");
+
+        return export("inventory transactions", tenantId, sql.toString(), params, TRANSACTION_HEADERS,
+                "Transactions", format, output);
+    }
+
+    /**
+     * 감사 로그 내보내기 (old/new value 는 제외)
+     */
+    public long exportAuditLogs(String tenantId, LocalDateTime from, LocalDateTime to, String action,
+                                ExportFormat format, OutputStream output) throws IOException {
+        StringBuilder sql = new StringBuilder(
+                "SELECT a.audit_id, a.created_at, a.username, a.action, a.entity_type, a.entity_id, a.description, " +
+                "       a.ip_address, a.http_method, a.endpoint, a.success, a.error_message " +
+                "FROM sd_audit_logs a " +
+                "WHERE a.tenant_id = :tenantId");
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("tenantId", tenantId);
+        appendPeriod(sql, params, "a.created_at", from, to);
+        if (action != null && !action.isEmpty()) {
+            sql.append(" AND a.action = :action");
+            params.put("action", action);
+        }
+        sql.append(" ORDER BY a.audit_id");
+
+        return export("audit logs", tenantId, sql.toString(), params, AUDIT_LOG_HEADERS, "Audit Logs", format, output);
+    }
+
+    /**
+     * 칭량 기록 내보내기
+     */
+    public long exportWeighings(String tenantId, LocalDateTime from, LocalDateTime to, String weighingType,
+                                ExportFormat format, OutputStream output) throws IOException {
+        StringBuilder sql = new StringBuilder(
+                "SELECT wg.weighing_id, wg.weighing_no, wg.weighing_date, wg.weighing_type, wg.reference_type, " +
+                "       wg.reference_id, p.product_code, p.product_name, l.lot_no, wg.tare_weight, wg.gross_weight, " +
+                "       wg.net_weight, wg.expected_weight, wg.variance, wg.variance_percentage, wg.unit, " +
+                "       wg.scale_name, op.username, vf.username, wg.verification_status, wg.verification_date, " +
+                "       wg.tolerance_exceeded, wg.remarks " +
+                "FROM wms.sd_weighings wg " +
+                "JOIN mes.sd_products p ON p.product_id = wg.product_id " +
+                "LEFT JOIN inventory.sd_lots l ON l.lot_id = wg.lot_id " +
+                "LEFT JOIN common.sd_users op ON op.user_id = wg.operator_user_id " +
+                "LEFT JOIN common.sd_users vf ON vf.user_id = wg.verifier_user_id " +
+                "WHERE wg.tenant_id = :tenantId");
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("tenantId", tenantId);
+        appendPeriod(sql, params, "wg.weighing_date", from, to);
+        if (weighingType != null && !weighingType.isEmpty()) {
+            sql.append(" AND wg.weighing_type = :weighingType");
+            params.put("weighingType", weighingType);
+        }
+        sql.append(" ORDER BY wg.weighing_id");
+
+        return export("weighings", tenantId, sql.toString(), params, WEIGHING_HEADERS, "Weighings", format, output);
+    }
+
+    // ================== Private Helper Methods ==================
+
+    private static void appendPeriod(StringBuilder sql, Map<String, Object> params, String column,
+                                     LocalDateTime from, LocalDateTime to) {
+        if (from != null) {
+            sql.append(" AND ").append(column).append(" >= :fromDate");
+            params.put("fromDate", from);
+        }
+        if (to != null) {
+            sql.append(" AND ").append(column).append(" < :toDate");
+            params.put("toDate", to);
+        }
+    }
+
+    private long export(String label, String tenantId, String sql, Map<String, Object> params, List<String> headers,
+                        String sheetName, ExportFormat format, OutputStream output) throws IOException {
+        long started = System.currentTimeMillis();
+        Query query = entityManager.createNativeQuery(sql)
+                .setHint(QueryHints.FETCH_SIZE, fetchSize)
+                .setHint(QueryHints.READ_ONLY, true);
+        params.forEach(query::setParameter);
+
+        long rows;
+        try (ExportWriter writer = format.open(output, sheetName, headers);
+             Stream<?> results = query.getResultStream()) {
+            Iterator<?> iterator = results.iterator();
+            while (iterator.hasNext()) {
+                writer.writeRow((Object[]) iterator.next());
+            }
+            rows = writer.getRowCount();
+        }
+
+        log.info("Exported {} {} rows for tenant {} as {} in {} ms",
+                rows, label, tenantId, format, System.currentTimeMillis() - started);
+        return rows;
+    }
+}
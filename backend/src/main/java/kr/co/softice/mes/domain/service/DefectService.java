@@ -25,8 +25,8 @@ import java.util.List;
 public class DefectService {
 
     private final DefectRepository defectRepository;
-    private final TenantRepository tenantRepository;
-    private final ProductRepository productRepository;
+    private final TenantService tenantService;
+    private final ProductService productService;
     private final WorkOrderRepository workOrderRepository;
     private final WorkResultRepository workResultRepository;
     private final GoodsReceiptRepository goodsReceiptRepository;
@@ -81,12 +81,12 @@ public class DefectService {
         }
 
         // Get tenant
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         defect.setTenant(tenant);
 
         // Get product
-        ProductEntity product = productRepository.findById(defect.getProduct().getProductId())
+        ProductEntity product = productService.findById(defect.getProduct().getProductId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
         defect.setProduct(product);
         defect.setProductCode(product.getProductCode());
@@ -7,7 +7,6 @@ import kr.co.softice.mes.common.exception.ErrorCode;
 import kr.co.softice.mes.domain.entity.DepartmentEntity;
 import kr.co.softice.mes.domain.entity.TenantEntity;
 import kr.co.softice.mes.domain.repository.DepartmentRepository;
-import kr.co.softice.mes.domain.repository.TenantRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -25,7 +24,7 @@ import java.util.stream.Collectors;
 public class DepartmentService {
 
     private final DepartmentRepository departmentRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
 
     public List<DepartmentResponse> getAllDepartments(String tenantId) {
         TenantEntity tenant = getTenant(tenantId);
@@ -98,7 +97,7 @@ public class DepartmentService {
     }
 
     private TenantEntity getTenant(String tenantId) {
-        return tenantRepository.findById(tenantId)
+        return tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND, "테넌트를 찾을 수 없습니다: " + tenantId));
     }
 }
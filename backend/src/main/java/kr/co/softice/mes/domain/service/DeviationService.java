@@ -24,7 +24,7 @@ import java.util.List;
 public class DeviationService {
 
     private final DeviationRepository deviationRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final EquipmentRepository equipmentRepository;
     private final UserRepository userRepository;
 
@@ -75,7 +75,7 @@ public class DeviationService {
         }
 
         // Get tenant
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         deviation.setTenant(tenant);
 
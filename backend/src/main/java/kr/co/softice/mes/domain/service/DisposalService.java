@@ -11,7 +11,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 /**
@@ -26,8 +25,7 @@ import java.util.List;
 public class DisposalService {
 
     private final DisposalRepository disposalRepository;
-
-    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private final DocumentNumberService documentNumberService;
 
     /**
      * Find all disposals by tenant
@@ -210,15 +208,7 @@ public class DisposalService {
      * Generate disposal number (DIS-YYYYMMDD-0001)
      */
     private String generateDisposalNo(String tenantId) {
-        String dateStr = LocalDateTime.now().format(DATE_FORMAT);
-        String prefix = "DIS-" + dateStr + "-";
-
-        List<DisposalEntity> allDisposals = disposalRepository.findByTenant_TenantId(tenantId);
-        long count = allDisposals.stream()
-                .filter(d -> d.getDisposalNo() != null && d.getDisposalNo().startsWith(prefix))
-                .count();
-
-        return prefix + String.format("%04d", count + 1);
+        return documentNumberService.generate(tenantId, "DIS");
     }
 
     /**
@@ -0,0 +1,139 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.domain.repository.DocumentSequenceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Document Number Service
+ * 문서 번호 채번 서비스
+ *
+ * 형식: {PREFIX}-YYYYMMDD-0001 (예: GR-20260117-0001)
+ *
+ * 채번 방식:
+ * - (테넌트, 접두어, 일자) 단위 시퀀스 행(common.sd_document_sequences)에서
+ *   block-size 만큼의 번호 구간을 한 번에 예약
+ * - 예약된 구간은 메모리에서 소진하므로 채번 1건당 DB 접근 없음 (O(1))
+ * - 구간 예약은 원자적 upsert 이므로 여러 노드에서도 번호가 중복되지 않음
+ * - 노드 재시작 시 미사용 번호는 버려지므로 번호에 공백이 생길 수 있음
+ * - 노드마다 다른 구간을 소진하므로 여러 노드에 걸친 번호 순서는 발행 순서와 일치하지 않음
+ *   (노드 A: 0001~0020, 노드 B: 0021~0040 을 동시에 발행). 순서가 필요한 접두어는 block-size 1 로 운영
+ * - 노드별 (테넌트, 접두어) 의 당일 첫 예약 전에 이미 발행된 당일 최대 번호로 시퀀스 행을 보정
+ *   (시퀀스 도입 이전/다른 경로로 발행된 번호와 중복 방지, GREATEST upsert 로 멱등)
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+@Service
+public class DocumentNumberService {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    // 접두어 → 발행 번호 컬럼 (테이블.컬럼)
+    private static final Map<String, String[]> ISSUED_NUMBER_COLUMNS = Map.ofEntries(
+            Map.entry("GR", new String[]{"wms.sd_goods_receipts", "receipt_no"}),
+            Map.entry("IQC", new String[]{"qms.sd_quality_inspections", "inspection_no"}),
+            Map.entry("OQC", new String[]{"qms.sd_quality_inspections", "inspection_no"}),
+            Map.entry("MR", new String[]{"wms.sd_material_requests", "request_no"}),
+            Map.entry("DEF", new String[]{"qms.sd_defects", "defect_no"}),
+            Map.entry("PI", new String[]{"inventory.sd_physical_inventories", "inventory_no"}),
+            Map.entry("RT", new String[]{"wms.sd_returns", "return_no"}),
+            Map.entry("DIS", new String[]{"wms.sd_disposals", "disposal_no"}),
+            Map.entry("SOPE", new String[]{"common.sd_sop_executions", "execution_no"}),
+            Map.entry("SO", new String[]{"sales.sd_sales_orders", "order_no"}),
+            Map.entry("SH", new String[]{"wms.sd_shippings", "shipping_no"}),
+            Map.entry("WG", new String[]{"wms.sd_weighings", "weighing_no"}));
+
+    private static final String SEED_SQL =
+            "INSERT INTO common.sd_document_sequences " +
+            "(tenant_id, prefix, sequence_date, last_value, created_at, updated_at) " +
+            "SELECT ?, ?, ?, COALESCE(MAX(CAST(SUBSTRING(%2$s FROM '[0-9]+$') AS BIGINT)), 0), now(), now() " +
+            "FROM %1$s WHERE tenant_id = ? AND %2$s LIKE ? " +
+            "ON CONFLICT (tenant_id, prefix, sequence_date) " +
+            "DO UPDATE SET last_value = GREATEST(sd_document_sequences.last_value, EXCLUDED.last_value), " +
+            "updated_at = now()";
+
+    private final DocumentSequenceRepository documentSequenceRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    @Value("${app.document-number.block-size:20}")
+    private long blockSize;
+
+    private final ConcurrentMap<String, SequenceBlock> blocks = new ConcurrentHashMap<>();
+
+    public DocumentNumberService(DocumentSequenceRepository documentSequenceRepository, JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager) {
+        this.documentSequenceRepository = documentSequenceRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Generate next document number for today: {prefix}-YYYYMMDD-0001
+     */
+    public String generate(String tenantId, String prefix) {
+        LocalDate today = LocalDate.now();
+        long sequence = nextValue(tenantId, prefix, today);
+        return String.format("%s-%s-%04d", prefix, today.format(DATE_FORMAT), sequence);
+    }
+
+    /**
+     * Next sequence value for (tenant, prefix, date).
+     * Only threads sharing the same key contend, and only for an in-memory increment
+     * except once per block when a new range is reserved.
+     */
+    public long nextValue(String tenantId, String prefix, LocalDate date) {
+        SequenceBlock block = blocks.computeIfAbsent(tenantId + "|" + prefix, key -> new SequenceBlock());
+
+        synchronized (block) {
+            if (!date.equals(block.date)) {
+                seedFromIssued(tenantId, prefix, date);
+            }
+            if (!date.equals(block.date) || block.next > block.max) {
+                long upper = documentSequenceRepository.reserveBlock(tenantId, prefix, date, blockSize);
+                block.date = date;
+                block.next = upper - blockSize + 1;
+                block.max = upper;
+                log.debug("Reserved document number block {}-{} for tenant: {}, prefix: {}, date: {}",
+                    block.next, block.max, tenantId, prefix, date);
+            }
+            return block.next++;
+        }
+    }
+
+    /**
+     * 당일 이미 발행된 최대 번호로 시퀀스 행 보정 (별도 트랜잭션, 호출자 트랜잭션이 시퀀스 행 잠금을 잡지 않도록)
+     */
+    private void seedFromIssued(String tenantId, String prefix, LocalDate date) {
+        String[] column = ISSUED_NUMBER_COLUMNS.get(prefix);
+        if (column == null) {
+            return;
+        }
+        String numberPrefix = prefix + "-" + date.format(DATE_FORMAT) + "-";
+        requiresNew.executeWithoutResult(status -> jdbcTemplate.update(
+                String.format(SEED_SQL, column[0], column[1]),
+                tenantId, prefix, date, tenantId, numberPrefix + "%"));
+    }
+
+    /**
+     * In-memory range of reserved sequence values
+     */
+    private static class SequenceBlock {
+        private LocalDate date;
+        private long next = 1;
+        private long max = 0;
+    }
+}
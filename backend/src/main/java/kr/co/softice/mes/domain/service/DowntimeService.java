@@ -24,11 +24,12 @@ import java.util.List;
 public class DowntimeService {
 
     private final DowntimeRepository downtimeRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final EquipmentRepository equipmentRepository;
     private final WorkOrderRepository workOrderRepository;
     private final EquipmentOperationRepository operationRepository;
     private final UserRepository userRepository;
+    private final OeeRollupService oeeRollupService;
 
     /**
      * Get all downtimes for tenant
@@ -100,7 +101,7 @@ public class DowntimeService {
         }
 
         // Get tenant
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         downtime.setTenant(tenant);
 
@@ -138,6 +139,7 @@ public class DowntimeService {
         }
 
         DowntimeEntity saved = downtimeRepository.save(downtime);
+        oeeRollupService.apply(null, oeeRollupService.snapshot(saved));
         log.info("Downtime created successfully: {}", saved.getDowntimeCode());
         return saved;
     }
@@ -149,8 +151,10 @@ public class DowntimeService {
     public DowntimeEntity updateDowntime(Long downtimeId, DowntimeEntity updateData) {
         log.info("Updating downtime ID: {}", downtimeId);
 
+        downtimeRepository.lockById(downtimeId);
         DowntimeEntity existing = downtimeRepository.findByIdWithAllRelations(downtimeId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.DOWNTIME_NOT_FOUND));
+        OeeRollupService.Contribution before = oeeRollupService.snapshot(existing);
 
         // Update fields
         if (updateData.getEndTime() != null) {
@@ -176,6 +180,7 @@ public class DowntimeService {
         }
 
         DowntimeEntity updated = downtimeRepository.save(existing);
+        oeeRollupService.apply(before, oeeRollupService.snapshot(updated));
         log.info("Downtime updated successfully: {}", updated.getDowntimeCode());
         return updated;
     }
@@ -187,14 +192,17 @@ public class DowntimeService {
     public DowntimeEntity endDowntime(Long downtimeId) {
         log.info("Ending downtime ID: {}", downtimeId);
 
+        downtimeRepository.lockById(downtimeId);
         DowntimeEntity downtime = downtimeRepository.findByIdWithAllRelations(downtimeId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.DOWNTIME_NOT_FOUND));
+        OeeRollupService.Contribution before = oeeRollupService.snapshot(downtime);
 
         if (downtime.getEndTime() == null) {
             downtime.setEndTime(LocalDateTime.now());
         }
 
         DowntimeEntity updated = downtimeRepository.save(downtime);
+        oeeRollupService.apply(before, oeeRollupService.snapshot(updated));
         log.info("Downtime ended successfully: {}", updated.getDowntimeCode());
         return updated;
     }
@@ -206,8 +214,10 @@ public class DowntimeService {
     public DowntimeEntity resolveDowntime(Long downtimeId) {
         log.info("Resolving downtime ID: {}", downtimeId);
 
+        downtimeRepository.lockById(downtimeId);
         DowntimeEntity downtime = downtimeRepository.findByIdWithAllRelations(downtimeId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.DOWNTIME_NOT_FOUND));
+        OeeRollupService.Contribution before = oeeRollupService.snapshot(downtime);
 
         downtime.setIsResolved(true);
         downtime.setResolvedAt(LocalDateTime.now());
@@ -218,6 +228,7 @@ public class DowntimeService {
         }
 
         DowntimeEntity updated = downtimeRepository.save(downtime);
+        oeeRollupService.apply(before, oeeRollupService.snapshot(updated));
         log.info("Downtime resolved successfully: {}", updated.getDowntimeCode());
         return updated;
     }
@@ -229,12 +240,15 @@ public class DowntimeService {
     public DowntimeEntity activate(Long downtimeId) {
         log.info("Activating downtime ID: {}", downtimeId);
 
+        downtimeRepository.lockById(downtimeId);
         DowntimeEntity downtime = downtimeRepository.findByIdWithAllRelations(downtimeId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.DOWNTIME_NOT_FOUND));
+        OeeRollupService.Contribution before = oeeRollupService.snapshot(downtime);
 
         downtime.setIsActive(true);
 
         DowntimeEntity updated = downtimeRepository.save(downtime);
+        oeeRollupService.apply(before, oeeRollupService.snapshot(updated));
         log.info("Downtime activated successfully: {}", updated.getDowntimeCode());
         return updated;
     }
@@ -246,12 +260,15 @@ public class DowntimeService {
     public DowntimeEntity deactivate(Long downtimeId) {
         log.info("Deactivating downtime ID: {}", downtimeId);
 
+        downtimeRepository.lockById(downtimeId);
         DowntimeEntity downtime = downtimeRepository.findByIdWithAllRelations(downtimeId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.DOWNTIME_NOT_FOUND));
+        OeeRollupService.Contribution before = oeeRollupService.snapshot(downtime);
 
         downtime.setIsActive(false);
 
         DowntimeEntity updated = downtimeRepository.save(downtime);
+        oeeRollupService.apply(before, oeeRollupService.snapshot(updated));
         log.info("Downtime deactivated successfully: {}", updated.getDowntimeCode());
         return updated;
     }
@@ -263,10 +280,13 @@ public class DowntimeService {
     public void deleteDowntime(Long downtimeId) {
         log.info("Deleting downtime ID: {}", downtimeId);
 
+        downtimeRepository.lockById(downtimeId);
         DowntimeEntity downtime = downtimeRepository.findById(downtimeId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.DOWNTIME_NOT_FOUND));
+        OeeRollupService.Contribution before = oeeRollupService.snapshot(downtime);
 
         downtimeRepository.delete(downtime);
+        oeeRollupService.apply(before, null);
         log.info("Downtime deleted successfully: {}", downtime.getDowntimeCode());
     }
 }
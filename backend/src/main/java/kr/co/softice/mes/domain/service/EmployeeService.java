@@ -10,7 +10,6 @@ import kr.co.softice.mes.domain.entity.TenantEntity;
 import kr.co.softice.mes.domain.entity.UserEntity;
 import kr.co.softice.mes.domain.repository.DepartmentRepository;
 import kr.co.softice.mes.domain.repository.EmployeeRepository;
-import kr.co.softice.mes.domain.repository.TenantRepository;
 import kr.co.softice.mes.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,7 +29,7 @@ public class EmployeeService {
 
     private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final UserRepository userRepository;
 
     public List<EmployeeResponse> getAllEmployees(String tenantId) {
@@ -171,7 +170,7 @@ public class EmployeeService {
     }
 
     private TenantEntity getTenant(String tenantId) {
-        return tenantRepository.findById(tenantId)
+        return tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND, "테넌트를 찾을 수 없습니다: " + tenantId));
     }
 }
@@ -24,7 +24,7 @@ import java.util.List;
 public class EmployeeSkillService {
 
     private final EmployeeSkillRepository employeeSkillRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final EmployeeRepository employeeRepository;
     private final SkillMatrixRepository skillMatrixRepository;
 
@@ -74,7 +74,7 @@ public class EmployeeSkillService {
             throw new BusinessException(ErrorCode.EMPLOYEE_SKILL_ALREADY_EXISTS);
         }
 
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         employeeSkill.setTenant(tenant);
 
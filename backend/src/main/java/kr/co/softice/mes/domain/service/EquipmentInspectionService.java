@@ -26,7 +26,7 @@ import java.util.List;
 public class EquipmentInspectionService {
 
     private final EquipmentInspectionRepository inspectionRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final EquipmentRepository equipmentRepository;
     private final EquipmentService equipmentService;
     private final UserRepository userRepository;
@@ -85,7 +85,7 @@ public class EquipmentInspectionService {
         }
 
         // Get tenant
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         inspection.setTenant(tenant);
 
@@ -27,11 +27,13 @@ import java.util.List;
 public class EquipmentOperationService {
 
     private final EquipmentOperationRepository operationRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final EquipmentRepository equipmentRepository;
     private final WorkOrderRepository workOrderRepository;
     private final WorkResultRepository workResultRepository;
     private final UserRepository userRepository;
+    private final BreakdownStatisticsService breakdownStatisticsService;
+    private final OeeRollupService oeeRollupService;
 
     /**
      * Get all operations for tenant
@@ -82,7 +84,7 @@ public class EquipmentOperationService {
         log.info("Creating operation for tenant: {}", tenantId);
 
         // Get tenant
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         operation.setTenant(tenant);
 
@@ -126,6 +128,8 @@ public class EquipmentOperationService {
         }
 
         EquipmentOperationEntity saved = operationRepository.save(operation);
+        oeeRollupService.apply(null, oeeRollupService.snapshot(saved));
+        breakdownStatisticsService.invalidate(tenantId);
         log.info("Operation created successfully for equipment: {}", equipment.getEquipmentCode());
         return saved;
     }
@@ -137,8 +141,10 @@ public class EquipmentOperationService {
     public EquipmentOperationEntity completeOperation(Long operationId) {
         log.info("Completing operation ID: {}", operationId);
 
+        operationRepository.lockById(operationId);
         EquipmentOperationEntity operation = operationRepository.findByIdWithAllRelations(operationId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.EQUIPMENT_OPERATION_NOT_FOUND));
+        OeeRollupService.Contribution before = oeeRollupService.snapshot(operation);
 
         // Set end time if not set
         if (operation.getEndTime() == null) {
@@ -151,6 +157,8 @@ public class EquipmentOperationService {
         calculateOEE(operation);
 
         EquipmentOperationEntity updated = operationRepository.save(operation);
+        oeeRollupService.apply(before, oeeRollupService.snapshot(updated));
+        breakdownStatisticsService.invalidate(operation.getTenant().getTenantId());
         log.info("Operation completed successfully with OEE: {}", updated.getOee());
         return updated;
     }
@@ -226,8 +234,10 @@ public class EquipmentOperationService {
     public EquipmentOperationEntity updateOperation(Long operationId, EquipmentOperationEntity updateData) {
         log.info("Updating operation ID: {}", operationId);
 
+        operationRepository.lockById(operationId);
         EquipmentOperationEntity existing = operationRepository.findByIdWithAllRelations(operationId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.EQUIPMENT_OPERATION_NOT_FOUND));
+        OeeRollupService.Contribution before = oeeRollupService.snapshot(existing);
 
         // Update fields
         if (updateData.getEndTime() != null) {
@@ -261,6 +271,8 @@ public class EquipmentOperationService {
         }
 
         EquipmentOperationEntity updated = operationRepository.save(existing);
+        oeeRollupService.apply(before, oeeRollupService.snapshot(updated));
+        breakdownStatisticsService.invalidate(existing.getTenant().getTenantId());
         log.info("Operation updated successfully");
         return updated;
     }
@@ -272,10 +284,14 @@ public class EquipmentOperationService {
     public void deleteOperation(Long operationId) {
         log.info("Deleting operation ID: {}", operationId);
 
+        operationRepository.lockById(operationId);
         EquipmentOperationEntity operation = operationRepository.findById(operationId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.EQUIPMENT_OPERATION_NOT_FOUND));
+        OeeRollupService.Contribution before = oeeRollupService.snapshot(operation);
 
         operationRepository.delete(operation);
+        oeeRollupService.apply(before, null);
+        breakdownStatisticsService.invalidate(operation.getTenant().getTenantId());
         log.info("Operation deleted successfully");
     }
 }
@@ -24,7 +24,7 @@ import java.util.List;
 public class EquipmentPartService {
 
     private final EquipmentPartRepository equipmentPartRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final EquipmentRepository equipmentRepository;
 
     /**
@@ -73,7 +73,7 @@ public class EquipmentPartService {
         }
 
         // Get tenant
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         part.setTenant(tenant);
 
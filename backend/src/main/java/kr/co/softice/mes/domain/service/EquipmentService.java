@@ -25,7 +25,7 @@ import java.util.List;
 public class EquipmentService {
 
     private final EquipmentRepository equipmentRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final SiteRepository siteRepository;
     private final DepartmentRepository departmentRepository;
 
@@ -83,7 +83,7 @@ public class EquipmentService {
         }
 
         // Get tenant
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         equipment.setTenant(tenant);
 
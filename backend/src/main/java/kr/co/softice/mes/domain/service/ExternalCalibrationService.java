@@ -24,7 +24,7 @@ import java.util.List;
 public class ExternalCalibrationService {
 
     private final ExternalCalibrationRepository externalCalibrationRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final GaugeRepository gaugeRepository;
 
     /**
@@ -74,7 +74,7 @@ public class ExternalCalibrationService {
         }
 
         // Get tenant
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         calibration.setTenant(tenant);
 
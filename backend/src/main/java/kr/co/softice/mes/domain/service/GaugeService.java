@@ -24,7 +24,7 @@ import java.util.List;
 public class GaugeService {
 
     private final GaugeRepository gaugeRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final EquipmentRepository equipmentRepository;
     private final DepartmentRepository departmentRepository;
 
@@ -66,7 +66,7 @@ public class GaugeService {
         }
 
         // Get tenant
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         gauge.setTenant(tenant);
 
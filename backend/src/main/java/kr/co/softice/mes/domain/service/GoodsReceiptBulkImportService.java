@@ -0,0 +1,727 @@
+package kr.co.softice.mes.domain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.softice.mes.common.csv.CsvReader;
+import kr.co.softice.mes.common.dto.wms.GoodsReceiptBulkLine;
+import kr.co.softice.mes.common.dto.wms.GoodsReceiptBulkRequest;
+import kr.co.softice.mes.common.dto.wms.GoodsReceiptBulkResult;
+import kr.co.softice.mes.common.exception.BusinessException;
+import kr.co.softice.mes.common.exception.EntityNotFoundException;
+import kr.co.softice.mes.common.exception.ErrorCode;
+import kr.co.softice.mes.domain.entity.*;
+import kr.co.softice.mes.domain.repository.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Goods Receipt Bulk Import Service
+ * 입하 일괄 등록 (공급업체 ASN 등 수천 라인)
+ *
+ * - 입력: JSON 본문 / CSV 스트림 / NDJSON 스트림 → 라인 파싱은 트랜잭션 밖에서 수행
+ * - 품목/구매주문 항목/LOT/재고 행은 IN 조회로 일괄 선조회 (라인 수와 무관하게 청크당 1회)
+ * - LOT, 입하 항목, 재고 트랜잭션, 재고 잔액은 JDBC batch insert/update
+ *   (엔티티가 IDENTITY 키라 Hibernate insert 배치가 적용되지 않음, reWriteBatchedInserts 로 다중 VALUES 전송)
+ * - 검증 오류는 라인별로 보고, partial=false 이면 오류가 하나라도 있을 때 아무것도 등록하지 않음
+ * - 단건 입하(GoodsReceiptService.createGoodsReceipt)와 같은 규칙: 기존 LOT 재사용,
+ *   검사 불요 라인만 즉시 재고 반영, 검사 필요 라인은 IQC 의뢰 생성
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GoodsReceiptBulkImportService {
+
+    private static final int IN_CHUNK_SIZE = 1000;
+    private static final Set<String> INSPECTION_STATUSES =
+            new HashSet<>(Arrays.asList("NOT_REQUIRED", "PENDING", "PASS", "FAIL"));
+
+    private static final String INSERT_LOT_SQL =
+            "INSERT INTO inventory.sd_lots (tenant_id, product_id, lot_no, expiry_date, initial_quantity, " +
+            "current_quantity, reserved_quantity, unit, supplier_name, quality_status, is_active, remarks, " +
+            "created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?, ?, true, ?, ?, ?)";
+    private static final int[] INSERT_LOT_TYPES = {
+            Types.VARCHAR, Types.BIGINT, Types.VARCHAR, Types.DATE, Types.NUMERIC,
+            Types.NUMERIC, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.TIMESTAMP, Types.TIMESTAMP};
+
+    private static final String INSERT_ITEM_SQL =
+            "INSERT INTO wms.sd_goods_receipt_items (goods_receipt_id, purchase_order_item_id, product_id, " +
+            "product_code, product_name, ordered_quantity, received_quantity, unit_price, line_amount, lot_no, " +
+            "expiry_date, inspection_status, quality_inspection_id, remarks, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] INSERT_ITEM_TYPES = {
+            Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR,
+            Types.NUMERIC, Types.NUMERIC, Types.NUMERIC, Types.NUMERIC, Types.VARCHAR,
+            Types.DATE, Types.VARCHAR, Types.BIGINT, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP};
+
+    private static final String INSERT_TRANSACTION_SQL =
+            "INSERT INTO inventory.sd_inventory_transactions (tenant_id, transaction_no, transaction_date, " +
+            "transaction_type, warehouse_id, product_id, lot_id, quantity, unit, reference_no, " +
+            "transaction_user_id, approval_status, approved_by_user_id, approved_date, remarks, " +
+            "created_at, updated_at) " +
+            "VALUES (?, ?, ?, 'IN_RECEIVE', ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] INSERT_TRANSACTION_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.BIGINT, Types.BIGINT,
+            Types.BIGINT, Types.NUMERIC, Types.VARCHAR, Types.VARCHAR, Types.BIGINT,
+            Types.VARCHAR, Types.BIGINT, Types.TIMESTAMP, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP};
+
+    private static final String UPDATE_INVENTORY_SQL =
+            "UPDATE inventory.sd_inventory SET available_quantity = available_quantity + ?, " +
+            "last_transaction_date = ?, last_transaction_type = 'IN_RECEIVE', updated_at = ? " +
+            "WHERE inventory_id = ?";
+    private static final int[] UPDATE_INVENTORY_TYPES = {
+            Types.NUMERIC, Types.TIMESTAMP, Types.TIMESTAMP, Types.BIGINT};
+
+    // 선조회 이후 동시 입하가 같은 재고 행을 먼저 만들었으면 수량 합산 (V043 COALESCE(lot_id, 0) 유일 인덱스)
+    private static final String INSERT_INVENTORY_SQL =
+            "INSERT INTO inventory.sd_inventory (tenant_id, warehouse_id, product_id, lot_id, available_quantity, " +
+            "reserved_quantity, unit, last_transaction_date, last_transaction_type, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, 0, ?, ?, 'IN_RECEIVE', ?, ?) " +
+            "ON CONFLICT (tenant_id, warehouse_id, product_id, COALESCE(lot_id, 0)) DO UPDATE SET " +
+            "available_quantity = sd_inventory.available_quantity + EXCLUDED.available_quantity, " +
+            "last_transaction_date = EXCLUDED.last_transaction_date, " +
+            "last_transaction_type = EXCLUDED.last_transaction_type, updated_at = EXCLUDED.updated_at";
+    private static final int[] INSERT_INVENTORY_TYPES = {
+            Types.VARCHAR, Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.NUMERIC,
+            Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP, Types.TIMESTAMP};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final GoodsReceiptRepository goodsReceiptRepository;
+    private final TenantService tenantService;
+    private final WarehouseService warehouseService;
+    private final SupplierRepository supplierRepository;
+    private final PurchaseOrderRepository purchaseOrderRepository;
+    private final PurchaseOrderItemRepository purchaseOrderItemRepository;
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+    private final LotRepository lotRepository;
+    private final InventoryRepository inventoryRepository;
+    private final QualityStandardRepository qualityStandardRepository;
+    private final QualityInspectionRepository qualityInspectionRepository;
+    private final DocumentNumberService documentNumberService;
+    private final InventoryMovementRollupService inventoryMovementRollupService;
+
+    @Value("${app.goods-receipt.bulk.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.goods-receipt.bulk.max-lines:50000}")
+    private int maxLines;
+
+    // ================== 입력 파싱 (트랜잭션 밖) ==================
+
+    /**
+     * CSV 스트림 파싱 (첫 줄 헤더)
+     *
+     * 컬럼 (대소문자/순서 무관): product_code, product_id, purchase_order_item_id,
+     * received_quantity (또는 quantity), lot_no, expiry_date (yyyy-MM-dd), inspection_status, remarks
+     */
+    public ParsedLines parseCsv(InputStream input) {
+        ParsedLines parsed = new ParsedLines();
+        try {
+            CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+            List<String> header = reader.next();
+            if (header == null) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "CSV is empty");
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            if (!columns.containsKey("product_code") && !columns.containsKey("product_id")) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                        "CSV header must contain product_code or product_id");
+            }
+
+            List<String> record;
+            while ((record = reader.next()) != null) {
+                int lineNo = reader.getRecordLine();
+                if (record.size() == 1 && record.get(0).trim().isEmpty()) {
+                    continue;
+                }
+                checkLineLimit(parsed);
+                try {
+                    parsed.lines.add(GoodsReceiptBulkLine.builder()
+                            .lineNo(lineNo)
+                            .productCode(column(record, columns, "product_code"))
+                            .productId(toLong(column(record, columns, "product_id")))
+                            .purchaseOrderItemId(toLong(column(record, columns, "purchase_order_item_id")))
+                            .receivedQuantity(toDecimal(column(record, columns, "received_quantity", "quantity")))
+                            .lotNo(column(record, columns, "lot_no"))
+                            .expiryDate(toDate(column(record, columns, "expiry_date")))
+                            .inspectionStatus(column(record, columns, "inspection_status"))
+                            .remarks(column(record, columns, "remarks"))
+                            .build());
+                } catch (RuntimeException e) {
+                    parsed.errors.add(error(lineNo, null, "Invalid value: " + e.getMessage()));
+                }
+            }
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Failed to read CSV: " + e.getMessage());
+        }
+        return parsed;
+    }
+
+    /**
+     * NDJSON 스트림 파싱 (줄마다 GoodsReceiptBulkLine JSON 1건)
+     */
+    public ParsedLines parseNdjson(InputStream input) {
+        ParsedLines parsed = new ParsedLines();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String text;
+            int lineNo = 0;
+            while ((text = reader.readLine()) != null) {
+                lineNo++;
+                if (text.trim().isEmpty()) {
+                    continue;
+                }
+                checkLineLimit(parsed);
+                try {
+                    GoodsReceiptBulkLine line = objectMapper.readValue(text, GoodsReceiptBulkLine.class);
+                    line.setLineNo(lineNo);
+                    parsed.lines.add(line);
+                } catch (JsonProcessingException e) {
+                    parsed.errors.add(error(lineNo, null, "Invalid JSON: " + e.getOriginalMessage()));
+                }
+            }
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Failed to read NDJSON: " + e.getMessage());
+        }
+        return parsed;
+    }
+
+    /**
+     * JSON 본문 라인 (lineNo 미지정 시 순번)
+     */
+    public ParsedLines fromRequest(GoodsReceiptBulkRequest request) {
+        ParsedLines parsed = new ParsedLines();
+        List<GoodsReceiptBulkLine> lines = request.getLines() != null ? request.getLines() : Collections.emptyList();
+        for (int i = 0; i < lines.size(); i++) {
+            checkLineLimit(parsed);
+            GoodsReceiptBulkLine line = lines.get(i);
+            if (line.getLineNo() == null) {
+                line.setLineNo(i + 1);
+            }
+            parsed.lines.add(line);
+        }
+        return parsed;
+    }
+
+    // ================== 등록 ==================
+
+    /**
+     * 입하 1건 + 라인 일괄 등록
+     */
+    @Transactional
+    public GoodsReceiptBulkResult importReceipt(String tenantId, GoodsReceiptBulkRequest request, ParsedLines parsed) {
+        long started = System.currentTimeMillis();
+        List<GoodsReceiptBulkResult.LineError> errors = new ArrayList<>(parsed.errors);
+        int totalLines = parsed.lines.size() + parsed.errors.size();
+
+        // 1. 헤더 참조 엔티티
+        TenantEntity tenant = tenantService.findById(tenantId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.TENANT_NOT_FOUND));
+        WarehouseEntity warehouse = warehouseService.findById(request.getWarehouseId())
+                .filter(w -> tenantId.equals(w.getTenant().getTenantId()))
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.WAREHOUSE_NOT_FOUND));
+        PurchaseOrderEntity purchaseOrder = null;
+        if (request.getPurchaseOrderId() != null) {
+            purchaseOrder = purchaseOrderRepository.findByPurchaseOrderIdAndTenant_TenantId(request.getPurchaseOrderId(), tenantId)
+                    .orElseThrow(() -> new EntityNotFoundException(ErrorCode.PURCHASE_ORDER_NOT_FOUND));
+        }
+        SupplierEntity supplier = null;
+        if (request.getSupplierId() != null) {
+            supplier = supplierRepository.findBySupplierIdAndTenant_TenantId(request.getSupplierId(), tenantId)
+                    .orElseThrow(() -> new EntityNotFoundException(ErrorCode.SUPPLIER_NOT_FOUND));
+        } else if (purchaseOrder != null) {
+            supplier = purchaseOrder.getSupplier();
+        }
+        UserEntity receiver = null;
+        if (request.getReceiverUserId() != null) {
+            receiver = userRepository.findByUserIdAndTenant_TenantId(request.getReceiverUserId(), tenantId)
+                    .orElseThrow(() -> new EntityNotFoundException(ErrorCode.USER_NOT_FOUND));
+        }
+        // 트랜잭션 사용자 (단건 입하와 같은 시스템 사용자 대체, 라인별 조회 없음)
+        UserEntity transactionUser = receiver != null ? receiver : userRepository.findById(1L)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "No transaction user found"));
+
+        // 2. 일괄 선조회
+        Map<String, ProductEntity> productsByCode = new HashMap<>();
+        Map<Long, ProductEntity> productsById = new HashMap<>();
+        Set<String> codes = new HashSet<>();
+        Set<Long> productIds = new HashSet<>();
+        Set<Long> poItemIds = new HashSet<>();
+        Set<String> lotNos = new HashSet<>();
+        for (GoodsReceiptBulkLine line : parsed.lines) {
+            if (line.getProductId() != null) {
+                productIds.add(line.getProductId());
+            } else if (hasText(line.getProductCode())) {
+                codes.add(line.getProductCode().trim());
+            }
+            if (line.getPurchaseOrderItemId() != null) {
+                poItemIds.add(line.getPurchaseOrderItemId());
+            }
+            if (hasText(line.getLotNo())) {
+                lotNos.add(line.getLotNo().trim());
+            }
+        }
+        for (ProductEntity product : inChunks(codes,
+                chunk -> productRepository.findByTenant_TenantIdAndProductCodeIn(tenantId, chunk))) {
+            productsByCode.put(product.getProductCode(), product);
+        }
+        for (ProductEntity product : inChunks(productIds,
+                chunk -> productRepository.findByTenant_TenantIdAndProductIdIn(tenantId, chunk))) {
+            productsById.put(product.getProductId(), product);
+        }
+        Map<Long, PurchaseOrderItemEntity> poItems = new HashMap<>();
+        for (PurchaseOrderItemEntity poItem : inChunks(poItemIds,
+                chunk -> purchaseOrderItemRepository.findByPurchaseOrder_Tenant_TenantIdAndPurchaseOrderItemIdIn(tenantId, chunk))) {
+            poItems.put(poItem.getPurchaseOrderItemId(), poItem);
+        }
+        Map<String, LotRef> lots = new HashMap<>();
+        for (LotEntity lot : inChunks(lotNos, chunk -> lotRepository.findByTenant_TenantIdAndLotNoIn(tenantId, chunk))) {
+            lots.put(lot.getLotNo(), new LotRef(lot.getLotId(), lot.getProduct().getProductId()));
+        }
+
+        // 3. 라인 검증
+        List<ValidLine> valid = new ArrayList<>();
+        Map<String, Long> lotProducts = new HashMap<>();
+        for (GoodsReceiptBulkLine line : parsed.lines) {
+            int lineNo = line.getLineNo();
+            int errorCount = errors.size();
+
+            ProductEntity product = line.getProductId() != null ? productsById.get(line.getProductId())
+                    : hasText(line.getProductCode()) ? productsByCode.get(line.getProductCode().trim()) : null;
+            if (product == null) {
+                errors.add(error(lineNo, "product", line.getProductId() == null && !hasText(line.getProductCode())
+                        ? "Product code or ID is required"
+                        : "Product not found: " + (line.getProductId() != null ? line.getProductId() : line.getProductCode())));
+            }
+            if (line.getReceivedQuantity() == null || line.getReceivedQuantity().signum() <= 0) {
+                errors.add(error(lineNo, "receivedQuantity", "Received quantity must be positive"));
+            }
+
+            String inspectionStatus = hasText(line.getInspectionStatus())
+                    ? line.getInspectionStatus().trim().toUpperCase(Locale.ROOT) : "NOT_REQUIRED";
+            if (!INSPECTION_STATUSES.contains(inspectionStatus)) {
+                errors.add(error(lineNo, "inspectionStatus", "Unknown inspection status: " + line.getInspectionStatus()));
+            }
+
+            PurchaseOrderItemEntity poItem = null;
+            if (line.getPurchaseOrderItemId() != null) {
+                poItem = poItems.get(line.getPurchaseOrderItemId());
+                if (poItem == null) {
+                    errors.add(error(lineNo, "purchaseOrderItemId",
+                            "Purchase order item not found: " + line.getPurchaseOrderItemId()));
+                } else if (purchaseOrder != null
+                        && !purchaseOrder.getPurchaseOrderId().equals(poItem.getPurchaseOrder().getPurchaseOrderId())) {
+                    errors.add(error(lineNo, "purchaseOrderItemId",
+                            "Purchase order item " + line.getPurchaseOrderItemId() + " belongs to another purchase order"));
+                }
+            }
+
+            String lotNo = hasText(line.getLotNo()) ? line.getLotNo().trim() : null;
+            if (lotNo != null && product != null) {
+                if (lotNo.length() > 100) {
+                    errors.add(error(lineNo, "lotNo", "LOT number is too long (max 100)"));
+                } else {
+                    LotRef existing = lots.get(lotNo);
+                    Long lotProductId = existing != null ? existing.productId : lotProducts.get(lotNo);
+                    if (lotProductId != null && !lotProductId.equals(product.getProductId())) {
+                        errors.add(error(lineNo, "lotNo", "LOT " + lotNo + " belongs to another product"));
+                    }
+                }
+            }
+
+            if (errors.size() == errorCount) {
+                if (lotNo != null) {
+                    lotProducts.putIfAbsent(lotNo, product.getProductId());
+                }
+                valid.add(new ValidLine(line, product, poItem, lotNo, inspectionStatus));
+            }
+        }
+
+        Set<Integer> failedLineNos = new HashSet<>();
+        errors.forEach(e -> failedLineNos.add(e.getLineNo()));
+        GoodsReceiptBulkResult.GoodsReceiptBulkResultBuilder result = GoodsReceiptBulkResult.builder()
+                .totalLines(totalLines)
+                .failedLines(failedLineNos.size())
+                .errors(errors);
+
+        if (valid.isEmpty() || (!errors.isEmpty() && !request.isPartial())) {
+            log.warn("Bulk goods receipt rejected for tenant {}: {} lines, {} errors", tenantId, totalLines, errors.size());
+            return result.elapsedMillis(System.currentTimeMillis() - started).build();
+        }
+
+        // 4. 입하 헤더
+        String receiptNo = hasText(request.getReceiptNo()) ? request.getReceiptNo()
+                : documentNumberService.generate(tenantId, "GR");
+        if (goodsReceiptRepository.existsByTenant_TenantIdAndReceiptNo(tenantId, receiptNo)) {
+            throw new BusinessException(ErrorCode.DUPLICATE_RESOURCE, "Receipt number already exists: " + receiptNo);
+        }
+
+        BigDecimal totalQuantity = BigDecimal.ZERO;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        boolean inspecting = false;
+        for (ValidLine line : valid) {
+            totalQuantity = totalQuantity.add(line.quantity());
+            if (line.lineAmount() != null) {
+                totalAmount = totalAmount.add(line.lineAmount());
+            }
+            inspecting |= "PENDING".equals(line.inspectionStatus);
+        }
+
+        GoodsReceiptEntity receipt = goodsReceiptRepository.save(GoodsReceiptEntity.builder()
+                .tenant(tenant)
+                .receiptNo(receiptNo)
+                .receiptDate(request.getReceiptDate())
+                .purchaseOrder(purchaseOrder)
+                .supplier(supplier)
+                .warehouse(warehouse)
+                .receiptType(hasText(request.getReceiptType()) ? request.getReceiptType() : "PURCHASE")
+                .receiptStatus(inspecting ? "INSPECTING" : "PENDING")
+                .receiver(receiver)
+                .totalQuantity(totalQuantity)
+                .totalAmount(totalAmount)
+                .remarks(request.getRemarks())
+                .isActive(true)
+                .build());
+
+        LocalDateTime now = LocalDateTime.now();
+
+        // 5. IQC 의뢰 (검사 필요 라인, 검사 기준서 1회 조회)
+        int inspectionsCreated = createInspections(tenant, receipt, valid, receiver != null ? receiver : transactionUser);
+
+        // 6. 신규 LOT (파일 내 같은 LOT 은 수량 합산)
+        Map<String, LotDraft> newLots = new LinkedHashMap<>();
+        for (ValidLine line : valid) {
+            if (line.lotNo == null || lots.containsKey(line.lotNo)) {
+                continue;
+            }
+            LotDraft draft = newLots.computeIfAbsent(line.lotNo, no -> new LotDraft(line));
+            draft.quantity = draft.quantity.add(line.quantity());
+            draft.pending |= "PENDING".equals(line.inspectionStatus);
+        }
+        List<Object[]> lotRows = new ArrayList<>(newLots.size());
+        for (Map.Entry<String, LotDraft> entry : newLots.entrySet()) {
+            LotDraft draft = entry.getValue();
+            lotRows.add(new Object[]{tenantId, draft.line.product.getProductId(), entry.getKey(),
+                    draft.line.source.getExpiryDate(), draft.quantity, draft.quantity, draft.line.product.getUnit(),
+                    supplier != null ? supplier.getSupplierName() : null, draft.pending ? "PENDING" : "PASSED",
+                    "Created from goods receipt: " + receiptNo, now, now});
+        }
+        batch(INSERT_LOT_SQL, INSERT_LOT_TYPES, lotRows);
+        for (LotEntity lot : inChunks(newLots.keySet(),
+                chunk -> lotRepository.findByTenant_TenantIdAndLotNoIn(tenantId, chunk))) {
+            lots.put(lot.getLotNo(), new LotRef(lot.getLotId(), lot.getProduct().getProductId()));
+        }
+
+        // 7. 입하 항목 + 재고 트랜잭션
+        List<Object[]> itemRows = new ArrayList<>(valid.size());
+        List<Object[]> transactionRows = new ArrayList<>(valid.size());
+        Map<Long, BigDecimal[]> movements = new LinkedHashMap<>();
+        Map<String, InventoryDelta> balances = new LinkedHashMap<>();
+        int sequence = 0;
+        for (ValidLine line : valid) {
+            sequence++;
+            Long productId = line.product.getProductId();
+            Long lotId = line.lotNo != null ? lots.get(line.lotNo).lotId : null;
+            boolean autoApproved = "NOT_REQUIRED".equals(line.inspectionStatus);
+
+            itemRows.add(new Object[]{receipt.getGoodsReceiptId(),
+                    line.poItem != null ? line.poItem.getPurchaseOrderItemId() : null, productId,
+                    line.product.getProductCode(), line.product.getProductName(),
+                    line.poItem != null ? line.poItem.getOrderedQuantity() : null, line.quantity(),
+                    line.poItem != null ? line.poItem.getUnitPrice() : null, line.lineAmount(), line.lotNo,
+                    line.source.getExpiryDate(), line.inspectionStatus, line.inspectionId, line.source.getRemarks(),
+                    now, now});
+
+            transactionRows.add(new Object[]{tenantId, String.format("IN-%s-%03d", receiptNo, sequence),
+                    request.getReceiptDate(), warehouse.getWarehouseId(), productId, lotId, line.quantity(),
+                    line.product.getUnit(), receiptNo, transactionUser.getUserId(),
+                    "PENDING".equals(line.inspectionStatus) ? "PENDING" : "APPROVED",
+                    autoApproved ? transactionUser.getUserId() : null, autoApproved ? now : null,
+                    "Goods receipt: " + receiptNo, now, now});
+
+            BigDecimal[] movement = movements.computeIfAbsent(productId,
+                    id -> new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO});
+            movement[0] = movement[0].add(line.quantity());
+            movement[1] = movement[1].add(BigDecimal.ONE);
+
+            if ("NOT_REQUIRED".equals(line.inspectionStatus)) {
+                balances.computeIfAbsent(productId + ":" + lotId,
+                        key -> new InventoryDelta(productId, lotId, line.product.getUnit())).add(line.quantity());
+            }
+        }
+        batch(INSERT_ITEM_SQL, INSERT_ITEM_TYPES, itemRows);
+        batch(INSERT_TRANSACTION_SQL, INSERT_TRANSACTION_TYPES, transactionRows);
+
+        // 8. 일별 이동 집계 (제품별 1회)
+        if (request.getReceiptDate() != null) {
+            movements.forEach((productId, movement) -> inventoryMovementRollupService.record(tenantId,
+                    request.getReceiptDate().toLocalDate(), warehouse.getWarehouseId(), productId, "IN_RECEIVE",
+                    movement[0], movement[1].longValue()));
+        }
+
+        // 9. 재고 잔액 (기존 행 가산 update, 없는 행 insert)
+        int[] inventoryCounts = applyBalances(tenantId, warehouse.getWarehouseId(), balances, now);
+
+        log.info("Bulk goods receipt {} created: {} lines imported, {} failed, {} new lots in {} ms",
+                receiptNo, valid.size(), failedLineNos.size(), newLots.size(), System.currentTimeMillis() - started);
+
+        return result
+                .goodsReceiptId(receipt.getGoodsReceiptId())
+                .receiptNo(receiptNo)
+                .receiptStatus(receipt.getReceiptStatus())
+                .importedLines(valid.size())
+                .lotsCreated(newLots.size())
+                .inventoryRowsCreated(inventoryCounts[0])
+                .inventoryRowsUpdated(inventoryCounts[1])
+                .inspectionsCreated(inspectionsCreated)
+                .elapsedMillis(System.currentTimeMillis() - started)
+                .build();
+    }
+
+    // ================== Private Helper Methods ==================
+
+    private int createInspections(TenantEntity tenant, GoodsReceiptEntity receipt, List<ValidLine> valid,
+                                  UserEntity inspector) {
+        Set<Long> pendingProductIds = new HashSet<>();
+        for (ValidLine line : valid) {
+            if ("PENDING".equals(line.inspectionStatus)) {
+                pendingProductIds.add(line.product.getProductId());
+            }
+        }
+        if (pendingProductIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, QualityStandardEntity> standards = new HashMap<>();
+        for (QualityStandardEntity standard : inChunks(pendingProductIds, chunk ->
+                qualityStandardRepository.findActiveIncomingByProductIds(tenant.getTenantId(), chunk))) {
+            standards.putIfAbsent(standard.getProduct().getProductId(), standard);
+        }
+
+        List<ValidLine> inspected = new ArrayList<>();
+        List<QualityInspectionEntity> inspections = new ArrayList<>();
+        for (ValidLine line : valid) {
+            QualityStandardEntity standard = standards.get(line.product.getProductId());
+            if (!"PENDING".equals(line.inspectionStatus) || standard == null) {
+                continue;
+            }
+            inspected.add(line);
+            inspections.add(QualityInspectionEntity.builder()
+                    .tenant(tenant)
+                    .qualityStandard(standard)
+                    .product(line.product)
+                    .inspectionNo(documentNumberService.generate(tenant.getTenantId(), "IQC"))
+                    .inspectionDate(LocalDateTime.now())
+                    .inspectionType("INCOMING")
+                    .inspector(inspector)
+                    .inspectedQuantity(line.quantity())
+                    .passedQuantity(BigDecimal.ZERO)
+                    .failedQuantity(BigDecimal.ZERO)
+                    .inspectionResult("CONDITIONAL")
+                    .remarks("IQC request from goods receipt: " + receipt.getReceiptNo())
+                    .build());
+        }
+
+        List<QualityInspectionEntity> saved = qualityInspectionRepository.saveAll(inspections);
+        for (int i = 0; i < saved.size(); i++) {
+            inspected.get(i).inspectionId = saved.get(i).getQualityInspectionId();
+        }
+        return saved.size();
+    }
+
+    private int[] applyBalances(String tenantId, Long warehouseId, Map<String, InventoryDelta> balances,
+                                LocalDateTime now) {
+        if (balances.isEmpty()) {
+            return new int[]{0, 0};
+        }
+
+        Set<Long> productIds = new HashSet<>();
+        balances.values().forEach(delta -> productIds.add(delta.productId));
+        Map<String, Long> inventoryIds = new HashMap<>();
+        for (Object[] row : inChunks(productIds,
+                chunk -> inventoryRepository.findInventoryKeysByWarehouseAndProducts(tenantId, warehouseId, chunk))) {
+            inventoryIds.putIfAbsent(row[1] + ":" + row[2], (Long) row[0]);
+        }
+
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+        for (Map.Entry<String, InventoryDelta> entry : balances.entrySet()) {
+            InventoryDelta delta = entry.getValue();
+            Long inventoryId = inventoryIds.get(entry.getKey());
+            if (inventoryId != null) {
+                updates.add(new Object[]{delta.quantity, now, now, inventoryId});
+            } else {
+                inserts.add(new Object[]{tenantId, warehouseId, delta.productId, delta.lotId, delta.quantity,
+                        delta.unit, now, now, now});
+            }
+        }
+        batch(UPDATE_INVENTORY_SQL, UPDATE_INVENTORY_TYPES, updates);
+        batch(INSERT_INVENTORY_SQL, INSERT_INVENTORY_TYPES, inserts);
+        return new int[]{inserts.size(), updates.size()};
+    }
+
+    private void batch(String sql, int[] types, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, rows, batchSize, (ps, row) -> {
+            for (int i = 0; i < row.length; i++) {
+                StatementCreatorUtils.setParameterValue(ps, i + 1, types[i], row[i]);
+            }
+        });
+    }
+
+    private static <K, V> List<V> inChunks(Collection<K> keys, Function<List<K>, List<V>> query) {
+        List<V> result = new ArrayList<>();
+        List<K> all = new ArrayList<>(keys);
+        for (int from = 0; from < all.size(); from += IN_CHUNK_SIZE) {
+            result.addAll(query.apply(all.subList(from, Math.min(from + IN_CHUNK_SIZE, all.size()))));
+        }
+        return result;
+    }
+
+    private void checkLineLimit(ParsedLines parsed) {
+        if (parsed.lines.size() + parsed.errors.size() >= maxLines) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Too many lines (max " + maxLines + ")");
+        }
+    }
+
+    private static String column(List<String> record, Map<String, Integer> columns, String... names) {
+        for (String name : names) {
+            Integer index = columns.get(name);
+            if (index != null && index < record.size()) {
+                String value = record.get(index).trim();
+                return value.isEmpty() ? null : value;
+            }
+        }
+        return null;
+    }
+
+    private static Long toLong(String value) {
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    private static BigDecimal toDecimal(String value) {
+        return value == null ? null : new BigDecimal(value);
+    }
+
+    private static LocalDate toDate(String value) {
+        return value == null ? null : LocalDate.parse(value);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    private static GoodsReceiptBulkResult.LineError error(int lineNo, String field, String message) {
+        return GoodsReceiptBulkResult.LineError.builder()
+                .lineNo(lineNo)
+                .field(field)
+                .message(message)
+                .build();
+    }
+
+    /**
+     * 파싱된 라인 + 파싱 오류
+     */
+    public static final class ParsedLines {
+        private final List<GoodsReceiptBulkLine> lines = new ArrayList<>();
+        private final List<GoodsReceiptBulkResult.LineError> errors = new ArrayList<>();
+
+        public int size() {
+            return lines.size() + errors.size();
+        }
+
+        public boolean isEmpty() {
+            return lines.isEmpty() && errors.isEmpty();
+        }
+    }
+
+    private static final class ValidLine {
+        private final GoodsReceiptBulkLine source;
+        private final ProductEntity product;
+        private final PurchaseOrderItemEntity poItem;
+        private final String lotNo;
+        private final String inspectionStatus;
+        private Long inspectionId;
+
+        private ValidLine(GoodsReceiptBulkLine source, ProductEntity product, PurchaseOrderItemEntity poItem,
+                          String lotNo, String inspectionStatus) {
+            this.source = source;
+            this.product = product;
+            this.poItem = poItem;
+            this.lotNo = lotNo;
+            this.inspectionStatus = inspectionStatus;
+        }
+
+        private BigDecimal quantity() {
+            return source.getReceivedQuantity();
+        }
+
+        private BigDecimal lineAmount() {
+            return poItem != null && poItem.getUnitPrice() != null
+                    ? poItem.getUnitPrice().multiply(source.getReceivedQuantity()) : null;
+        }
+    }
+
+    private static final class LotRef {
+        private final Long lotId;
+        private final Long productId;
+
+        private LotRef(Long lotId, Long productId) {
+            this.lotId = lotId;
+            this.productId = productId;
+        }
+    }
+
+    private static final class LotDraft {
+        private final ValidLine line;
+        private BigDecimal quantity = BigDecimal.ZERO;
+        private boolean pending;
+
+        private LotDraft(ValidLine line) {
+            this.line = line;
+        }
+    }
+
+    private static final class InventoryDelta {
+        private final Long productId;
+        private final Long lotId;
+        private final String unit;
+        private BigDecimal quantity = BigDecimal.ZERO;
+
+        private InventoryDelta(Long productId, Long lotId, String unit) {
+            this.productId = productId;
+            this.lotId = lotId;
+            this.unit = unit;
+        }
+
+        private void add(BigDecimal amount) {
+            quantity = quantity.add(amount);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package kr.co.softice.mes.domain.service;
 
+import kr.co.softice.mes.common.dto.KeysetCursor;
 import kr.co.softice.mes.common.exception.BusinessException;
 import kr.co.softice.mes.common.exception.ErrorCode;
 import kr.co.softice.mes.domain.entity.*;
@@ -10,9 +11,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,7 +36,6 @@ public class GoodsReceiptService {
 
     private final GoodsReceiptRepository goodsReceiptRepository;
     private final LotRepository lotRepository;
-    private final InventoryRepository inventoryRepository;
     private final InventoryTransactionRepository inventoryTransactionRepository;
     private final WarehouseRepository warehouseRepository;
     private final PurchaseOrderRepository purchaseOrderRepository;
@@ -45,6 +44,9 @@ public class GoodsReceiptService {
     private final UserRepository userRepository;
     private final QualityInspectionRepository qualityInspectionRepository;
     private final QualityStandardRepository qualityStandardRepository;
+    private final DocumentNumberService documentNumberService;
+    private final InventoryMovementRollupService inventoryMovementRollupService;
+    private final InventoryService inventoryService;
 
     /**
      * Find all goods receipts by tenant ID
@@ -53,6 +55,17 @@ public class GoodsReceiptService {
         return goodsReceiptRepository.findByTenantIdWithAllRelations(tenantId);
     }
 
+    /**
+     * Find goods receipts page by tenant (keyset, newest first, up to size + 1 rows)
+     */
+    public List<GoodsReceiptEntity> findPageByTenant(String tenantId, long cursor, int size) {
+        List<Long> ids = goodsReceiptRepository.findIdsByTenantIdAfterCursor(tenantId, cursor, KeysetCursor.limit(size));
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return goodsReceiptRepository.findByIdsWithAllRelations(ids);
+    }
+
     /**
      * Find goods receipt by ID
      */
@@ -133,8 +146,12 @@ public class GoodsReceiptService {
         GoodsReceiptEntity savedReceipt = goodsReceiptRepository.save(goodsReceipt);
 
         // 5. Process each item: create LOT, inventory transaction, and update inventory
-        for (GoodsReceiptItemEntity item : savedReceipt.getItems()) {
-            processGoodsReceiptItem(savedReceipt, item);
+        UserEntity transactionUser = savedReceipt.getReceiver() != null ?
+            savedReceipt.getReceiver() :
+            userRepository.findById(1L).orElse(null); // Fallback to system user
+        List<GoodsReceiptItemEntity> items = savedReceipt.getItems();
+        for (int i = 0; i < items.size(); i++) {
+            processGoodsReceiptItem(savedReceipt, items.get(i), i + 1, transactionUser);
         }
 
         log.info("Created goods receipt: {} with {} items",
@@ -251,14 +268,7 @@ public class GoodsReceiptService {
      * Generate sequential receipt number: GR-YYYYMMDD-0001
      */
     private String generateReceiptNo(String tenantId) {
-        String datePrefix = "GR-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-
-        // Find existing receipts with the same date prefix
-        long count = goodsReceiptRepository.findByTenantIdWithAllRelations(tenantId).stream()
-            .filter(gr -> gr.getReceiptNo() != null && gr.getReceiptNo().startsWith(datePrefix))
-            .count();
-
-        return String.format("%s-%04d", datePrefix, count + 1);
+        return documentNumberService.generate(tenantId, "GR");
     }
 
     /**
@@ -287,7 +297,8 @@ public class GoodsReceiptService {
      * - Create inventory transaction
      * - Update inventory balance (if inspection not required)
      */
-    private void processGoodsReceiptItem(GoodsReceiptEntity receipt, GoodsReceiptItemEntity item) {
+    private void processGoodsReceiptItem(GoodsReceiptEntity receipt, GoodsReceiptItemEntity item,
+                                         int sequence, UserEntity transactionUser) {
         log.info("Processing goods receipt item: product={}, quantity={}",
             item.getProductCode(), item.getReceivedQuantity());
 
@@ -303,11 +314,11 @@ public class GoodsReceiptService {
         }
 
         // 3. Create inventory transaction (PENDING approval)
-        createInventoryTransaction(receipt, item, lot);
+        createInventoryTransaction(receipt, item, lot, sequence, transactionUser);
 
         // 4. Update inventory if inspection not required
         if ("NOT_REQUIRED".equals(item.getInspectionStatus())) {
-            updateInventoryBalance(receipt.getWarehouse(), item.getProduct(), lot,
+            inventoryService.updateInventoryBalance(receipt.getWarehouse(), item.getProduct(), lot,
                 item.getReceivedQuantity(), "IN_RECEIVE");
         }
 
@@ -384,14 +395,7 @@ public class GoodsReceiptService {
      * Generate sequential inspection number: IQC-YYYYMMDD-0001 or OQC-YYYYMMDD-0001
      */
     private String generateInspectionNo(String tenantId, String prefix) {
-        String datePrefix = prefix + "-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-
-        // Find existing inspections with the same date prefix
-        long count = qualityInspectionRepository.findByTenant_TenantId(tenantId).stream()
-            .filter(qi -> qi.getInspectionNo() != null && qi.getInspectionNo().startsWith(datePrefix))
-            .count();
-
-        return String.format("%s-%04d", datePrefix, count + 1);
+        return documentNumberService.generate(tenantId, prefix);
     }
 
     /**
@@ -437,15 +441,10 @@ public class GoodsReceiptService {
      */
     private void createInventoryTransaction(GoodsReceiptEntity receipt,
                                            GoodsReceiptItemEntity item,
-                                           LotEntity lot) {
-        // Find transaction user
-        UserEntity transactionUser = receipt.getReceiver() != null ?
-            receipt.getReceiver() :
-            userRepository.findById(1L).orElse(null); // Fallback to system user
-
-        String transactionNo = String.format("IN-%s-%03d",
-            receipt.getReceiptNo(),
-            receipt.getItems().indexOf(item) + 1);
+                                           LotEntity lot,
+                                           int sequence,
+                                           UserEntity transactionUser) {
+        String transactionNo = String.format("IN-%s-%03d", receipt.getReceiptNo(), sequence);
 
         InventoryTransactionEntity transaction = InventoryTransactionEntity.builder()
             .tenant(receipt.getTenant())
@@ -471,65 +470,10 @@ public class GoodsReceiptService {
         }
 
         inventoryTransactionRepository.save(transaction);
+        inventoryMovementRollupService.record(transaction);
         log.info("Created inventory transaction: {} for goods receipt item", transactionNo);
     }
 
-    /**
-     * Update inventory balance
-     */
-    private void updateInventoryBalance(WarehouseEntity warehouse,
-                                       ProductEntity product,
-                                       LotEntity lot,
-                                       BigDecimal quantity,
-                                       String transactionType) {
-        // Find or create inventory record
-        Optional<InventoryEntity> existingInventory = inventoryRepository
-            .findByTenant_TenantIdAndWarehouse_WarehouseIdAndProduct_ProductIdAndLot_LotId(
-                warehouse.getTenant().getTenantId(),
-                warehouse.getWarehouseId(),
-                product.getProductId(),
-                lot != null ? lot.getLotId() : null);
-
-        InventoryEntity inventory;
-        if (existingInventory.isPresent()) {
-            inventory = existingInventory.get();
-        } else {
-            // Create new inventory record
-            inventory = InventoryEntity.builder()
-                .tenant(warehouse.getTenant())
-                .warehouse(warehouse)
-                .product(product)
-                .lot(lot)
-                .availableQuantity(BigDecimal.ZERO)
-                .reservedQuantity(BigDecimal.ZERO)
-                .unit(product.getUnit())
-                .build();
-        }
-
-        // Update quantity based on transaction type
-        switch (transactionType) {
-            case "IN_RECEIVE":
-            case "IN_PRODUCTION":
-            case "IN_RETURN":
-                inventory.setAvailableQuantity(inventory.getAvailableQuantity().add(quantity));
-                break;
-            case "OUT_ISSUE":
-            case "OUT_SCRAP":
-                inventory.setAvailableQuantity(inventory.getAvailableQuantity().subtract(quantity));
-                break;
-            default:
-                log.warn("Unknown transaction type: {}", transactionType);
-        }
-
-        // Update last transaction info
-        inventory.setLastTransactionDate(LocalDateTime.now());
-        inventory.setLastTransactionType(transactionType);
-
-        inventoryRepository.save(inventory);
-        log.info("Updated inventory balance for product: {} in warehouse: {}, available: {}",
-            product.getProductCode(), warehouse.getWarehouseCode(), inventory.getAvailableQuantity());
-    }
-
     /**
      * Process item completion based on inspection status
      */
@@ -553,7 +497,7 @@ public class GoodsReceiptService {
                 lotRepository.save(lot);
 
                 // Update inventory (move from pending to available)
-                updateInventoryBalance(receipt.getWarehouse(), item.getProduct(), lot,
+                inventoryService.updateInventoryBalance(receipt.getWarehouse(), item.getProduct(), lot,
                     item.getReceivedQuantity(), "IN_RECEIVE");
 
                 log.info("Item passed inspection: {}, moved to available inventory", item.getProductCode());
@@ -601,7 +545,7 @@ public class GoodsReceiptService {
         WarehouseEntity quarantineWarehouse = quarantineWarehouses.get(0);
 
         // Create inventory in quarantine warehouse
-        updateInventoryBalance(quarantineWarehouse, item.getProduct(), lot,
+        inventoryService.updateInventoryBalance(quarantineWarehouse, item.getProduct(), lot,
             item.getReceivedQuantity(), "IN_RECEIVE");
 
         log.info("Moved {} {} to quarantine warehouse: {}",
@@ -626,7 +570,7 @@ public class GoodsReceiptService {
                 lotRepository.save(lot);
 
                 // Create reversing transaction (subtract quantity)
-                updateInventoryBalance(receipt.getWarehouse(), item.getProduct(), lot,
+                inventoryService.updateInventoryBalance(receipt.getWarehouse(), item.getProduct(), lot,
                     item.getReceivedQuantity(), "OUT_ISSUE");
 
                 log.info("Reversed inventory for LOT: {}", lot.getLotNo());
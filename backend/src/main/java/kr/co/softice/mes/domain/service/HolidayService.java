@@ -3,24 +3,35 @@ package kr.co.softice.mes.domain.service;
 import kr.co.softice.mes.common.exception.BusinessException;
 import kr.co.softice.mes.common.exception.EntityNotFoundException;
 import kr.co.softice.mes.common.exception.ErrorCode;
+import kr.co.softice.mes.common.transaction.TransactionHooks;
 import kr.co.softice.mes.domain.entity.HolidayEntity;
 import kr.co.softice.mes.domain.entity.WorkingHoursEntity;
 import kr.co.softice.mes.domain.repository.HolidayRepository;
 import kr.co.softice.mes.domain.repository.WorkingHoursRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.annotation.PostConstruct;
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Holiday Service
  * 휴일 관리 서비스
  *
+ * 영업일 계산은 테넌트/연도별 BusinessDayCalendar (BitSet + 누적합) 로 메모리에서 수행
+ * 휴일/근무시간 변경 시 해당 테넌트 달력 무효화
+ *
  * @author Moon Myung-seop
  */
 @Slf4j
@@ -28,9 +39,35 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class HolidayService {
 
+    /**
+     * 영업일이 없는 연도가 계속될 때 탐색을 중단하는 기준
+     */
+    private static final int MAX_LOOKAHEAD_YEARS = 10;
+    private static final String CALENDAR_KEY_SEPARATOR = ":";
+
     private final HolidayRepository holidayRepository;
     private final WorkingHoursRepository workingHoursRepository;
 
+    @Value("${app.holiday.calendar.maximum-size:1000}")
+    private long calendarMaximumSize;
+
+    @Value("${app.holiday.calendar.ttl-seconds:600}")
+    private long calendarTtlSeconds;
+
+    /**
+     * 테넌트/연도별 영업일 달력 (키: tenantId:year)
+     * 다른 노드의 변경은 TTL 만료 시 반영
+     */
+    private Cache<String, BusinessDayCalendar> calendars;
+
+    @PostConstruct
+    public void initCalendarCache() {
+        this.calendars = Caffeine.newBuilder()
+                .maximumSize(calendarMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(calendarTtlSeconds))
+                .build();
+    }
+
     /**
      * Find all holidays
      */
@@ -106,7 +143,9 @@ public class HolidayService {
                     "Holiday already exists on date: " + holiday.getHolidayDate());
         }
 
-        return holidayRepository.save(holiday);
+        HolidayEntity saved = holidayRepository.save(holiday);
+        invalidateCalendar(tenantId);
+        return saved;
     }
 
     /**
@@ -130,7 +169,9 @@ public class HolidayService {
         existing.setRemarks(holiday.getRemarks());
         existing.setIsActive(holiday.getIsActive());
 
-        return holidayRepository.save(existing);
+        HolidayEntity saved = holidayRepository.save(existing);
+        invalidateCalendar(existing.getTenant().getTenantId());
+        return saved;
     }
 
     /**
@@ -144,6 +185,7 @@ public class HolidayService {
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.RESOURCE_NOT_FOUND));
 
         holidayRepository.delete(holiday);
+        invalidateCalendar(holiday.getTenant().getTenantId());
     }
 
     // ==================== Business Day Calculation ====================
@@ -152,40 +194,25 @@ public class HolidayService {
      * Check if date is a business day
      */
     public boolean isBusinessDay(String tenantId, LocalDate date) {
-        // Check if it's a holiday
-        if (holidayRepository.isHoliday(tenantId, date)) {
-            return false;
-        }
-
-        // Check if it's a weekend (Saturday or Sunday)
-        DayOfWeek dayOfWeek = date.getDayOfWeek();
-        if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
-            // Check working hours to see if weekends are working days
-            Optional<WorkingHoursEntity> workingHours = workingHoursRepository.findDefaultByTenantId(tenantId);
-            if (workingHours.isPresent()) {
-                int dow = dayOfWeek.getValue();
-                return workingHours.get().isWorkingDay(dow);
-            }
-            return false; // Default: weekends are not working days
-        }
-
-        return true;
+        BusinessDayCalendar calendar = calendar(tenantId, date.getYear());
+        return calendar.isBusinessDay(calendar.indexOf(date));
     }
 
     /**
-     * Calculate business days between two dates
+     * Calculate business days between two dates (inclusive)
      */
     public long calculateBusinessDays(String tenantId, LocalDate startDate, LocalDate endDate) {
-        long businessDays = 0;
-        LocalDate currentDate = startDate;
-
-        while (!currentDate.isAfter(endDate)) {
-            if (isBusinessDay(tenantId, currentDate)) {
-                businessDays++;
-            }
-            currentDate = currentDate.plusDays(1);
+        if (startDate.isAfter(endDate)) {
+            return 0;
         }
 
+        long businessDays = 0;
+        for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+            BusinessDayCalendar calendar = calendar(tenantId, year);
+            int from = year == startDate.getYear() ? calendar.indexOf(startDate) : 0;
+            int to = year == endDate.getYear() ? calendar.indexOf(endDate) : calendar.length() - 1;
+            businessDays += calendar.count(from, to);
+        }
         return businessDays;
     }
 
@@ -193,39 +220,102 @@ public class HolidayService {
      * Add business days to a date
      */
     public LocalDate addBusinessDays(String tenantId, LocalDate startDate, int businessDaysToAdd) {
-        LocalDate resultDate = startDate;
-        int addedDays = 0;
+        if (businessDaysToAdd <= 0) {
+            return startDate;
+        }
+
+        BusinessDayCalendar calendar = calendar(tenantId, startDate.getYear());
+        int from = calendar.indexOf(startDate);
+        int remaining = businessDaysToAdd;
 
-        while (addedDays < businessDaysToAdd) {
-            resultDate = resultDate.plusDays(1);
-            if (isBusinessDay(tenantId, resultDate)) {
-                addedDays++;
+        for (int i = 0; i <= MAX_LOOKAHEAD_YEARS; i++) {
+            int index = calendar.nthAfter(from, remaining);
+            if (index >= 0) {
+                return calendar.dateAt(index);
             }
+            remaining -= calendar.count(from + 1, calendar.length() - 1);
+            calendar = calendar(tenantId, calendar.getYear() + 1);
+            from = -1;
         }
 
-        return resultDate;
+        throw noBusinessDay(tenantId, startDate);
     }
 
     /**
      * Get next business day
      */
     public LocalDate getNextBusinessDay(String tenantId, LocalDate date) {
-        LocalDate nextDay = date.plusDays(1);
-        while (!isBusinessDay(tenantId, nextDay)) {
-            nextDay = nextDay.plusDays(1);
+        BusinessDayCalendar calendar = calendar(tenantId, date.getYear());
+        int from = calendar.indexOf(date) + 1;
+
+        for (int i = 0; i <= MAX_LOOKAHEAD_YEARS; i++) {
+            int index = calendar.nextFrom(from);
+            if (index >= 0) {
+                return calendar.dateAt(index);
+            }
+            calendar = calendar(tenantId, calendar.getYear() + 1);
+            from = 0;
         }
-        return nextDay;
+
+        throw noBusinessDay(tenantId, date);
     }
 
     /**
      * Get previous business day
      */
     public LocalDate getPreviousBusinessDay(String tenantId, LocalDate date) {
-        LocalDate previousDay = date.minusDays(1);
-        while (!isBusinessDay(tenantId, previousDay)) {
-            previousDay = previousDay.minusDays(1);
+        BusinessDayCalendar calendar = calendar(tenantId, date.getYear());
+        int from = calendar.indexOf(date) - 1;
+
+        for (int i = 0; i <= MAX_LOOKAHEAD_YEARS; i++) {
+            int index = calendar.previousFrom(from);
+            if (index >= 0) {
+                return calendar.dateAt(index);
+            }
+            calendar = calendar(tenantId, calendar.getYear() - 1);
+            from = calendar.length() - 1;
         }
-        return previousDay;
+
+        throw noBusinessDay(tenantId, date);
+    }
+
+    /**
+     * Invalidate business day calendar (after commit when in a transaction)
+     * 휴일/근무시간 변경 시 호출
+     */
+    public void invalidateCalendar(String tenantId) {
+        Runnable invalidate = () -> calendars.asMap().keySet()
+                .removeIf(key -> key.startsWith(tenantId + CALENDAR_KEY_SEPARATOR));
+        TransactionHooks.afterCommit(invalidate);
+    }
+
+    /**
+     * 테넌트/연도 달력 조회 (없으면 휴일 1회 + 기본 근무시간 1회 조회로 생성)
+     */
+    private BusinessDayCalendar calendar(String tenantId, int year) {
+        return calendars.get(tenantId + CALENDAR_KEY_SEPARATOR + year, key -> loadCalendar(tenantId, year));
+    }
+
+    private BusinessDayCalendar loadCalendar(String tenantId, int year) {
+        log.debug("Loading business day calendar for tenant: {}, year: {}", tenantId, year);
+
+        Set<LocalDate> holidays = new HashSet<>(holidayRepository.findNonWorkingDatesInRange(
+                tenantId, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31)));
+        Optional<WorkingHoursEntity> workingHours = workingHoursRepository.findDefaultByTenantId(tenantId);
+
+        return new BusinessDayCalendar(year, holidays, date -> {
+            DayOfWeek dayOfWeek = date.getDayOfWeek();
+            if (dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY) {
+                return true;
+            }
+            // Weekends are working days only if the default working hours say so
+            return workingHours.map(hours -> hours.isWorkingDay(dayOfWeek.getValue())).orElse(false);
+        });
+    }
+
+    private BusinessException noBusinessDay(String tenantId, LocalDate date) {
+        return new BusinessException(ErrorCode.INVALID_OPERATION,
+                String.format("No business day within %d years of %s for tenant %s", MAX_LOOKAHEAD_YEARS, date, tenantId));
     }
 
     /**
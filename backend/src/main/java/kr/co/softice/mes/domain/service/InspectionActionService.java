@@ -23,7 +23,7 @@ import java.util.List;
 public class InspectionActionService {
 
     private final InspectionActionRepository inspectionActionRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final EquipmentInspectionRepository equipmentInspectionRepository;
     private final UserRepository userRepository;
 
@@ -69,7 +69,7 @@ public class InspectionActionService {
         log.info("Creating inspection action for tenant: {} inspection: {}", tenantId, inspectionId);
 
         // Get tenant
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         action.setTenant(tenant);
 
@@ -23,7 +23,7 @@ import java.util.List;
 public class InspectionFormService {
 
     private final InspectionFormRepository inspectionFormRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
 
     /**
      * Get all inspection forms for tenant
@@ -63,7 +63,7 @@ public class InspectionFormService {
         }
 
         // Get tenant
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         form.setTenant(tenant);
 
@@ -24,7 +24,7 @@ import java.util.List;
 public class InspectionPlanService {
 
     private final InspectionPlanRepository inspectionPlanRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final EquipmentRepository equipmentRepository;
     private final InspectionFormRepository inspectionFormRepository;
     private final UserRepository userRepository;
@@ -68,7 +68,7 @@ public class InspectionPlanService {
         }
 
         // Get tenant
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         plan.setTenant(tenant);
 
@@ -0,0 +1,152 @@
+package kr.co.softice.mes.domain.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Interval Tree
+ * 반열린 구간 [start, end) 겹침 조회용 트리 (treap, 노드별 하위 트리 최대 end 보관)
+ *
+ * - insert / 겹침 조회 O(log n + k) (기대값)
+ * - 단일 스레드 전용 (스케줄링 1회 실행 범위에서 사용)
+ *
+ * @author Moon Myung-seop
+ */
+final class IntervalTree<T> {
+
+    private Node<T> root;
+
+    void insert(long start, long end, T value) {
+        root = insert(root, new Node<>(new Interval<>(start, end, value), ThreadLocalRandom.current().nextInt()));
+    }
+
+    /**
+     * [start, end) 와 겹치는 구간 목록 (시작 시각 순)
+     */
+    List<Interval<T>> overlapping(long start, long end) {
+        List<Interval<T>> result = new ArrayList<>();
+        collect(root, start, end, result);
+        return result;
+    }
+
+    /**
+     * [start, end) 와 겹치는 구간 중 가장 늦은 end, 없으면 Long.MIN_VALUE
+     */
+    long latestOverlappingEnd(long start, long end) {
+        return latestEnd(root, start, end);
+    }
+
+    private static <T> Node<T> insert(Node<T> node, Node<T> inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (inserted.interval.start < node.interval.start) {
+            node.left = insert(node.left, inserted);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, inserted);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private static <T> void collect(Node<T> node, long start, long end, List<Interval<T>> result) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collect(node.left, start, end, result);
+        if (node.interval.start < end) {
+            if (node.interval.end > start) {
+                result.add(node.interval);
+            }
+            collect(node.right, start, end, result);
+        }
+    }
+
+    private static <T> long latestEnd(Node<T> node, long start, long end) {
+        if (node == null || node.maxEnd <= start) {
+            return Long.MIN_VALUE;
+        }
+        long latest = latestEnd(node.left, start, end);
+        if (node.interval.start < end) {
+            if (node.interval.end > start) {
+                latest = Math.max(latest, node.interval.end);
+            }
+            latest = Math.max(latest, latestEnd(node.right, start, end));
+        }
+        return latest;
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        update(node);
+        update(left);
+        return left;
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        update(node);
+        update(right);
+        return right;
+    }
+
+    private static <T> void update(Node<T> node) {
+        long maxEnd = node.interval.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    static final class Interval<T> {
+        private final long start;
+        private final long end;
+        private final T value;
+
+        private Interval(long start, long end, T value) {
+            this.start = start;
+            this.end = end;
+            this.value = value;
+        }
+
+        long getStart() {
+            return start;
+        }
+
+        long getEnd() {
+            return end;
+        }
+
+        T getValue() {
+            return value;
+        }
+    }
+
+    private static final class Node<T> {
+        private final Interval<T> interval;
+        private final int priority;
+        private long maxEnd;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(Interval<T> interval, int priority) {
+            this.interval = interval;
+            this.priority = priority;
+            this.maxEnd = interval.end;
+        }
+    }
+}
@@ -1,11 +1,7 @@
 package kr.co.softice.mes.domain.service;
 
 import kr.co.softice.mes.domain.entity.InventoryEntity;
-import kr.co.softice.mes.domain.entity.InventoryTransactionEntity;
-import kr.co.softice.mes.domain.entity.LotEntity;
 import kr.co.softice.mes.domain.repository.InventoryRepository;
-import kr.co.softice.mes.domain.repository.InventoryTransactionRepository;
-import kr.co.softice.mes.domain.repository.LotRepository;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -13,18 +9,23 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Inventory Analysis Service
  * 재고 분석 서비스
  *
+ * 회전율/연령/ABC/추이 분석은 DB 에서 집계하여 결과 행만 조회 (원장 전체를 메모리에 적재하지 않음)
+ * 추이/회전율의 입출고 수량은 원장 대신 일별 이동 집계(InventoryMovementRollupService)를 사용
+ *
  * @author Moon Myung-seop
  */
 @Slf4j
@@ -34,18 +35,20 @@ import java.util.stream.Collectors;
 public class InventoryAnalysisService {
 
     private final InventoryRepository inventoryRepository;
-    private final InventoryTransactionRepository inventoryTransactionRepository;
-    private final LotRepository lotRepository;
+    private final EntityManager entityManager;
 
     /**
      * 재고 회전율 분석
      * Inventory Turnover Ratio = 출고 수량 / 평균 재고
      *
+     * 제품별 출고 합계(일별 이동 집계 기준, 일 단위)와 현재 재고 합계를 DB 에서 GROUP BY 로 집계
+     *
      * @param tenantId 테넌트 ID
      * @param startDate 시작일
      * @param endDate 종료일
      * @return 제품별 재고 회전율
      */
+    @SuppressWarnings("unchecked")
     public List<InventoryTurnoverAnalysis> analyzeInventoryTurnover(
             String tenantId,
             LocalDateTime startDate,
@@ -54,70 +57,48 @@ public class InventoryAnalysisService {
         log.info("Analyzing inventory turnover - Tenant: {}, Period: {} to {}",
                 tenantId, startDate, endDate);
 
-        // 기간 내 출고 트랜잭션 조회
-        List<InventoryTransactionEntity> outboundTransactions = inventoryTransactionRepository
-                .findByTenant_TenantIdAndTransactionDateBetween(tenantId, startDate, endDate)
-                .stream()
-                .filter(t -> t.getTransactionType().startsWith("OUT_"))
-                .collect(Collectors.toList());
-
-        // 제품별 출고 수량 집계
-        Map<Long, BigDecimal> productOutboundMap = outboundTransactions.stream()
-                .collect(Collectors.groupingBy(
-                        t -> t.getProduct().getProductId(),
-                        Collectors.mapping(
-                                InventoryTransactionEntity::getQuantity,
-                                Collectors.reducing(BigDecimal.ZERO, BigDecimal::add)
-                        )
-                ));
-
-        // 현재 재고 조회
-        List<InventoryEntity> currentInventories = inventoryRepository.findByTenant_TenantId(tenantId);
-
-        // 제품별 평균 재고 계산 (현재 재고 기준)
-        Map<Long, BigDecimal> productAvgInventoryMap = currentInventories.stream()
-                .collect(Collectors.groupingBy(
-                        i -> i.getProduct().getProductId(),
-                        Collectors.mapping(
-                                i -> i.getAvailableQuantity().add(i.getReservedQuantity()),
-                                Collectors.reducing(BigDecimal.ZERO, BigDecimal::add)
-                        )
-                ));
-
-        // 재고 회전율 계산
+        // 제품별 출고 수량 / 평균 재고 (현재 재고 기준) 집계, 회전율 높은 순
+        Query query = entityManager.createNativeQuery(
+                "WITH outbound AS (" +
+                "    SELECT m.product_id, SUM(m.total_quantity) AS outbound_qty " +
+                "    FROM inventory.sd_inventory_daily_movements m " +
+                "    WHERE m.tenant_id = :tenantId " +
+                "    AND m.movement_date BETWEEN :startDate AND :endDate " +
+                "    AND LEFT(m.transaction_type, 4) = 'OUT_' " +
+                "    GROUP BY m.product_id" +
+                "), stock AS (" +
+                "    SELECT i.product_id, SUM(i.available_quantity + i.reserved_quantity) AS stock_qty " +
+                "    FROM inventory.sd_inventory i " +
+                "    WHERE i.tenant_id = :tenantId " +
+                "    GROUP BY i.product_id" +
+                ") " +
+                "SELECT p.product_id, p.product_code, p.product_name, o.outbound_qty, s.stock_qty " +
+                "FROM outbound o " +
+                "JOIN stock s ON s.product_id = o.product_id " +
+                "JOIN mes.sd_products p ON p.product_id = o.product_id " +
+                "WHERE s.stock_qty > 0 " +
+                "ORDER BY o.outbound_qty / s.stock_qty DESC");
+        query.setParameter("tenantId", tenantId);
+        query.setParameter("startDate", startDate.toLocalDate());
+        query.setParameter("endDate", endDate.toLocalDate());
+
+        long periodDays = ChronoUnit.DAYS.between(startDate, endDate);
         List<InventoryTurnoverAnalysis> result = new ArrayList<>();
-
-        for (Map.Entry<Long, BigDecimal> entry : productOutboundMap.entrySet()) {
-            Long productId = entry.getKey();
-            BigDecimal outboundQty = entry.getValue();
-            BigDecimal avgInventory = productAvgInventoryMap.getOrDefault(productId, BigDecimal.ZERO);
-
-            if (avgInventory.compareTo(BigDecimal.ZERO) > 0) {
-                BigDecimal turnoverRatio = outboundQty.divide(avgInventory, 2, RoundingMode.HALF_UP);
-
-                // 제품 정보 조회
-                InventoryEntity inventory = currentInventories.stream()
-                        .filter(i -> i.getProduct().getProductId().equals(productId))
-                        .findFirst()
-                        .orElse(null);
-
-                if (inventory != null) {
-                    result.add(InventoryTurnoverAnalysis.builder()
-                            .productId(productId)
-                            .productCode(inventory.getProduct().getProductCode())
-                            .productName(inventory.getProduct().getProductName())
-                            .totalOutboundQuantity(outboundQty)
-                            .averageInventory(avgInventory)
-                            .turnoverRatio(turnoverRatio)
-                            .periodDays(ChronoUnit.DAYS.between(startDate, endDate))
-                            .build());
-                }
-            }
+        for (Object[] row : (List<Object[]>) query.getResultList()) {
+            BigDecimal outboundQty = toBigDecimal(row[3]);
+            BigDecimal avgInventory = toBigDecimal(row[4]);
+
+            result.add(InventoryTurnoverAnalysis.builder()
+                    .productId(((Number) row[0]).longValue())
+                    .productCode((String) row[1])
+                    .productName((String) row[2])
+                    .totalOutboundQuantity(outboundQty)
+                    .averageInventory(avgInventory)
+                    .turnoverRatio(outboundQty.divide(avgInventory, 2, RoundingMode.HALF_UP))
+                    .periodDays(periodDays)
+                    .build());
         }
 
-        // 회전율 높은 순으로 정렬
-        result.sort(Comparator.comparing(InventoryTurnoverAnalysis::getTurnoverRatio).reversed());
-
         log.info("Inventory turnover analysis completed - {} products analyzed", result.size());
 
         return result;
@@ -190,64 +171,60 @@ public class InventoryAnalysisService {
      * 재고 연령 분석
      * LOT별 재고 연령 (생성일로부터 경과 일수)
      *
+     * 수량이 있는 LOT 재고만 DB 에서 조회하여 필요한 컬럼만 투영
+     *
      * @param tenantId 테넌트 ID
      * @return LOT별 재고 연령
      */
+    @SuppressWarnings("unchecked")
     public List<InventoryAgingAnalysis> analyzeInventoryAging(String tenantId) {
 
         log.info("Analyzing inventory aging - Tenant: {}", tenantId);
 
-        // LOT이 있는 재고만 조회
-        List<InventoryEntity> inventories = inventoryRepository
-                .findByTenantIdWithAllRelations(tenantId)
-                .stream()
-                .filter(i -> i.getLot() != null)
-                .collect(Collectors.toList());
-
+        // LOT이 있고 수량이 남은 재고만 조회, 오래된 LOT 순
+        Query query = entityManager.createNativeQuery(
+                "SELECT p.product_id, p.product_code, p.product_name, l.lot_id, l.lot_no, " +
+                "l.created_at, l.expiry_date, i.available_quantity + i.reserved_quantity AS total_qty " +
+                "FROM inventory.sd_inventory i " +
+                "JOIN inventory.sd_lots l ON l.lot_id = i.lot_id " +
+                "JOIN mes.sd_products p ON p.product_id = i.product_id " +
+                "WHERE i.tenant_id = :tenantId " +
+                "AND i.available_quantity + i.reserved_quantity > 0 " +
+                "ORDER BY l.created_at ASC");
+        query.setParameter("tenantId", tenantId);
+
+        LocalDate today = LocalDate.now();
         List<InventoryAgingAnalysis> result = new ArrayList<>();
 
-        for (InventoryEntity inventory : inventories) {
-            BigDecimal totalQty = inventory.getAvailableQuantity().add(inventory.getReservedQuantity());
-            if (totalQty.compareTo(BigDecimal.ZERO) <= 0) {
-                continue;
-            }
-
-            LotEntity lot = inventory.getLot();
-            long ageInDays = ChronoUnit.DAYS.between(
-                    lot.getCreatedAt().toLocalDate(),
-                    LocalDate.now()
-            );
-
-            // 연령 구간 분류
-            String ageCategory = categorizeAge(ageInDays);
+        for (Object[] row : (List<Object[]>) query.getResultList()) {
+            LocalDate lotCreatedDate = toLocalDateTime(row[5]).toLocalDate();
+            LocalDate expiryDate = toLocalDate(row[6]);
+            long ageInDays = ChronoUnit.DAYS.between(lotCreatedDate, today);
 
             // 유효기간 임박 여부
             boolean nearExpiry = false;
             Long daysToExpiry = null;
-            if (lot.getExpiryDate() != null) {
-                daysToExpiry = ChronoUnit.DAYS.between(LocalDate.now(), lot.getExpiryDate());
-                nearExpiry = daysToExpiry != null && daysToExpiry <= 30;
+            if (expiryDate != null) {
+                daysToExpiry = ChronoUnit.DAYS.between(today, expiryDate);
+                nearExpiry = daysToExpiry <= 30;
             }
 
             result.add(InventoryAgingAnalysis.builder()
-                    .productId(inventory.getProduct().getProductId())
-                    .productCode(inventory.getProduct().getProductCode())
-                    .productName(inventory.getProduct().getProductName())
-                    .lotId(lot.getLotId())
-                    .lotNo(lot.getLotNo())
-                    .lotCreatedDate(lot.getCreatedAt().toLocalDate())
-                    .expiryDate(lot.getExpiryDate())
-                    .totalQuantity(totalQty)
+                    .productId(((Number) row[0]).longValue())
+                    .productCode((String) row[1])
+                    .productName((String) row[2])
+                    .lotId(((Number) row[3]).longValue())
+                    .lotNo((String) row[4])
+                    .lotCreatedDate(lotCreatedDate)
+                    .expiryDate(expiryDate)
+                    .totalQuantity(toBigDecimal(row[7]))
                     .ageInDays(ageInDays)
-                    .ageCategory(ageCategory)
+                    .ageCategory(categorizeAge(ageInDays))
                     .daysToExpiry(daysToExpiry)
                     .nearExpiry(nearExpiry)
                     .build());
         }
 
-        // 연령 높은 순으로 정렬
-        result.sort(Comparator.comparing(InventoryAgingAnalysis::getAgeInDays).reversed());
-
         log.info("Inventory aging analysis completed - {} lots analyzed", result.size());
 
         return result;
@@ -260,66 +237,47 @@ public class InventoryAnalysisService {
      * B등급: 중위 30% (가치의 15%)
      * C등급: 하위 50% (가치의 5%)
      *
+     * 제품별 합계, 순위, 누적 합계를 DB 에서 SUM() OVER (ORDER BY ...) 로 계산
+     *
      * @param tenantId 테넌트 ID
      * @return 제품별 ABC 등급
      */
+    @SuppressWarnings("unchecked")
     public List<AbcAnalysis> analyzeABC(String tenantId) {
 
         log.info("Analyzing ABC classification - Tenant: {}", tenantId);
 
-        // 현재 재고 조회
-        List<InventoryEntity> inventories = inventoryRepository
-                .findByTenantIdWithAllRelations(tenantId);
-
-        // 제품별 재고 가치 계산 (수량만 사용, 단가 정보 없으면 수량 기준)
-        Map<Long, ProductInventoryValue> productValueMap = new HashMap<>();
-
-        for (InventoryEntity inventory : inventories) {
-            Long productId = inventory.getProduct().getProductId();
-            BigDecimal totalQty = inventory.getAvailableQuantity().add(inventory.getReservedQuantity());
-
-            productValueMap.compute(productId, (k, v) -> {
-                if (v == null) {
-                    return ProductInventoryValue.builder()
-                            .productId(productId)
-                            .productCode(inventory.getProduct().getProductCode())
-                            .productName(inventory.getProduct().getProductName())
-                            .totalQuantity(totalQty)
-                            .totalValue(totalQty) // 단가 정보 없으면 수량으로 대체
-                            .build();
-                } else {
-                    v.totalQuantity = v.totalQuantity.add(totalQty);
-                    v.totalValue = v.totalValue.add(totalQty);
-                    return v;
-                }
-            });
-        }
-
-        // 가치 높은 순으로 정렬
-        List<ProductInventoryValue> sortedProducts = productValueMap.values().stream()
-                .sorted(Comparator.comparing(ProductInventoryValue::getTotalValue).reversed())
-                .collect(Collectors.toList());
-
-        // 전체 가치 계산
-        BigDecimal totalValue = sortedProducts.stream()
-                .map(ProductInventoryValue::getTotalValue)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // ABC 등급 분류
+        // 제품별 재고 가치 (단가 정보 없으면 수량 기준), 가치 높은 순 누적 합계
+        Query query = entityManager.createNativeQuery(
+                "SELECT p.product_id, p.product_code, p.product_name, v.total_qty, " +
+                "ROW_NUMBER() OVER (ORDER BY v.total_qty DESC, v.product_id) AS rank_no, " +
+                "SUM(v.total_qty) OVER (ORDER BY v.total_qty DESC, v.product_id " +
+                "    ROWS BETWEEN UNBOUNDED PRECEDING AND CURRENT ROW) AS cumulative_qty, " +
+                "SUM(v.total_qty) OVER () AS grand_total " +
+                "FROM (" +
+                "    SELECT i.product_id, SUM(i.available_quantity + i.reserved_quantity) AS total_qty " +
+                "    FROM inventory.sd_inventory i " +
+                "    WHERE i.tenant_id = :tenantId " +
+                "    GROUP BY i.product_id" +
+                ") v " +
+                "JOIN mes.sd_products p ON p.product_id = v.product_id " +
+                "ORDER BY rank_no");
+        query.setParameter("tenantId", tenantId);
+
+        BigDecimal hundred = BigDecimal.valueOf(100);
         List<AbcAnalysis> result = new ArrayList<>();
-        BigDecimal cumulativeValue = BigDecimal.ZERO;
-        BigDecimal cumulativePercentage = BigDecimal.ZERO;
-
-        for (int i = 0; i < sortedProducts.size(); i++) {
-            ProductInventoryValue product = sortedProducts.get(i);
-            cumulativeValue = cumulativeValue.add(product.getTotalValue());
 
-            BigDecimal valuePercentage = totalValue.compareTo(BigDecimal.ZERO) > 0 ?
-                    product.getTotalValue().divide(totalValue, 4, RoundingMode.HALF_UP)
-                            .multiply(BigDecimal.valueOf(100)) :
-                    BigDecimal.ZERO;
+        for (Object[] row : (List<Object[]>) query.getResultList()) {
+            BigDecimal totalValue = toBigDecimal(row[3]);
+            BigDecimal cumulativeValue = toBigDecimal(row[5]);
+            BigDecimal grandTotal = toBigDecimal(row[6]);
 
-            cumulativePercentage = cumulativePercentage.add(valuePercentage);
+            BigDecimal valuePercentage = BigDecimal.ZERO;
+            BigDecimal cumulativePercentage = BigDecimal.ZERO;
+            if (grandTotal.compareTo(BigDecimal.ZERO) > 0) {
+                valuePercentage = totalValue.divide(grandTotal, 4, RoundingMode.HALF_UP).multiply(hundred);
+                cumulativePercentage = cumulativeValue.divide(grandTotal, 4, RoundingMode.HALF_UP).multiply(hundred);
+            }
 
             // ABC 등급 결정
             String abcClass;
@@ -332,15 +290,15 @@ public class InventoryAnalysisService {
             }
 
             result.add(AbcAnalysis.builder()
-                    .productId(product.getProductId())
-                    .productCode(product.getProductCode())
-                    .productName(product.getProductName())
-                    .totalQuantity(product.getTotalQuantity())
-                    .totalValue(product.getTotalValue())
+                    .productId(((Number) row[0]).longValue())
+                    .productCode((String) row[1])
+                    .productName((String) row[2])
+                    .totalQuantity(totalValue)
+                    .totalValue(totalValue)
                     .valuePercentage(valuePercentage)
                     .cumulativePercentage(cumulativePercentage)
                     .abcClass(abcClass)
-                    .rank(i + 1)
+                    .rank(((Number) row[4]).intValue())
                     .build());
         }
 
@@ -353,61 +311,50 @@ public class InventoryAnalysisService {
      * 재고 이동 추이 분석
      * 일별 입출고 추이
      *
+     * 일별 이동 집계(sd_inventory_daily_movements)에서 일자별 입고/출고 수량과 건수를 합산
+     *
      * @param tenantId 테넌트 ID
      * @param days 분석 기간 (일수)
      * @return 일별 재고 이동 통계
      */
+    @SuppressWarnings("unchecked")
     public List<InventoryTrendAnalysis> analyzeInventoryTrend(String tenantId, int days) {
 
         log.info("Analyzing inventory trend - Tenant: {}, Days: {}", tenantId, days);
 
-        LocalDateTime startDate = LocalDateTime.now().minusDays(days);
-        LocalDateTime endDate = LocalDateTime.now();
-
-        // 기간 내 모든 트랜잭션 조회
-        List<InventoryTransactionEntity> transactions = inventoryTransactionRepository
-                .findByTenant_TenantIdAndTransactionDateBetween(tenantId, startDate, endDate);
-
-        // 일별 집계
-        Map<LocalDate, DailyInventoryStats> dailyStatsMap = new TreeMap<>();
-
-        for (InventoryTransactionEntity transaction : transactions) {
-            LocalDate date = transaction.getTransactionDate().toLocalDate();
-
-            dailyStatsMap.compute(date, (k, v) -> {
-                if (v == null) {
-                    v = new DailyInventoryStats();
-                }
-
-                if (transaction.getTransactionType().startsWith("IN_")) {
-                    v.inboundQuantity = v.inboundQuantity.add(transaction.getQuantity());
-                    v.inboundCount++;
-                } else if (transaction.getTransactionType().startsWith("OUT_")) {
-                    v.outboundQuantity = v.outboundQuantity.add(transaction.getQuantity());
-                    v.outboundCount++;
-                }
-
-                return v;
-            });
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusDays(days);
+
+        Query query = entityManager.createNativeQuery(
+                "SELECT m.movement_date, " +
+                "COALESCE(SUM(CASE WHEN LEFT(m.transaction_type, 3) = 'IN_' THEN m.total_quantity END), 0), " +
+                "COALESCE(SUM(CASE WHEN LEFT(m.transaction_type, 3) = 'IN_' THEN m.transaction_count END), 0), " +
+                "COALESCE(SUM(CASE WHEN LEFT(m.transaction_type, 4) = 'OUT_' THEN m.total_quantity END), 0), " +
+                "COALESCE(SUM(CASE WHEN LEFT(m.transaction_type, 4) = 'OUT_' THEN m.transaction_count END), 0) " +
+                "FROM inventory.sd_inventory_daily_movements m " +
+                "WHERE m.tenant_id = :tenantId " +
+                "AND m.movement_date BETWEEN :startDate AND :endDate " +
+                "GROUP BY m.movement_date " +
+                "ORDER BY m.movement_date");
+        query.setParameter("tenantId", tenantId);
+        query.setParameter("startDate", startDate);
+        query.setParameter("endDate", endDate);
+
+        List<InventoryTrendAnalysis> result = new ArrayList<>();
+        for (Object[] row : (List<Object[]>) query.getResultList()) {
+            BigDecimal inboundQuantity = toBigDecimal(row[1]);
+            BigDecimal outboundQuantity = toBigDecimal(row[3]);
+
+            result.add(InventoryTrendAnalysis.builder()
+                    .date(toLocalDate(row[0]))
+                    .inboundQuantity(inboundQuantity)
+                    .inboundCount(((Number) row[2]).intValue())
+                    .outboundQuantity(outboundQuantity)
+                    .outboundCount(((Number) row[4]).intValue())
+                    .netChange(inboundQuantity.subtract(outboundQuantity))
+                    .build());
         }
 
-        // 결과 변환
-        List<InventoryTrendAnalysis> result = dailyStatsMap.entrySet().stream()
-                .map(entry -> {
-                    DailyInventoryStats stats = entry.getValue();
-                    BigDecimal netChange = stats.inboundQuantity.subtract(stats.outboundQuantity);
-
-                    return InventoryTrendAnalysis.builder()
-                            .date(entry.getKey())
-                            .inboundQuantity(stats.inboundQuantity)
-                            .inboundCount(stats.inboundCount)
-                            .outboundQuantity(stats.outboundQuantity)
-                            .outboundCount(stats.outboundCount)
-                            .netChange(netChange)
-                            .build();
-                })
-                .collect(Collectors.toList());
-
         log.info("Inventory trend analysis completed - {} days analyzed", result.size());
 
         return result;
@@ -430,27 +377,22 @@ public class InventoryAnalysisService {
         }
     }
 
-    /**
-     * 일별 재고 통계 (내부 클래스)
-     */
-    private static class DailyInventoryStats {
-        BigDecimal inboundQuantity = BigDecimal.ZERO;
-        int inboundCount = 0;
-        BigDecimal outboundQuantity = BigDecimal.ZERO;
-        int outboundCount = 0;
+    private BigDecimal toBigDecimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        return value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
     }
 
-    /**
-     * 제품 재고 가치 (내부 클래스)
-     */
-    @Getter
-    @Builder
-    private static class ProductInventoryValue {
-        private Long productId;
-        private String productCode;
-        private String productName;
-        private BigDecimal totalQuantity;
-        private BigDecimal totalValue;
+    private LocalDate toLocalDate(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return value instanceof java.sql.Date ? ((java.sql.Date) value).toLocalDate() : (LocalDate) value;
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp ? ((Timestamp) value).toLocalDateTime() : (LocalDateTime) value;
     }
 
     // ===== Analysis Result Classes =====
@@ -0,0 +1,83 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.domain.entity.InventoryTransactionEntity;
+import kr.co.softice.mes.domain.repository.InventoryDailyMovementRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Inventory Movement Rollup Service
+ * 일별 재고 이동 집계 서비스
+ *
+ * - 재고 트랜잭션 등록 시 같은 트랜잭션 안에서 (테넌트, 일자, 창고, 제품, 유형) 버킷을 upsert
+ *   (트랜잭션이 롤백되면 집계도 함께 롤백)
+ * - rebuild: 원장(sd_inventory_transactions)으로부터 기간 단위 재집계 (백필/보정용)
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryMovementRollupService {
+
+    private final InventoryDailyMovementRepository inventoryDailyMovementRepository;
+
+    /**
+     * 트랜잭션 1건을 일별 집계에 반영
+     */
+    @Transactional
+    public void record(InventoryTransactionEntity transaction) {
+        if (transaction.getTenant() == null || transaction.getWarehouse() == null
+                || transaction.getProduct() == null || transaction.getTransactionDate() == null) {
+            log.warn("Skipping daily movement rollup for incomplete transaction: {}", transaction.getTransactionNo());
+            return;
+        }
+
+        inventoryDailyMovementRepository.addMovement(
+                transaction.getTenant().getTenantId(),
+                transaction.getTransactionDate().toLocalDate(),
+                transaction.getWarehouse().getWarehouseId(),
+                transaction.getProduct().getProductId(),
+                transaction.getTransactionType(),
+                transaction.getQuantity(),
+                1L);
+    }
+
+    /**
+     * 같은 버킷의 트랜잭션 여러 건을 한 번에 반영 (일괄 등록용)
+     */
+    @Transactional
+    public void record(String tenantId, LocalDate movementDate, Long warehouseId, Long productId,
+                       String transactionType, BigDecimal quantity, long transactionCount) {
+        inventoryDailyMovementRepository.addMovement(tenantId, movementDate, warehouseId, productId,
+                transactionType, quantity, transactionCount);
+    }
+
+    /**
+     * 기간 재집계 (startDate ~ endDate, 양 끝 포함)
+     *
+     * 해당 기간 버킷을 삭제 후 원장에서 다시 집계한다.
+     * 진행 중인 일자를 재집계하는 동안 등록되는 트랜잭션과 충돌할 수 있으므로 마감된 기간에 사용한다.
+     *
+     * @return 생성된 집계 행 수
+     */
+    @Transactional
+    public int rebuild(String tenantId, LocalDate startDate, LocalDate endDate) {
+        log.info("Rebuilding daily inventory movements - Tenant: {}, Period: {} to {}",
+                tenantId, startDate, endDate);
+
+        int deleted = inventoryDailyMovementRepository.deleteByTenantAndDateRange(tenantId, startDate, endDate);
+        int inserted = inventoryDailyMovementRepository.insertFromLedger(
+                tenantId, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+
+        log.info("Rebuilt daily inventory movements - Tenant: {}, deleted: {}, inserted: {}",
+                tenantId, deleted, inserted);
+
+        return inserted;
+    }
+}
@@ -1,5 +1,6 @@
 package kr.co.softice.mes.domain.service;
 
+import kr.co.softice.mes.common.dto.KeysetCursor;
 import kr.co.softice.mes.common.exception.BusinessException;
 import kr.co.softice.mes.common.exception.ErrorCode;
 import kr.co.softice.mes.domain.entity.*;
@@ -9,11 +10,14 @@ import kr.co.softice.mes.domain.repository.ProductRepository;
 import kr.co.softice.mes.domain.repository.WarehouseRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -25,6 +29,7 @@ import java.util.stream.Collectors;
  * 핵심 기능:
  * - 재고 조회 및 관리
  * - 재고 예약/해제 (작업 지시용)
+ *   수량 변경은 InventoryRepository 의 조건부 단일 UPDATE 사용 (읽기-수정-쓰기 없음)
  * - 재고 잔액 자동 계산
  * - 저재고 알림
  *
@@ -36,15 +41,30 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class InventoryService {
 
+    private static final String INSERT_INVENTORY_IF_ABSENT =
+        "INSERT INTO inventory.sd_inventory (tenant_id, warehouse_id, product_id, lot_id, " +
+        "available_quantity, reserved_quantity, unit, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, 0, 0, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+        "ON CONFLICT DO NOTHING";
+
     private final InventoryRepository inventoryRepository;
     private final WarehouseRepository warehouseRepository;
     private final ProductRepository productRepository;
     private final LotRepository lotRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
     public List<InventoryEntity> findByTenant(String tenantId) {
         return inventoryRepository.findByTenantIdWithAllRelations(tenantId);
     }
 
+    /**
+     * Find inventory page by tenant (keyset, newest first, up to size + 1 rows)
+     */
+    public List<InventoryEntity> findPageByTenant(String tenantId, long cursor, int size) {
+        return inventoryRepository.findByTenantIdAfterCursor(tenantId, cursor, KeysetCursor.limit(size));
+    }
+
     public List<InventoryEntity> findByTenantAndWarehouse(String tenantId, Long warehouseId) {
         return inventoryRepository.findByTenantIdAndWarehouseIdWithAllRelations(tenantId, warehouseId);
     }
@@ -84,6 +104,7 @@ public class InventoryService {
      * 작업 지시를 위한 재고 예약
      *
      * 가용 재고(available_quantity)를 예약 재고(reserved_quantity)로 이동
+     * 가용 수량 검사와 차감을 조건부 단일 UPDATE 로 수행하여 동시 예약 시에도 초과 예약 없음
      */
     @Transactional
     public InventoryEntity reserveInventory(String tenantId, Long warehouseId, Long productId,
@@ -91,43 +112,33 @@ public class InventoryService {
         log.info("Reserving inventory: warehouse={}, product={}, lot={}, quantity={}",
             warehouseId, productId, lotId, quantity);
 
-        // Find inventory record
-        Optional<InventoryEntity> inventoryOpt;
+        // Candidate inventory records
+        List<InventoryEntity> candidates;
         if (lotId != null) {
-            inventoryOpt = inventoryRepository
+            candidates = inventoryRepository
                 .findByTenant_TenantIdAndWarehouse_WarehouseIdAndProduct_ProductIdAndLot_LotId(
-                    tenantId, warehouseId, productId, lotId);
+                    tenantId, warehouseId, productId, lotId)
+                .map(Collections::singletonList)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY, "Insufficient inventory available"));
         } else {
-            // Find first available inventory for this product in warehouse
-            List<InventoryEntity> inventories = inventoryRepository
+            // Any record for this product in warehouse that can cover the quantity
+            candidates = inventoryRepository
                 .findByTenant_TenantIdAndWarehouse_WarehouseIdAndProduct_ProductId(tenantId, warehouseId, productId);
-
-            inventoryOpt = inventories.stream()
-                .filter(inv -> inv.getAvailableQuantity().compareTo(quantity) >= 0)
-                .findFirst();
         }
 
-        InventoryEntity inventory = inventoryOpt
-            .orElseThrow(() -> new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY, "Insufficient inventory available"));
+        LocalDateTime now = LocalDateTime.now();
+        for (InventoryEntity inventory : candidates) {
+            if (inventoryRepository.reserveQuantity(inventory.getInventoryId(), quantity, "RESERVE", now) == 1) {
+                entityManager.refresh(inventory);
+                log.info("Reserved {} units of product {} in warehouse {}",
+                    quantity, inventory.getProduct().getProductCode(), inventory.getWarehouse().getWarehouseCode());
 
-        // Check if sufficient quantity available
-        if (inventory.getAvailableQuantity().compareTo(quantity) < 0) {
-            throw new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY,
-                String.format("Insufficient inventory: available=%s, requested=%s",
-                    inventory.getAvailableQuantity(), quantity));
+                return inventoryRepository.findByIdWithAllRelations(inventory.getInventoryId()).orElse(inventory);
+            }
         }
 
-        // Move from available to reserved
-        inventory.setAvailableQuantity(inventory.getAvailableQuantity().subtract(quantity));
-        inventory.setReservedQuantity(inventory.getReservedQuantity().add(quantity));
-        inventory.setLastTransactionDate(LocalDateTime.now());
-        inventory.setLastTransactionType("RESERVE");
-
-        InventoryEntity updated = inventoryRepository.save(inventory);
-        log.info("Reserved {} units of product {} in warehouse {}",
-            quantity, inventory.getProduct().getProductCode(), inventory.getWarehouse().getWarehouseCode());
-
-        return inventoryRepository.findByIdWithAllRelations(updated.getInventoryId()).orElse(updated);
+        throw new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY,
+            String.format("Insufficient inventory: requested=%s", quantity));
     }
 
     /**
@@ -143,31 +154,24 @@ public class InventoryService {
             warehouseId, productId, lotId, quantity);
 
         // Find inventory record
-        Optional<InventoryEntity> inventoryOpt = inventoryRepository
+        InventoryEntity inventory = inventoryRepository
             .findByTenant_TenantIdAndWarehouse_WarehouseIdAndProduct_ProductIdAndLot_LotId(
-                tenantId, warehouseId, productId, lotId);
-
-        InventoryEntity inventory = inventoryOpt
+                tenantId, warehouseId, productId, lotId)
             .orElseThrow(() -> new BusinessException(ErrorCode.INVENTORY_NOT_FOUND, "Inventory record not found"));
 
-        // Check if sufficient reserved quantity
-        if (inventory.getReservedQuantity().compareTo(quantity) < 0) {
+        // Move from reserved to available (only if sufficient reserved quantity)
+        if (inventoryRepository.releaseQuantity(inventory.getInventoryId(), quantity, "RELEASE", LocalDateTime.now()) == 0) {
+            entityManager.refresh(inventory);
             throw new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY,
                 String.format("Insufficient reserved inventory: reserved=%s, requested=%s",
                     inventory.getReservedQuantity(), quantity));
         }
 
-        // Move from reserved to available
-        inventory.setReservedQuantity(inventory.getReservedQuantity().subtract(quantity));
-        inventory.setAvailableQuantity(inventory.getAvailableQuantity().add(quantity));
-        inventory.setLastTransactionDate(LocalDateTime.now());
-        inventory.setLastTransactionType("RELEASE");
-
-        InventoryEntity updated = inventoryRepository.save(inventory);
+        entityManager.refresh(inventory);
         log.info("Released {} units of product {} in warehouse {}",
             quantity, inventory.getProduct().getProductCode(), inventory.getWarehouse().getWarehouseCode());
 
-        return inventoryRepository.findByIdWithAllRelations(updated.getInventoryId()).orElse(updated);
+        return inventoryRepository.findByIdWithAllRelations(inventory.getInventoryId()).orElse(inventory);
     }
 
     /**
@@ -175,6 +179,7 @@ public class InventoryService {
      * 재고 잔액 자동 계산 및 업데이트
      *
      * GoodsReceiptService, ShippingService 등에서 호출
+     * 수량 변경은 조건부 단일 UPDATE 로 수행하며, 결과가 음수가 되는 출고/조정은 INSUFFICIENT_INVENTORY
      */
     @Transactional
     public InventoryEntity updateInventoryBalance(WarehouseEntity warehouse, ProductEntity product,
@@ -185,100 +190,109 @@ public class InventoryService {
             lot != null ? lot.getLotNo() : "N/A", quantityChange, transactionType);
 
         // Find or create inventory record
-        Optional<InventoryEntity> existingInventory = inventoryRepository
-            .findByTenant_TenantIdAndWarehouse_WarehouseIdAndProduct_ProductIdAndLot_LotId(
-                warehouse.getTenant().getTenantId(),
-                warehouse.getWarehouseId(),
-                product.getProductId(),
-                lot != null ? lot.getLotId() : null);
-
-        InventoryEntity inventory;
-        if (existingInventory.isPresent()) {
-            inventory = existingInventory.get();
-        } else {
-            // Create new inventory record
-            inventory = InventoryEntity.builder()
-                .tenant(warehouse.getTenant())
-                .warehouse(warehouse)
-                .product(product)
-                .lot(lot)
-                .availableQuantity(BigDecimal.ZERO)
-                .reservedQuantity(BigDecimal.ZERO)
-                .unit(product.getUnit())
-                .build();
-        }
+        InventoryEntity inventory = findOrCreateInventory(warehouse.getTenant(), warehouse, product, lot);
+        Long inventoryId = inventory.getInventoryId();
+        LocalDateTime now = LocalDateTime.now();
 
         // Update quantity based on transaction type
+        int updated;
         switch (transactionType) {
             case "IN_RECEIVE":
             case "IN_PRODUCTION":
             case "IN_RETURN":
-                inventory.setAvailableQuantity(inventory.getAvailableQuantity().add(quantityChange));
+                updated = inventoryRepository.addAvailableQuantity(inventoryId, quantityChange, transactionType, now);
                 break;
 
             case "OUT_ISSUE":
             case "OUT_SCRAP":
+            case "OUT_SHIPPING":
                 // Deduct from available first, then reserved if needed
-                BigDecimal remaining = quantityChange;
-                if (inventory.getAvailableQuantity().compareTo(remaining) >= 0) {
-                    inventory.setAvailableQuantity(inventory.getAvailableQuantity().subtract(remaining));
-                } else {
-                    remaining = remaining.subtract(inventory.getAvailableQuantity());
-                    inventory.setAvailableQuantity(BigDecimal.ZERO);
-                    inventory.setReservedQuantity(inventory.getReservedQuantity().subtract(remaining));
-                }
+                updated = inventoryRepository.issueQuantity(inventoryId, quantityChange, transactionType, now);
                 break;
 
             case "ADJUST":
                 // Direct adjustment (can be positive or negative)
-                inventory.setAvailableQuantity(inventory.getAvailableQuantity().add(quantityChange));
+                updated = inventoryRepository.addAvailableQuantity(inventoryId, quantityChange, transactionType, now);
                 break;
 
             default:
                 log.warn("Unknown transaction type: {}", transactionType);
+                return inventory;
         }
 
-        // Update last transaction info
-        inventory.setLastTransactionDate(LocalDateTime.now());
-        inventory.setLastTransactionType(transactionType);
+        entityManager.refresh(inventory);
+        if (updated == 0) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY,
+                String.format("Insufficient inventory: available=%s, reserved=%s, requested=%s",
+                    inventory.getAvailableQuantity(), inventory.getReservedQuantity(), quantityChange));
+        }
 
-        InventoryEntity saved = inventoryRepository.save(inventory);
         log.info("Updated inventory: available={}, reserved={}",
-            saved.getAvailableQuantity(), saved.getReservedQuantity());
+            inventory.getAvailableQuantity(), inventory.getReservedQuantity());
+
+        return inventory;
+    }
+
+    /**
+     * Issue from LOT
+     * LOT 지정 출고 (자재 불출) - 재고 행과 LOT 현재 수량을 각각 조건부 단일 UPDATE 로 차감
+     *
+     * 재고 행이 없으면 INVENTORY_NOT_FOUND, 차감 결과가 음수가 되면 INSUFFICIENT_INVENTORY
+     */
+    @Transactional
+    public void issueFromLot(WarehouseEntity warehouse, ProductEntity product, LotEntity lot,
+                             BigDecimal quantity, String transactionType) {
+        InventoryEntity inventory = inventoryRepository
+            .findByTenant_TenantIdAndWarehouse_WarehouseIdAndProduct_ProductIdAndLot_LotId(
+                warehouse.getTenant().getTenantId(), warehouse.getWarehouseId(),
+                product.getProductId(), lot.getLotId())
+            .orElseThrow(() -> new BusinessException(ErrorCode.INVENTORY_NOT_FOUND,
+                "Inventory not found for LOT: " + lot.getLotNo()));
+
+        // Deduct from available first, then reserved if needed
+        if (inventoryRepository.issueQuantity(inventory.getInventoryId(), quantity, transactionType,
+                LocalDateTime.now()) == 0) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY,
+                String.format("Insufficient inventory for LOT: %s, requested=%s", lot.getLotNo(), quantity));
+        }
 
-        return saved;
+        if (lotRepository.addCurrentQuantity(lot.getLotId(), quantity.negate()) == 0) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY, "Insufficient LOT quantity: " + lot.getLotNo());
+        }
+
+        log.info("Issued {} of product {} from LOT {} in warehouse {}",
+            quantity, product.getProductCode(), lot.getLotNo(), warehouse.getWarehouseCode());
     }
 
     /**
      * Find or create inventory record
      * 재고 레코드 찾기 또는 생성
+     *
+     * 동시 최초 입고 시 중복 행이 생기지 않도록 INSERT ... ON CONFLICT DO NOTHING 후 조회
+     * (LOT 없는 재고는 V043 의 COALESCE(lot_id, 0) 유일 인덱스가 충돌 대상)
      */
     @Transactional
     public InventoryEntity findOrCreateInventory(TenantEntity tenant, WarehouseEntity warehouse,
                                                 ProductEntity product, LotEntity lot) {
+        Long lotId = lot != null ? lot.getLotId() : null;
         Optional<InventoryEntity> existing = inventoryRepository
             .findByTenant_TenantIdAndWarehouse_WarehouseIdAndProduct_ProductIdAndLot_LotId(
-                tenant.getTenantId(),
-                warehouse.getWarehouseId(),
-                product.getProductId(),
-                lot != null ? lot.getLotId() : null);
+                tenant.getTenantId(), warehouse.getWarehouseId(), product.getProductId(), lotId);
 
         if (existing.isPresent()) {
             return existing.get();
         }
 
-        // Create new inventory record
-        InventoryEntity inventory = InventoryEntity.builder()
-            .tenant(tenant)
-            .warehouse(warehouse)
-            .product(product)
-            .lot(lot)
-            .availableQuantity(BigDecimal.ZERO)
-            .reservedQuantity(BigDecimal.ZERO)
-            .unit(product.getUnit())
-            .build();
-
-        return inventoryRepository.save(inventory);
+        // Create new inventory record (a concurrent creator's row wins; ours is skipped)
+        jdbcTemplate.update(INSERT_INVENTORY_IF_ABSENT,
+            tenant.getTenantId(), warehouse.getWarehouseId(), product.getProductId(), lotId, product.getUnit());
+
+        return inventoryRepository
+            .findByTenant_TenantIdAndWarehouse_WarehouseIdAndProduct_ProductIdAndLot_LotId(
+                tenant.getTenantId(), warehouse.getWarehouseId(), product.getProductId(), lotId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.INVENTORY_NOT_FOUND,
+                "Inventory not found after create: warehouse=" + warehouse.getWarehouseId()
+                    + ", product=" + product.getProductId()));
     }
 
     /**
@@ -1,5 +1,6 @@
 package kr.co.softice.mes.domain.service;
 
+import kr.co.softice.mes.common.dto.KeysetCursor;
 import kr.co.softice.mes.common.exception.BusinessException;
 import kr.co.softice.mes.common.exception.ErrorCode;
 import kr.co.softice.mes.domain.entity.*;
@@ -9,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -21,7 +23,7 @@ import java.util.Optional;
  * 핵심 기능:
  * - 재고 트랜잭션 생성 및 관리
  * - 승인 워크플로우 (PENDING → APPROVED/REJECTED)
- * - 재고 잔액 자동 업데이트
+ * - 재고 잔액 자동 업데이트 (조건부 단일 UPDATE, 동시 처리 시 수량 유실/음수 없음)
  *
  * @author Moon Myung-seop
  */
@@ -35,11 +37,21 @@ public class InventoryTransactionService {
     private final InventoryRepository inventoryRepository;
     private final LotRepository lotRepository;
     private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final InventoryMovementRollupService inventoryMovementRollupService;
+    private final InventoryService inventoryService;
 
     public List<InventoryTransactionEntity> findByTenant(String tenantId) {
         return inventoryTransactionRepository.findByTenantIdWithAllRelations(tenantId);
     }
 
+    /**
+     * Find inventory transactions page by tenant (keyset, newest first, up to size + 1 rows)
+     */
+    public List<InventoryTransactionEntity> findPageByTenant(String tenantId, long cursor, int size) {
+        return inventoryTransactionRepository.findByTenantIdAfterCursor(tenantId, cursor, KeysetCursor.limit(size));
+    }
+
     public Optional<InventoryTransactionEntity> findById(Long transactionId) {
         return inventoryTransactionRepository.findByIdWithAllRelations(transactionId);
     }
@@ -67,6 +79,7 @@ public class InventoryTransactionService {
         transaction.setApprovedDate(LocalDateTime.now());
 
         InventoryTransactionEntity saved = inventoryTransactionRepository.save(transaction);
+        inventoryMovementRollupService.record(saved);
 
         // Update inventory based on transaction type
         updateInventory(saved);
@@ -96,24 +109,20 @@ public class InventoryTransactionService {
     }
 
     private void increaseInventory(InventoryTransactionEntity transaction) {
-        InventoryEntity inventory = findOrCreateInventory(
+        InventoryEntity inventory = inventoryService.findOrCreateInventory(
             transaction.getTenant(),
             transaction.getWarehouse(),
             transaction.getProduct(),
             transaction.getLot()
         );
 
-        BigDecimal newQuantity = inventory.getAvailableQuantity().add(transaction.getQuantity());
-        inventory.setAvailableQuantity(newQuantity);
-        inventory.setLastTransactionDate(transaction.getTransactionDate());
-        inventory.setLastTransactionType(transaction.getTransactionType());
-        inventoryRepository.save(inventory);
+        inventoryRepository.addAvailableQuantity(inventory.getInventoryId(), transaction.getQuantity(),
+            transaction.getTransactionType(), transaction.getTransactionDate());
+        entityManager.refresh(inventory);
 
         // Update lot quantity if applicable
         if (transaction.getLot() != null) {
-            LotEntity lot = transaction.getLot();
-            lot.setCurrentQuantity(lot.getCurrentQuantity().add(transaction.getQuantity()));
-            lotRepository.save(lot);
+            adjustLotQuantity(transaction.getLot(), transaction.getQuantity());
         }
 
         log.info("Increased inventory for product: {} by {}",
@@ -130,21 +139,17 @@ public class InventoryTransactionService {
             )
             .orElseThrow(() -> new BusinessException(ErrorCode.INVENTORY_NOT_FOUND, "Inventory not found"));
 
-        BigDecimal newQuantity = inventory.getAvailableQuantity().subtract(transaction.getQuantity());
-        if (newQuantity.compareTo(BigDecimal.ZERO) < 0) {
+        // Guarded decrement: fails instead of going negative
+        int updated = inventoryRepository.addAvailableQuantity(inventory.getInventoryId(),
+            transaction.getQuantity().negate(), transaction.getTransactionType(), transaction.getTransactionDate());
+        entityManager.refresh(inventory);
+        if (updated == 0) {
             throw new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY, "Insufficient inventory");
         }
 
-        inventory.setAvailableQuantity(newQuantity);
-        inventory.setLastTransactionDate(transaction.getTransactionDate());
-        inventory.setLastTransactionType(transaction.getTransactionType());
-        inventoryRepository.save(inventory);
-
         // Update lot quantity if applicable
         if (transaction.getLot() != null) {
-            LotEntity lot = transaction.getLot();
-            lot.setCurrentQuantity(lot.getCurrentQuantity().subtract(transaction.getQuantity()));
-            lotRepository.save(lot);
+            adjustLotQuantity(transaction.getLot(), transaction.getQuantity().negate());
         }
 
         log.info("Decreased inventory for product: {} by {}",
@@ -156,18 +161,16 @@ public class InventoryTransactionService {
         decreaseInventory(transaction);
 
         // Increase to destination warehouse
-        InventoryEntity toInventory = findOrCreateInventory(
+        InventoryEntity toInventory = inventoryService.findOrCreateInventory(
             transaction.getTenant(),
             transaction.getToWarehouse(),
             transaction.getProduct(),
             transaction.getLot()
         );
 
-        BigDecimal newQuantity = toInventory.getAvailableQuantity().add(transaction.getQuantity());
-        toInventory.setAvailableQuantity(newQuantity);
-        toInventory.setLastTransactionDate(transaction.getTransactionDate());
-        toInventory.setLastTransactionType("MOVE_IN");
-        inventoryRepository.save(toInventory);
+        inventoryRepository.addAvailableQuantity(toInventory.getInventoryId(), transaction.getQuantity(),
+            "MOVE_IN", transaction.getTransactionDate());
+        entityManager.refresh(toInventory);
 
         log.info("Moved inventory for product: {} from warehouse: {} to warehouse: {}",
             transaction.getProduct().getProductCode(),
@@ -176,7 +179,7 @@ public class InventoryTransactionService {
     }
 
     private void adjustInventory(InventoryTransactionEntity transaction) {
-        InventoryEntity inventory = findOrCreateInventory(
+        InventoryEntity inventory = inventoryService.findOrCreateInventory(
             transaction.getTenant(),
             transaction.getWarehouse(),
             transaction.getProduct(),
@@ -184,36 +187,26 @@ public class InventoryTransactionService {
         );
 
         // Adjust to exact quantity
-        inventory.setAvailableQuantity(transaction.getQuantity());
-        inventory.setLastTransactionDate(transaction.getTransactionDate());
-        inventory.setLastTransactionType(transaction.getTransactionType());
-        inventoryRepository.save(inventory);
+        inventoryRepository.setAvailableQuantity(inventory.getInventoryId(), transaction.getQuantity(),
+            transaction.getTransactionType(), transaction.getTransactionDate());
+        entityManager.refresh(inventory);
 
         log.info("Adjusted inventory for product: {} to {}",
             transaction.getProduct().getProductCode(), transaction.getQuantity());
     }
 
-    private InventoryEntity findOrCreateInventory(TenantEntity tenant, WarehouseEntity warehouse,
-                                                  ProductEntity product, LotEntity lot) {
-        return inventoryRepository
-            .findByTenant_TenantIdAndWarehouse_WarehouseIdAndProduct_ProductIdAndLot_LotId(
-                tenant.getTenantId(),
-                warehouse.getWarehouseId(),
-                product.getProductId(),
-                lot != null ? lot.getLotId() : null
-            )
-            .orElseGet(() -> {
-                InventoryEntity newInventory = InventoryEntity.builder()
-                    .tenant(tenant)
-                    .warehouse(warehouse)
-                    .product(product)
-                    .lot(lot)
-                    .availableQuantity(BigDecimal.ZERO)
-                    .reservedQuantity(BigDecimal.ZERO)
-                    .unit(product.getUnit())
-                    .build();
-                return inventoryRepository.save(newInventory);
-            });
+    /**
+     * Guarded LOT quantity change (single UPDATE, never negative)
+     */
+    private void adjustLotQuantity(LotEntity lot, BigDecimal delta) {
+        int updated = lotRepository.addCurrentQuantity(lot.getLotId(), delta);
+        if (entityManager.contains(lot)) {
+            entityManager.refresh(lot);
+        }
+        if (updated == 0) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY,
+                "Insufficient LOT quantity: " + lot.getLotNo());
+        }
     }
 
     // ================== Approval Workflow Methods ==================
@@ -317,6 +310,7 @@ public class InventoryTransactionService {
         transaction.setApprovalStatus("PENDING");
 
         InventoryTransactionEntity saved = inventoryTransactionRepository.save(transaction);
+        inventoryMovementRollupService.record(saved);
 
         log.info("Created pending transaction: {}, awaiting approval", saved.getTransactionNo());
 
@@ -8,20 +8,33 @@ import kr.co.softice.mes.domain.repository.InventoryRepository;
 import kr.co.softice.mes.domain.repository.LotRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.QueryHints;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * LOT 선택 전략 서비스
  * FIFO (First-In-First-Out) 및 FEFO (First-Expired-First-Out) 로직 구현
  *
+ * - FIFO/FEFO 선택(selectLotsBy*)은 조회 전용 미리보기 (잠금/예약 없음)
+ * - FIFO/FEFO 할당(allocateLotsBy*)은 DB 정렬 + FOR UPDATE SKIP LOCKED 로 후보를 잠그고 같은 트랜잭션에서 예약
+ *   (동시 할당 시 LOT 중복/초과 할당 없음), 예약 해제는 LOT 별 InventoryService.releaseReservedInventory
+ * - 다른 트랜잭션이 잠근 LOT 때문에 수량이 모자라면 롤백 후 재시도 (retry-backoff-ms 간격, max-attempts 회)
+ *   → 재고가 실제로 부족할 때만 INSUFFICIENT_INVENTORY
+ *
  * @author Moon Myung-seop
  */
 @Slf4j
@@ -30,11 +43,42 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class LotSelectionService {
 
+    /**
+     * 할당 후보를 DB 커서로 읽는 단위
+     */
+    private static final int FETCH_SIZE = 16;
+
+    private static final String FIFO_ORDER = "l.created_at, l.lot_id";
+    private static final String FEFO_ORDER = "l.expiry_date ASC NULLS LAST, l.created_at, l.lot_id";
+
+    private static final String CANDIDATES_SQL =
+            "SELECT i.inventory_id, l.lot_id, l.lot_no, i.available_quantity, l.expiry_date " +
+            "FROM inventory.sd_inventory i " +
+            "JOIN inventory.sd_lots l ON l.lot_id = i.lot_id " +
+            "WHERE i.tenant_id = :tenantId AND i.warehouse_id = :warehouseId " +
+            "AND i.product_id = :productId AND i.available_quantity > 0 ";
+
+    // 잠금 여부와 무관한 커밋된 가용 수량 (이번 할당이 잠근 행 제외)
+    private static final String UNALLOCATED_AVAILABLE_SQL =
+            "SELECT COALESCE(SUM(i.available_quantity), 0) " +
+            "FROM inventory.sd_inventory i " +
+            "WHERE i.tenant_id = :tenantId AND i.warehouse_id = :warehouseId " +
+            "AND i.product_id = :productId AND i.lot_id IS NOT NULL AND i.available_quantity > 0 " +
+            "AND i.inventory_id NOT IN (:allocatedIds)";
+
     private final InventoryRepository inventoryRepository;
     private final LotRepository lotRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.lot-allocation.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.lot-allocation.retry-backoff-ms:50}")
+    private long retryBackoffMs;
 
     /**
-     * FIFO 전략으로 LOT 선택
+     * FIFO 전략으로 LOT 선택 (미리보기, 예약 없음)
      * 가장 오래된 LOT부터 순서대로 선택
      *
      * @param tenantId 테넌트 ID
@@ -52,22 +96,13 @@ public class LotSelectionService {
         log.info("FIFO LOT selection - Tenant: {}, Warehouse: {}, Product: {}, Required: {}",
                 tenantId, warehouseId, productId, requiredQuantity);
 
-        // 가용 재고 조회 (LOT 생성일 기준 오름차순)
-        List<InventoryEntity> availableInventories = inventoryRepository
-                .findByWarehouse_WarehouseIdAndProduct_ProductIdAndAvailableQuantityGreaterThan(
-                        warehouseId, productId, BigDecimal.ZERO);
-
-        // LOT 생성일 기준 정렬
-        List<InventoryEntity> sortedInventories = availableInventories.stream()
-                .sorted(Comparator.comparing(inv -> inv.getLot().getCreatedAt()))
-                .collect(Collectors.toList());
-
-        return allocateQuantity(sortedInventories, requiredQuantity, "FIFO");
+        return select(tenantId, warehouseId, productId, requiredQuantity, FIFO_ORDER, "FIFO");
     }
 
     /**
-     * FEFO 전략으로 LOT 선택
+     * FEFO 전략으로 LOT 선택 (미리보기, 예약 없음)
      * 유효기간이 가장 빨리 만료되는 LOT부터 선택
+     * (유효기간이 없는 LOT은 생성일 순으로 뒤에 배치)
      *
      * @param tenantId 테넌트 ID
      * @param warehouseId 창고 ID
@@ -84,26 +119,53 @@ public class LotSelectionService {
         log.info("FEFO LOT selection - Tenant: {}, Warehouse: {}, Product: {}, Required: {}",
                 tenantId, warehouseId, productId, requiredQuantity);
 
-        // 가용 재고 조회 (유효기간이 있는 것만)
-        List<InventoryEntity> availableInventories = inventoryRepository
-                .findByWarehouse_WarehouseIdAndProduct_ProductIdAndAvailableQuantityGreaterThan(
-                        warehouseId, productId, BigDecimal.ZERO);
+        return select(tenantId, warehouseId, productId, requiredQuantity, FEFO_ORDER, "FEFO");
+    }
 
-        // 유효기간 기준 정렬 (null은 제외)
-        List<InventoryEntity> sortedInventories = availableInventories.stream()
-                .filter(inv -> inv.getLot().getExpiryDate() != null)
-                .sorted(Comparator.comparing(inv -> inv.getLot().getExpiryDate()))
-                .collect(Collectors.toList());
+    /**
+     * FIFO 전략으로 LOT 할당 및 예약
+     * 가장 오래된 LOT부터 순서대로 할당하고 할당 수량을 예약 (자체 트랜잭션으로 커밋)
+     *
+     * @param tenantId 테넌트 ID
+     * @param warehouseId 창고 ID
+     * @param productId 제품 ID
+     * @param requiredQuantity 필요 수량
+     * @return LOT 할당 목록 (해제는 LOT 별 InventoryService.releaseReservedInventory)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<LotAllocation> allocateLotsByFIFO(
+            String tenantId,
+            Long warehouseId,
+            Long productId,
+            BigDecimal requiredQuantity) {
 
-        // 유효기간이 없는 재고는 뒤에 추가 (LOT 생성일 기준 정렬)
-        List<InventoryEntity> noExpiryInventories = availableInventories.stream()
-                .filter(inv -> inv.getLot().getExpiryDate() == null)
-                .sorted(Comparator.comparing(inv -> inv.getLot().getCreatedAt()))
-                .collect(Collectors.toList());
+        log.info("FIFO LOT allocation - Tenant: {}, Warehouse: {}, Product: {}, Required: {}",
+                tenantId, warehouseId, productId, requiredQuantity);
 
-        sortedInventories.addAll(noExpiryInventories);
+        return allocateWithRetry(tenantId, warehouseId, productId, requiredQuantity, FIFO_ORDER, "FIFO");
+    }
 
-        return allocateQuantity(sortedInventories, requiredQuantity, "FEFO");
+    /**
+     * FEFO 전략으로 LOT 할당 및 예약
+     * 유효기간이 가장 빨리 만료되는 LOT부터 할당하고 할당 수량을 예약 (자체 트랜잭션으로 커밋)
+     *
+     * @param tenantId 테넌트 ID
+     * @param warehouseId 창고 ID
+     * @param productId 제품 ID
+     * @param requiredQuantity 필요 수량
+     * @return LOT 할당 목록 (해제는 LOT 별 InventoryService.releaseReservedInventory)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<LotAllocation> allocateLotsByFEFO(
+            String tenantId,
+            Long warehouseId,
+            Long productId,
+            BigDecimal requiredQuantity) {
+
+        log.info("FEFO LOT allocation - Tenant: {}, Warehouse: {}, Product: {}, Required: {}",
+                tenantId, warehouseId, productId, requiredQuantity);
+
+        return allocateWithRetry(tenantId, warehouseId, productId, requiredQuantity, FEFO_ORDER, "FEFO");
     }
 
     /**
@@ -161,47 +223,98 @@ public class LotSelectionService {
     }
 
     /**
-     * 수량 할당 로직
-     * 정렬된 재고 목록에서 필요 수량만큼 할당
+     * 수량 선택 로직 (조회 전용)
      *
-     * @param sortedInventories 정렬된 재고 목록
-     * @param requiredQuantity 필요 수량
+     * 정렬은 DB 에서 수행하고 결과를 커서(fetch size 단위)로 읽어 필요 수량이 채워지면 읽기를 중단한다.
+     *
+     * @param orderBy 정렬 절 (FIFO_ORDER / FEFO_ORDER)
      * @param strategy 전략명 (로깅용)
      * @return LOT 할당 목록
      */
-    private List<LotAllocation> allocateQuantity(
-            List<InventoryEntity> sortedInventories,
+    private List<LotAllocation> select(
+            String tenantId,
+            Long warehouseId,
+            Long productId,
             BigDecimal requiredQuantity,
+            String orderBy,
             String strategy) {
 
         List<LotAllocation> allocations = new ArrayList<>();
-        BigDecimal remainingQuantity = requiredQuantity;
+        BigDecimal remainingQuantity = fill(CANDIDATES_SQL + "ORDER BY " + orderBy,
+                tenantId, warehouseId, productId, requiredQuantity, strategy, allocations, null);
 
-        for (InventoryEntity inventory : sortedInventories) {
-            if (remainingQuantity.compareTo(BigDecimal.ZERO) <= 0) {
-                break;
-            }
+        if (remainingQuantity.compareTo(BigDecimal.ZERO) > 0) {
+            log.error("Insufficient inventory - Required: {}, Selected: {}, Short: {}",
+                    requiredQuantity, requiredQuantity.subtract(remainingQuantity), remainingQuantity);
+            throw new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY);
+        }
 
-            BigDecimal availableQty = inventory.getAvailableQuantity();
-            BigDecimal allocatedQty = remainingQuantity.min(availableQty);
+        log.info("{} selection complete - Total lots: {}, Total quantity: {}",
+                strategy, allocations.size(), requiredQuantity);
 
-            LotAllocation allocation = LotAllocation.builder()
-                    .lotId(inventory.getLot().getLotId())
-                    .lotNo(inventory.getLot().getLotNo())
-                    .allocatedQuantity(allocatedQty)
-                    .availableQuantity(availableQty)
-                    .expiryDate(inventory.getLot().getExpiryDate())
-                    .build();
+        return allocations;
+    }
 
-            allocations.add(allocation);
-            remainingQuantity = remainingQuantity.subtract(allocatedQty);
+    /**
+     * 할당 시도 (시도마다 새 트랜잭션)
+     *
+     * 잠긴 LOT 때문에 모자란 시도는 롤백하여 잡고 있던 잠금을 놓은 뒤 재시도 → 할당자 간 교착 없음
+     */
+    private List<LotAllocation> allocateWithRetry(
+            String tenantId,
+            Long warehouseId,
+            Long productId,
+            BigDecimal requiredQuantity,
+            String orderBy,
+            String strategy) {
 
-            log.debug("{} allocation - LOT: {}, Allocated: {}, Remaining: {}",
-                    strategy, inventory.getLot().getLotNo(), allocatedQty, remainingQuantity);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status ->
+                        allocateAndReserve(tenantId, warehouseId, productId, requiredQuantity, orderBy, strategy));
+            } catch (LotsLockedException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("{} allocation gave up after {} attempts, lots locked by concurrent allocations - Short: {}",
+                            strategy, attempt, e.shortQuantity);
+                    throw new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY,
+                            "LOT 이 다른 할당 작업에 사용 중입니다. 잠시 후 다시 시도하세요.");
+                }
+                log.debug("{} allocation attempt {} short by {} due to locked lots, retrying",
+                        strategy, attempt, e.shortQuantity);
+                sleep(retryBackoffMs * attempt);
+            }
         }
+    }
 
-        // 할당 불가능한 경우
+    /**
+     * 수량 할당 및 예약 로직
+     *
+     * FOR UPDATE SKIP LOCKED 로 읽은 행만 잠그고 다른 트랜잭션이 잠근 행은 건너뛰므로
+     * 동시에 할당하는 작업자는 서로 다른 LOT을 받는다. 잠금은 커밋 시점까지 유지된다.
+     * 모자란 수량이 잠긴 행의 가용 수량으로 채워질 수 있으면 LotsLockedException (재시도 대상)
+     *
+     * @param orderBy 정렬 절 (FIFO_ORDER / FEFO_ORDER)
+     * @param strategy 전략명 (로깅용)
+     * @return LOT 할당 목록
+     */
+    private List<LotAllocation> allocateAndReserve(
+            String tenantId,
+            Long warehouseId,
+            Long productId,
+            BigDecimal requiredQuantity,
+            String orderBy,
+            String strategy) {
+
+        List<LotAllocation> allocations = new ArrayList<>();
+        List<Long> allocatedIds = new ArrayList<>();
+        BigDecimal remainingQuantity = fill(CANDIDATES_SQL + "ORDER BY " + orderBy + " FOR UPDATE OF i SKIP LOCKED",
+                tenantId, warehouseId, productId, requiredQuantity, strategy, allocations, allocatedIds);
+
+        // 할당 불가능한 경우 (예약은 트랜잭션 롤백으로 취소)
         if (remainingQuantity.compareTo(BigDecimal.ZERO) > 0) {
+            if (unallocatedAvailable(tenantId, warehouseId, productId, allocatedIds).compareTo(remainingQuantity) >= 0) {
+                throw new LotsLockedException(remainingQuantity);
+            }
             log.error("Insufficient inventory - Required: {}, Allocated: {}, Short: {}",
                     requiredQuantity, requiredQuantity.subtract(remainingQuantity), remainingQuantity);
             throw new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY);
@@ -213,6 +326,115 @@ public class LotSelectionService {
         return allocations;
     }
 
+    /**
+     * 정렬된 후보를 읽어 필요 수량만큼 채움
+     *
+     * @param allocatedIds null 이면 조회만, 아니면 읽은 행을 예약하고 재고 ID 기록
+     * @return 채우지 못한 수량
+     */
+    @SuppressWarnings("unchecked")
+    private BigDecimal fill(
+            String sql,
+            String tenantId,
+            Long warehouseId,
+            Long productId,
+            BigDecimal requiredQuantity,
+            String strategy,
+            List<LotAllocation> allocations,
+            List<Long> allocatedIds) {
+
+        BigDecimal remainingQuantity = requiredQuantity;
+        LocalDateTime now = LocalDateTime.now();
+
+        try (Stream<Object[]> rows = entityManager.createNativeQuery(sql)
+                .setParameter("tenantId", tenantId)
+                .setParameter("warehouseId", warehouseId)
+                .setParameter("productId", productId)
+                .setHint(QueryHints.FETCH_SIZE, FETCH_SIZE)
+                .getResultStream()) {
+
+            Iterator<Object[]> iterator = rows.iterator();
+            while (remainingQuantity.compareTo(BigDecimal.ZERO) > 0 && iterator.hasNext()) {
+                Object[] row = iterator.next();
+                Long inventoryId = ((Number) row[0]).longValue();
+                String lotNo = (String) row[2];
+                BigDecimal availableQty = toBigDecimal(row[3]);
+                BigDecimal allocatedQty = remainingQuantity.min(availableQty);
+
+                if (allocatedIds != null) {
+                    // 행이 잠겨 있으므로 조건부 UPDATE 는 항상 성공해야 함
+                    if (inventoryRepository.reserveQuantity(inventoryId, allocatedQty, "RESERVE", now) == 0) {
+                        throw new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY,
+                                String.format("Failed to reserve LOT %s", lotNo));
+                    }
+                    allocatedIds.add(inventoryId);
+                }
+
+                allocations.add(LotAllocation.builder()
+                        .lotId(((Number) row[1]).longValue())
+                        .lotNo(lotNo)
+                        .allocatedQuantity(allocatedQty)
+                        .availableQuantity(availableQty)
+                        .expiryDate(toLocalDate(row[4]))
+                        .build());
+                remainingQuantity = remainingQuantity.subtract(allocatedQty);
+
+                log.debug("{} allocation - LOT: {}, Allocated: {}, Remaining: {}",
+                        strategy, lotNo, allocatedQty, remainingQuantity);
+            }
+        }
+        return remainingQuantity;
+    }
+
+    private BigDecimal unallocatedAvailable(String tenantId, Long warehouseId, Long productId,
+                                            List<Long> allocatedIds) {
+        Object sum = entityManager.createNativeQuery(UNALLOCATED_AVAILABLE_SQL)
+                .setParameter("tenantId", tenantId)
+                .setParameter("warehouseId", warehouseId)
+                .setParameter("productId", productId)
+                .setParameter("allocatedIds", allocatedIds.isEmpty() ? Collections.singletonList(-1L) : allocatedIds)
+                .getSingleResult();
+        return toBigDecimal(sum);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY, "LOT allocation interrupted");
+        }
+    }
+
+    private BigDecimal toBigDecimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        return value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+    }
+
+    private LocalDate toLocalDate(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof LocalDate) {
+            return (LocalDate) value;
+        }
+        return ((java.sql.Date) value).toLocalDate();
+    }
+
+    /**
+     * 잠긴 LOT 때문에 수량 부족 (트랜잭션 롤백 후 재시도)
+     */
+    private static final class LotsLockedException extends RuntimeException {
+        private final BigDecimal shortQuantity;
+
+        private LotsLockedException(BigDecimal shortQuantity) {
+            super(null, null, false, false);
+            this.shortQuantity = shortQuantity;
+        }
+    }
+
     /**
      * LOT 할당 결과 클래스
      */
@@ -1,5 +1,6 @@
 package kr.co.softice.mes.domain.service;
 
+import kr.co.softice.mes.common.dto.KeysetCursor;
 import kr.co.softice.mes.common.exception.BusinessException;
 import kr.co.softice.mes.common.exception.ErrorCode;
 import kr.co.softice.mes.domain.entity.LotEntity;
@@ -31,6 +32,13 @@ public class LotService {
         return lotRepository.findByTenantIdWithAllRelations(tenantId);
     }
 
+    /**
+     * Find LOTs page by tenant (keyset, newest first, up to size + 1 rows)
+     */
+    public List<LotEntity> findPageByTenant(String tenantId, long cursor, int size) {
+        return lotRepository.findByTenantIdAfterCursor(tenantId, cursor, KeysetCursor.limit(size));
+    }
+
     public List<LotEntity> findByTenantAndProduct(String tenantId, Long productId) {
         return lotRepository.findByTenant_TenantIdAndProduct_ProductId(tenantId, productId);
     }
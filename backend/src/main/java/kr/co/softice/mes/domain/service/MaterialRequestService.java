@@ -10,9 +10,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +42,9 @@ public class MaterialRequestService {
     private final ProductRepository productRepository;
     private final WarehouseRepository warehouseRepository;
     private final WorkOrderRepository workOrderRepository;
+    private final DocumentNumberService documentNumberService;
+    private final InventoryMovementRollupService inventoryMovementRollupService;
+    private final InventoryService inventoryService;
 
     /**
      * Find all material requests by tenant
@@ -326,13 +327,7 @@ public class MaterialRequestService {
      * Generate sequential request number: MR-YYYYMMDD-0001
      */
     private String generateRequestNo(String tenantId) {
-        String datePrefix = "MR-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-
-        long count = materialRequestRepository.findByTenant_TenantId(tenantId).stream()
-            .filter(mr -> mr.getRequestNo() != null && mr.getRequestNo().startsWith(datePrefix))
-            .count();
-
-        return String.format("%s-%04d", datePrefix, count + 1);
+        return documentNumberService.generate(tenantId, "MR");
     }
 
     /**
@@ -375,8 +370,8 @@ public class MaterialRequestService {
         // Create inventory transaction
         InventoryTransactionEntity transaction = createIssueTransaction(request, item, lot, issuer);
 
-        // Update inventory balance
-        updateInventoryBalance(request.getWarehouse(), item.getProduct(), lot,
+        // Update inventory and LOT balance (guarded single UPDATEs)
+        inventoryService.issueFromLot(request.getWarehouse(), item.getProduct(), lot,
             item.getApprovedQuantity(), "OUT_ISSUE");
 
         // Create handover record
@@ -449,42 +444,9 @@ public class MaterialRequestService {
             .remarks("Material issue for request: " + request.getRequestNo())
             .build();
 
-        return inventoryTransactionRepository.save(transaction);
-    }
-
-    /**
-     * Update inventory balance (subtract issued quantity)
-     */
-    private void updateInventoryBalance(WarehouseEntity warehouse, ProductEntity product,
-                                       LotEntity lot, BigDecimal quantity, String transactionType) {
-        // Find inventory record
-        Optional<InventoryEntity> existingInventory = inventoryRepository
-            .findByTenant_TenantIdAndWarehouse_WarehouseIdAndProduct_ProductIdAndLot_LotId(
-                warehouse.getTenant().getTenantId(),
-                warehouse.getWarehouseId(),
-                product.getProductId(),
-                lot.getLotId()
-            );
-
-        if (!existingInventory.isPresent()) {
-            throw new BusinessException(ErrorCode.INVENTORY_NOT_FOUND, "Inventory not found for LOT: " + lot.getLotNo());
-        }
-
-        InventoryEntity inventory = existingInventory.get();
-
-        // Subtract quantity
-        inventory.setAvailableQuantity(inventory.getAvailableQuantity().subtract(quantity));
-        inventory.setLastTransactionDate(LocalDateTime.now());
-        inventory.setLastTransactionType(transactionType);
-
-        // Update LOT current quantity
-        lot.setCurrentQuantity(lot.getCurrentQuantity().subtract(quantity));
-
-        inventoryRepository.save(inventory);
-        lotRepository.save(lot);
-
-        log.info("Updated inventory balance for product: {} in warehouse: {}, available: {}",
-            product.getProductCode(), warehouse.getWarehouseCode(), inventory.getAvailableQuantity());
+        InventoryTransactionEntity saved = inventoryTransactionRepository.save(transaction);
+        inventoryMovementRollupService.record(saved);
+        return saved;
     }
 
     /**
@@ -7,7 +7,6 @@ import kr.co.softice.mes.domain.entity.SupplierEntity;
 import kr.co.softice.mes.domain.entity.TenantEntity;
 import kr.co.softice.mes.domain.repository.MaterialRepository;
 import kr.co.softice.mes.domain.repository.SupplierRepository;
-import kr.co.softice.mes.domain.repository.TenantRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -28,7 +27,7 @@ import java.util.List;
 public class MaterialService {
 
     private final MaterialRepository materialRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final SupplierRepository supplierRepository;
 
     /**
@@ -85,7 +84,7 @@ public class MaterialService {
         }
 
         // Get tenant
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
 
         material.setTenant(tenant);
@@ -25,7 +25,7 @@ import java.util.List;
 public class MoldMaintenanceService {
 
     private final MoldMaintenanceRepository maintenanceRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final MoldRepository moldRepository;
     private final UserRepository userRepository;
 
@@ -63,7 +63,7 @@ public class MoldMaintenanceService {
             throw new BusinessException(ErrorCode.MOLD_MAINTENANCE_ALREADY_EXISTS);
         }
 
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         maintenance.setTenant(tenant);
 
@@ -24,7 +24,7 @@ import java.util.List;
 public class MoldProductionHistoryService {
 
     private final MoldProductionHistoryRepository historyRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final MoldRepository moldRepository;
     private final WorkOrderRepository workOrderRepository;
     private final WorkResultRepository workResultRepository;
@@ -60,7 +60,7 @@ public class MoldProductionHistoryService {
     public MoldProductionHistoryEntity createHistory(String tenantId, MoldProductionHistoryEntity history) {
         log.info("Creating mold production history for tenant: {}", tenantId);
 
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         history.setTenant(tenant);
 
@@ -24,7 +24,7 @@ import java.util.List;
 public class MoldService {
 
     private final MoldRepository moldRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final SiteRepository siteRepository;
     private final DepartmentRepository departmentRepository;
 
@@ -90,7 +90,7 @@ public class MoldService {
         }
 
         // Get tenant
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         mold.setTenant(tenant);
 
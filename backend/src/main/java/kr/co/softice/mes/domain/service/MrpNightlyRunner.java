@@ -0,0 +1,42 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.domain.entity.TenantEntity;
+import kr.co.softice.mes.domain.repository.TenantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * MRP Nightly Runner
+ * 활성 테넌트 전체 MRP 야간 실행 (app.mrp.nightly.enabled=true 인 노드에서만)
+ *
+ * 실행 시각은 app.mrp.nightly.cron (taskScheduler, SchedulingConfig)
+ * 결과는 MrpService 가 테넌트별 최근 결과로 DB 에 보관 (다른 노드에서도 조회 가능)
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.mrp.nightly.enabled", havingValue = "true")
+public class MrpNightlyRunner {
+
+    private final MrpService mrpService;
+    private final TenantRepository tenantRepository;
+
+    public MrpNightlyRunner(MrpService mrpService, TenantRepository tenantRepository) {
+        this.mrpService = mrpService;
+        this.tenantRepository = tenantRepository;
+    }
+
+    @Scheduled(cron = "${app.mrp.nightly.cron:0 0 2 * * *}")
+    public void runAll() {
+        for (TenantEntity tenant : tenantRepository.findByStatus("active")) {
+            try {
+                mrpService.run(tenant.getTenantId(), null);
+            } catch (Exception e) {
+                log.error("Nightly MRP failed for tenant {}: {}", tenant.getTenantId(), e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package kr.co.softice.mes.domain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.jackson.Jacksonized;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * MRP Service
+ * 자재 소요량 계획 (다단계 BOM 전개 + 네팅)
+ *
+ * - 입력은 테넌트 단위 집계 쿼리 4회로 일괄 조회 (수주 잔량, 현재 유효 BOM, 가용 재고, 미입고 발주)
+ *   → 수주 라인/BOM 노드 수와 무관하게 쿼리 수 고정
+ * - 상위 → 하위 순(Low-Level Code)으로 총소요 - 가용재고 - 미입고 발주 = 순소요 계산,
+ *   순소요만 하위 품목으로 전개
+ * - 미입고 발주는 자재 코드와 제품 코드가 같은 품목에 반영
+ * - 마지막 전체 실행 결과는 테넌트별로 DB(mes.sd_mrp_runs)에 보관
+ *   → 야간 실행 노드와 조회 노드가 달라도 동일한 결과 조회
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MrpService {
+
+    private static final int QUANTITY_SCALE = 3;
+
+    private static final String DEMAND_SQL =
+            "SELECT i.product_id, " +
+            "       SUM(i.ordered_quantity - COALESCE(i.delivered_quantity, 0)), " +
+            "       COUNT(*), " +
+            "       MIN(COALESCE(i.requested_date, o.requested_delivery_date)) " +
+            "FROM sales.sd_sales_order_items i " +
+            "JOIN sales.sd_sales_orders o ON o.sales_order_id = i.sales_order_id " +
+            "WHERE o.tenant_id = :tenantId " +
+            "AND o.status IN ('CONFIRMED', 'PARTIALLY_DELIVERED') " +
+            "AND i.product_id IS NOT NULL " +
+            "AND i.ordered_quantity > COALESCE(i.delivered_quantity, 0) ";
+
+    private static final String BOM_LINES_SQL =
+            "WITH current_bom AS (" +
+            "    SELECT DISTINCT ON (b.product_id) b.bom_id, b.version, b.product_id " +
+            "    FROM bom.sd_boms b " +
+            "    WHERE b.tenant_id = :tenantId " +
+            "    AND b.is_active = true " +
+            "    AND b.effective_date <= :today " +
+            "    AND (b.expiry_date IS NULL OR b.expiry_date >= :today) " +
+            "    ORDER BY b.product_id, b.effective_date DESC, b.bom_id DESC" +
+            ") " +
+            "SELECT c.bom_id, c.version, c.product_id, d.material_product_id, d.quantity, d.usage_rate, d.scrap_rate " +
+            "FROM current_bom c " +
+            "JOIN bom.sd_bom_details d ON d.bom_id = c.bom_id " +
+            "ORDER BY c.product_id, d.sequence";
+
+    private static final String AVAILABLE_SQL =
+            "SELECT i.product_id, SUM(i.available_quantity) " +
+            "FROM inventory.sd_inventory i " +
+            "WHERE i.tenant_id = :tenantId " +
+            "GROUP BY i.product_id";
+
+    private static final String OPEN_PURCHASE_SQL =
+            "SELECT p.product_id, SUM(poi.ordered_quantity - COALESCE(poi.received_quantity, 0)) " +
+            "FROM purchase.sd_purchase_order_items poi " +
+            "JOIN purchase.sd_purchase_orders po ON po.purchase_order_id = poi.purchase_order_id " +
+            "JOIN material.sd_materials m ON m.material_id = poi.material_id " +
+            "JOIN mes.sd_products p ON p.tenant_id = po.tenant_id AND p.product_code = m.material_code " +
+            "WHERE po.tenant_id = :tenantId " +
+            "AND po.status IN ('CONFIRMED', 'PARTIALLY_RECEIVED') " +
+            "AND poi.ordered_quantity > COALESCE(poi.received_quantity, 0) " +
+            "GROUP BY p.product_id";
+
+    private static final String PRODUCTS_SQL =
+            "SELECT p.product_id, p.product_code, p.product_name, p.unit " +
+            "FROM mes.sd_products p " +
+            "WHERE p.tenant_id = :tenantId";
+
+    private static final String SAVE_LATEST_SQL =
+            "INSERT INTO mes.sd_mrp_runs (tenant_id, executed_at, result_json) " +
+            "VALUES (:tenantId, :executedAt, :resultJson) " +
+            "ON CONFLICT (tenant_id) DO UPDATE SET " +
+            "    executed_at = EXCLUDED.executed_at, " +
+            "    result_json = EXCLUDED.result_json " +
+            "WHERE mes.sd_mrp_runs.executed_at <= EXCLUDED.executed_at";
+
+    private static final String FIND_LATEST_SQL =
+            "SELECT r.result_json FROM mes.sd_mrp_runs r WHERE r.tenant_id = :tenantId";
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * MRP 실행
+     *
+     * @param tenantId 테넌트 ID
+     * @param salesOrderIds 대상 수주 (null/빈 목록이면 확정/부분납품 수주 전체)
+     * @return 품목별 소요량 (상위 → 하위 순)
+     */
+    @Transactional
+    public MrpResult run(String tenantId, List<Long> salesOrderIds) {
+        long startedAt = System.currentTimeMillis();
+        log.info("Running MRP - Tenant: {}, sales orders: {}",
+                tenantId, salesOrderIds == null || salesOrderIds.isEmpty() ? "ALL" : salesOrderIds.size());
+
+        Map<Long, Demand> demands = loadDemands(tenantId, salesOrderIds);
+        BomExplosion explosion = loadBomExplosion(tenantId);
+        Map<Long, BigDecimal> available = loadQuantities(AVAILABLE_SQL, tenantId);
+        Map<Long, BigDecimal> openPurchase = loadQuantities(OPEN_PURCHASE_SQL, tenantId);
+
+        // 상위 → 하위 순서 (순환 참조 시 예외)
+        List<Long> order = explosion.topologicalOrder(demands.keySet());
+
+        // 네팅 전 전 레벨 소요량 (수주 품목별 1단위 전개 결과를 메모이제이션하여 재사용)
+        Map<Long, BigDecimal> exploded = new HashMap<>();
+        for (Demand demand : demands.values()) {
+            exploded.merge(demand.productId, demand.quantity, BigDecimal::add);
+            explosion.explode(demand.productId).forEach((componentId, perUnit) ->
+                    exploded.merge(componentId, perUnit.multiply(demand.quantity), BigDecimal::add));
+        }
+
+        Map<Long, BigDecimal> dependentDemand = new HashMap<>();
+        Map<Long, MrpItem.MrpItemBuilder> builders = new LinkedHashMap<>();
+
+        for (Long productId : order) {
+            Demand demand = demands.get(productId);
+            BigDecimal independent = demand == null ? BigDecimal.ZERO : demand.quantity;
+            BigDecimal dependent = dependentDemand.getOrDefault(productId, BigDecimal.ZERO);
+            BigDecimal gross = independent.add(dependent);
+            BigDecimal onHand = available.getOrDefault(productId, BigDecimal.ZERO);
+            BigDecimal onOrder = openPurchase.getOrDefault(productId, BigDecimal.ZERO);
+            BigDecimal net = gross.subtract(onHand).subtract(onOrder).max(BigDecimal.ZERO);
+
+            if (net.signum() > 0) {
+                explosion.components(productId).forEach((componentId, perUnit) ->
+                        dependentDemand.merge(componentId, perUnit.multiply(net), BigDecimal::add));
+            }
+
+            builders.put(productId, MrpItem.builder()
+                    .productId(productId)
+                    .makeItem(explosion.hasBom(productId))
+                    .salesOrderLineCount(demand == null ? 0 : demand.lineCount)
+                    .earliestRequestedDate(demand == null ? null : demand.earliestRequestedDate)
+                    .independentDemand(scale(independent))
+                    .dependentDemand(scale(dependent))
+                    .grossRequirement(scale(gross))
+                    .explodedRequirement(scale(exploded.getOrDefault(productId, BigDecimal.ZERO)))
+                    .availableQuantity(scale(onHand))
+                    .openPurchaseQuantity(scale(onOrder))
+                    .netRequirement(scale(net)));
+        }
+
+        Map<Long, Object[]> products = loadProducts(tenantId);
+        List<MrpItem> items = new ArrayList<>(builders.size());
+        builders.forEach((productId, builder) -> {
+            Object[] product = products.get(productId);
+            if (product != null) {
+                builder.productCode((String) product[1])
+                        .productName((String) product[2])
+                        .unit((String) product[3]);
+            }
+            items.add(builder.build());
+        });
+
+        long shortageCount = items.stream().filter(item -> item.getNetRequirement().signum() > 0).count();
+        MrpResult result = MrpResult.builder()
+                .tenantId(tenantId)
+                .executedAt(LocalDateTime.now())
+                .elapsedMillis(System.currentTimeMillis() - startedAt)
+                .salesOrderLineCount(demands.values().stream().mapToLong(demand -> demand.lineCount).sum())
+                .itemCount(items.size())
+                .shortageItemCount(shortageCount)
+                .items(items)
+                .build();
+
+        if (salesOrderIds == null || salesOrderIds.isEmpty()) {
+            saveLatestResult(result);
+        }
+
+        log.info("MRP completed - Tenant: {}, items: {}, shortages: {}, elapsed: {}ms",
+                tenantId, result.getItemCount(), shortageCount, result.getElapsedMillis());
+        return result;
+    }
+
+    /**
+     * 마지막 전체 실행 결과 (없으면 empty)
+     */
+    public Optional<MrpResult> findLatestResult(String tenantId) {
+        List<?> rows = entityManager.createNativeQuery(FIND_LATEST_SQL)
+                .setParameter("tenantId", tenantId)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue((String) rows.get(0), MrpResult.class));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to read stored MRP result for tenant {}: {}", tenantId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void saveLatestResult(MrpResult result) {
+        try {
+            entityManager.createNativeQuery(SAVE_LATEST_SQL)
+                    .setParameter("tenantId", result.getTenantId())
+                    .setParameter("executedAt", Timestamp.valueOf(result.getExecutedAt()))
+                    .setParameter("resultJson", objectMapper.writeValueAsString(result))
+                    .executeUpdate();
+        } catch (JsonProcessingException e) {
+            log.error("Failed to store MRP result for tenant {}: {}", result.getTenantId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 제품 수량에 대한 다단계 BOM 전개 (네팅 없음)
+     *
+     * @return 구성품별 총 소요량
+     */
+    public List<MrpItem> explode(String tenantId, Long productId, BigDecimal quantity) {
+        BomExplosion explosion = loadBomExplosion(tenantId);
+        explosion.topologicalOrder(Collections.singleton(productId));
+
+        Map<Long, Object[]> products = loadProducts(tenantId);
+        List<MrpItem> items = new ArrayList<>();
+        explosion.explode(productId).forEach((componentId, perUnit) -> {
+            Object[] product = products.get(componentId);
+            items.add(MrpItem.builder()
+                    .productId(componentId)
+                    .productCode(product == null ? null : (String) product[1])
+                    .productName(product == null ? null : (String) product[2])
+                    .unit(product == null ? null : (String) product[3])
+                    .makeItem(explosion.hasBom(componentId))
+                    .explodedRequirement(scale(perUnit.multiply(quantity)))
+                    .build());
+        });
+        items.sort(Comparator.comparing(MrpItem::getProductCode, Comparator.nullsLast(Comparator.naturalOrder())));
+        return items;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Demand> loadDemands(String tenantId, List<Long> salesOrderIds) {
+        boolean filtered = salesOrderIds != null && !salesOrderIds.isEmpty();
+        Query query = entityManager.createNativeQuery(DEMAND_SQL +
+                (filtered ? "AND o.sales_order_id IN (:salesOrderIds) " : "") +
+                "GROUP BY i.product_id");
+        query.setParameter("tenantId", tenantId);
+        if (filtered) {
+            query.setParameter("salesOrderIds", salesOrderIds);
+        }
+
+        Map<Long, Demand> demands = new LinkedHashMap<>();
+        for (Object[] row : (List<Object[]>) query.getResultList()) {
+            Long productId = ((Number) row[0]).longValue();
+            Timestamp requested = (Timestamp) row[3];
+            demands.put(productId, new Demand(productId, toBigDecimal(row[1]), ((Number) row[2]).longValue(),
+                    requested == null ? null : requested.toLocalDateTime().toLocalDate()));
+        }
+        return demands;
+    }
+
+    @SuppressWarnings("unchecked")
+    private BomExplosion loadBomExplosion(String tenantId) {
+        Query query = entityManager.createNativeQuery(BOM_LINES_SQL);
+        query.setParameter("tenantId", tenantId);
+        query.setParameter("today", LocalDate.now());
+
+        BomExplosion explosion = new BomExplosion();
+        for (Object[] row : (List<Object[]>) query.getResultList()) {
+            explosion.addLine(
+                    ((Number) row[0]).longValue(),
+                    (String) row[1],
+                    ((Number) row[2]).longValue(),
+                    ((Number) row[3]).longValue(),
+                    toBigDecimal(row[4]),
+                    row[5] == null ? null : toBigDecimal(row[5]),
+                    row[6] == null ? null : toBigDecimal(row[6]));
+        }
+        return explosion;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, BigDecimal> loadQuantities(String sql, String tenantId) {
+        Query query = entityManager.createNativeQuery(sql);
+        query.setParameter("tenantId", tenantId);
+
+        Map<Long, BigDecimal> quantities = new HashMap<>();
+        for (Object[] row : (List<Object[]>) query.getResultList()) {
+            quantities.put(((Number) row[0]).longValue(), toBigDecimal(row[1]));
+        }
+        return quantities;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Object[]> loadProducts(String tenantId) {
+        Query query = entityManager.createNativeQuery(PRODUCTS_SQL);
+        query.setParameter("tenantId", tenantId);
+
+        Map<Long, Object[]> products = new HashMap<>();
+        for (Object[] row : (List<Object[]>) query.getResultList()) {
+            products.put(((Number) row[0]).longValue(), row);
+        }
+        return products;
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        return value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+    }
+
+    private static BigDecimal scale(BigDecimal value) {
+        return value.setScale(QUANTITY_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static final class Demand {
+        private final Long productId;
+        private final BigDecimal quantity;
+        private final long lineCount;
+        private final LocalDate earliestRequestedDate;
+
+        private Demand(Long productId, BigDecimal quantity, long lineCount, LocalDate earliestRequestedDate) {
+            this.productId = productId;
+            this.quantity = quantity;
+            this.lineCount = lineCount;
+            this.earliestRequestedDate = earliestRequestedDate;
+        }
+    }
+
+    @Getter
+    @Builder
+    @Jacksonized
+    public static class MrpResult {
+        private String tenantId;
+        private LocalDateTime executedAt;
+        private long elapsedMillis;
+        private long salesOrderLineCount;
+        private int itemCount;
+        private long shortageItemCount;
+        private List<MrpItem> items;
+    }
+
+    @Getter
+    @Builder
+    @Jacksonized
+    public static class MrpItem {
+        private Long productId;
+        private String productCode;
+        private String productName;
+        private String unit;
+        private boolean makeItem;                // BOM 보유 (생산) 여부
+        private long salesOrderLineCount;
+        private LocalDate earliestRequestedDate;
+        private BigDecimal independentDemand;    // 수주 잔량
+        private BigDecimal dependentDemand;      // 상위 품목 순소요 전개량
+        private BigDecimal grossRequirement;     // 총소요 = 독립 + 종속
+        private BigDecimal explodedRequirement;  // 네팅 없이 전 레벨 전개한 소요량
+        private BigDecimal availableQuantity;
+        private BigDecimal openPurchaseQuantity;
+        private BigDecimal netRequirement;       // 순소요 = max(0, 총소요 - 가용재고 - 미입고 발주)
+    }
+}
@@ -0,0 +1,449 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.common.dto.equipment.OeeTrendResponse;
+import kr.co.softice.mes.common.exception.BusinessException;
+import kr.co.softice.mes.common.exception.ErrorCode;
+import kr.co.softice.mes.domain.entity.DowntimeEntity;
+import kr.co.softice.mes.domain.entity.EquipmentEntity;
+import kr.co.softice.mes.domain.entity.EquipmentOperationEntity;
+import kr.co.softice.mes.domain.repository.DowntimeRepository;
+import kr.co.softice.mes.domain.repository.EquipmentOperationRepository;
+import kr.co.softice.mes.domain.repository.OeeShiftBucketRepository;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * OEE Rollup Service
+ * 설비/교대/일자별 OEE 집계 서비스
+ *
+ * 버킷 (테넌트, 생산 일자, 교대, 설비) 에 시간·수량 합계만 누적하고 비율은 조회 시 계산
+ * (평균의 평균이 아닌 합계 기반이므로 라인/사업장/월 단위 롤업도 정확)
+ *
+ * - 가동 이력 (COMPLETED): 계획 = 시작~종료 시간 (종료 시각이 없으면 operation_hours), 정지 = stop_duration_minutes,
+ *   이론 가동 = 표준 사이클 타임 × 생산 수량 (실가동 시간 상한, 표준 사이클 타임 없으면 실가동 시간)
+ * - 비가동 (종료, 가동 이력 미연결, 활성, 계획 정지 유형 제외): 계획 + 정지에 비가동 시간 가산
+ *   (가동 이력에 연결된 비가동은 해당 가동의 stop_duration_minutes 로 반영된 것으로 보고 제외)
+ * - 교대/생산 일자는 시작 시각 기준 1개 버킷에 귀속 (교대를 넘는 가동은 분할하지 않음)
+ *
+ * 갱신: 변경 전후 기여분(snapshot)의 차이를 호출자 트랜잭션 안에서 upsert (롤백 시 함께 롤백)
+ *       호출자는 가동/비가동 행을 잠근 뒤(lockById) 변경 전 snapshot 을 읽음 (동시 수정 시 차이 중복 반영 방지)
+ * 보정: rebuild 로 가동/비가동 이력에서 기간 재집계 (교대 정의 변경 시 포함)
+ *       apply 는 테넌트 advisory lock 을 공유 모드로, rebuild 는 배타 모드로 잡아 커밋 시까지 유지
+ *       (재집계가 읽은 뒤 커밋된 변경이 버킷 삭제로 사라지지 않음)
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OeeRollupService {
+
+    // 계획 정지 (OEE 손실 아님)
+    private static final Set<String> PLANNED_STOP_TYPES = Set.of("PLANNED_MAINTENANCE", "NO_ORDER");
+
+    private static final BigDecimal SIXTY = BigDecimal.valueOf(60);
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final OeeShiftBucketRepository oeeShiftBucketRepository;
+    private final EquipmentOperationRepository equipmentOperationRepository;
+    private final DowntimeRepository downtimeRepository;
+    private final EntityManager entityManager;
+
+    @Value("${app.oee.shifts:DAY=08:00,NIGHT=20:00}")
+    private String shiftDefinition;
+
+    @Value("${app.oee.rebuild-max-days:366}")
+    private int rebuildMaxDays;
+
+    private ShiftCalendar shiftCalendar;
+
+    @PostConstruct
+    public void init() {
+        shiftCalendar = ShiftCalendar.parse(shiftDefinition);
+        log.info("OEE rollup shifts: {}", shiftDefinition);
+    }
+
+    // ================== 증분 갱신 ==================
+
+    /**
+     * 가동 이력의 현재 기여분 (COMPLETED 가 아니면 null)
+     */
+    public Contribution snapshot(EquipmentOperationEntity operation) {
+        if (operation == null || !"COMPLETED".equals(operation.getOperationStatus())
+                || operation.getStartTime() == null || operation.getEquipment() == null) {
+            return null;
+        }
+
+        // 종료 시각이 있으면 항상 시작~종료로 계산 (operation_hours 는 트리거가 소수 2자리 시간으로 저장하고
+        // save() 후 엔티티에 반영되지 않으므로, 이를 쓰면 변경 전/후 기여분이 어긋나 버킷에 잔차가 남음)
+        BigDecimal planned = BigDecimal.ZERO;
+        if (operation.getEndTime() != null) {
+            planned = minutesBetween(operation.getStartTime(), operation.getEndTime());
+        } else if (operation.getOperationHours() != null) {
+            planned = operation.getOperationHours().multiply(SIXTY);
+        }
+        planned = planned.max(BigDecimal.ZERO).setScale(2, RoundingMode.HALF_UP);
+
+        BigDecimal stop = operation.getStopDurationMinutes() != null
+                ? BigDecimal.valueOf(operation.getStopDurationMinutes()).max(BigDecimal.ZERO).min(planned)
+                : BigDecimal.ZERO;
+        BigDecimal run = planned.subtract(stop);
+
+        BigDecimal totalCount = scale3(operation.getProductionQuantity());
+        BigDecimal ideal = run;
+        BigDecimal standardCycleTime = operation.getEquipment().getStandardCycleTime();
+        if (standardCycleTime != null && standardCycleTime.signum() > 0) {
+            ideal = standardCycleTime.multiply(totalCount).divide(SIXTY, 2, RoundingMode.HALF_UP).min(run);
+        }
+
+        return contribution(operation.getTenant().getTenantId(), operation.getEquipment(), operation.getStartTime())
+                .plannedMinutes(planned)
+                .stopMinutes(stop.setScale(2, RoundingMode.HALF_UP))
+                .idealRunMinutes(ideal.setScale(2, RoundingMode.HALF_UP))
+                .totalCount(totalCount)
+                .goodCount(scale3(operation.getGoodQuantity()))
+                .operationCount(1)
+                .build();
+    }
+
+    /**
+     * 비가동의 현재 기여분 (미종료, 가동 이력 연결, 비활성, 계획 정지면 null)
+     */
+    public Contribution snapshot(DowntimeEntity downtime) {
+        if (downtime == null || downtime.getStartTime() == null || downtime.getEndTime() == null
+                || downtime.getOperation() != null || Boolean.FALSE.equals(downtime.getIsActive())
+                || PLANNED_STOP_TYPES.contains(downtime.getDowntimeType()) || downtime.getEquipment() == null) {
+            return null;
+        }
+
+        BigDecimal minutes = minutesBetween(downtime.getStartTime(), downtime.getEndTime()).max(BigDecimal.ZERO);
+        return contribution(downtime.getTenant().getTenantId(), downtime.getEquipment(), downtime.getStartTime())
+                .plannedMinutes(minutes)
+                .stopMinutes(minutes)
+                .downtimeCount(1)
+                .build();
+    }
+
+    /**
+     * 변경 전후 기여분 차이를 버킷에 반영 (등록: before=null, 삭제: after=null)
+     */
+    @Transactional
+    public void apply(Contribution before, Contribution after) {
+        if (before == null ? after == null : before.equals(after)) {
+            return;
+        }
+        oeeShiftBucketRepository.lockTenantShared(before != null ? before.getTenantId() : after.getTenantId());
+        if (before != null) {
+            add(before.negate());
+        }
+        if (after != null) {
+            add(after);
+        }
+    }
+
+    private void add(Contribution c) {
+        oeeShiftBucketRepository.addBucket(c.getTenantId(), c.getBucketDate(), c.getShiftCode(),
+                c.getEquipmentId(), c.getSiteId(), c.getLineId(),
+                c.getPlannedMinutes(), c.getStopMinutes(), c.getIdealRunMinutes(),
+                c.getTotalCount(), c.getGoodCount(), c.getOperationCount(), c.getDowntimeCount());
+    }
+
+    /**
+     * 기간 재집계 (생산 일자 startDate ~ endDate, 양 끝 포함)
+     *
+     * 해당 기간 버킷을 삭제 후 가동/비가동 이력에서 다시 집계한다.
+     * 기간은 app.oee.rebuild-max-days 이하 (배타 lock 을 잡은 채 이력 전체를 읽으므로)
+     *
+     * @return 생성된 버킷 수
+     */
+    @Transactional
+    public int rebuild(String tenantId, LocalDate startDate, LocalDate endDate) {
+        checkRange(startDate, endDate);
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > rebuildMaxDays) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Rebuild period must not exceed " + rebuildMaxDays + " days");
+        }
+        log.info("Rebuilding OEE shift buckets - Tenant: {}, Period: {} to {}", tenantId, startDate, endDate);
+        oeeShiftBucketRepository.lockTenantExclusive(tenantId);
+
+        LocalDateTime from = shiftCalendar.dayStart(startDate);
+        LocalDateTime to = shiftCalendar.dayStart(endDate.plusDays(1));
+
+        Map<List<Object>, Contribution> buckets = new LinkedHashMap<>();
+        for (EquipmentOperationEntity operation :
+                equipmentOperationRepository.findCompletedByTenantIdAndStartTimeRange(tenantId, from, to)) {
+            merge(buckets, snapshot(operation));
+        }
+        for (DowntimeEntity downtime :
+                downtimeRepository.findEndedByTenantIdAndStartTimeRange(tenantId, from, to)) {
+            merge(buckets, snapshot(downtime));
+        }
+
+        int deleted = oeeShiftBucketRepository.deleteByTenantAndDateRange(tenantId, startDate, endDate);
+        buckets.values().forEach(this::add);
+
+        log.info("Rebuilt OEE shift buckets - Tenant: {}, deleted: {}, inserted: {}",
+                tenantId, deleted, buckets.size());
+
+        return buckets.size();
+    }
+
+    private static void checkRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "startDate must not be after endDate");
+        }
+    }
+
+    private static void merge(Map<List<Object>, Contribution> buckets, Contribution c) {
+        if (c != null) {
+            buckets.merge(Arrays.asList(c.getBucketDate(), c.getShiftCode(), c.getEquipmentId()), c, Contribution::plus);
+        }
+    }
+
+    // ================== 조회 ==================
+
+    /**
+     * OEE 추이 조회
+     *
+     * @param level       집계 단위 (설비/라인/사업장/전체)
+     * @param granularity 기간 단위 (교대/일/월)
+     * @param dimensionId 집계 단위 ID 필터 (선택, PLANT 는 무시)
+     */
+    @SuppressWarnings("unchecked")
+    public List<OeeTrendResponse> getTrend(String tenantId, LocalDate startDate, LocalDate endDate,
+                                           Level level, Granularity granularity, Long dimensionId) {
+        checkRange(startDate, endDate);
+        log.info("Getting OEE trend - Tenant: {}, Period: {} to {}, level: {}, granularity: {}",
+                tenantId, startDate, endDate, level, granularity);
+
+        boolean filtered = dimensionId != null && level.column != null;
+
+        List<String> groupBy = new ArrayList<>();
+        groupBy.add(granularity.periodColumn);
+        if (granularity.shiftColumn != null) {
+            groupBy.add(granularity.shiftColumn);
+        }
+        if (level.column != null) {
+            groupBy.add(level.column);
+        }
+
+        String sql =
+                "SELECT g.period_start, g.shift_code, g.dimension_id, " + level.nameColumn + ", " +
+                "g.planned, g.stopped, g.ideal, g.total, g.good, g.operations, g.downtimes " +
+                "FROM (" +
+                "    SELECT " + granularity.periodColumn + " AS period_start, " +
+                "           " + nullable(granularity.shiftColumn, "VARCHAR") + " AS shift_code, " +
+                "           " + nullable(level.column, "BIGINT") + " AS dimension_id, " +
+                "           SUM(b.planned_minutes) AS planned, SUM(b.stop_minutes) AS stopped, " +
+                "           SUM(b.ideal_run_minutes) AS ideal, SUM(b.total_count) AS total, " +
+                "           SUM(b.good_count) AS good, SUM(b.operation_count) AS operations, " +
+                "           SUM(b.downtime_count) AS downtimes " +
+                "    FROM equipment.sd_oee_shift_buckets b " +
+                "    WHERE b.tenant_id = :tenantId AND b.bucket_date BETWEEN :startDate AND :endDate " +
+                (filtered ? "AND " + level.column + " = :dimensionId " : "") +
+                "    GROUP BY " + String.join(", ", groupBy) +
+                ") g " + level.nameJoin +
+                " ORDER BY g.period_start, g.shift_code, g.dimension_id";
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setParameter("tenantId", tenantId);
+        query.setParameter("startDate", startDate);
+        query.setParameter("endDate", endDate);
+        if (filtered) {
+            query.setParameter("dimensionId", dimensionId);
+        }
+
+        List<Object[]> rows = query.getResultList();
+        List<OeeTrendResponse> trend = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            trend.add(toTrend(row, level));
+        }
+        return trend;
+    }
+
+    static OeeTrendResponse toTrend(Object[] row, Level level) {
+        BigDecimal planned = decimal(row[4]);
+        BigDecimal stopped = decimal(row[5]);
+        BigDecimal ideal = decimal(row[6]);
+        BigDecimal total = decimal(row[7]);
+        BigDecimal good = decimal(row[8]);
+        BigDecimal run = planned.subtract(stopped).max(BigDecimal.ZERO);
+
+        // OEE = Availability × Performance × Quality (합계 기반)
+        BigDecimal availability = percent(run, planned);
+        BigDecimal performance = percent(ideal, run).min(HUNDRED.setScale(2));
+        BigDecimal quality = percent(good, total);
+        BigDecimal oee = availability.multiply(performance).multiply(quality)
+                .divide(BigDecimal.valueOf(10000), 2, RoundingMode.HALF_UP);
+
+        return OeeTrendResponse.builder()
+                .periodStart(localDate(row[0]))
+                .shiftCode((String) row[1])
+                .level(level.name())
+                .dimensionId(row[2] != null ? ((Number) row[2]).longValue() : null)
+                .dimensionName((String) row[3])
+                .plannedMinutes(planned)
+                .runMinutes(run)
+                .stopMinutes(stopped)
+                .totalCount(total)
+                .goodCount(good)
+                .operationCount(((Number) row[9]).longValue())
+                .downtimeCount(((Number) row[10]).longValue())
+                .availability(availability)
+                .performance(performance)
+                .quality(quality)
+                .oee(oee)
+                .build();
+    }
+
+    // ================== 내부 ==================
+
+    private Contribution.ContributionBuilder contribution(String tenantId, EquipmentEntity equipment,
+                                                         LocalDateTime startTime) {
+        ShiftCalendar.Shift shift = shiftCalendar.shiftOf(startTime);
+        return Contribution.builder()
+                .tenantId(tenantId)
+                .bucketDate(shift.getDate())
+                .shiftCode(shift.getCode())
+                .equipmentId(equipment.getEquipmentId())
+                .siteId(equipment.getSite() != null ? equipment.getSite().getSiteId() : null)
+                .lineId(equipment.getDepartment() != null ? equipment.getDepartment().getDepartmentId() : null);
+    }
+
+    private static BigDecimal minutesBetween(LocalDateTime start, LocalDateTime end) {
+        return BigDecimal.valueOf(Duration.between(start, end).getSeconds())
+                .divide(SIXTY, 2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal scale3(BigDecimal value) {
+        return (value != null ? value : BigDecimal.ZERO).setScale(3, RoundingMode.HALF_UP);
+    }
+
+    private static LocalDate localDate(Object value) {
+        return value instanceof Date ? ((Date) value).toLocalDate() : (LocalDate) value;
+    }
+
+    private static BigDecimal decimal(Object value) {
+        return value != null ? new BigDecimal(value.toString()) : BigDecimal.ZERO;
+    }
+
+    private static BigDecimal percent(BigDecimal numerator, BigDecimal denominator) {
+        if (denominator.signum() <= 0) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        return numerator.multiply(HUNDRED).divide(denominator, 2, RoundingMode.HALF_UP);
+    }
+
+    private static String nullable(String column, String type) {
+        return column != null ? column : "CAST(NULL AS " + type + ")";
+    }
+
+    /**
+     * OEE 집계 단위
+     */
+    public enum Level {
+        EQUIPMENT("b.equipment_id", "n.equipment_name",
+                "LEFT JOIN equipment.sd_equipments n ON n.equipment_id = g.dimension_id"),
+        LINE("b.line_id", "n.department_name",
+                "LEFT JOIN core.sd_departments n ON n.department_id = g.dimension_id"),
+        SITE("b.site_id", "n.site_name",
+                "LEFT JOIN core.sd_sites n ON n.site_id = g.dimension_id"),
+        PLANT(null, "CAST(NULL AS VARCHAR)", "");
+
+        private final String column;
+        private final String nameColumn;
+        private final String nameJoin;
+
+        Level(String column, String nameColumn, String nameJoin) {
+            this.column = column;
+            this.nameColumn = nameColumn;
+            this.nameJoin = nameJoin;
+        }
+    }
+
+    /**
+     * OEE 기간 단위
+     */
+    public enum Granularity {
+        SHIFT("b.bucket_date", "b.shift_code"),
+        DAY("b.bucket_date", null),
+        MONTH("CAST(date_trunc('month', b.bucket_date) AS DATE)", null);
+
+        private final String periodColumn;
+        private final String shiftColumn;
+
+        Granularity(String periodColumn, String shiftColumn) {
+            this.periodColumn = periodColumn;
+            this.shiftColumn = shiftColumn;
+        }
+    }
+
+    /**
+     * 가동 이력/비가동 1건의 버킷 기여분 (불변)
+     */
+    @Getter
+    @EqualsAndHashCode
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Contribution {
+        private final String tenantId;
+        private final LocalDate bucketDate;
+        private final String shiftCode;
+        private final Long equipmentId;
+        private final Long siteId;
+        private final Long lineId;
+        @Builder.Default
+        private final BigDecimal plannedMinutes = BigDecimal.ZERO.setScale(2);
+        @Builder.Default
+        private final BigDecimal stopMinutes = BigDecimal.ZERO.setScale(2);
+        @Builder.Default
+        private final BigDecimal idealRunMinutes = BigDecimal.ZERO.setScale(2);
+        @Builder.Default
+        private final BigDecimal totalCount = BigDecimal.ZERO.setScale(3);
+        @Builder.Default
+        private final BigDecimal goodCount = BigDecimal.ZERO.setScale(3);
+        private final long operationCount;
+        private final long downtimeCount;
+
+        Contribution negate() {
+            return new Contribution(tenantId, bucketDate, shiftCode, equipmentId, siteId, lineId,
+                    plannedMinutes.negate(), stopMinutes.negate(), idealRunMinutes.negate(),
+                    totalCount.negate(), goodCount.negate(), -operationCount, -downtimeCount);
+        }
+
+        Contribution plus(Contribution other) {
+            return new Contribution(tenantId, bucketDate, shiftCode, equipmentId,
+                    siteId != null ? siteId : other.siteId, lineId != null ? lineId : other.lineId,
+                    plannedMinutes.add(other.plannedMinutes), stopMinutes.add(other.stopMinutes),
+                    idealRunMinutes.add(other.idealRunMinutes), totalCount.add(other.totalCount),
+                    goodCount.add(other.goodCount), operationCount + other.operationCount,
+                    downtimeCount + other.downtimeCount);
+        }
+    }
+}
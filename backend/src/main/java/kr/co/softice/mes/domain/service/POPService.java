@@ -7,7 +7,6 @@ import kr.co.softice.mes.domain.entity.*;
 import kr.co.softice.mes.domain.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,7 +38,8 @@ public class POPService {
     private final UserRepository userRepository;
     private final TenantRepository tenantRepository;
     private final WorkResultRepository workResultRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final POPUpdatePublisher popUpdatePublisher;
+    private final DocumentNumberService documentNumberService;
 
     /**
      * Get active work orders for operator
@@ -123,7 +123,7 @@ public class POPService {
         WorkProgressEntity saved = workProgressRepository.save(progress);
 
         // 7. Broadcast real-time update
-        broadcastWorkOrderUpdate(tenantId, workOrder);
+        popUpdatePublisher.publishWorkOrder(tenantId, workOrder);
 
         log.info("Work order started: {} by operator {}", workOrderId, operatorId);
 
@@ -172,7 +172,7 @@ public class POPService {
         workOrderRepository.save(workOrder);
 
         // 6. Broadcast real-time update
-        broadcastWorkProgressUpdate(tenantId, saved);
+        popUpdatePublisher.publishProgress(tenantId, saved);
 
         log.info("Work progress recorded: {} units for progress {}", request.getQuantity(), request.getProgressId());
 
@@ -235,7 +235,7 @@ public class POPService {
         workOrderRepository.save(workOrder);
 
         // 7. Broadcast real-time update
-        broadcastDefectUpdate(tenantId, saved);
+        popUpdatePublisher.publishDefect(tenantId, saved);
 
         log.info("Defect recorded: {} units of type {} for progress {}",
             request.getDefectQuantity(), request.getDefectType(), request.getProgressId());
@@ -287,7 +287,7 @@ public class POPService {
         WorkProgressEntity saved = workProgressRepository.save(progress);
 
         // 7. Broadcast update
-        broadcastWorkProgressUpdate(tenantId, saved);
+        popUpdatePublisher.publishProgress(tenantId, saved);
 
         log.info("Work paused for work order {}: {}", workOrderId, request.getPauseReason());
 
@@ -335,7 +335,7 @@ public class POPService {
         WorkProgressEntity saved = workProgressRepository.save(progress);
 
         // 7. Broadcast update
-        broadcastWorkProgressUpdate(tenantId, saved);
+        popUpdatePublisher.publishProgress(tenantId, saved);
 
         log.info("Work resumed for work order {}, pause duration: {} minutes", workOrderId, durationMinutes);
 
@@ -404,7 +404,7 @@ public class POPService {
         WorkOrderEntity saved = workOrderRepository.save(workOrder);
 
         // 8. Broadcast update
-        broadcastWorkOrderUpdate(tenantId, saved);
+        popUpdatePublisher.publishWorkOrder(tenantId, saved);
 
         log.info("Work order completed: {} with remarks: {}", workOrderId, remarks);
 
@@ -556,39 +556,6 @@ public class POPService {
 
     // Helper methods
 
-    private void broadcastWorkOrderUpdate(String tenantId, WorkOrderEntity workOrder) {
-        try {
-            messagingTemplate.convertAndSend(
-                "/topic/work-orders/" + tenantId,
-                workOrder
-            );
-        } catch (Exception e) {
-            log.error("Failed to broadcast work order update: {}", e.getMessage());
-        }
-    }
-
-    private void broadcastWorkProgressUpdate(String tenantId, WorkProgressEntity progress) {
-        try {
-            messagingTemplate.convertAndSend(
-                "/topic/work-progress/" + tenantId,
-                convertToWorkProgressResponse(progress)
-            );
-        } catch (Exception e) {
-            log.error("Failed to broadcast work progress update: {}", e.getMessage());
-        }
-    }
-
-    private void broadcastDefectUpdate(String tenantId, DefectEntity defect) {
-        try {
-            messagingTemplate.convertAndSend(
-                "/topic/defects/" + tenantId,
-                defect
-            );
-        } catch (Exception e) {
-            log.error("Failed to broadcast defect update: {}", e.getMessage());
-        }
-    }
-
     private WorkProgressResponse convertToWorkProgressResponse(WorkProgressEntity entity) {
         WorkOrderEntity workOrder = entity.getWorkOrder();
 
@@ -635,8 +602,6 @@ public class POPService {
     }
 
     private String generateDefectNo(String tenantId) {
-        String prefix = "DEF-" + LocalDate.now().toString().replace("-", "") + "-";
-        long count = defectRepository.countByTenant_TenantIdAndDefectNoStartingWith(tenantId, prefix);
-        return prefix + String.format("%04d", count + 1);
+        return documentNumberService.generate(tenantId, "DEF");
     }
 }
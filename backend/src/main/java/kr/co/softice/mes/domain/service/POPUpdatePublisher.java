@@ -0,0 +1,151 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.common.dto.pop.POPUpdateMessage;
+import kr.co.softice.mes.common.transaction.TransactionHooks;
+import kr.co.softice.mes.config.StompClusterRelay;
+import kr.co.softice.mes.domain.entity.DefectEntity;
+import kr.co.softice.mes.domain.entity.WorkOrderEntity;
+import kr.co.softice.mes.domain.entity.WorkProgressEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * POP Update Publisher
+ * POP 실시간 변경 브로드캐스트
+ *
+ * - 메시지는 호출 시점에 엔티티에서 필요한 필드만 복사 (지연 로딩 연관관계 직렬화 없음)
+ * - 트랜잭션 커밋 후에만 대기열에 적재 (롤백된 변경은 전송하지 않음)
+ * - 상태 메시지(작업지시, 작업실적)는 (토픽, 엔티티 ID) 단위로 마지막 메시지만 유지
+ *   → 같은 실적/작업지시가 주기 내 여러 번 바뀌어도 주기마다 최대 1건
+ * - 불량 등 추가형(append-only) 이벤트는 병합하지 않고 발생 순서대로 모두 전송
+ * - flush-interval-ms 주기로 taskScheduler(SchedulingConfig) 가 전송, 종료 시 잔여분 전송
+ * - 전송은 StompClusterRelay 경유 (REDIS 모드에서 전체 노드로 전파)
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+@Component
+public class POPUpdatePublisher {
+
+    private static final String WORK_ORDER_TOPIC = "/topic/work-orders/";
+    private static final String WORK_PROGRESS_TOPIC = "/topic/work-progress/";
+    private static final String DEFECT_TOPIC = "/topic/defects/";
+
+    private final StompClusterRelay stompClusterRelay;
+
+    private final Map<String, PendingUpdate> pending = new ConcurrentHashMap<>();
+    private final Queue<PendingUpdate> appended = new ConcurrentLinkedQueue<>();
+
+    public POPUpdatePublisher(StompClusterRelay stompClusterRelay) {
+        this.stompClusterRelay = stompClusterRelay;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    public void publishWorkOrder(String tenantId, WorkOrderEntity workOrder) {
+        publishLatest(WORK_ORDER_TOPIC + tenantId, "WO:" + workOrder.getWorkOrderId(), POPUpdateMessage.builder()
+            .type("WORK_ORDER")
+            .workOrderId(workOrder.getWorkOrderId())
+            .workOrderNo(workOrder.getWorkOrderNo())
+            .status(workOrder.getStatus())
+            .plannedQuantity(workOrder.getPlannedQuantity())
+            .producedQuantity(workOrder.getActualQuantity())
+            .goodQuantity(workOrder.getGoodQuantity())
+            .defectQuantity(workOrder.getDefectQuantity())
+            .updatedAt(LocalDateTime.now())
+            .build());
+    }
+
+    public void publishProgress(String tenantId, WorkProgressEntity progress) {
+        WorkOrderEntity workOrder = progress.getWorkOrder();
+        publishLatest(WORK_PROGRESS_TOPIC + tenantId, "WP:" + progress.getProgressId(), POPUpdateMessage.builder()
+            .type("WORK_PROGRESS")
+            .workOrderId(workOrder.getWorkOrderId())
+            .workOrderNo(workOrder.getWorkOrderNo())
+            .progressId(progress.getProgressId())
+            .progressStatus(progress.getStatus())
+            .pauseCount(progress.getPauseCount())
+            .plannedQuantity(workOrder.getPlannedQuantity())
+            .producedQuantity(progress.getProducedQuantity())
+            .goodQuantity(progress.getGoodQuantity())
+            .defectQuantity(progress.getDefectQuantity())
+            .updatedAt(LocalDateTime.now())
+            .build());
+    }
+
+    public void publishDefect(String tenantId, DefectEntity defect) {
+        WorkOrderEntity workOrder = defect.getWorkOrder();
+        publishAppend(DEFECT_TOPIC + tenantId, POPUpdateMessage.builder()
+            .type("DEFECT")
+            .workOrderId(workOrder.getWorkOrderId())
+            .workOrderNo(workOrder.getWorkOrderNo())
+            .goodQuantity(workOrder.getGoodQuantity())
+            .defectQuantity(workOrder.getDefectQuantity())
+            .defectId(defect.getDefectId())
+            .defectNo(defect.getDefectNo())
+            .defectType(defect.getDefectType())
+            .reportedDefectQuantity(defect.getDefectQuantity())
+            .severity(defect.getSeverity())
+            .updatedAt(LocalDateTime.now())
+            .build());
+    }
+
+    private void publishLatest(String destination, String entityKey, POPUpdateMessage message) {
+        TransactionHooks.afterCommit(() -> pending.merge(destination + ":" + entityKey,
+            new PendingUpdate(destination, message, 1),
+            (previous, latest) -> new PendingUpdate(destination, latest.message, previous.count + 1)));
+    }
+
+    private void publishAppend(String destination, POPUpdateMessage message) {
+        TransactionHooks.afterCommit(() -> appended.add(new PendingUpdate(destination, message, 1)));
+    }
+
+    @Scheduled(fixedDelayString = "${app.pop.broadcast.flush-interval-ms:200}")
+    public synchronized void flush() {
+        // 추가형 이벤트: 발생 순서대로 전부 전송
+        PendingUpdate event;
+        while ((event = appended.poll()) != null) {
+            send(event);
+        }
+
+        // 상태 메시지: 엔티티별 마지막 상태만 전송
+        for (String key : pending.keySet()) {
+            PendingUpdate update = pending.remove(key);
+            if (update != null) {
+                send(update);
+            }
+        }
+    }
+
+    private void send(PendingUpdate update) {
+        update.message.setCoalescedCount(update.count);
+        try {
+            stompClusterRelay.broadcast(update.destination, update.message);
+        } catch (Exception e) {
+            log.error("Failed to broadcast POP update to {}: {}", update.destination, e.getMessage());
+        }
+    }
+
+    private static final class PendingUpdate {
+        private final String destination;
+        private final POPUpdateMessage message;
+        private final int count;
+
+        private PendingUpdate(String destination, POPUpdateMessage message, int count) {
+            this.destination = destination;
+            this.message = message;
+            this.count = count;
+        }
+    }
+}
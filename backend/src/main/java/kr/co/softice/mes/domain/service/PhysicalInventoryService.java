@@ -10,9 +10,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 /**
@@ -29,10 +27,11 @@ public class PhysicalInventoryService {
 
     private final PhysicalInventoryRepository physicalInventoryRepository;
     private final InventoryRepository inventoryRepository;
-    private final WarehouseRepository warehouseRepository;
-    private final TenantRepository tenantRepository;
+    private final WarehouseService warehouseService;
+    private final TenantService tenantService;
     private final UserRepository userRepository;
     private final InventoryTransactionService inventoryTransactionService;
+    private final DocumentNumberService documentNumberService;
 
     /**
      * 실사 계획 생성
@@ -56,11 +55,11 @@ public class PhysicalInventoryService {
                 tenantId, warehouseId, inventoryDate);
 
         // 테넌트 조회
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
 
         // 창고 조회
-        WarehouseEntity warehouse = warehouseRepository.findById(warehouseId)
+        WarehouseEntity warehouse = warehouseService.findById(warehouseId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.WAREHOUSE_NOT_FOUND));
 
         // 실사 번호 자동 생성
@@ -360,13 +359,7 @@ public class PhysicalInventoryService {
      * 형식: PI-YYYYMMDD-0001
      */
     private String generateInventoryNo(String tenantId) {
-        LocalDate today = LocalDate.now();
-        String prefix = "PI-" + today.format(DateTimeFormatter.ofPattern("yyyyMMdd")) + "-";
-
-        long count = physicalInventoryRepository.countByTenantIdAndInventoryNoPrefix(tenantId, prefix);
-        String sequence = String.format("%04d", count + 1);
-
-        return prefix + sequence;
+        return documentNumberService.generate(tenantId, "PI");
     }
 
     /**
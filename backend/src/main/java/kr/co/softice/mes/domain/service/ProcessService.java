@@ -7,6 +7,9 @@ import kr.co.softice.mes.domain.repository.ProcessRepository;
 import kr.co.softice.mes.domain.repository.TenantRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,14 +41,25 @@ public class ProcessService {
     /**
      * Find active processes by tenant ID
      */
+    @Cacheable(cacheNames = "activeProcesses", key = "#tenantId")
     public List<ProcessEntity> findActiveByTenant(String tenantId) {
         return processRepository.findByTenantIdAndIsActiveWithTenant(tenantId, true);
     }
 
     /**
      * Find process by ID
+     * 캐시 값은 tenant 까지 fetch join (복원된 엔티티는 지연 로딩 연관관계를 식별자만 가지므로)
      */
+    @Cacheable(cacheNames = "processes", key = "#processId", unless = "#result == null")
     public Optional<ProcessEntity> findById(Long processId) {
+        return processRepository.findByIdWithTenant(processId);
+    }
+
+    /**
+     * 수정용 조회 (캐시 미사용, 항상 DB 최신 상태)
+     * 캐시 복사본을 수정해 저장하면 다른 노드의 변경을 덮어쓰므로 read-modify-write 경로는 이 메서드 사용
+     */
+    public Optional<ProcessEntity> findByIdUncached(Long processId) {
         return processRepository.findById(processId);
     }
 
@@ -60,6 +74,7 @@ public class ProcessService {
      * Create new process
      */
     @Transactional
+    @CacheEvict(cacheNames = "activeProcesses", key = "#process.tenant.tenantId")
     public ProcessEntity createProcess(ProcessEntity process) {
         log.info("Creating process: {} for tenant: {}",
             process.getProcessCode(), process.getTenant().getTenantId());
@@ -76,6 +91,10 @@ public class ProcessService {
      * Update process
      */
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = "processes", key = "#process.processId"),
+        @CacheEvict(cacheNames = "activeProcesses", key = "#process.tenant.tenantId")
+    })
     public ProcessEntity updateProcess(ProcessEntity process) {
         log.info("Updating process: {}", process.getProcessId());
 
@@ -90,6 +109,10 @@ public class ProcessService {
      * Delete process
      */
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = "processes", key = "#processId"),
+        @CacheEvict(cacheNames = "activeProcesses", allEntries = true)
+    })
     public void deleteProcess(Long processId) {
         log.info("Deleting process: {}", processId);
         processRepository.deleteById(processId);
@@ -99,6 +122,10 @@ public class ProcessService {
      * Activate process
      */
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = "processes", key = "#processId"),
+        @CacheEvict(cacheNames = "activeProcesses", key = "#result.tenant.tenantId")
+    })
     public ProcessEntity activateProcess(Long processId) {
         ProcessEntity process = processRepository.findById(processId)
             .orElseThrow(() -> new BusinessException(ErrorCode.PROCESS_NOT_FOUND));
@@ -111,6 +138,10 @@ public class ProcessService {
      * Deactivate process
      */
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = "processes", key = "#processId"),
+        @CacheEvict(cacheNames = "activeProcesses", key = "#result.tenant.tenantId")
+    })
     public ProcessEntity deactivateProcess(Long processId) {
         ProcessEntity process = processRepository.findById(processId)
             .orElseThrow(() -> new BusinessException(ErrorCode.PROCESS_NOT_FOUND));
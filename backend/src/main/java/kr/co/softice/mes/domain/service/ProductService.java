@@ -8,6 +8,9 @@ import kr.co.softice.mes.domain.repository.ProductRepository;
 import kr.co.softice.mes.domain.repository.TenantRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,14 +42,25 @@ public class ProductService {
     /**
      * Find active products by tenant ID
      */
+    @Cacheable(cacheNames = "activeProducts", key = "#tenantId")
     public List<ProductEntity> findActiveByTenant(String tenantId) {
         return productRepository.findByTenantIdAndIsActiveWithTenant(tenantId, true);
     }
 
     /**
      * Find product by ID
+     * 캐시 값은 tenant 까지 fetch join (복원된 엔티티는 지연 로딩 연관관계를 식별자만 가지므로)
      */
+    @Cacheable(cacheNames = "products", key = "#productId", unless = "#result == null")
     public Optional<ProductEntity> findById(Long productId) {
+        return productRepository.findByIdWithTenant(productId);
+    }
+
+    /**
+     * 수정용 조회 (캐시 미사용, 항상 DB 최신 상태)
+     * 캐시 복사본을 수정해 저장하면 다른 노드의 변경을 덮어쓰므로 read-modify-write 경로는 이 메서드 사용
+     */
+    public Optional<ProductEntity> findByIdUncached(Long productId) {
         return productRepository.findById(productId);
     }
 
@@ -61,6 +75,7 @@ public class ProductService {
      * Create new product
      */
     @Transactional
+    @CacheEvict(cacheNames = "activeProducts", key = "#product.tenant.tenantId")
     public ProductEntity createProduct(ProductEntity product) {
         log.info("Creating product: {} for tenant: {}",
             product.getProductCode(), product.getTenant().getTenantId());
@@ -77,6 +92,10 @@ public class ProductService {
      * Update product
      */
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = "products", key = "#product.productId"),
+        @CacheEvict(cacheNames = "activeProducts", key = "#product.tenant.tenantId")
+    })
     public ProductEntity updateProduct(ProductEntity product) {
         log.info("Updating product: {}", product.getProductId());
 
@@ -91,6 +110,10 @@ public class ProductService {
      * Delete product
      */
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = "products", key = "#productId"),
+        @CacheEvict(cacheNames = "activeProducts", allEntries = true)
+    })
     public void deleteProduct(Long productId) {
         log.info("Deleting product: {}", productId);
         productRepository.deleteById(productId);
@@ -100,6 +123,10 @@ public class ProductService {
      * Activate product
      */
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = "products", key = "#productId"),
+        @CacheEvict(cacheNames = "activeProducts", key = "#result.tenant.tenantId")
+    })
     public ProductEntity activateProduct(Long productId) {
         ProductEntity product = productRepository.findById(productId)
             .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
@@ -112,6 +139,10 @@ public class ProductService {
      * Deactivate product
      */
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = "products", key = "#productId"),
+        @CacheEvict(cacheNames = "activeProducts", key = "#result.tenant.tenantId")
+    })
     public ProductEntity deactivateProduct(Long productId) {
         ProductEntity product = productRepository.findById(productId)
             .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
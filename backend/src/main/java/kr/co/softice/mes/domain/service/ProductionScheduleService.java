@@ -4,7 +4,6 @@ import kr.co.softice.mes.common.dto.schedule.GanttChartData;
 import kr.co.softice.mes.common.exception.BusinessException;
 import kr.co.softice.mes.common.exception.ErrorCode;
 import kr.co.softice.mes.domain.entity.ProductionScheduleEntity;
-import kr.co.softice.mes.domain.entity.ProcessRoutingStepEntity;
 import kr.co.softice.mes.domain.entity.WorkOrderEntity;
 import kr.co.softice.mes.domain.repository.ProductionScheduleRepository;
 import kr.co.softice.mes.domain.repository.WorkOrderRepository;
@@ -18,6 +17,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -36,6 +36,8 @@ public class ProductionScheduleService {
 
     private final ProductionScheduleRepository scheduleRepository;
     private final WorkOrderRepository workOrderRepository;
+    private final CapacitySchedulingService capacitySchedulingService;
+    private final ScheduleChangePublisher scheduleChangePublisher;
 
     /**
      * 테넌트별 전체 일정 조회
@@ -83,9 +85,10 @@ public class ProductionScheduleService {
 
     /**
      * WorkOrder에서 자동으로 일정 생성
-     * - WorkOrder의 routing을 기반으로
-     * - 각 routing step마다 Schedule 생성
-     * - 시간 계산: 이전 단계 종료 시간 + 현재 단계 소요 시간
+     * - WorkOrder의 routing을 기반으로 각 routing step마다 Schedule 생성
+     * - 설비 점유/병렬 그룹/영업일을 반영한 유한 능력 스케줄링 (CapacitySchedulingService)
+     * - 기존 일정은 교체
+     * - PENDING/READY 작업지시만 가능 (그 외 상태는 INVALID_INPUT_VALUE)
      */
     @Transactional
     public List<ProductionScheduleEntity> generateSchedulesFromWorkOrder(Long workOrderId) {
@@ -97,54 +100,14 @@ public class ProductionScheduleService {
         if (workOrder.getRouting() == null) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
         }
-
-        // 기존 일정이 있으면 삭제
-        List<ProductionScheduleEntity> existingSchedules = scheduleRepository.findByWorkOrder_WorkOrderId(workOrderId);
-        if (!existingSchedules.isEmpty()) {
-            log.info("Deleting {} existing schedules for WorkOrder: {}", existingSchedules.size(), workOrderId);
-            scheduleRepository.deleteAll(existingSchedules);
-        }
-
-        List<ProductionScheduleEntity> schedules = new ArrayList<>();
-        LocalDateTime currentTime = workOrder.getPlannedStartDate();
-
-        for (ProcessRoutingStepEntity step : workOrder.getRouting().getSteps()) {
-            // 시간 계산 (분 단위)
-            int standardTime = step.getStandardTime() != null ? step.getStandardTime() : 0;
-            int setupTime = step.getSetupTime() != null ? step.getSetupTime() : 0;
-            int waitTime = step.getWaitTime() != null ? step.getWaitTime() : 0;
-            int totalMinutes = standardTime + setupTime + waitTime;
-
-            LocalDateTime startTime = currentTime;
-            LocalDateTime endTime = currentTime.plusMinutes(totalMinutes);
-
-            // Schedule 생성
-            ProductionScheduleEntity schedule = ProductionScheduleEntity.builder()
-                .tenant(workOrder.getTenant())
-                .workOrder(workOrder)
-                .routingStep(step)
-                .sequenceOrder(step.getSequenceOrder())
-                .plannedStartTime(startTime)
-                .plannedEndTime(endTime)
-                .plannedDuration(totalMinutes)
-                .assignedEquipment(step.getEquipment())
-                .assignedWorkers(step.getRequiredWorkers() != null ? step.getRequiredWorkers() : 1)
-                .status("SCHEDULED")
-                .progressRate(BigDecimal.ZERO)
-                .isDelayed(false)
-                .delayMinutes(0)
-                .build();
-
-            schedules.add(schedule);
-
-            // 다음 공정 시작 시간 설정
-            currentTime = endTime;
-
-            log.info("Created schedule for step {}: {} - {}",
-                step.getSequenceOrder(), startTime, endTime);
+        // 착수/완료된 작업지시는 일정 재생성 대상 아님 (빈 결과 대신 오류)
+        if (!CapacitySchedulingService.SCHEDULABLE_STATUSES.contains(workOrder.getStatus())) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "Schedules can only be generated for PENDING or READY work orders: status=" + workOrder.getStatus());
         }
 
-        List<ProductionScheduleEntity> savedSchedules = scheduleRepository.saveAll(schedules);
+        List<ProductionScheduleEntity> savedSchedules = capacitySchedulingService.schedule(
+            workOrder.getTenant().getTenantId(), Collections.singletonList(workOrderId), null).getSchedules();
         log.info("Generated {} schedules for WorkOrder: {}", savedSchedules.size(), workOrderId);
 
         return savedSchedules;
@@ -172,6 +135,7 @@ public class ProductionScheduleService {
         }
 
         ProductionScheduleEntity saved = scheduleRepository.save(schedule);
+        scheduleChangePublisher.markChanged(saved.getTenant().getTenantId());
         return scheduleRepository.findByIdWithAllRelations(saved.getScheduleId()).orElse(saved);
     }
 
@@ -199,6 +163,7 @@ public class ProductionScheduleService {
         }
 
         ProductionScheduleEntity updated = scheduleRepository.save(schedule);
+        scheduleChangePublisher.markChanged(updated.getTenant().getTenantId());
         return scheduleRepository.findByIdWithAllRelations(updated.getScheduleId()).orElse(updated);
     }
 
@@ -208,7 +173,10 @@ public class ProductionScheduleService {
     @Transactional
     public void deleteSchedule(Long scheduleId) {
         log.info("Deleting schedule: {}", scheduleId);
-        scheduleRepository.deleteById(scheduleId);
+        scheduleRepository.findById(scheduleId).ifPresent(schedule -> {
+            scheduleRepository.delete(schedule);
+            scheduleChangePublisher.markChanged(schedule.getTenant().getTenantId());
+        });
     }
 
     /**
@@ -233,6 +201,7 @@ public class ProductionScheduleService {
         }
 
         ProductionScheduleEntity updated = scheduleRepository.save(schedule);
+        scheduleChangePublisher.markChanged(updated.getTenant().getTenantId());
         return scheduleRepository.findByIdWithAllRelations(updated.getScheduleId()).orElse(updated);
     }
 
@@ -263,7 +232,7 @@ public class ProductionScheduleService {
         List<ProductionScheduleEntity> schedules = findByPeriod(tenantId, startDate, endDate);
 
         List<GanttChartData.GanttTask> tasks = schedules.stream()
-            .map(this::convertToGanttTask)
+            .map(ProductionScheduleService::convertToGanttTask)
             .collect(Collectors.toList());
 
         return GanttChartData.builder()
@@ -276,7 +245,7 @@ public class ProductionScheduleService {
     /**
      * Schedule을 GanttTask로 변환
      */
-    private GanttChartData.GanttTask convertToGanttTask(ProductionScheduleEntity schedule) {
+    static GanttChartData.GanttTask convertToGanttTask(ProductionScheduleEntity schedule) {
         String taskId = "schedule-" + schedule.getScheduleId();
         String taskName = schedule.getWorkOrder().getWorkOrderNo() + " - "
                         + schedule.getRoutingStep().getProcess().getProcessName();
@@ -307,13 +276,14 @@ public class ProductionScheduleService {
             .color(color)
             .parentId(parentId)
             .resource(resourceInfo)
+            .version(schedule.getChangeVersion())
             .build();
     }
 
     /**
      * 상태별 색상 반환
      */
-    private String getStatusColor(String status) {
+    private static String getStatusColor(String status) {
         switch (status) {
             case "SCHEDULED": return "#3498db";  // 파랑
             case "READY": return "#f39c12";      // 주황
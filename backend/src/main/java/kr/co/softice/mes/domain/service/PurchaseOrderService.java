@@ -26,7 +26,7 @@ import java.util.List;
 public class PurchaseOrderService {
 
     private final PurchaseOrderRepository purchaseOrderRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final UserRepository userRepository;
     private final SupplierRepository supplierRepository;
     private final MaterialRepository materialRepository;
@@ -78,7 +78,7 @@ public class PurchaseOrderService {
         }
 
         // Get tenant
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
 
         purchaseOrder.setTenant(tenant);
@@ -8,7 +8,6 @@ import kr.co.softice.mes.domain.entity.TenantEntity;
 import kr.co.softice.mes.domain.entity.UserEntity;
 import kr.co.softice.mes.domain.repository.MaterialRepository;
 import kr.co.softice.mes.domain.repository.PurchaseRequestRepository;
-import kr.co.softice.mes.domain.repository.TenantRepository;
 import kr.co.softice.mes.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,7 +30,7 @@ import java.util.List;
 public class PurchaseRequestService {
 
     private final PurchaseRequestRepository purchaseRequestRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final UserRepository userRepository;
     private final MaterialRepository materialRepository;
 
@@ -73,7 +72,7 @@ public class PurchaseRequestService {
         }
 
         // Get tenant
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND, "Tenant not found: " + tenantId));
 
         purchaseRequest.setTenant(tenant);
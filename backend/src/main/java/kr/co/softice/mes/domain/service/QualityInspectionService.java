@@ -1,5 +1,6 @@
 package kr.co.softice.mes.domain.service;
 
+import kr.co.softice.mes.common.dto.KeysetCursor;
 import kr.co.softice.mes.common.exception.BusinessException;
 import kr.co.softice.mes.common.exception.ErrorCode;
 import kr.co.softice.mes.domain.entity.*;
@@ -28,7 +29,7 @@ public class QualityInspectionService {
 
     private final QualityInspectionRepository qualityInspectionRepository;
     private final QualityStandardRepository qualityStandardRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final WorkOrderRepository workOrderRepository;
@@ -40,6 +41,13 @@ public class QualityInspectionService {
         return qualityInspectionRepository.findByTenantIdWithAllRelations(tenantId);
     }
 
+    /**
+     * Find quality inspections page by tenant (keyset, newest first, up to size + 1 rows)
+     */
+    public List<QualityInspectionEntity> findPageByTenant(String tenantId, long cursor, int size) {
+        return qualityInspectionRepository.findByTenantIdAfterCursor(tenantId, cursor, KeysetCursor.limit(size));
+    }
+
     /**
      * Find quality inspection by ID
      */
@@ -136,7 +144,7 @@ public class QualityInspectionService {
      * Count quality inspections by tenant and result
      */
     public long countByTenantAndResult(String tenantId, String result) {
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
             .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         return qualityInspectionRepository.countByTenantAndInspectionResult(tenant, result);
     }
@@ -145,7 +153,7 @@ public class QualityInspectionService {
      * Count quality inspections by tenant
      */
     public long countByTenant(String tenantId) {
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
             .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         return qualityInspectionRepository.countByTenant(tenant);
     }
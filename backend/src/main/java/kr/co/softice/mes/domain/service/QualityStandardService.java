@@ -7,7 +7,6 @@ import kr.co.softice.mes.domain.entity.QualityStandardEntity;
 import kr.co.softice.mes.domain.entity.TenantEntity;
 import kr.co.softice.mes.domain.repository.ProductRepository;
 import kr.co.softice.mes.domain.repository.QualityStandardRepository;
-import kr.co.softice.mes.domain.repository.TenantRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -29,7 +28,7 @@ import java.util.Optional;
 public class QualityStandardService {
 
     private final QualityStandardRepository qualityStandardRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final ProductRepository productRepository;
 
     /**
@@ -139,7 +138,7 @@ public class QualityStandardService {
      * Count quality standards by tenant
      */
     public long countByTenant(String tenantId) {
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
             .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         return qualityStandardRepository.countByTenant(tenant);
     }
@@ -11,7 +11,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 /**
@@ -26,8 +25,7 @@ import java.util.List;
 public class ReturnService {
 
     private final ReturnRepository returnRepository;
-
-    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private final DocumentNumberService documentNumberService;
 
     /**
      * Find all returns by tenant
@@ -222,15 +220,7 @@ public class ReturnService {
      * Generate return number (RT-YYYYMMDD-0001)
      */
     private String generateReturnNo(String tenantId) {
-        String dateStr = LocalDateTime.now().format(DATE_FORMAT);
-        String prefix = "RT-" + dateStr + "-";
-
-        List<ReturnEntity> todayReturns = returnRepository.findByTenant_TenantId(tenantId);
-        long count = todayReturns.stream()
-                .filter(r -> r.getReturnNo() != null && r.getReturnNo().startsWith(prefix))
-                .count();
-
-        return prefix + String.format("%04d", count + 1);
+        return documentNumberService.generate(tenantId, "RT");
     }
 
     /**
@@ -2,10 +2,12 @@ package kr.co.softice.mes.domain.service;
 
 import kr.co.softice.mes.common.exception.BusinessException;
 import kr.co.softice.mes.common.exception.ErrorCode;
+import kr.co.softice.mes.common.security.PrincipalCache;
 import kr.co.softice.mes.domain.entity.PermissionEntity;
 import kr.co.softice.mes.domain.entity.RoleEntity;
 import kr.co.softice.mes.domain.entity.RolePermissionEntity;
 import kr.co.softice.mes.domain.entity.TenantEntity;
+import kr.co.softice.mes.domain.entity.UserEntity;
 import kr.co.softice.mes.domain.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Role Service
@@ -31,6 +34,8 @@ public class RoleService {
     private final TenantRepository tenantRepository;
     private final PermissionRepository permissionRepository;
     private final RolePermissionRepository rolePermissionRepository;
+    private final UserRoleRepository userRoleRepository;
+    private final PrincipalCache principalCache;
 
     /**
      * Find role by ID
@@ -102,7 +107,9 @@ public class RoleService {
             throw new BusinessException(ErrorCode.ROLE_NOT_FOUND);
         }
 
-        return roleRepository.save(role);
+        RoleEntity updated = roleRepository.save(role);
+        evictRoleMembers(updated);
+        return updated;
     }
 
     /**
@@ -115,6 +122,9 @@ public class RoleService {
         RoleEntity role = roleRepository.findById(roleId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ROLE_NOT_FOUND));
 
+        // Role members lose this authority
+        evictRoleMembers(role);
+
         // Delete all role-permission mappings first
         rolePermissionRepository.deleteByRole(role);
 
@@ -167,4 +177,13 @@ public class RoleService {
                 .findFirst()
                 .ifPresent(rolePermissionRepository::delete);
     }
+
+    /**
+     * Invalidate cached principals of users holding the role
+     */
+    private void evictRoleMembers(RoleEntity role) {
+        principalCache.evictAll(userRoleRepository.findUsersByRole(role).stream()
+                .map(UserEntity::getUserId)
+                .collect(Collectors.toList()));
+    }
 }
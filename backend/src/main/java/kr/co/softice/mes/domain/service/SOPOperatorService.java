@@ -34,6 +34,7 @@ public class SOPOperatorService {
     private final WorkOrderRepository workOrderRepository;
     private final UserRepository userRepository;
     private final TenantRepository tenantRepository;
+    private final DocumentNumberService documentNumberService;
 
     /**
      * Get SOPs for a work order
@@ -312,8 +313,6 @@ public class SOPOperatorService {
     }
 
     private String generateExecutionNo(String tenantId) {
-        String prefix = "SOPE-" + LocalDateTime.now().toLocalDate().toString().replace("-", "") + "-";
-        long count = sopExecutionRepository.countByTenant_TenantIdAndExecutionNoStartingWith(tenantId, prefix);
-        return prefix + String.format("%04d", count + 1);
+        return documentNumberService.generate(tenantId, "SOPE");
     }
 }
@@ -11,7 +11,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,11 +32,12 @@ import java.util.Optional;
 public class SalesOrderService {
 
     private final SalesOrderRepository salesOrderRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final CustomerRepository customerRepository;
-    private final ProductRepository productRepository;
+    private final ProductService productService;
     private final MaterialRepository materialRepository;
     private final UserRepository userRepository;
+    private final DocumentNumberService documentNumberService;
 
     /**
      * Find all sales orders by tenant
@@ -90,7 +90,7 @@ public class SalesOrderService {
             salesOrder.getCustomer().getCustomerId());
 
         // 1. Resolve tenant
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND, "Tenant not found: " + tenantId));
         salesOrder.setTenant(tenant);
 
@@ -126,7 +126,7 @@ public class SalesOrderService {
 
             // Resolve product or material
             if (item.getProduct() != null) {
-                ProductEntity product = productRepository.findById(item.getProduct().getProductId())
+                ProductEntity product = productService.findById(item.getProduct().getProductId())
                         .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, "Product not found: " + item.getProduct().getProductId()));
                 item.setProduct(product);
                 // Product code and name will be retrieved from product entity
@@ -217,7 +217,7 @@ public class SalesOrderService {
 
                 // Resolve product or material
                 if (item.getProduct() != null) {
-                    ProductEntity product = productRepository.findById(item.getProduct().getProductId())
+                    ProductEntity product = productService.findById(item.getProduct().getProductId())
                             .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, "Product not found"));
                     item.setProduct(product);
                     // Product code and name will be retrieved from product entity
@@ -369,26 +369,6 @@ public class SalesOrderService {
      * Generate sales order number: SO-YYYYMMDD-0001
      */
     private String generateOrderNo(String tenantId) {
-        String dateStr = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String prefix = "SO-" + dateStr + "-";
-
-        // Find last order number for today
-        List<SalesOrderEntity> todayOrders = salesOrderRepository.findByTenantIdWithAllRelations(tenantId);
-
-        int maxSeq = todayOrders.stream()
-                .map(SalesOrderEntity::getOrderNo)
-                .filter(no -> no.startsWith(prefix))
-                .map(no -> no.substring(prefix.length()))
-                .mapToInt(seq -> {
-                    try {
-                        return Integer.parseInt(seq);
-                    } catch (NumberFormatException e) {
-                        return 0;
-                    }
-                })
-                .max()
-                .orElse(0);
-
-        return String.format("%s%04d", prefix, maxSeq + 1);
+        return documentNumberService.generate(tenantId, "SO");
     }
 }
@@ -0,0 +1,421 @@
+package kr.co.softice.mes.domain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.softice.mes.common.dto.weighing.ScaleIngestResult;
+import kr.co.softice.mes.common.dto.weighing.ScaleReading;
+import kr.co.softice.mes.common.dto.weighing.ScaleSessionRequest;
+import kr.co.softice.mes.common.dto.weighing.ScaleSessionResponse;
+import kr.co.softice.mes.common.exception.BusinessException;
+import kr.co.softice.mes.common.exception.ErrorCode;
+import kr.co.softice.mes.domain.entity.LotEntity;
+import kr.co.softice.mes.domain.entity.ProductEntity;
+import kr.co.softice.mes.domain.entity.UserEntity;
+import kr.co.softice.mes.domain.repository.LotRepository;
+import kr.co.softice.mes.domain.repository.ProductRepository;
+import kr.co.softice.mes.domain.repository.TenantRepository;
+import kr.co.softice.mes.domain.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Scale Ingestion Service
+ * 산업용 저울 측정값 연속 수신 → 안정 중량 자동 칭량
+ *
+ * 흐름:
+ * 1. 세션 시작 (저울별 품목/LOT/작업자/용기 중량/기준 중량) - 테넌트/품목/LOT/작업자 조회는 세션당 1회,
+ *    세션 정의는 wms.sd_scale_sessions 에 저장 (어느 노드에서 열고 닫아도 됨)
+ * 2. 측정값 수신 (JSON 배열 / NDJSON 스트림) - 요청당 1회 세션 목록(ID)을 확인해 노드 메모리의 ScaleSession 을
+ *    재구성/제거한 뒤 측정값은 메모리 버퍼에 반영 (측정값 단위 DB 접근 없음)
+ * 3. 안정 중량 확정 시 허용 오차 판정 후 WeighingBatchWriter 로 저장, 저장이 끝난 뒤 응답
+ *    (응답의 captured 는 저장된 건수, NDJSON 스트림은 batch-size 건마다 저장)
+ *
+ * - 측정값 버퍼(안정 판정 window)는 수신 노드 메모리에 있으므로 한 저울의 측정값은 같은 노드로 보내야 함
+ *   → k8s 30-ingress.yaml 의 readings 전용 Ingress 가 게이트웨이 주소 기준 해시로 노드 고정
+ * - 적재 상태(LOADED/WAITING_LOAD)와 확정 건수는 변경 시 DB 에 반영 → 노드 재시작/재배치 후에도
+ *   같은 적재물을 다시 확정하지 않음 (버퍼만 비어서 window 만큼 측정값을 다시 채운 뒤 판정)
+ * - 확정된 칭량은 수동 등록과 같이 PENDING 상태로 저장되어 GMP 이중 검증 대상
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+@Service
+public class ScaleIngestionService {
+
+    private static final int MAX_ERRORS = 100;
+
+    private static final String DELETE_SESSION_SQL =
+            "DELETE FROM wms.sd_scale_sessions WHERE tenant_id = ? AND scale_id = ?";
+
+    private static final String INSERT_SESSION_SQL =
+            "INSERT INTO wms.sd_scale_sessions (tenant_id, scale_id, definition_json, opened_at) " +
+            "VALUES (?, ?, ?, ?) RETURNING session_id";
+
+    private static final String FIND_SESSION_IDS_SQL =
+            "SELECT scale_id, session_id FROM wms.sd_scale_sessions WHERE tenant_id = ?";
+
+    private static final String FIND_SESSION_SQL =
+            "SELECT definition_json, loaded, captured_count FROM wms.sd_scale_sessions WHERE session_id = ?";
+
+    private static final String UPDATE_STATE_SQL =
+            "UPDATE wms.sd_scale_sessions SET loaded = ?, captured_count = ?, updated_at = ? WHERE session_id = ?";
+
+    private final TenantRepository tenantRepository;
+    private final ProductRepository productRepository;
+    private final LotRepository lotRepository;
+    private final UserRepository userRepository;
+    private final WeighingBatchWriter weighingBatchWriter;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader readingReader;
+
+    @Value("${app.weighing.ingest.stable-window:5}")
+    private int stableWindow;
+
+    @Value("${app.weighing.ingest.stability-band:0.005}")
+    private double stabilityBand;
+
+    @Value("${app.weighing.ingest.min-load:0.01}")
+    private double minLoad;
+
+    @Value("${app.weighing.ingest.zero-band:0.005}")
+    private double zeroBand;
+
+    @Value("${app.weighing.ingest.batch-size:200}")
+    private int batchSize;
+
+    // tenantId → (scaleId → session), DB 세션 목록의 노드 로컬 사본
+    private final Map<String, Map<Long, ScaleSession>> sessions = new ConcurrentHashMap<>();
+
+    private final Counter acceptedReadings;
+    private final Counter rejectedReadings;
+    private final Counter capturedWeighings;
+
+    public ScaleIngestionService(TenantRepository tenantRepository, ProductRepository productRepository,
+                                 LotRepository lotRepository, UserRepository userRepository,
+                                 WeighingBatchWriter weighingBatchWriter, JdbcTemplate jdbcTemplate,
+                                 ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.tenantRepository = tenantRepository;
+        this.productRepository = productRepository;
+        this.lotRepository = lotRepository;
+        this.userRepository = userRepository;
+        this.weighingBatchWriter = weighingBatchWriter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.readingReader = objectMapper.readerFor(ScaleReading.class);
+
+        this.acceptedReadings = readingCounter(meterRegistry, "accepted");
+        this.rejectedReadings = readingCounter(meterRegistry, "rejected");
+        this.capturedWeighings = Counter.builder("weighing.ingest.captured").register(meterRegistry);
+        Gauge.builder("weighing.ingest.sessions", sessions,
+                map -> map.values().stream().mapToInt(Map::size).sum()).register(meterRegistry);
+    }
+
+    // ================== 세션 ==================
+
+    /**
+     * 저울 칭량 세션 시작 (같은 저울의 기존 세션은 대체)
+     */
+    @Transactional
+    public ScaleSessionResponse openSession(String tenantId, Long scaleId, ScaleSessionRequest request) {
+        log.info("Opening scale session: tenant={}, scale={}, product={}", tenantId, scaleId, request.getProductId());
+
+        tenantRepository.findById(tenantId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND,
+                        "Tenant not found: " + tenantId));
+
+        ProductEntity product = productRepository.findByProductIdAndTenant_TenantId(request.getProductId(), tenantId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND,
+                        "Product not found: " + request.getProductId()));
+
+        LotEntity lot = null;
+        if (request.getLotId() != null) {
+            lot = lotRepository.findByLotIdAndTenant_TenantId(request.getLotId(), tenantId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.LOT_NOT_FOUND,
+                            "Lot not found: " + request.getLotId()));
+        }
+
+        UserEntity operator = userRepository.findByUserIdAndTenant_TenantId(request.getOperatorUserId(), tenantId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND,
+                        "Operator not found: " + request.getOperatorUserId()));
+
+        ScaleSession.Definition definition = ScaleSession.Definition.builder()
+                .tenantId(tenantId)
+                .scaleId(scaleId)
+                .scaleName(request.getScaleName())
+                .weighingType(request.getWeighingType())
+                .referenceType(request.getReferenceType())
+                .referenceId(request.getReferenceId())
+                .productId(product.getProductId())
+                .productCode(product.getProductCode())
+                .productName(product.getProductName())
+                .lotId(lot != null ? lot.getLotId() : null)
+                .operatorUserId(operator.getUserId())
+                .tareWeight(request.getTareWeight())
+                .expectedWeight(request.getExpectedWeight())
+                .tolerancePercentage(request.getTolerancePercentage() != null
+                        ? request.getTolerancePercentage() : new BigDecimal("2.0"))
+                .unit(request.getUnit() != null ? request.getUnit() : "kg")
+                .temperature(request.getTemperature())
+                .humidity(request.getHumidity())
+                .openedAt(LocalDateTime.now())
+                .build();
+
+        jdbcTemplate.update(DELETE_SESSION_SQL, tenantId, scaleId);
+        Long sessionId = jdbcTemplate.queryForObject(INSERT_SESSION_SQL, Long.class,
+                tenantId, scaleId, toJson(definition), Timestamp.valueOf(definition.getOpenedAt()));
+
+        ScaleSession session = newSession(sessionId, definition, false, 0);
+        sessions.computeIfAbsent(tenantId, key -> new ConcurrentHashMap<>()).put(scaleId, session);
+        return session.toResponse();
+    }
+
+    /**
+     * 저울 칭량 세션 종료
+     */
+    public ScaleSessionResponse closeSession(String tenantId, Long scaleId) {
+        ScaleSession session = syncSessions(tenantId).get(scaleId);
+        if (session == null || jdbcTemplate.update(DELETE_SESSION_SQL, tenantId, scaleId) == 0) {
+            throw new BusinessException(ErrorCode.SCALE_SESSION_NOT_FOUND, "Scale session not found: " + scaleId);
+        }
+        tenantSessions(tenantId).remove(scaleId, session);
+        log.info("Closed scale session: tenant={}, scale={}", tenantId, scaleId);
+        return session.toResponse();
+    }
+
+    /**
+     * 세션 목록 (측정값 수, 마지막 측정값 등 실시간 값은 이 노드가 수신한 값 기준)
+     */
+    public List<ScaleSessionResponse> getSessions(String tenantId) {
+        return syncSessions(tenantId).values().stream()
+                .map(ScaleSession::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    // ================== 측정값 수신 ==================
+
+    /**
+     * 측정값 수신 (JSON 배열)
+     */
+    public ScaleIngestResult ingest(String tenantId, List<ScaleReading> readings) {
+        Map<Long, ScaleSession> tenantSessions = syncSessions(tenantId);
+        ScaleIngestResult result = new ScaleIngestResult();
+        List<ScaleSession.CapturedWeighing> captured = new ArrayList<>();
+        long receivedAt = System.currentTimeMillis();
+        try {
+            for (int i = 0; i < readings.size(); i++) {
+                accept(tenantSessions, readings.get(i), i + 1, receivedAt, captured, result);
+            }
+            save(tenantSessions, captured, result);
+        } finally {
+            record(result);
+        }
+        return result;
+    }
+
+    /**
+     * 측정값 수신 (NDJSON 스트림, 줄 단위로 읽으며 즉시 반영)
+     */
+    public ScaleIngestResult ingestNdjson(String tenantId, InputStream input) {
+        Map<Long, ScaleSession> tenantSessions = syncSessions(tenantId);
+        ScaleIngestResult result = new ScaleIngestResult();
+        List<ScaleSession.CapturedWeighing> captured = new ArrayList<>();
+        long receivedAt = System.currentTimeMillis();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String text;
+            int lineNo = 0;
+            while ((text = reader.readLine()) != null) {
+                lineNo++;
+                if (text.isEmpty()) {
+                    continue;
+                }
+                ScaleReading reading;
+                try {
+                    reading = readingReader.readValue(text);
+                } catch (JsonProcessingException e) {
+                    reject(result, lineNo, "Invalid JSON: " + e.getOriginalMessage());
+                    continue;
+                }
+                accept(tenantSessions, reading, lineNo, receivedAt, captured, result);
+                if (captured.size() >= batchSize) {
+                    save(tenantSessions, captured, result);
+                }
+            }
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Failed to read NDJSON: " + e.getMessage());
+        } finally {
+            // 읽기 실패 시에도 이미 확정된 칭량은 저장
+            save(tenantSessions, captured, result);
+            record(result);
+        }
+        return result;
+    }
+
+    private void accept(Map<Long, ScaleSession> tenantSessions, ScaleReading reading, int lineNo,
+                        long receivedAt, List<ScaleSession.CapturedWeighing> captured, ScaleIngestResult result) {
+        if (reading == null || reading.getScaleId() == null || reading.getWeight() == null
+                || !Double.isFinite(reading.getWeight())) {
+            reject(result, lineNo, "scaleId and weight are required");
+            return;
+        }
+
+        ScaleSession session = tenantSessions.get(reading.getScaleId());
+        if (session == null) {
+            reject(result, lineNo, "No open session for scale: " + reading.getScaleId());
+            return;
+        }
+
+        long timestamp = reading.getTimestamp() != null ? reading.getTimestamp() : receivedAt;
+        ScaleSession.CapturedWeighing weighing = session.accept(reading.getWeight(), timestamp);
+        result.setAccepted(result.getAccepted() + 1);
+
+        if (weighing != null) {
+            captured.add(weighing);
+            log.debug("Captured weighing: tenant={}, scale={}, net={}, toleranceExceeded={}",
+                    weighing.getTenantId(), weighing.getScaleId(), weighing.getNetWeight(),
+                    weighing.getToleranceExceeded());
+        }
+    }
+
+    /**
+     * 확정 칭량 저장 후 적재 상태가 바뀐 세션 반영 (저장된 건수만 captured 로 보고)
+     * 저장 실패 건은 세션을 WAITING_LOAD 로 되돌린 뒤 반영 → 적재물이 그대로면 다시 확정
+     */
+    private void save(Map<Long, ScaleSession> tenantSessions, List<ScaleSession.CapturedWeighing> captured,
+                      ScaleIngestResult result) {
+        if (!captured.isEmpty()) {
+            List<ScaleSession.CapturedWeighing> failed = weighingBatchWriter.write(captured);
+            result.setCaptured(result.getCaptured() + captured.size() - failed.size());
+            if (!failed.isEmpty()) {
+                result.getErrors().add(failed.size() + " captured weighings failed to save");
+                for (ScaleSession.CapturedWeighing weighing : failed) {
+                    ScaleSession session = tenantSessions.get(weighing.getScaleId());
+                    if (session != null) {
+                        session.rollbackCapture(weighing);
+                    }
+                }
+            }
+            captured.clear();
+        }
+
+        List<Object[]> states = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (ScaleSession session : tenantSessions.values()) {
+            if (session.takeStateChange()) {
+                states.add(new Object[]{session.isLoaded(), session.getCapturedCount(), Timestamp.valueOf(now),
+                        session.getSessionId()});
+            }
+        }
+        if (!states.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_STATE_SQL, states);
+        }
+    }
+
+    private static void reject(ScaleIngestResult result, int lineNo, String message) {
+        result.setRejected(result.getRejected() + 1);
+        if (result.getErrors().size() < MAX_ERRORS) {
+            result.getErrors().add("line " + lineNo + ": " + message);
+        }
+    }
+
+    private void record(ScaleIngestResult result) {
+        acceptedReadings.increment(result.getAccepted());
+        rejectedReadings.increment(result.getRejected());
+        capturedWeighings.increment(result.getCaptured());
+    }
+
+    /**
+     * DB 세션 목록과 노드 로컬 사본 동기화 (다른 노드에서 열린 세션은 재구성, 닫힌 세션은 제거)
+     */
+    private Map<Long, ScaleSession> syncSessions(String tenantId) {
+        Map<Long, Long> current = new HashMap<>();
+        jdbcTemplate.query(FIND_SESSION_IDS_SQL,
+                rs -> { current.put(rs.getLong("scale_id"), rs.getLong("session_id")); }, tenantId);
+
+        Map<Long, ScaleSession> tenantSessions = tenantSessions(tenantId);
+        tenantSessions.entrySet().removeIf(entry ->
+                !entry.getValue().getSessionId().equals(current.get(entry.getKey())));
+        current.forEach((scaleId, sessionId) -> {
+            if (!tenantSessions.containsKey(scaleId)) {
+                ScaleSession session = loadSession(sessionId);
+                if (session != null) {
+                    tenantSessions.putIfAbsent(scaleId, session);
+                }
+            }
+        });
+        return tenantSessions;
+    }
+
+    private ScaleSession loadSession(Long sessionId) {
+        List<Object[]> rows = jdbcTemplate.query(FIND_SESSION_SQL, (rs, rowNum) -> new Object[]{
+                rs.getString("definition_json"), rs.getBoolean("loaded"), rs.getLong("captured_count")}, sessionId);
+        if (rows.isEmpty()) {
+            return null;  // 조회 사이에 닫힘
+        }
+        Object[] row = rows.get(0);
+        try {
+            ScaleSession.Definition definition =
+                    objectMapper.readValue((String) row[0], ScaleSession.Definition.class);
+            return newSession(sessionId, definition, (Boolean) row[1], (Long) row[2]);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to read stored scale session {}: {}", sessionId, e.getMessage());
+            return null;
+        }
+    }
+
+    private ScaleSession newSession(Long sessionId, ScaleSession.Definition definition, boolean loaded,
+                                    long capturedCount) {
+        return ScaleSession.builder()
+                .sessionId(sessionId)
+                .definition(definition)
+                .loaded(loaded)
+                .capturedCount(capturedCount)
+                .windowSize(stableWindow)
+                .stabilityBand(stabilityBand)
+                .minLoad(minLoad)
+                .zeroBand(zeroBand)
+                .build();
+    }
+
+    private Map<Long, ScaleSession> tenantSessions(String tenantId) {
+        return sessions.computeIfAbsent(tenantId, key -> new ConcurrentHashMap<>());
+    }
+
+    private String toJson(ScaleSession.Definition definition) {
+        try {
+            return objectMapper.writeValueAsString(definition);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "Failed to store scale session: " + e.getOriginalMessage());
+        }
+    }
+
+    private static Counter readingCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("weighing.ingest.readings")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
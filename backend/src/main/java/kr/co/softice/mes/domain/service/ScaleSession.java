@@ -0,0 +1,284 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.common.dto.weighing.ScaleSessionResponse;
+import kr.co.softice.mes.domain.entity.WeighingEntity;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Scale Session
+ * 저울 1대의 칭량 세션 (측정값 버퍼 + 안정 중량 판정)
+ *
+ * - 최근 window 개 측정값을 링 버퍼에 유지, (최대 - 최소) 가 stabilityBand 이하이면 안정
+ * - 대기(WAITING_LOAD) 상태에서 순중량 minLoad 이상으로 안정되면 평균값으로 칭량 1건 확정 → LOADED
+ * - LOADED 상태에서 순중량이 zeroBand 이하로 내려가면(하역) 다음 칭량 대기
+ * - 확정 칭량 저장에 실패하면 rollbackCapture 로 WAITING_LOAD 복귀 (같은 적재물을 다시 확정)
+ * - 허용 오차는 확정 시점에 메모리에서 판정 (WeighingEntity.performCalculations 와 같은 규칙)
+ *
+ * 측정값 처리는 세션 단위 동기화, DB 접근 없음
+ * 세션 정의와 적재 상태는 ScaleIngestionService 가 DB 에 보관 (다른 노드에서 재구성 가능)
+ *
+ * @author Moon Myung-seop
+ */
+public class ScaleSession {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final Long sessionId;
+    private final Definition definition;
+    private final double tare;
+    private final double stabilityBand;
+    private final double minLoad;
+    private final double zeroBand;
+
+    // Ring buffer
+    private final double[] window;
+    private int head;
+    private int count;
+
+    private boolean loaded;
+    private boolean stateChanged;
+    private double lastWeight = Double.NaN;
+    private long lastTimestamp;
+    private long readingCount;
+    private long capturedCount;
+    private CapturedWeighing lastCapture;
+
+    @Builder
+    private ScaleSession(Long sessionId, Definition definition, boolean loaded, long capturedCount,
+                         int windowSize, double stabilityBand, double minLoad, double zeroBand) {
+        this.sessionId = sessionId;
+        this.definition = definition;
+        this.loaded = loaded;
+        this.capturedCount = capturedCount;
+        this.tare = definition.getTareWeight().doubleValue();
+        this.window = new double[Math.max(2, windowSize)];
+        this.stabilityBand = stabilityBand;
+        this.minLoad = minLoad;
+        this.zeroBand = zeroBand;
+    }
+
+    public Long getSessionId() {
+        return sessionId;
+    }
+
+    public String getTenantId() {
+        return definition.getTenantId();
+    }
+
+    /**
+     * 적재 상태(LOADED/WAITING_LOAD) 변경 여부 확인 후 초기화 (변경 시 DB 반영 대상)
+     */
+    public synchronized boolean takeStateChange() {
+        boolean changed = stateChanged;
+        stateChanged = false;
+        return changed;
+    }
+
+    public synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    public synchronized long getCapturedCount() {
+        return capturedCount;
+    }
+
+    /**
+     * 측정값 반영
+     *
+     * @return 이 측정값으로 칭량이 확정되면 확정 결과, 아니면 null
+     */
+    public synchronized CapturedWeighing accept(double weight, long timestamp) {
+        readingCount++;
+        lastWeight = weight;
+        lastTimestamp = timestamp;
+
+        window[head] = weight;
+        head = (head + 1) % window.length;
+        if (count < window.length) {
+            count++;
+        }
+
+        if (loaded) {
+            // 하역 후 다음 칭량 대기
+            if (weight - tare <= zeroBand) {
+                loaded = false;
+                stateChanged = true;
+                count = 0;
+            }
+            return null;
+        }
+
+        if (!isStable()) {
+            return null;
+        }
+
+        double sum = 0;
+        for (double value : window) {
+            sum += value;
+        }
+        double mean = sum / window.length;
+        if (mean - tare < minLoad) {
+            return null;
+        }
+
+        loaded = true;
+        stateChanged = true;
+        capturedCount++;
+        lastCapture = capture(mean, timestamp);
+        return lastCapture;
+    }
+
+    /**
+     * 확정 칭량 저장 실패 반영 - 확정 건수 되돌림, 아직 같은 적재물이면 WAITING_LOAD 로 되돌려 다시 확정
+     * (이미 하역되었거나 다음 적재물이 확정된 뒤면 적재 상태는 유지)
+     */
+    public synchronized void rollbackCapture(CapturedWeighing weighing) {
+        capturedCount = Math.max(0, capturedCount - 1);
+        stateChanged = true;
+        if (loaded && weighing == lastCapture) {
+            loaded = false;
+            count = 0;
+        }
+    }
+
+    /**
+     * 안정 중량 확정 - 순중량/편차/허용 오차 계산
+     */
+    private CapturedWeighing capture(double grossWeight, long timestamp) {
+        Definition d = definition;
+        WeighingEntity calc = WeighingEntity.builder()
+                .grossWeight(BigDecimal.valueOf(grossWeight).setScale(3, RoundingMode.HALF_UP))
+                .tareWeight(d.getTareWeight())
+                .expectedWeight(d.getExpectedWeight())
+                .tolerancePercentage(d.getTolerancePercentage())
+                .build();
+        calc.performCalculations();
+
+        return CapturedWeighing.builder()
+                .tenantId(d.getTenantId())
+                .weighingDate(LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZONE))
+                .weighingType(d.getWeighingType())
+                .referenceType(d.getReferenceType())
+                .referenceId(d.getReferenceId())
+                .productId(d.getProductId())
+                .lotId(d.getLotId())
+                .tareWeight(calc.getTareWeight())
+                .grossWeight(calc.getGrossWeight())
+                .netWeight(calc.getNetWeight())
+                .expectedWeight(calc.getExpectedWeight())
+                .variance(calc.getVariance())
+                .variancePercentage(calc.getVariancePercentage())
+                .unit(d.getUnit())
+                .scaleId(d.getScaleId())
+                .scaleName(d.getScaleName())
+                .operatorUserId(d.getOperatorUserId())
+                .toleranceExceeded(calc.getToleranceExceeded())
+                .tolerancePercentage(d.getTolerancePercentage())
+                .temperature(d.getTemperature())
+                .humidity(d.getHumidity())
+                .build();
+    }
+
+    private boolean isStable() {
+        if (count < window.length) {
+            return false;
+        }
+        double min = window[0];
+        double max = window[0];
+        for (double value : window) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        return max - min <= stabilityBand;
+    }
+
+    public synchronized ScaleSessionResponse toResponse() {
+        Definition d = definition;
+        return ScaleSessionResponse.builder()
+                .scaleId(d.getScaleId())
+                .scaleName(d.getScaleName())
+                .weighingType(d.getWeighingType())
+                .productId(d.getProductId())
+                .productCode(d.getProductCode())
+                .productName(d.getProductName())
+                .lotId(d.getLotId())
+                .operatorUserId(d.getOperatorUserId())
+                .tareWeight(d.getTareWeight())
+                .expectedWeight(d.getExpectedWeight())
+                .tolerancePercentage(d.getTolerancePercentage())
+                .unit(d.getUnit())
+                .state(loaded ? "LOADED" : "WAITING_LOAD")
+                .lastWeight(Double.isNaN(lastWeight) ? null : lastWeight)
+                .stable(isStable())
+                .readingCount(readingCount)
+                .capturedCount(capturedCount)
+                .openedAt(d.getOpenedAt())
+                .lastReadingAt(readingCount > 0
+                        ? LocalDateTime.ofInstant(Instant.ofEpochMilli(lastTimestamp), ZONE) : null)
+                .build();
+    }
+
+    /**
+     * 세션 정의 (세션 시작 시 확정, wms.sd_scale_sessions 에 JSON 으로 저장)
+     */
+    @Getter
+    @Builder
+    @Jacksonized
+    public static class Definition {
+        private final String tenantId;
+        private final Long scaleId;
+        private final String scaleName;
+        private final String weighingType;
+        private final String referenceType;
+        private final Long referenceId;
+        private final Long productId;
+        private final String productCode;
+        private final String productName;
+        private final Long lotId;
+        private final Long operatorUserId;
+        private final BigDecimal tareWeight;
+        private final BigDecimal expectedWeight;
+        private final BigDecimal tolerancePercentage;
+        private final String unit;
+        private final BigDecimal temperature;
+        private final BigDecimal humidity;
+        private final LocalDateTime openedAt;
+    }
+
+    /**
+     * 확정된 칭량 (저장 대기)
+     */
+    @Getter
+    @Builder
+    public static class CapturedWeighing {
+        private final String tenantId;
+        private final LocalDateTime weighingDate;
+        private final String weighingType;
+        private final String referenceType;
+        private final Long referenceId;
+        private final Long productId;
+        private final Long lotId;
+        private final BigDecimal tareWeight;
+        private final BigDecimal grossWeight;
+        private final BigDecimal netWeight;
+        private final BigDecimal expectedWeight;
+        private final BigDecimal variance;
+        private final BigDecimal variancePercentage;
+        private final String unit;
+        private final Long scaleId;
+        private final String scaleName;
+        private final Long operatorUserId;
+        private final Boolean toleranceExceeded;
+        private final BigDecimal tolerancePercentage;
+        private final BigDecimal temperature;
+        private final BigDecimal humidity;
+    }
+}
@@ -0,0 +1,233 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.common.dto.schedule.GanttChangeFeed;
+import kr.co.softice.mes.common.dto.schedule.GanttChartData;
+import kr.co.softice.mes.domain.entity.ProductionScheduleEntity;
+import kr.co.softice.mes.domain.repository.ProductionScheduleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Schedule Change Feed Service
+ * 생산 일정 증분 변경 조회 (간트차트 전체 재조회 대체)
+ *
+ * - 일정 등록/수정/삭제 시 트리거는 change_version 을 비워 두고 (삭제는 툼스톤 기록, V036)
+ *   조회 직전 별도 트랜잭션에서 테넌트 advisory lock 하에 커밋된 미부여 행에만 시퀀스 값을 부여
+ *   → 버전 부여 순서 = 커밋 가시 순서, 부여된 버전 이하의 변경은 모두 커밋되어 조회 가능
+ *   → 긴 트랜잭션이 늦게 커밋되어도 이미 지난 버전을 받지 않으므로 커서가 건너뛰지 않음
+ * - 조회는 sinceVersion 이후 변경 일정(연관 fetch join) + 툼스톤 2회, 버전 순 병합
+ * - 보관 기간이 지난 툼스톤은 정리하고, 정리된 최대 버전보다 오래된 요청은 전체 재조회(reset) 응답
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ScheduleChangeFeedService {
+
+    private static final int MAX_LIMIT = 5000;
+
+    private static final String TOMBSTONES_SQL =
+            "SELECT schedule_id, change_version " +
+            "FROM mes.sd_production_schedule_tombstones " +
+            "WHERE tenant_id = :tenantId AND change_version > :sinceVersion " +
+            "ORDER BY change_version " +
+            "LIMIT :limit";
+
+    private static final String CURRENT_VERSION_SQL =
+            "SELECT GREATEST( " +
+            "    (SELECT MAX(change_version) FROM mes.sd_production_schedules WHERE tenant_id = :tenantId), " +
+            "    (SELECT MAX(change_version) FROM mes.sd_production_schedule_tombstones WHERE tenant_id = :tenantId))";
+
+    // 테넌트 단위 직렬화 (부여 트랜잭션 간 버전 역전 방지, 커밋 시 해제)
+    static final String ASSIGN_LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext('schedule-feed:' || ?))";
+
+    // 버전 부여 UPDATE 는 트리거가 버전을 비우지 않도록 표시
+    static final String ASSIGN_MODE_SQL = "SELECT set_config('mes.schedule_feed_assign', 'on', true)";
+
+    // 진행 중인 쓰기가 잠근 행은 건너뜀 (커밋 후 다시 미부여 상태가 되므로 다음 부여에서 처리, 교착 방지)
+    static final String ASSIGN_SCHEDULES_SQL =
+            "UPDATE mes.sd_production_schedules SET change_version = nextval('mes.sd_schedule_change_seq') " +
+            "WHERE schedule_id IN ( " +
+            "    SELECT schedule_id FROM mes.sd_production_schedules " +
+            "    WHERE tenant_id = ? AND change_version IS NULL " +
+            "    FOR UPDATE SKIP LOCKED)";
+
+    static final String ASSIGN_TOMBSTONES_SQL =
+            "UPDATE mes.sd_production_schedule_tombstones SET change_version = nextval('mes.sd_schedule_change_seq') " +
+            "WHERE tenant_id = ? AND change_version IS NULL";
+
+    private static final String PURGE_TOMBSTONES_SQL =
+            "WITH purged AS ( " +
+            "    DELETE FROM mes.sd_production_schedule_tombstones " +
+            "    WHERE deleted_at < :cutoff AND change_version IS NOT NULL " +
+            "    RETURNING tenant_id, change_version " +
+            ") " +
+            "INSERT INTO mes.sd_schedule_feed_watermarks (tenant_id, purged_version, updated_at) " +
+            "SELECT tenant_id, MAX(change_version), CURRENT_TIMESTAMP FROM purged GROUP BY tenant_id " +
+            "ON CONFLICT (tenant_id) DO UPDATE SET " +
+            "    purged_version = GREATEST(mes.sd_schedule_feed_watermarks.purged_version, EXCLUDED.purged_version), " +
+            "    updated_at = EXCLUDED.updated_at";
+
+    private final ProductionScheduleRepository scheduleRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate assignTransaction;
+
+    public ScheduleChangeFeedService(ProductionScheduleRepository scheduleRepository, EntityManager entityManager,
+                                     JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.scheduleRepository = scheduleRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.assignTransaction = new TransactionTemplate(transactionManager);
+        this.assignTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * sinceVersion 이후 변경된 일정
+     *
+     * @param sinceVersion 마지막으로 받은 nextVersion, null 이면 reset 응답 (전체 조회 후 이어서 요청)
+     * @param limit        최대 변경 건수 (초과분은 hasMore)
+     */
+    public GanttChangeFeed getChanges(String tenantId, Long sinceVersion, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        assignVersions(tenantId);
+
+        Long purgedVersion = findPurgedVersion(tenantId);
+        if (sinceVersion == null || (purgedVersion != null && sinceVersion < purgedVersion)) {
+            long version = currentVersion(tenantId);
+            return GanttChangeFeed.builder()
+                .sinceVersion(sinceVersion)
+                .nextVersion(version)
+                .latestVersion(version)
+                .reset(true)
+                .tasks(Collections.emptyList())
+                .deletedTaskIds(Collections.emptyList())
+                .build();
+        }
+
+        // 두 목록 모두 pageSize + 1 건까지 조회 → 병합 후 앞 pageSize 건은 정확
+        List<Change> changes = new ArrayList<>();
+        for (ProductionScheduleEntity schedule : scheduleRepository.findChangedSince(
+                tenantId, sinceVersion, PageRequest.of(0, pageSize + 1))) {
+            changes.add(new Change(schedule.getChangeVersion(),
+                    ProductionScheduleService.convertToGanttTask(schedule), null));
+        }
+        for (Object[] row : findTombstones(tenantId, sinceVersion, pageSize + 1)) {
+            changes.add(new Change(((Number) row[1]).longValue(),
+                    null, "schedule-" + ((Number) row[0]).longValue()));
+        }
+        changes.sort(Comparator.comparingLong(change -> change.version));
+
+        boolean hasMore = changes.size() > pageSize;
+        List<Change> delivered = hasMore ? changes.subList(0, pageSize) : changes;
+
+        List<GanttChartData.GanttTask> tasks = new ArrayList<>();
+        List<String> deletedTaskIds = new ArrayList<>();
+        for (Change change : delivered) {
+            if (change.task != null) {
+                tasks.add(change.task);
+            } else {
+                deletedTaskIds.add(change.deletedTaskId);
+            }
+        }
+        // hasMore 이면 남은 변경이 아닌 이번 응답의 마지막 버전 (없으면 sinceVersion 유지)
+        long deliveredVersion = delivered.isEmpty() ? sinceVersion : delivered.get(delivered.size() - 1).version;
+
+        return GanttChangeFeed.builder()
+            .sinceVersion(sinceVersion)
+            .nextVersion(deliveredVersion)
+            .latestVersion(deliveredVersion)
+            .hasMore(hasMore)
+            .tasks(tasks)
+            .deletedTaskIds(deletedTaskIds)
+            .build();
+    }
+
+    /**
+     * 변경 조회 시작 버전 (현재까지 커밋된 변경이 모두 반영된 버전)
+     */
+    public long getCurrentVersion(String tenantId) {
+        assignVersions(tenantId);
+        return currentVersion(tenantId);
+    }
+
+    /**
+     * 보관 기간이 지난 툼스톤 정리 (테넌트별 정리 최대 버전 기록)
+     *
+     * @return 정리된 툼스톤 수
+     */
+    @Transactional
+    public int purgeTombstones(LocalDateTime cutoff) {
+        int purged = entityManager.createNativeQuery(PURGE_TOMBSTONES_SQL)
+                .setParameter("cutoff", cutoff)
+                .executeUpdate();
+        if (purged > 0) {
+            log.info("Purged {} production schedule tombstones deleted before {}", purged, cutoff);
+        }
+        return purged;
+    }
+
+    /**
+     * 커밋된 미부여 변경에 버전 부여 (별도 트랜잭션, 커밋 후 조회)
+     */
+    private void assignVersions(String tenantId) {
+        assignTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList(ASSIGN_LOCK_SQL, tenantId);
+            jdbcTemplate.queryForList(ASSIGN_MODE_SQL);
+            jdbcTemplate.update(ASSIGN_SCHEDULES_SQL, tenantId);
+            jdbcTemplate.update(ASSIGN_TOMBSTONES_SQL, tenantId);
+        });
+    }
+
+    private long currentVersion(String tenantId) {
+        Object version = entityManager.createNativeQuery(CURRENT_VERSION_SQL)
+                .setParameter("tenantId", tenantId)
+                .getSingleResult();
+        return version == null ? 0L : ((Number) version).longValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Long findPurgedVersion(String tenantId) {
+        List<Object> rows = entityManager.createNativeQuery(
+                "SELECT purged_version FROM mes.sd_schedule_feed_watermarks WHERE tenant_id = :tenantId")
+                .setParameter("tenantId", tenantId)
+                .getResultList();
+        return rows.isEmpty() ? null : ((Number) rows.get(0)).longValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> findTombstones(String tenantId, long sinceVersion, int limit) {
+        Query query = entityManager.createNativeQuery(TOMBSTONES_SQL);
+        query.setParameter("tenantId", tenantId);
+        query.setParameter("sinceVersion", sinceVersion);
+        query.setParameter("limit", limit);
+        return query.getResultList();
+    }
+
+    private static final class Change {
+        private final long version;
+        private final GanttChartData.GanttTask task;
+        private final String deletedTaskId;
+
+        private Change(long version, GanttChartData.GanttTask task, String deletedTaskId) {
+            this.version = version;
+            this.task = task;
+            this.deletedTaskId = deletedTaskId;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.common.dto.schedule.GanttChangeFeed;
+import kr.co.softice.mes.common.transaction.TransactionHooks;
+import kr.co.softice.mes.config.StompClusterRelay;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedule Change Publisher
+ * 생산 일정 증분 변경 STOMP 전송 (/topic/schedules/{tenantId})
+ *
+ * - 일정 변경 트랜잭션 커밋 후 테넌트만 표시, push-interval-ms 주기로 taskScheduler(SchedulingConfig) 가
+ *   노드별 마지막 전송 버전 이후 변경을 ScheduleChangeFeedService 로 1회 조회하여 전송
+ *   → 스케줄링 실행으로 일정 수천 건이 바뀌어도 주기마다 테넌트당 조회/전송 1회
+ * - 버전은 커밋 순으로 부여되므로 마지막 전송 버전(cursor) 이후만 조회 (중복/누락 없음)
+ * - 노드의 테넌트별 첫 cursor 는 변경 트랜잭션 커밋 전(markChanged 시점)에 잡음
+ *   → 커밋 후 잡으면 그 변경이 이미 cursor 에 포함되어 전송되지 않음
+ * - 전송은 StompClusterRelay 경유 (REDIS 모드에서 전체 노드로 전파)
+ * - 보관 기간이 지난 툼스톤은 1시간 주기로 정리
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+@Component
+public class ScheduleChangePublisher {
+
+    private static final String SCHEDULE_TOPIC = "/topic/schedules/";
+
+    private final ScheduleChangeFeedService changeFeedService;
+    private final StompClusterRelay stompClusterRelay;
+
+    @Value("${app.schedule.change-feed.push-limit:500}")
+    private int pushLimit;
+
+    @Value("${app.schedule.change-feed.tombstone-retention-days:7}")
+    private int tombstoneRetentionDays;
+
+    private final Set<String> dirtyTenants = ConcurrentHashMap.newKeySet();
+    private final Map<String, PushState> states = new ConcurrentHashMap<>();
+
+    public ScheduleChangePublisher(ScheduleChangeFeedService changeFeedService, StompClusterRelay stompClusterRelay) {
+        this.changeFeedService = changeFeedService;
+        this.stompClusterRelay = stompClusterRelay;
+    }
+
+    /**
+     * 테넌트 일정 변경 표시 (트랜잭션 중이면 커밋 이후)
+     *
+     * 노드의 첫 변경이면 아직 커밋되지 않은 이 변경 이전 버전으로 cursor 를 먼저 잡음
+     */
+    public void markChanged(String tenantId) {
+        if (!states.containsKey(tenantId)) {
+            try {
+                states.putIfAbsent(tenantId, new PushState(changeFeedService.getCurrentVersion(tenantId)));
+            } catch (Exception e) {
+                log.warn("Failed to seed schedule change cursor for tenant {}: {}", tenantId, e.getMessage());
+            }
+        }
+        TransactionHooks.afterCommit(() -> dirtyTenants.add(tenantId));
+    }
+
+    @Scheduled(fixedDelayString = "${app.schedule.change-feed.push-interval-ms:1000}")
+    public void flush() {
+        for (String tenantId : new ArrayList<>(dirtyTenants)) {
+            dirtyTenants.remove(tenantId);
+            try {
+                push(tenantId);
+            } catch (Exception e) {
+                log.error("Failed to push schedule changes for tenant {}: {}", tenantId, e.getMessage());
+            }
+        }
+    }
+
+    private void push(String tenantId) {
+        // cursor 를 잡지 못한 채 커밋된 변경이면 전체 재조회(reset) 전송
+        PushState state = states.get(tenantId);
+        GanttChangeFeed feed = changeFeedService.getChanges(tenantId, state != null ? state.cursor : null, pushLimit);
+        if (feed.isReset()) {
+            states.put(tenantId, new PushState(feed.getNextVersion()));
+            stompClusterRelay.broadcast(SCHEDULE_TOPIC + tenantId, feed);
+            return;
+        }
+
+        state.cursor = feed.getNextVersion();
+        if (!feed.getTasks().isEmpty() || !feed.getDeletedTaskIds().isEmpty()) {
+            stompClusterRelay.broadcast(SCHEDULE_TOPIC + tenantId, feed);
+        }
+
+        if (feed.isHasMore()) {
+            dirtyTenants.add(tenantId);
+        }
+    }
+
+    @Scheduled(initialDelay = 1, fixedDelay = 1, timeUnit = TimeUnit.HOURS)
+    public void purgeTombstones() {
+        try {
+            changeFeedService.purgeTombstones(LocalDateTime.now().minusDays(tombstoneRetentionDays));
+        } catch (Exception e) {
+            log.error("Failed to purge production schedule tombstones: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 테넌트별 전송 상태 (flush 전용, fixedDelay 라 동시 실행 없음)
+     */
+    private static final class PushState {
+        private long cursor;
+
+        private PushState(long cursor) {
+            this.cursor = cursor;
+        }
+    }
+}
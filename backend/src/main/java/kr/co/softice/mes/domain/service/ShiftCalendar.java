@@ -0,0 +1,109 @@
+package kr.co.softice.mes.domain.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Shift Calendar
+ * 교대 구간 정의 (코드=시작시각 목록, 예: "DAY=08:00,NIGHT=20:00")
+ *
+ * - 각 교대는 다음 교대 시작 전까지, 마지막 교대는 다음 날 첫 교대 시작 전까지
+ * - 첫 교대 시작 이전 시각은 전날 마지막 교대 (야간 교대의 생산 일자 = 교대 시작일)
+ *
+ * 불변, 스레드 안전
+ *
+ * @author Moon Myung-seop
+ */
+public final class ShiftCalendar {
+
+    private final List<String> codes = new ArrayList<>();
+    private final List<LocalTime> starts = new ArrayList<>();
+
+    private ShiftCalendar() {
+    }
+
+    /**
+     * "CODE=HH:mm,CODE=HH:mm" 파싱
+     *
+     * @throws IllegalArgumentException 형식 오류, 빈 정의, 중복 코드/시작시각
+     */
+    public static ShiftCalendar parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            throw new IllegalArgumentException("Shift definition is empty");
+        }
+
+        List<String[]> shifts = new ArrayList<>();
+        for (String token : spec.split(",")) {
+            String[] pair = token.trim().split("=");
+            if (pair.length != 2 || pair[0].isBlank()) {
+                throw new IllegalArgumentException("Invalid shift definition: " + token.trim());
+            }
+            try {
+                LocalTime.parse(pair[1].trim());
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid shift start time: " + token.trim());
+            }
+            shifts.add(new String[]{pair[0].trim(), pair[1].trim()});
+        }
+        shifts.sort(Comparator.comparing(shift -> LocalTime.parse(shift[1])));
+
+        ShiftCalendar calendar = new ShiftCalendar();
+        for (String[] shift : shifts) {
+            LocalTime start = LocalTime.parse(shift[1]);
+            if (calendar.codes.contains(shift[0]) || calendar.starts.contains(start)) {
+                throw new IllegalArgumentException("Duplicate shift definition: " + shift[0] + "=" + shift[1]);
+            }
+            calendar.codes.add(shift[0]);
+            calendar.starts.add(start);
+        }
+        return calendar;
+    }
+
+    /**
+     * 시각이 속한 교대 (생산 일자 + 교대 코드)
+     */
+    public Shift shiftOf(LocalDateTime time) {
+        LocalTime clock = time.toLocalTime();
+        int index = starts.size() - 1;
+        while (index >= 0 && clock.isBefore(starts.get(index))) {
+            index--;
+        }
+        if (index < 0) {
+            return new Shift(time.toLocalDate().minusDays(1), codes.get(codes.size() - 1));
+        }
+        return new Shift(time.toLocalDate(), codes.get(index));
+    }
+
+    /**
+     * 생산 일자 시작 시각 (첫 교대 시작)
+     */
+    public LocalDateTime dayStart(LocalDate date) {
+        return date.atTime(starts.get(0));
+    }
+
+    /**
+     * 교대 (생산 일자 + 교대 코드)
+     */
+    public static final class Shift {
+        private final LocalDate date;
+        private final String code;
+
+        Shift(LocalDate date, String code) {
+            this.date = date;
+            this.code = code;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        public String getCode() {
+            return code;
+        }
+    }
+}
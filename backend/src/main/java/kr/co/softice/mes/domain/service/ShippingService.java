@@ -1,5 +1,6 @@
 package kr.co.softice.mes.domain.service;
 
+import kr.co.softice.mes.common.dto.KeysetCursor;
 import kr.co.softice.mes.common.exception.BusinessException;
 import kr.co.softice.mes.common.exception.ErrorCode;
 import kr.co.softice.mes.domain.entity.*;
@@ -11,7 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,17 +35,19 @@ import java.util.Optional;
 public class ShippingService {
 
     private final ShippingRepository shippingRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
     private final SalesOrderRepository salesOrderRepository;
     private final SalesOrderService salesOrderService;
     private final CustomerRepository customerRepository;
-    private final WarehouseRepository warehouseRepository;
-    private final ProductRepository productRepository;
+    private final WarehouseService warehouseService;
+    private final ProductService productService;
     private final UserRepository userRepository;
     private final InventoryService inventoryService;
     private final InventoryRepository inventoryRepository;
     private final InventoryTransactionRepository inventoryTransactionRepository;
     private final LotRepository lotRepository;
+    private final DocumentNumberService documentNumberService;
+    private final InventoryMovementRollupService inventoryMovementRollupService;
 
     /**
      * Find all shippings by tenant
@@ -53,6 +56,17 @@ public class ShippingService {
         return shippingRepository.findByTenantIdWithAllRelations(tenantId);
     }
 
+    /**
+     * Find shippings page by tenant (keyset, newest first, up to size + 1 rows)
+     */
+    public List<ShippingEntity> findPageByTenant(String tenantId, long cursor, int size) {
+        List<Long> ids = shippingRepository.findIdsByTenantIdAfterCursor(tenantId, cursor, KeysetCursor.limit(size));
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return shippingRepository.findByIdsWithAllRelations(ids);
+    }
+
     /**
      * Find shipping by ID
      */
@@ -97,7 +111,7 @@ public class ShippingService {
             shipping.getWarehouse().getWarehouseId());
 
         // 1. Resolve tenant
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND, "Tenant not found: " + tenantId));
         shipping.setTenant(tenant);
 
@@ -112,7 +126,7 @@ public class ShippingService {
         }
 
         // 3. Resolve warehouse
-        WarehouseEntity warehouse = warehouseRepository.findById(shipping.getWarehouse().getWarehouseId())
+        WarehouseEntity warehouse = warehouseService.findById(shipping.getWarehouse().getWarehouseId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.WAREHOUSE_NOT_FOUND, "Warehouse not found"));
         shipping.setWarehouse(warehouse);
 
@@ -160,7 +174,7 @@ public class ShippingService {
             item.setShipping(shipping);
 
             // Resolve product
-            ProductEntity product = productRepository.findById(item.getProduct().getProductId())
+            ProductEntity product = productService.findById(item.getProduct().getProductId())
                     .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, "Product not found"));
             item.setProduct(product);
             item.setProductCode(product.getProductCode());
@@ -411,6 +425,7 @@ public class ShippingService {
                 .build();
 
         inventoryTransactionRepository.save(transaction);
+        inventoryMovementRollupService.record(transaction);
 
         // Update inventory balance
         inventoryService.updateInventoryBalance(
@@ -421,9 +436,10 @@ public class ShippingService {
                 "OUT_SHIPPING"
         );
 
-        // Update lot current quantity
-        lot.setCurrentQuantity(lot.getCurrentQuantity().subtract(item.getShippedQuantity()));
-        lotRepository.save(lot);
+        // Update lot current quantity (guarded single UPDATE, never negative)
+        if (lotRepository.addCurrentQuantity(lot.getLotId(), item.getShippedQuantity().negate()) == 0) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY, "Insufficient LOT quantity: " + lot.getLotNo());
+        }
 
         // Update item lot info
         item.setLotNo(lot.getLotNo());
@@ -464,26 +480,6 @@ public class ShippingService {
      * Generate shipping number: SH-YYYYMMDD-0001
      */
     private String generateShippingNo(String tenantId) {
-        String dateStr = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String prefix = "SH-" + dateStr + "-";
-
-        // Find last shipping number for today
-        List<ShippingEntity> todayShippings = shippingRepository.findByTenantIdWithAllRelations(tenantId);
-
-        int maxSeq = todayShippings.stream()
-                .map(ShippingEntity::getShippingNo)
-                .filter(no -> no.startsWith(prefix))
-                .map(no -> no.substring(prefix.length()))
-                .mapToInt(seq -> {
-                    try {
-                        return Integer.parseInt(seq);
-                    } catch (NumberFormatException e) {
-                        return 0;
-                    }
-                })
-                .max()
-                .orElse(0);
-
-        return String.format("%s%04d", prefix, maxSeq + 1);
+        return documentNumberService.generate(tenantId, "SH");
     }
 }
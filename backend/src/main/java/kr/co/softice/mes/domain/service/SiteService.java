@@ -5,7 +5,6 @@ import kr.co.softice.mes.common.exception.ErrorCode;
 import kr.co.softice.mes.domain.entity.SiteEntity;
 import kr.co.softice.mes.domain.entity.TenantEntity;
 import kr.co.softice.mes.domain.repository.SiteRepository;
-import kr.co.softice.mes.domain.repository.TenantRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,7 +25,7 @@ import java.util.List;
 public class SiteService {
 
     private final SiteRepository siteRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
 
     /**
      * Get all sites by tenant
@@ -75,7 +74,7 @@ public class SiteService {
         }
 
         // Validate tenant
-        TenantEntity tenant = tenantRepository.findById(site.getTenant().getTenantId())
+        TenantEntity tenant = tenantService.findById(site.getTenant().getTenantId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         site.setTenant(tenant);
 
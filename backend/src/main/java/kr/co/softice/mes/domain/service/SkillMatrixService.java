@@ -5,7 +5,6 @@ import kr.co.softice.mes.common.exception.ErrorCode;
 import kr.co.softice.mes.domain.entity.SkillMatrixEntity;
 import kr.co.softice.mes.domain.entity.TenantEntity;
 import kr.co.softice.mes.domain.repository.SkillMatrixRepository;
-import kr.co.softice.mes.domain.repository.TenantRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,7 +24,7 @@ import java.util.List;
 public class SkillMatrixService {
 
     private final SkillMatrixRepository skillMatrixRepository;
-    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
 
     public List<SkillMatrixEntity> getAllSkills(String tenantId) {
         log.info("Getting all skills for tenant: {}", tenantId);
@@ -61,7 +60,7 @@ public class SkillMatrixService {
             throw new BusinessException(ErrorCode.SKILL_ALREADY_EXISTS);
         }
 
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND));
         skill.setTenant(tenant);
 
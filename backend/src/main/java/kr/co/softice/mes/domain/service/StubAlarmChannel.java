@@ -0,0 +1,46 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.domain.entity.AlarmHistoryEntity;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Stub Alarm Channel
+ * 로컬 스텁 발송 채널 (외부 메일/SMS/푸시 연동 전 기본값, 부하/재시도 테스트용)
+ *
+ * - 로그만 남기고 성공 처리
+ * - latencyMs 만큼 지연, failureRate(0~1) 확률로 실패 → 느린 채널/장애 채널 재현
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+public class StubAlarmChannel implements AlarmChannel {
+
+    private final String channel;
+    private final long latencyMs;
+    private final double failureRate;
+
+    public StubAlarmChannel(String channel, long latencyMs, double failureRate) {
+        this.channel = channel;
+        this.latencyMs = latencyMs;
+        this.failureRate = failureRate;
+    }
+
+    @Override
+    public String getChannel() {
+        return channel;
+    }
+
+    @Override
+    public void send(AlarmHistoryEntity alarm) throws Exception {
+        if (latencyMs > 0) {
+            Thread.sleep(latencyMs);
+        }
+        if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            throw new IllegalStateException(channel + " stub channel failure");
+        }
+        log.info("Sending {} notification [alarmId={}, recipientUserId={}, recipient={}, title={}]",
+                channel, alarm.getAlarmId(), alarm.getRecipientUserId(), alarm.getRecipientName(), alarm.getTitle());
+    }
+}
@@ -6,6 +6,8 @@ import kr.co.softice.mes.domain.entity.TenantEntity;
 import kr.co.softice.mes.domain.repository.TenantRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,7 +30,9 @@ public class TenantService {
 
     /**
      * Find tenant by ID
+     * 서비스 계층의 테넌트 확인/연관관계 설정용 (캐시 복사본은 수정하지 않음, 수정 경로는 TenantRepository 직접 조회)
      */
+    @Cacheable(cacheNames = "tenants", key = "#tenantId", unless = "#result == null")
     public Optional<TenantEntity> findById(String tenantId) {
         log.debug("Finding tenant by ID: {}", tenantId);
         return tenantRepository.findById(tenantId);
@@ -85,6 +89,7 @@ public class TenantService {
      * Update tenant
      */
     @Transactional
+    @CacheEvict(cacheNames = "tenants", key = "#tenant.tenantId")
     public TenantEntity updateTenant(TenantEntity tenant) {
         log.info("Updating tenant: {}", tenant.getTenantId());
 
@@ -99,6 +104,7 @@ public class TenantService {
      * Delete tenant
      */
     @Transactional
+    @CacheEvict(cacheNames = "tenants", key = "#tenantId")
     public void deleteTenant(String tenantId) {
         log.info("Deleting tenant: {}", tenantId);
         tenantRepository.deleteById(tenantId);
@@ -108,6 +114,7 @@ public class TenantService {
      * Activate tenant
      */
     @Transactional
+    @CacheEvict(cacheNames = "tenants", key = "#tenantId")
     public TenantEntity activateTenant(String tenantId) {
         log.info("Activating tenant: {}", tenantId);
 
@@ -122,6 +129,7 @@ public class TenantService {
      * Deactivate tenant
      */
     @Transactional
+    @CacheEvict(cacheNames = "tenants", key = "#tenantId")
     public TenantEntity deactivateTenant(String tenantId) {
         log.info("Deactivating tenant: {}", tenantId);
 
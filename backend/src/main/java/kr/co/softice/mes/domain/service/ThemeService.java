@@ -8,6 +8,8 @@ import kr.co.softice.mes.domain.entity.ThemeEntity;
 import kr.co.softice.mes.domain.repository.ThemeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,13 +35,23 @@ public class ThemeService {
     /**
      * ID로 테마 조회
      */
+    @Cacheable(cacheNames = "themes", key = "'id:' + #themeId", unless = "#result == null")
     public Optional<ThemeEntity> findById(Long themeId) {
         return themeRepository.findById(themeId);
     }
 
+    /**
+     * 수정용 조회 (캐시 미사용, 항상 DB 최신 상태)
+     * 캐시 복사본을 수정해 저장하면 다른 노드의 변경을 덮어쓰므로 read-modify-write 경로는 이 메서드 사용
+     */
+    public Optional<ThemeEntity> findByIdUncached(Long themeId) {
+        return themeRepository.findById(themeId);
+    }
+
     /**
      * 테마 코드로 조회
      */
+    @Cacheable(cacheNames = "themes", key = "'code:' + #themeCode", unless = "#result == null")
     public Optional<ThemeEntity> findByThemeCode(String themeCode) {
         return themeRepository.findByThemeCode(themeCode);
     }
@@ -54,6 +66,7 @@ public class ThemeService {
     /**
      * 활성 테마 목록 조회
      */
+    @Cacheable(cacheNames = "themes", key = "'active'")
     public List<ThemeEntity> findActiveThemes() {
         return themeRepository.findActiveThemes();
     }
@@ -68,6 +81,7 @@ public class ThemeService {
     /**
      * 기본 테마 조회
      */
+    @Cacheable(cacheNames = "themes", key = "'default'")
     public ThemeEntity getDefaultTheme() {
         return themeRepository.findDefaultTheme()
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.THEME_NOT_FOUND));
@@ -77,6 +91,7 @@ public class ThemeService {
      * 테마 생성
      */
     @Transactional
+    @CacheEvict(cacheNames = "themes", allEntries = true)
     public ThemeEntity createTheme(ThemeEntity theme) {
         log.info("Creating theme: {}", theme.getThemeCode());
 
@@ -97,6 +112,7 @@ public class ThemeService {
      * 테마 수정
      */
     @Transactional
+    @CacheEvict(cacheNames = "themes", allEntries = true)
     public ThemeEntity updateTheme(ThemeEntity theme) {
         log.info("Updating theme: {}", theme.getThemeId());
 
@@ -112,6 +128,7 @@ public class ThemeService {
      * 테마 삭제
      */
     @Transactional
+    @CacheEvict(cacheNames = "themes", allEntries = true)
     public void deleteTheme(Long themeId) {
         log.info("Deleting theme: {}", themeId);
 
@@ -130,6 +147,7 @@ public class ThemeService {
      * 테마 활성화
      */
     @Transactional
+    @CacheEvict(cacheNames = "themes", allEntries = true)
     public ThemeEntity activateTheme(Long themeId) {
         log.info("Activating theme: {}", themeId);
 
@@ -144,6 +162,7 @@ public class ThemeService {
      * 테마 비활성화
      */
     @Transactional
+    @CacheEvict(cacheNames = "themes", allEntries = true)
     public ThemeEntity deactivateTheme(Long themeId) {
         log.info("Deactivating theme: {}", themeId);
 
@@ -163,6 +182,7 @@ public class ThemeService {
      * 기본 테마 설정
      */
     @Transactional
+    @CacheEvict(cacheNames = "themes", allEntries = true)
     public ThemeEntity setDefaultTheme(Long themeId) {
         log.info("Setting default theme: {}", themeId);
 
@@ -183,6 +203,7 @@ public class ThemeService {
      * 산업별 프리셋 테마 초기화
      */
     @Transactional
+    @CacheEvict(cacheNames = "themes", allEntries = true)
     public void initializePresetThemes() {
         log.info("Initializing preset themes");
 
@@ -3,6 +3,7 @@ package kr.co.softice.mes.domain.service;
 import kr.co.softice.mes.common.exception.DuplicateEntityException;
 import kr.co.softice.mes.common.exception.EntityNotFoundException;
 import kr.co.softice.mes.common.exception.ErrorCode;
+import kr.co.softice.mes.common.security.PrincipalCache;
 import kr.co.softice.mes.domain.entity.TenantEntity;
 import kr.co.softice.mes.domain.entity.UserEntity;
 import kr.co.softice.mes.domain.repository.TenantRepository;
@@ -32,6 +33,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final TenantRepository tenantRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     /**
      * Find user by ID
@@ -107,7 +109,9 @@ public class UserService {
             throw new EntityNotFoundException(ErrorCode.USER_NOT_FOUND);
         }
 
-        return userRepository.save(user);
+        UserEntity updated = userRepository.save(user);
+        principalCache.evict(user.getUserId());
+        return updated;
     }
 
     /**
@@ -128,6 +132,7 @@ public class UserService {
         // Update password
         user.setPasswordHash(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        principalCache.evict(userId);
     }
 
     /**
@@ -142,6 +147,7 @@ public class UserService {
 
         user.setPasswordHash(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        principalCache.evict(userId);
     }
 
     /**
@@ -169,7 +175,9 @@ public class UserService {
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.USER_NOT_FOUND));
 
         user.setStatus("active");
-        return userRepository.save(user);
+        UserEntity saved = userRepository.save(user);
+        principalCache.evict(userId);
+        return saved;
     }
 
     /**
@@ -183,7 +191,9 @@ public class UserService {
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.USER_NOT_FOUND));
 
         user.setStatus("inactive");
-        return userRepository.save(user);
+        UserEntity saved = userRepository.save(user);
+        principalCache.evict(userId);
+        return saved;
     }
 
     /**
@@ -193,5 +203,6 @@ public class UserService {
     public void deleteUser(Long userId) {
         log.info("Deleting user: {}", userId);
         userRepository.deleteById(userId);
+        principalCache.evict(userId);
     }
 }
@@ -7,6 +7,9 @@ import kr.co.softice.mes.domain.entity.WarehouseEntity;
 import kr.co.softice.mes.domain.repository.WarehouseRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,15 +34,26 @@ public class WarehouseService {
         return warehouseRepository.findByTenantIdWithAllRelations(tenantId);
     }
 
+    @Cacheable(cacheNames = "activeWarehouses", key = "#tenantId")
     public List<WarehouseEntity> findActiveByTenant(String tenantId) {
         return warehouseRepository.findByTenantIdAndIsActiveWithAllRelations(tenantId, true);
     }
 
+    @Cacheable(cacheNames = "warehouses", key = "#warehouseId", unless = "#result == null")
     public Optional<WarehouseEntity> findById(Long warehouseId) {
         return warehouseRepository.findByIdWithAllRelations(warehouseId);
     }
 
+    /**
+     * 수정용 조회 (캐시 미사용, 항상 DB 최신 상태)
+     * 캐시 복사본을 수정해 저장하면 다른 노드의 변경을 덮어쓰므로 read-modify-write 경로는 이 메서드 사용
+     */
+    public Optional<WarehouseEntity> findByIdUncached(Long warehouseId) {
+        return warehouseRepository.findByIdWithAllRelations(warehouseId);
+    }
+
     @Transactional
+    @CacheEvict(cacheNames = "activeWarehouses", key = "#warehouse.tenant.tenantId")
     public WarehouseEntity createWarehouse(WarehouseEntity warehouse) {
         log.info("Creating warehouse: {} for tenant: {}",
             warehouse.getWarehouseCode(), warehouse.getTenant().getTenantId());
@@ -54,6 +68,10 @@ public class WarehouseService {
     }
 
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = "warehouses", key = "#warehouse.warehouseId"),
+        @CacheEvict(cacheNames = "activeWarehouses", key = "#warehouse.tenant.tenantId")
+    })
     public WarehouseEntity updateWarehouse(WarehouseEntity warehouse) {
         log.info("Updating warehouse: {}", warehouse.getWarehouseId());
         WarehouseEntity updated = warehouseRepository.save(warehouse);
@@ -61,12 +79,20 @@ public class WarehouseService {
     }
 
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = "warehouses", key = "#warehouseId"),
+        @CacheEvict(cacheNames = "activeWarehouses", allEntries = true)
+    })
     public void deleteWarehouse(Long warehouseId) {
         log.info("Deleting warehouse: {}", warehouseId);
         warehouseRepository.deleteById(warehouseId);
     }
 
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = "warehouses", key = "#warehouseId"),
+        @CacheEvict(cacheNames = "activeWarehouses", key = "#result.tenant.tenantId")
+    })
     public WarehouseEntity toggleActive(Long warehouseId) {
         WarehouseEntity warehouse = warehouseRepository.findById(warehouseId)
             .orElseThrow(() -> new BusinessException(ErrorCode.WAREHOUSE_NOT_FOUND));
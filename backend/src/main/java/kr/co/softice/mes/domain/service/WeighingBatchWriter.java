@@ -0,0 +1,166 @@
+package kr.co.softice.mes.domain.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.softice.mes.domain.service.ScaleSession.CapturedWeighing;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Weighing Batch Writer
+ * 저울 연동으로 확정된 칭량 기록 배치 저장
+ *
+ * - ScaleIngestionService 가 요청(또는 NDJSON 스트림 batch-size 건)마다 확정 칭량을 모아 호출,
+ *   저장이 끝난 뒤 응답 (응답의 captured 는 실제 저장된 건수, 저장 실패 건은 세션 적재 상태를 되돌림)
+ * - 칭량 번호 채번(메모리 구간) 후 JDBC batch insert (테넌트별 칭량 카운터 갱신과 같은 트랜잭션)
+ * - batch 실패 시 건별 재시도로 불량 레코드만 분리 (weighing.ingest.records{result=failed})
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+@Component
+public class WeighingBatchWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO wms.sd_weighings (tenant_id, weighing_no, weighing_date, weighing_type, " +
+            "reference_type, reference_id, product_id, lot_id, tare_weight, gross_weight, net_weight, " +
+            "expected_weight, variance, variance_percentage, unit, scale_id, scale_name, operator_user_id, " +
+            "verification_status, tolerance_exceeded, tolerance_percentage, remarks, temperature, humidity, " +
+            "created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'PENDING', ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int[] INSERT_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.VARCHAR, Types.VARCHAR, Types.BIGINT,
+            Types.BIGINT, Types.BIGINT, Types.NUMERIC, Types.NUMERIC, Types.NUMERIC, Types.NUMERIC,
+            Types.NUMERIC, Types.NUMERIC, Types.VARCHAR, Types.BIGINT, Types.VARCHAR, Types.BIGINT,
+            Types.BOOLEAN, Types.NUMERIC, Types.VARCHAR, Types.NUMERIC, Types.NUMERIC,
+            Types.TIMESTAMP, Types.TIMESTAMP};
+
+    private static final String REMARKS = "Auto-captured from scale (stable reading)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DocumentNumberService documentNumberService;
+    private final WeighingStatsService weighingStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.weighing.ingest.batch-size:200}")
+    private int batchSize;
+
+    private final Counter written;
+    private final Counter failed;
+
+    public WeighingBatchWriter(JdbcTemplate jdbcTemplate, DocumentNumberService documentNumberService,
+                               WeighingStatsService weighingStatsService,
+                               PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.documentNumberService = documentNumberService;
+        this.weighingStatsService = weighingStatsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.written = counter("written");
+        this.failed = counter("failed");
+    }
+
+    /**
+     * 확정 칭량 저장 (batch-size 단위)
+     *
+     * @return 저장에 실패한 확정 칭량 (모두 저장되면 빈 목록)
+     */
+    public List<CapturedWeighing> write(List<CapturedWeighing> weighings) {
+        List<CapturedWeighing> failedWeighings = new ArrayList<>();
+        for (int from = 0; from < weighings.size(); from += batchSize) {
+            writeBatch(weighings.subList(from, Math.min(from + batchSize, weighings.size())), failedWeighings);
+        }
+        return failedWeighings;
+    }
+
+    private void writeBatch(List<CapturedWeighing> batch, List<CapturedWeighing> failedWeighings) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (CapturedWeighing weighing : batch) {
+            rows.add(toRow(weighing, now));
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), WeighingBatchWriter::bind);
+                recordStats(rows);
+            });
+            written.increment(rows.size());
+        } catch (Exception e) {
+            log.warn("Weighing batch insert failed ({} records), retrying individually: {}",
+                    rows.size(), e.getMessage());
+            for (int i = 0; i < rows.size(); i++) {
+                Object[] row = rows.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, row));
+                        recordStats(List.<Object[]>of(row));
+                    });
+                    written.increment();
+                } catch (Exception ex) {
+                    failed.increment();
+                    failedWeighings.add(batch.get(i));
+                    log.error("Failed to save captured weighing: weighingNo={}, scale={}, error={}",
+                            row[1], row[15], ex.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 테넌트별 칭량 카운터 반영 (신규 PENDING)
+     */
+    private void recordStats(List<Object[]> rows) {
+        Map<String, long[]> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            long[] count = counts.computeIfAbsent((String) row[0], key -> new long[2]);
+            count[0]++;
+            if (Boolean.TRUE.equals(row[18])) {
+                count[1]++;
+            }
+        }
+        counts.forEach((tenantId, count) -> weighingStatsService.recordCreated(tenantId, count[0], count[1]));
+    }
+
+    private Object[] toRow(CapturedWeighing w, LocalDateTime now) {
+        return new Object[]{
+                w.getTenantId(), documentNumberService.generate(w.getTenantId(), "WG"), w.getWeighingDate(),
+                w.getWeighingType(), w.getReferenceType(), w.getReferenceId(), w.getProductId(), w.getLotId(),
+                w.getTareWeight(), w.getGrossWeight(), w.getNetWeight(), w.getExpectedWeight(),
+                w.getVariance(), w.getVariancePercentage(), w.getUnit(), w.getScaleId(), w.getScaleName(),
+                w.getOperatorUserId(), w.getToleranceExceeded(), w.getTolerancePercentage(), REMARKS,
+                w.getTemperature(), w.getHumidity(), now, now};
+    }
+
+    private static void bind(PreparedStatement ps, Object[] row) throws SQLException {
+        for (int i = 0; i < row.length; i++) {
+            StatementCreatorUtils.setParameterValue(ps, i + 1, INSERT_TYPES[i], row[i]);
+        }
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder("weighing.ingest.records")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -1,5 +1,7 @@
 package kr.co.softice.mes.domain.service;
 
+import kr.co.softice.mes.common.dto.KeysetCursor;
+import kr.co.softice.mes.common.dto.PageResponse;
 import kr.co.softice.mes.common.dto.weighing.*;
 import kr.co.softice.mes.common.exception.BusinessException;
 import kr.co.softice.mes.common.exception.ErrorCode;
@@ -9,8 +11,6 @@ import kr.co.softice.mes.domain.entity.ProductEntity;
 import kr.co.softice.mes.domain.entity.LotEntity;
 import kr.co.softice.mes.domain.entity.UserEntity;
 import kr.co.softice.mes.domain.repository.WeighingRepository;
-import kr.co.softice.mes.domain.repository.TenantRepository;
-import kr.co.softice.mes.domain.repository.ProductRepository;
 import kr.co.softice.mes.domain.repository.LotRepository;
 import kr.co.softice.mes.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +19,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.*;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -36,10 +35,12 @@ import java.util.stream.Collectors;
 public class WeighingService {
 
     private final WeighingRepository weighingRepository;
-    private final TenantRepository tenantRepository;
-    private final ProductRepository productRepository;
+    private final TenantService tenantService;
+    private final ProductService productService;
     private final LotRepository lotRepository;
     private final UserRepository userRepository;
+    private final DocumentNumberService documentNumberService;
+    private final WeighingStatsService weighingStatsService;
 
     /**
      * Creates a new weighing record.
@@ -54,12 +55,12 @@ public class WeighingService {
         log.info("Creating weighing for tenant: {}, product: {}", tenantId, request.getProductId());
 
         // Resolve tenant
-        TenantEntity tenant = tenantRepository.findById(tenantId)
+        TenantEntity tenant = tenantService.findById(tenantId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TENANT_NOT_FOUND,
                         "Tenant not found: " + tenantId));
 
         // Resolve product
-        ProductEntity product = productRepository.findById(request.getProductId())
+        ProductEntity product = productService.findById(request.getProductId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND,
                         "Product not found: " + request.getProductId()));
 
@@ -109,6 +110,7 @@ public class WeighingService {
         // Save weighing
         WeighingEntity saved = weighingRepository.save(weighing);
         log.info("Created weighing: {} with status: {}", saved.getWeighingNo(), saved.getVerificationStatus());
+        weighingStatsService.record(tenantId, null, null, saved.getVerificationStatus(), saved.getToleranceExceeded());
 
         return convertToResponse(saved);
     }
@@ -126,8 +128,8 @@ public class WeighingService {
     public WeighingResponse updateWeighing(String tenantId, Long weighingId, WeighingUpdateRequest request) {
         log.info("Updating weighing: {} for tenant: {}", weighingId, tenantId);
 
-        // Get weighing with relations
-        WeighingEntity weighing = weighingRepository.findByIdWithAllRelations(weighingId)
+        // Lock the row so the before/after stats delta is computed against the committed status
+        WeighingEntity weighing = weighingRepository.findByIdForUpdate(weighingId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.WEIGHING_NOT_FOUND,
                         "Weighing not found: " + weighingId));
 
@@ -143,6 +145,9 @@ public class WeighingService {
                     "Cannot update verified weighing: " + weighing.getWeighingNo());
         }
 
+        String oldStatus = weighing.getVerificationStatus();
+        Boolean oldExceeded = weighing.getToleranceExceeded();
+
         // Update non-null fields from request
         if (request.getWeighingDate() != null) {
             weighing.setWeighingDate(request.getWeighingDate());
@@ -180,6 +185,8 @@ public class WeighingService {
 
         // Save
         WeighingEntity updated = weighingRepository.save(weighing);
+        weighingStatsService.record(tenantId, oldStatus, oldExceeded,
+                updated.getVerificationStatus(), updated.getToleranceExceeded());
         log.info("Updated weighing: {}, tolerance exceeded: {}",
                 updated.getWeighingNo(), updated.getToleranceExceeded());
 
@@ -200,8 +207,8 @@ public class WeighingService {
         log.info("Verifying weighing: {} for tenant: {}, action: {}",
                 weighingId, tenantId, request.getAction());
 
-        // Get weighing
-        WeighingEntity weighing = weighingRepository.findByIdWithAllRelations(weighingId)
+        // Lock the row so concurrent verifications see each other's status
+        WeighingEntity weighing = weighingRepository.findByIdForUpdate(weighingId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.WEIGHING_NOT_FOUND,
                         "Weighing not found: " + weighingId));
 
@@ -217,6 +224,9 @@ public class WeighingService {
                     "Weighing is not pending verification: " + weighing.getVerificationStatus());
         }
 
+        String oldStatus = weighing.getVerificationStatus();
+        Boolean oldExceeded = weighing.getToleranceExceeded();
+
         // Resolve verifier
         UserEntity verifier = userRepository.findById(request.getVerifierUserId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND,
@@ -243,6 +253,8 @@ public class WeighingService {
 
         // Save
         WeighingEntity verified = weighingRepository.save(weighing);
+        weighingStatsService.record(tenantId, oldStatus, oldExceeded,
+                verified.getVerificationStatus(), verified.getToleranceExceeded());
 
         return convertToResponse(verified);
     }
@@ -288,6 +300,24 @@ public class WeighingService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Retrieves a keyset page of weighing records for a tenant (newest first).
+     *
+     * @param tenantId tenant identifier
+     * @param cursor opaque cursor from the previous page (null for the first page)
+     * @param size requested page size
+     * @return cursor page of weighing responses
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<WeighingResponse> getWeighingPage(String tenantId, String cursor, Integer size) {
+        int pageSize = KeysetCursor.pageSize(size);
+        List<WeighingEntity> weighings = weighingRepository.findByTenantIdAfterCursor(
+                tenantId, KeysetCursor.decode(cursor), KeysetCursor.limit(pageSize));
+
+        return KeysetCursor.toPage(weighings, pageSize, KeysetCursor.isFirst(cursor),
+                WeighingEntity::getWeighingId, this::convertToResponse);
+    }
+
     /**
      * Retrieves weighings by reference type and ID.
      *
@@ -346,6 +376,43 @@ public class WeighingService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Retrieves weighings that exceed tolerance and are still pending verification.
+     *
+     * @param tenantId tenant identifier
+     * @return list of weighing responses requiring immediate attention
+     */
+    @Transactional(readOnly = true)
+    public List<WeighingResponse> getUnverifiedToleranceExceededWeighings(String tenantId) {
+        log.debug("Getting unverified tolerance exceeded weighings for tenant: {}", tenantId);
+
+        return weighingRepository.findUnverifiedToleranceExceeded(tenantId).stream()
+                .map(this::convertToResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Retrieves weighing statistics from the tenant's counter row (O(1), independent of history size).
+     *
+     * @param tenantId tenant identifier
+     * @return weighing statistics
+     */
+    @Transactional(readOnly = true)
+    public WeighingStatisticsResponse getStatistics(String tenantId) {
+        return weighingStatsService.getStatistics(tenantId);
+    }
+
+    /**
+     * Recomputes the tenant's weighing counters from the weighing table.
+     *
+     * @param tenantId tenant identifier
+     * @return recomputed weighing statistics
+     */
+    public WeighingStatisticsResponse rebuildStatistics(String tenantId) {
+        log.info("Rebuilding weighing statistics for tenant: {}", tenantId);
+        return weighingStatsService.rebuild(tenantId);
+    }
+
     /**
      * Deletes a weighing record.
      * Cannot delete verified weighings (GMP compliance).
@@ -357,7 +424,7 @@ public class WeighingService {
     public void deleteWeighing(String tenantId, Long weighingId) {
         log.info("Deleting weighing: {} for tenant: {}", weighingId, tenantId);
 
-        WeighingEntity weighing = weighingRepository.findById(weighingId)
+        WeighingEntity weighing = weighingRepository.findByIdForUpdate(weighingId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.WEIGHING_NOT_FOUND,
                         "Weighing not found: " + weighingId));
 
@@ -373,6 +440,7 @@ public class WeighingService {
         }
 
         weighingRepository.delete(weighing);
+        weighingStatsService.record(tenantId, weighing.getVerificationStatus(), weighing.getToleranceExceeded(), null, null);
         log.info("Deleted weighing: {}", weighing.getWeighingNo());
     }
 
@@ -418,34 +486,7 @@ public class WeighingService {
      * @return generated weighing number
      */
     private String generateWeighingNo(String tenantId) {
-        LocalDate today = LocalDate.now();
-        String dateStr = today.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String prefix = "WG-" + dateStr + "-";
-
-        // Find last weighing number for today by filtering in Java code
-        List<WeighingEntity> allWeighings = weighingRepository.findByTenant_TenantId(tenantId);
-
-        List<WeighingEntity> todayWeighings = allWeighings.stream()
-                .filter(w -> w.getWeighingNo() != null && w.getWeighingNo().startsWith(prefix))
-                .sorted((w1, w2) -> w2.getWeighingNo().compareTo(w1.getWeighingNo()))
-                .collect(Collectors.toList());
-
-        int nextSeq = 1;
-        if (!todayWeighings.isEmpty()) {
-            String lastNo = todayWeighings.get(0).getWeighingNo();
-            String seqStr = lastNo.substring(lastNo.lastIndexOf('-') + 1);
-            try {
-                nextSeq = Integer.parseInt(seqStr) + 1;
-            } catch (NumberFormatException e) {
-                log.warn("Failed to parse sequence from weighing number: {}", lastNo);
-                nextSeq = 1;
-            }
-        }
-
-        String weighingNo = prefix + String.format("%04d", nextSeq);
-        log.debug("Generated weighing number: {}", weighingNo);
-
-        return weighingNo;
+        return documentNumberService.generate(tenantId, "WG");
     }
 
     /**
@@ -0,0 +1,119 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.common.dto.weighing.WeighingStatisticsResponse;
+import kr.co.softice.mes.domain.entity.WeighingStatsEntity;
+import kr.co.softice.mes.domain.repository.WeighingStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Weighing Stats Service
+ * 테넌트별 칭량 건수 카운터 서비스
+ *
+ * - 칭량 등록/수정/검증/삭제 시 같은 트랜잭션 안에서 변경 전/후 상태 차이만큼 카운터 행을 upsert
+ *   (트랜잭션이 롤백되면 카운터도 함께 롤백)
+ * - 통계 조회는 카운터 행 1건 조회 (이력 건수와 무관)
+ * - rebuild: sd_weighings 집계로 카운터 재계산 (보정용)
+ *   카운터 행을 먼저 잠가 진행 중인 record 트랜잭션의 커밋을 기다린 뒤 집계
+ *   (집계 이후 커밋된 차이가 재계산 값에 덮어써지지 않음, 이후 record 는 재계산 커밋 뒤 반영)
+ * - 칭량 상태 변경 전/후 값은 호출 측에서 칭량 행을 잠근 상태로 읽음 (WeighingRepository.findByIdForUpdate)
+ *
+ * @author Moon Myung-seop
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WeighingStatsService {
+
+    private final WeighingStatsRepository weighingStatsRepository;
+
+    /**
+     * 칭량 1건의 상태 변경 반영
+     *
+     * @param oldStatus 변경 전 검증 상태 (신규 등록이면 null)
+     * @param newStatus 변경 후 검증 상태 (삭제면 null)
+     */
+    @Transactional
+    public void record(String tenantId, String oldStatus, Boolean oldExceeded, String newStatus, Boolean newExceeded) {
+        long[] before = counts(oldStatus, oldExceeded);
+        long[] after = counts(newStatus, newExceeded);
+
+        boolean changed = false;
+        long[] delta = new long[after.length];
+        for (int i = 0; i < delta.length; i++) {
+            delta[i] = after[i] - before[i];
+            changed |= delta[i] != 0;
+        }
+        if (!changed) {
+            return;
+        }
+
+        weighingStatsRepository.addCounts(tenantId, delta[0], delta[1], delta[2], delta[3], delta[4], delta[5]);
+    }
+
+    /**
+     * 신규 PENDING 칭량 여러 건 반영 (저울 연동 일괄 저장용)
+     */
+    @Transactional
+    public void recordCreated(String tenantId, long count, long toleranceExceededCount) {
+        weighingStatsRepository.addCounts(tenantId, count, count, 0, 0,
+                toleranceExceededCount, toleranceExceededCount);
+    }
+
+    @Transactional(readOnly = true)
+    public WeighingStatisticsResponse getStatistics(String tenantId) {
+        return weighingStatsRepository.findById(tenantId)
+                .map(this::toResponse)
+                .orElseGet(() -> WeighingStatisticsResponse.builder().tenantId(tenantId).build());
+    }
+
+    /**
+     * sd_weighings 집계로 카운터 재계산
+     */
+    @Transactional
+    public WeighingStatisticsResponse rebuild(String tenantId) {
+        weighingStatsRepository.insertIfAbsent(tenantId);
+        weighingStatsRepository.lockRow(tenantId);
+        weighingStatsRepository.rebuild(tenantId);
+        log.info("Rebuilt weighing stats for tenant: {}", tenantId);
+        return weighingStatsRepository.findById(tenantId)
+                .map(this::toResponse)
+                .orElseGet(() -> WeighingStatisticsResponse.builder().tenantId(tenantId).build());
+    }
+
+    // total, pending, verified, rejected, toleranceExceeded, pendingToleranceExceeded
+    private static long[] counts(String status, Boolean exceeded) {
+        long[] counts = new long[6];
+        if (status == null) {
+            return counts;
+        }
+        boolean pending = "PENDING".equals(status);
+        boolean tolerance = Boolean.TRUE.equals(exceeded);
+        counts[0] = 1;
+        counts[1] = pending ? 1 : 0;
+        counts[2] = "VERIFIED".equals(status) ? 1 : 0;
+        counts[3] = "REJECTED".equals(status) ? 1 : 0;
+        counts[4] = tolerance ? 1 : 0;
+        counts[5] = pending && tolerance ? 1 : 0;
+        return counts;
+    }
+
+    private WeighingStatisticsResponse toResponse(WeighingStatsEntity stats) {
+        long total = stats.getTotalCount();
+        return WeighingStatisticsResponse.builder()
+                .tenantId(stats.getTenantId())
+                .totalCount(total)
+                .pendingCount(stats.getPendingCount())
+                .verifiedCount(stats.getVerifiedCount())
+                .rejectedCount(stats.getRejectedCount())
+                .toleranceExceededCount(stats.getToleranceExceededCount())
+                .pendingToleranceExceededCount(stats.getPendingToleranceExceededCount())
+                .toleranceExceededRate(total > 0 ? stats.getToleranceExceededCount() * 100.0 / total : 0.0)
+                .verificationRate(total > 0
+                        ? (stats.getVerifiedCount() + stats.getRejectedCount()) * 100.0 / total : 0.0)
+                .updatedAt(stats.getUpdatedAt())
+                .build();
+    }
+}
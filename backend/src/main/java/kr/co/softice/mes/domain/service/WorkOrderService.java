@@ -1,5 +1,6 @@
 package kr.co.softice.mes.domain.service;
 
+import kr.co.softice.mes.common.dto.KeysetCursor;
 import kr.co.softice.mes.common.exception.BusinessException;
 import kr.co.softice.mes.common.exception.ErrorCode;
 import kr.co.softice.mes.domain.entity.WorkOrderEntity;
@@ -33,6 +34,13 @@ public class WorkOrderService {
         return workOrderRepository.findByTenant_TenantId(tenantId);
     }
 
+    /**
+     * Find work orders page by tenant (keyset, newest first, up to size + 1 rows)
+     */
+    public List<WorkOrderEntity> findPageByTenant(String tenantId, long cursor, int size) {
+        return workOrderRepository.findByTenantIdAfterCursor(tenantId, cursor, KeysetCursor.limit(size));
+    }
+
     /**
      * 작업 지시 ID로 조회
      */
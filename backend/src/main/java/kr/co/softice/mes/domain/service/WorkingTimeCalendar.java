@@ -0,0 +1,136 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.common.exception.BusinessException;
+import kr.co.softice.mes.common.exception.ErrorCode;
+import kr.co.softice.mes.domain.entity.WorkingHoursEntity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Working Time Calendar
+ * 영업일 + 기본 근무시간 기준 가동 시간 계산 (분 단위, 스케줄링 1회 실행 범위)
+ *
+ * - 시각은 epoch 분 (LocalDate.toEpochDay × 1440 + 하루 중 분)
+ * - 영업일의 근무 구간은 기본 근무시간의 요일별 시작~종료 (종료 ≤ 시작이면 익일 종료),
+ *   기본 근무시간이 없거나 해당 요일 시간이 비어 있으면 하루 전체
+ * - 휴게시간은 반영하지 않음
+ *
+ * @author Moon Myung-seop
+ */
+final class WorkingTimeCalendar {
+
+    static final long MINUTES_PER_DAY = 1440;
+
+    /**
+     * 근무 구간 탐색 한도 (영업일이 전혀 없는 설정 방지)
+     */
+    private static final int MAX_SEARCH_DAYS = 3660;
+    private static final long[] NO_WINDOW = new long[0];
+
+    private final Predicate<LocalDate> businessDay;
+    private final WorkingHoursEntity workingHours;
+    private final Map<Long, long[]> windows = new HashMap<>();
+
+    WorkingTimeCalendar(Predicate<LocalDate> businessDay, WorkingHoursEntity workingHours) {
+        this.businessDay = businessDay;
+        this.workingHours = workingHours;
+    }
+
+    static long toMinutes(LocalDateTime dateTime) {
+        return dateTime.toLocalDate().toEpochDay() * MINUTES_PER_DAY
+                + dateTime.getHour() * 60L + dateTime.getMinute();
+    }
+
+    static LocalDateTime toDateTime(long minutes) {
+        LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(minutes, MINUTES_PER_DAY));
+        return date.atTime(LocalTime.ofSecondOfDay(Math.floorMod(minutes, MINUTES_PER_DAY) * 60));
+    }
+
+    /**
+     * time 이후 가장 이른 근무 시각 (time 이 근무 구간 안이면 그대로)
+     */
+    long nextWorkingMinute(long time) {
+        long day = Math.floorDiv(time, MINUTES_PER_DAY);
+
+        // 전일 야간 근무 구간이 당일로 넘어오는 경우
+        long[] previous = window(day - 1);
+        if (previous != null && time >= previous[0] && time < previous[1]) {
+            return time;
+        }
+
+        for (int i = 0; i < MAX_SEARCH_DAYS; i++) {
+            long[] window = window(day + i);
+            if (window != null && time < window[1]) {
+                return Math.max(time, window[0]);
+            }
+        }
+        throw noWorkingTime(time);
+    }
+
+    /**
+     * start(근무 시각)부터 근무 시간 minutes 분을 소비한 종료 시각
+     */
+    long addWorkingMinutes(long start, long minutes) {
+        long time = nextWorkingMinute(start);
+        long remaining = minutes;
+
+        for (int i = 0; i < MAX_SEARCH_DAYS * 2; i++) {
+            long windowEnd = windowEndAt(time);
+            long available = windowEnd - time;
+            if (remaining <= available) {
+                return time + remaining;
+            }
+            remaining -= available;
+            time = nextWorkingMinute(windowEnd);
+        }
+        throw noWorkingTime(start);
+    }
+
+    private long windowEndAt(long time) {
+        long day = Math.floorDiv(time, MINUTES_PER_DAY);
+        long[] previous = window(day - 1);
+        if (previous != null && time >= previous[0] && time < previous[1]) {
+            return previous[1];
+        }
+        return window(day)[1];
+    }
+
+    /**
+     * epoch 일자의 근무 구간 [시작, 종료) (epoch 분), 비영업일이면 null
+     */
+    private long[] window(long epochDay) {
+        long[] window = windows.computeIfAbsent(epochDay, this::computeWindow);
+        return window == NO_WINDOW ? null : window;
+    }
+
+    private long[] computeWindow(long epochDay) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        if (!businessDay.test(date)) {
+            return NO_WINDOW;
+        }
+
+        long dayStart = epochDay * MINUTES_PER_DAY;
+        WorkingHoursEntity.WorkingHours hours = workingHours == null ? null
+                : workingHours.getWorkingHoursForDay(date.getDayOfWeek().getValue());
+        if (hours == null || hours.getStartTime() == null || hours.getEndTime() == null) {
+            return new long[]{dayStart, dayStart + MINUTES_PER_DAY};
+        }
+
+        long start = dayStart + hours.getStartTime().toSecondOfDay() / 60;
+        long end = dayStart + hours.getEndTime().toSecondOfDay() / 60;
+        if (end <= start) {
+            end += MINUTES_PER_DAY;
+        }
+        return new long[]{start, end};
+    }
+
+    private static BusinessException noWorkingTime(long time) {
+        return new BusinessException(ErrorCode.INVALID_OPERATION,
+                "No working time within " + MAX_SEARCH_DAYS + " days after " + toDateTime(time));
+    }
+}
@@ -386,6 +386,44 @@ class WeighingRepositoryTest {
         assertThat(results.get(0).getVerificationStatus()).isEqualTo("PENDING");
     }
 
+    @Test
+    @DisplayName("미검증 허용 오차 초과 조회 - 검증 완료된 항목 제외")
+    void findUnverifiedToleranceExceeded_ExcludesVerified() {
+        // Given
+        WeighingEntity verifiedExceeded = WeighingEntity.builder()
+                .tenant(tenant)
+                .weighingNo("WG-20260204-0003")
+                .weighingDate(LocalDateTime.now().minusHours(1))
+                .weighingType("PRODUCTION")
+                .referenceType("WORK_ORDER")
+                .referenceId(2L)
+                .product(product)
+                .tareWeight(new BigDecimal("100.000"))
+                .grossWeight(new BigDecimal("560.000"))
+                .netWeight(new BigDecimal("460.000"))
+                .expectedWeight(new BigDecimal("500.000"))
+                .variance(new BigDecimal("-40.000"))
+                .variancePercentage(new BigDecimal("-8.0000"))
+                .unit("kg")
+                .operator(operator)
+                .verifier(verifier)
+                .verificationDate(LocalDateTime.now())
+                .verificationStatus("VERIFIED")
+                .toleranceExceeded(true)
+                .tolerancePercentage(new BigDecimal("2.0"))
+                .build();
+        entityManager.persist(verifiedExceeded);
+        entityManager.flush();
+
+        // When
+        List<WeighingEntity> results = weighingRepository
+                .findUnverifiedToleranceExceeded(tenantId);
+
+        // Then
+        assertThat(results).extracting(WeighingEntity::getWeighingNo)
+                .containsExactly("WG-20260204-0002");
+    }
+
     // === Entity Method Tests ===
 
     @Test
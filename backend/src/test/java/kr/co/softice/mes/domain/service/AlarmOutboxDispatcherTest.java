@@ -0,0 +1,180 @@
+package kr.co.softice.mes.domain.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.softice.mes.domain.entity.AlarmHistoryEntity;
+import kr.co.softice.mes.domain.repository.AlarmHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Alarm Outbox Dispatcher Test
+ * 알람 outbox 점유 / 재시도 / 백오프 / FAILED 전이 단위 테스트
+ *
+ * @author Moon Myung-seop
+ */
+@DisplayName("알람 outbox 발송기 테스트")
+class AlarmOutboxDispatcherTest {
+
+    private static final int BATCH_SIZE = 10;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BACKOFF_INITIAL_MS = 1000;
+    private static final long BACKOFF_MAX_MS = 60000;
+    private static final long LEASE_SECONDS = 300;
+
+    private AlarmHistoryRepository historyRepository;
+    private JdbcTemplate jdbcTemplate;
+    private AlarmChannel email;
+    private AlarmChannel sms;
+    private AlarmOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        historyRepository = mock(AlarmHistoryRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        email = channel("EMAIL");
+        sms = channel("SMS");
+
+        dispatcher = new AlarmOutboxDispatcher(historyRepository, jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new SimpleMeterRegistry(),
+                mock(TaskScheduler.class), new SyncTaskExecutor(), List.of(email, sms));
+        ReflectionTestUtils.setField(dispatcher, "enabled", true);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(dispatcher, "backoffInitialMs", BACKOFF_INITIAL_MS);
+        ReflectionTestUtils.setField(dispatcher, "backoffMaxMs", BACKOFF_MAX_MS);
+        ReflectionTestUtils.setField(dispatcher, "leaseSeconds", LEASE_SECONDS);
+        dispatcher.start();
+    }
+
+    @Test
+    @DisplayName("점유: 만료 시각 = now + lease, batch-size 만큼 점유 후 발송 성공 시 SENT")
+    void poll_claimsDueAlarmsAndMarksSent() {
+        AlarmHistoryEntity alarm = alarm(1L, 1, true, false, null);
+        claimReturns(alarm);
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.poll();
+
+        ArgumentCaptor<Timestamp> lease = ArgumentCaptor.forClass(Timestamp.class);
+        verify(jdbcTemplate).queryForList(eq(AlarmOutboxDispatcher.CLAIM_SQL), eq(Long.class),
+                lease.capture(), any(Timestamp.class), eq(BATCH_SIZE));
+        assertThat(lease.getValue().toLocalDateTime())
+                .isAfterOrEqualTo(before.plusSeconds(LEASE_SECONDS))
+                .isBefore(before.plusSeconds(LEASE_SECONDS + 5));
+
+        verify(jdbcTemplate).update(eq(AlarmOutboxDispatcher.SENT_SQL), eq("EMAIL"),
+                any(Timestamp.class), eq(1L), eq(1));
+    }
+
+    @Test
+    @DisplayName("재시도: 실패 채널만 백오프 후 PENDING 복귀, 성공 채널은 delivered_channels 에 기록")
+    void poll_failedChannel_returnsToPendingWithBackoff() throws Exception {
+        AlarmHistoryEntity alarm = alarm(2L, 1, true, true, null);
+        doThrow(new IllegalStateException("gateway timeout")).when(sms).send(alarm);
+        claimReturns(alarm);
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.poll();
+
+        ArgumentCaptor<Timestamp> nextAttemptAt = ArgumentCaptor.forClass(Timestamp.class);
+        verify(jdbcTemplate).update(eq(AlarmOutboxDispatcher.RETRY_SQL), nextAttemptAt.capture(), eq("EMAIL"),
+                eq("SMS: gateway timeout"), any(Timestamp.class), eq(2L), eq(1));
+        Duration delay = Duration.between(before, nextAttemptAt.getValue().toLocalDateTime());
+        assertThat(delay.toMillis()).isBetween(BACKOFF_INITIAL_MS, BACKOFF_INITIAL_MS * 6 / 5 + 1000);
+    }
+
+    @Test
+    @DisplayName("재시도: 이미 성공한 채널은 다시 발송하지 않음")
+    void poll_skipsDeliveredChannels() throws Exception {
+        AlarmHistoryEntity alarm = alarm(3L, 2, true, true, "EMAIL");
+        claimReturns(alarm);
+
+        dispatcher.poll();
+
+        verify(email, never()).send(any());
+        verify(sms).send(alarm);
+        verify(jdbcTemplate).update(eq(AlarmOutboxDispatcher.SENT_SQL), eq("EMAIL,SMS"),
+                any(Timestamp.class), eq(3L), eq(2));
+    }
+
+    @Test
+    @DisplayName("FAILED: max-attempts 번째 시도까지 실패하면 FAILED")
+    void poll_lastAttemptFails_marksFailed() throws Exception {
+        AlarmHistoryEntity alarm = alarm(4L, MAX_ATTEMPTS, true, false, null);
+        doThrow(new IllegalStateException("smtp down")).when(email).send(alarm);
+        claimReturns(alarm);
+
+        dispatcher.poll();
+
+        verify(jdbcTemplate).update(eq(AlarmOutboxDispatcher.FAILED_SQL), isNull(),
+                eq("EMAIL: smtp down"), any(Timestamp.class), eq(4L), eq(MAX_ATTEMPTS));
+        verify(jdbcTemplate, never()).update(eq(AlarmOutboxDispatcher.RETRY_SQL),
+                any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("백오프: initial * 2^(attempt-1) + 0~20% 지터, backoff-max-ms 상한")
+    void backoffMillis_growsExponentiallyUpToMax() {
+        assertThat(dispatcher.backoffMillis(1)).isBetween(1000L, 1200L);
+        assertThat(dispatcher.backoffMillis(2)).isBetween(2000L, 2400L);
+        assertThat(dispatcher.backoffMillis(4)).isBetween(8000L, 9600L);
+        assertThat(dispatcher.backoffMillis(30)).isBetween(BACKOFF_MAX_MS, BACKOFF_MAX_MS * 6 / 5);
+    }
+
+    @Test
+    @DisplayName("점유할 건이 없으면 발송 없음")
+    void poll_nothingDue_sendsNothing() throws Exception {
+        when(jdbcTemplate.queryForList(eq(AlarmOutboxDispatcher.CLAIM_SQL), eq(Long.class),
+                any(), any(), anyInt())).thenReturn(Collections.emptyList());
+
+        dispatcher.poll();
+
+        verify(historyRepository, never()).findAllById(any());
+        verify(email, never()).send(any());
+    }
+
+    private void claimReturns(AlarmHistoryEntity alarm) {
+        when(jdbcTemplate.queryForList(eq(AlarmOutboxDispatcher.CLAIM_SQL), eq(Long.class),
+                any(), any(), anyInt())).thenReturn(List.of(alarm.getAlarmId()), Collections.emptyList());
+        when(historyRepository.findAllById(List.of(alarm.getAlarmId()))).thenReturn(List.of(alarm));
+    }
+
+    private static AlarmHistoryEntity alarm(Long alarmId, int attemptCount, boolean viaEmail, boolean viaSms,
+                                            String deliveredChannels) {
+        return AlarmHistoryEntity.builder()
+                .alarmId(alarmId)
+                .eventType("TEST")
+                .sentViaEmail(viaEmail)
+                .sentViaSms(viaSms)
+                .sentViaPush(false)
+                .attemptCount(attemptCount)
+                .deliveredChannels(deliveredChannels)
+                .build();
+    }
+
+    private static AlarmChannel channel(String name) {
+        AlarmChannel channel = mock(AlarmChannel.class);
+        when(channel.getChannel()).thenReturn(name);
+        return channel;
+    }
+}
@@ -0,0 +1,138 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.domain.entity.AlarmTemplateEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Alarm Template Compiler Test
+ * compile(String) 렌더링 결과가 기존 AlarmTemplateEntity.renderTitle/renderMessage (String.replace 반복) 와
+ * 같은지 경계 입력별로 비교
+ *
+ * @author Moon Myung-seop
+ */
+@DisplayName("알람 템플릿 컴파일러 테스트")
+class AlarmTemplateCompilerTest {
+
+    private static Map<String, String> variables(String... keyValues) {
+        Map<String, String> variables = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            variables.put(keyValues[i], keyValues[i + 1]);
+        }
+        return variables;
+    }
+
+    /**
+     * 제목/본문 양쪽에서 compile(source).render(variables) == 기존 렌더링
+     */
+    private static String assertSameAsLegacy(String source, Map<String, String> variables) {
+        AlarmTemplateEntity template = AlarmTemplateEntity.builder()
+                .titleTemplate(source)
+                .messageTemplate(source)
+                .build();
+        String compiled = AlarmTemplateCompiler.compile(source).render(variables);
+
+        assertThat(compiled).as("title: %s", source).isEqualTo(template.renderTitle(variables));
+        assertThat(compiled).as("message: %s", source).isEqualTo(template.renderMessage(variables));
+        return compiled;
+    }
+
+    @Test
+    @DisplayName("일반 치환: 여러 변수, 같은 변수 반복, 앞뒤 리터럴")
+    void plainVariables() {
+        assertThat(assertSameAsLegacy("[{{equipment}}] {{status}} - {{equipment}} 확인 필요",
+                variables("equipment", "EQ-01", "status", "DOWN")))
+                .isEqualTo("[EQ-01] DOWN - EQ-01 확인 필요");
+        assertThat(assertSameAsLegacy("{{a}}{{b}}", variables("a", "1", "b", "2"))).isEqualTo("12");
+    }
+
+    @Test
+    @DisplayName("값이 없는 변수는 {{key}} 그대로 유지")
+    void missingKeys_keptAsIs() {
+        assertThat(assertSameAsLegacy("{{known}} / {{unknown}}", variables("known", "K")))
+                .isEqualTo("K / {{unknown}}");
+        assertThat(assertSameAsLegacy("{{unknown}}", Collections.emptyMap())).isEqualTo("{{unknown}}");
+        assertThat(assertSameAsLegacy("{{ known }}", variables("known", "K"))).isEqualTo("{{ known }}");
+    }
+
+    @Test
+    @DisplayName("\"{{a {{b}}\": 닫는 괄호에 가장 가까운 여는 괄호 기준으로 b 만 치환")
+    void nestedOpen_innermostVariable() {
+        assertThat(assertSameAsLegacy("{{a {{b}}", variables("a", "A", "b", "B"))).isEqualTo("{{a B");
+        assertThat(assertSameAsLegacy("{{a {{b}}", variables("a", "A"))).isEqualTo("{{a {{b}}");
+        assertThat(assertSameAsLegacy("{{a{{b}}}}", variables("a", "A", "b", "B"))).isEqualTo("{{aB}}");
+    }
+
+    @Test
+    @DisplayName("\"{{{x}}\": 앞의 여분 '{' 는 리터럴")
+    void extraBrace_literal() {
+        assertThat(assertSameAsLegacy("{{{x}}", variables("x", "X"))).isEqualTo("{X");
+        assertThat(assertSameAsLegacy("{{x}}}", variables("x", "X"))).isEqualTo("X}");
+        assertThat(assertSameAsLegacy("{{{x}}}", variables("x", "X"))).isEqualTo("{X}");
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 \"{{\" 는 리터럴")
+    void unclosedOpen_literal() {
+        assertThat(assertSameAsLegacy("Hello {{name", variables("name", "N"))).isEqualTo("Hello {{name");
+        assertThat(assertSameAsLegacy("{{name}} and {{", variables("name", "N"))).isEqualTo("N and {{");
+        assertThat(assertSameAsLegacy("}} {{name}}", variables("name", "N"))).isEqualTo("}} N");
+    }
+
+    @Test
+    @DisplayName("빈 템플릿과 변수 없는 템플릿")
+    void emptyTemplates() {
+        assertThat(assertSameAsLegacy("", variables("a", "A"))).isEmpty();
+        assertThat(assertSameAsLegacy("{{}}", variables("", "E"))).isEqualTo("E");
+        assertThat(assertSameAsLegacy("plain text", variables("a", "A"))).isEqualTo("plain text");
+        assertThat(AlarmTemplateCompiler.compile("").getVariableCount()).isZero();
+        assertThat(AlarmTemplateCompiler.compile((String) null).render(variables("a", "A"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("치환된 값 안의 {{key}} 는 다시 치환하지 않음 (기존 방식은 Map 순회 순서에 따라 달라짐)")
+    void substitutedValues_notReexpanded() {
+        String rendered = AlarmTemplateCompiler.compile("{{a}}").render(variables("a", "{{b}}", "b", "B"));
+
+        assertThat(rendered).isEqualTo("{{b}}");
+    }
+
+    @Test
+    @DisplayName("render(variables, defaults): 변수 우선, 없으면 기본값, 둘 다 없으면 {{key}}")
+    void render_fallsBackToDefaults() {
+        AlarmTemplateCompiler.CompiledTemplate compiled = AlarmTemplateCompiler.compile("{{a}}-{{b}}-{{c}}");
+
+        assertThat(compiled.render(variables("a", "1"), variables("a", "X", "b", "2")))
+                .isEqualTo("1-2-{{c}}");
+        assertThat(compiled.getVariableCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("compile(entity): updatedAt 이 같으면 캐시 재사용, 바뀌면 재컴파일")
+    void compileEntity_cachedPerUpdatedAt() {
+        AlarmTemplateCompiler compiler = new AlarmTemplateCompiler();
+        AlarmTemplateEntity template = AlarmTemplateEntity.builder()
+                .templateId(1L)
+                .titleTemplate("{{a}}")
+                .messageTemplate("{{b}}")
+                .build();
+        template.setUpdatedAt(LocalDateTime.of(2026, 3, 2, 9, 0));
+
+        AlarmTemplateCompiler.CompiledAlarmTemplate first = compiler.compile(template);
+        assertThat(compiler.compile(template)).isSameAs(first);
+
+        template.setTitleTemplate("[{{a}}]");
+        template.setUpdatedAt(LocalDateTime.of(2026, 3, 2, 10, 0));
+        AlarmTemplateCompiler.CompiledAlarmTemplate second = compiler.compile(template);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getTitle().render(variables("a", "A"))).isEqualTo("[A]");
+    }
+}
@@ -0,0 +1,133 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.domain.entity.AlarmTemplateEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Alarm Template Render Benchmark
+ * 알람 템플릿 렌더링 JMH 벤치마크 (String.replace 반복 vs AlarmTemplateCompiler)
+ *
+ * - legacy*: AlarmTemplateEntity.renderTitle/renderMessage (변수마다 전체 문자열 복사)
+ * - compiled*: 캐시된 세그먼트 목록 1회 순회
+ * - *Bulk: 수신자 N명 일괄 발송 (AlarmService.sendAlarms 와 동일하게 템플릿 컴파일 1회)
+ *
+ * surefire 대상 아님 (*Test 아님), main() 또는 mvn test-compile 후 org.openjdk.jmh.Main 으로 실행
+ *
+ * @author Moon Myung-seop
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AlarmTemplateRenderBenchmark {
+
+    @Param({"100"})
+    private int recipients;
+
+    private AlarmTemplateEntity template;
+    private AlarmTemplateCompiler compiler;
+    private Map<String, String> commonVariables;
+    private List<Map<String, String>> recipientVariables;
+
+    @Setup
+    public void setup() {
+        template = AlarmTemplateEntity.builder()
+                .templateId(1L)
+                .templateCode("QUALITY_FAILED")
+                .templateName("품질 검사 불합격")
+                .alarmType("QUALITY")
+                .eventType("QUALITY_FAILED")
+                .titleTemplate("[{{severity}}] {{productName}} 품질 검사 불합격 ({{inspectionNo}})")
+                .messageTemplate("{{recipientName}} 님, 작업지시 {{workOrderNo}} 의 {{productName}}({{productCode}}) "
+                        + "LOT {{lotNo}} 품질 검사 결과 불합격 처리되었습니다. 불량 수량: {{defectQuantity}} / "
+                        + "검사 수량: {{inspectedQuantity}}, 검사자: {{inspectorName}}, 검사 일시: {{inspectedAt}}. "
+                        + "부적합 처리 절차에 따라 {{dueDate}} 까지 조치 결과를 등록해 주세요.")
+                .build();
+        template.setUpdatedAt(LocalDateTime.of(2026, 3, 1, 0, 0));
+
+        compiler = new AlarmTemplateCompiler();
+
+        commonVariables = new HashMap<>();
+        commonVariables.put("severity", "MAJOR");
+        commonVariables.put("productName", "브레이크 패드 어셈블리");
+        commonVariables.put("productCode", "BP-2024-0117");
+        commonVariables.put("inspectionNo", "QI-20260301-0042");
+        commonVariables.put("workOrderNo", "WO-20260301-0007");
+        commonVariables.put("lotNo", "LOT-260301-A03");
+        commonVariables.put("defectQuantity", "37");
+        commonVariables.put("inspectedQuantity", "500");
+        commonVariables.put("inspectorName", "김검사");
+        commonVariables.put("inspectedAt", "2026-03-01 14:22");
+        commonVariables.put("dueDate", "2026-03-04");
+
+        recipientVariables = new ArrayList<>(recipients);
+        for (int i = 0; i < recipients; i++) {
+            Map<String, String> variables = new HashMap<>(commonVariables);
+            variables.put("recipientName", "담당자" + i);
+            recipientVariables.add(variables);
+        }
+    }
+
+    @Benchmark
+    public void legacySingle(Blackhole bh) {
+        Map<String, String> variables = recipientVariables.get(0);
+        bh.consume(template.renderTitle(variables));
+        bh.consume(template.renderMessage(variables));
+    }
+
+    @Benchmark
+    public void compiledSingle(Blackhole bh) {
+        Map<String, String> variables = recipientVariables.get(0);
+        AlarmTemplateCompiler.CompiledAlarmTemplate compiled = compiler.compile(template);
+        bh.consume(compiled.getTitle().render(variables));
+        bh.consume(compiled.getMessage().render(variables));
+    }
+
+    @Benchmark
+    public void legacyBulk(Blackhole bh) {
+        for (Map<String, String> variables : recipientVariables) {
+            bh.consume(template.renderTitle(variables));
+            bh.consume(template.renderMessage(variables));
+        }
+    }
+
+    @Benchmark
+    public void compiledBulk(Blackhole bh) {
+        AlarmTemplateCompiler.CompiledAlarmTemplate compiled = compiler.compile(template);
+        for (Map<String, String> variables : recipientVariables) {
+            bh.consume(compiled.getTitle().render(variables));
+            bh.consume(compiled.getMessage().render(variables));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(AlarmTemplateRenderBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
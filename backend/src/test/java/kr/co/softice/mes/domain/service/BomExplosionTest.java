@@ -0,0 +1,113 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.common.exception.BusinessException;
+import kr.co.softice.mes.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * BOM Explosion Test
+ * 다단계 전개, (bomId, version) 메모이제이션, 순환 참조, 상위 → 하위 정렬 단위 테스트
+ *
+ * @author Moon Myung-seop
+ */
+@DisplayName("BOM 전개 테스트")
+class BomExplosionTest {
+
+    private static final Long A = 1L;
+    private static final Long B = 2L;
+    private static final Long C = 3L;
+    private static final Long D = 4L;
+
+    /**
+     * A → B(2), C(1) / B → D(3) / C → D(1) : D 를 두 경로로 공유하는 다이아몬드 구조
+     */
+    private static BomExplosion diamond() {
+        BomExplosion explosion = new BomExplosion();
+        explosion.addLine(10L, "1.0", A, B, new BigDecimal("2"), null, null);
+        explosion.addLine(10L, "1.0", A, C, BigDecimal.ONE, null, null);
+        explosion.addLine(20L, "1.0", B, D, new BigDecimal("3"), null, null);
+        explosion.addLine(30L, "1.0", C, D, BigDecimal.ONE, null, null);
+        return explosion;
+    }
+
+    @Test
+    @DisplayName("explode: 다이아몬드 BOM 은 공유 구성품 소요량을 경로별로 합산")
+    void explode_diamond_sumsSharedComponent() {
+        Map<Long, BigDecimal> result = diamond().explode(A);
+
+        assertThat(result).containsOnlyKeys(B, C, D);
+        assertThat(result.get(B)).isEqualByComparingTo("2");
+        assertThat(result.get(C)).isEqualByComparingTo("1");
+        // 2 × 3 + 1 × 1
+        assertThat(result.get(D)).isEqualByComparingTo("7");
+    }
+
+    @Test
+    @DisplayName("explode: 하위 BOM 전개 결과는 (bomId, version) 단위로 재사용")
+    void explode_memoizesPerBomVersion() {
+        BomExplosion explosion = diamond();
+
+        Map<Long, BigDecimal> first = explosion.explode(A);
+        Map<Long, BigDecimal> nested = explosion.explode(B);
+
+        assertThat(explosion.explode(A)).isSameAs(first);
+        assertThat(explosion.explode(B)).isSameAs(nested);
+        assertThat(nested).containsOnlyKeys(D);
+        assertThat(nested.get(D)).isEqualByComparingTo("3");
+    }
+
+    @Test
+    @DisplayName("explode: 구성품 단위 소요량 = quantity × usageRate% × (1 + scrapRate%)")
+    void explode_appliesUsageAndScrapRates() {
+        BomExplosion explosion = new BomExplosion();
+        explosion.addLine(10L, "1.0", A, B, new BigDecimal("2"), new BigDecimal("50"), new BigDecimal("10"));
+
+        assertThat(explosion.explode(A).get(B)).isEqualByComparingTo("1.1");
+        assertThat(explosion.explode(D)).isEmpty();
+        assertThat(explosion.hasBom(B)).isFalse();
+    }
+
+    @Test
+    @DisplayName("explode: 순환 참조는 순환 경로와 함께 BOM_CIRCULAR_REFERENCE")
+    void explode_cycle_throwsCircularReference() {
+        BomExplosion explosion = new BomExplosion();
+        explosion.addLine(10L, "1.0", A, B, BigDecimal.ONE, null, null);
+        explosion.addLine(20L, "1.0", B, C, BigDecimal.ONE, null, null);
+        explosion.addLine(30L, "1.0", C, A, BigDecimal.ONE, null, null);
+
+        assertThatThrownBy(() -> explosion.explode(A))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("1 -> 2 -> 3 -> 1")
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.BOM_CIRCULAR_REFERENCE);
+    }
+
+    @Test
+    @DisplayName("topologicalOrder: 상위 품목이 항상 하위 품목보다 먼저")
+    void topologicalOrder_parentsBeforeChildren() {
+        List<Long> order = diamond().topologicalOrder(Collections.singleton(A));
+
+        assertThat(order).containsExactlyInAnyOrder(A, B, C, D);
+        assertThat(order.get(0)).isEqualTo(A);
+        assertThat(order.get(3)).isEqualTo(D);
+    }
+
+    @Test
+    @DisplayName("topologicalOrder: 순환 참조는 BOM_CIRCULAR_REFERENCE")
+    void topologicalOrder_cycle_throwsCircularReference() {
+        BomExplosion explosion = new BomExplosion();
+        explosion.addLine(10L, "1.0", A, B, BigDecimal.ONE, null, null);
+        explosion.addLine(20L, "1.0", B, A, BigDecimal.ONE, null, null);
+
+        assertThatThrownBy(() -> explosion.topologicalOrder(Collections.singleton(A)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.BOM_CIRCULAR_REFERENCE);
+    }
+}
@@ -0,0 +1,145 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.domain.entity.BomDetailEntity;
+import kr.co.softice.mes.domain.entity.BomEntity;
+import kr.co.softice.mes.domain.entity.ProductEntity;
+import kr.co.softice.mes.domain.entity.TenantEntity;
+import kr.co.softice.mes.domain.repository.BomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * BOM Where-Used Index Test
+ * 역방향 인덱스 전 레벨 BFS, 공유 반제품, BOM 변경 시 간선 교체(copy-on-write) 단위 테스트
+ *
+ * @author Moon Myung-seop
+ */
+@DisplayName("BOM 사용처 인덱스 테스트")
+class BomWhereUsedIndexTest {
+
+    private static final String TENANT_ID = "TEST001";
+
+    private static final Long A = 1L;
+    private static final Long B = 2L;
+    private static final Long C = 3L;
+    private static final Long D = 4L;
+    private static final Long E = 5L;
+    private static final Long F = 6L;
+
+    private BomRepository bomRepository;
+    private BomWhereUsedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        bomRepository = mock(BomRepository.class);
+        index = new BomWhereUsedIndex(bomRepository);
+        ReflectionTestUtils.setField(index, "maximumSize", 100L);
+        ReflectionTestUtils.setField(index, "ttlSeconds", 3600L);
+        index.init();
+
+        // A(BOM 10) → B, C / B(BOM 20) → D / C(BOM 30) → D / E(BOM 50, 비활성) → C
+        List<Object[]> links = new ArrayList<>();
+        links.add(new Object[]{B, A, 10L, true});
+        links.add(new Object[]{C, A, 10L, true});
+        links.add(new Object[]{D, B, 20L, true});
+        links.add(new Object[]{D, C, 30L, true});
+        links.add(new Object[]{C, E, 50L, false});
+        when(bomRepository.findComponentLinksByTenantId(TENANT_ID)).thenReturn(links);
+    }
+
+    @Test
+    @DisplayName("findWhereUsed: 공유 반제품을 거친 상위 제품은 최소 단계로 1회만 집계")
+    void findWhereUsed_sharedSubassembly_visitedOnceAtMinimumLevel() {
+        Map<Long, BomWhereUsedIndex.WhereUsed> result = index.findWhereUsed(TENANT_ID, D, false);
+
+        assertThat(result.keySet()).containsExactly(B, C, A, E);
+        assertThat(result.get(B).getLevel()).isEqualTo(1);
+        assertThat(result.get(C).getLevel()).isEqualTo(1);
+        assertThat(result.get(A).getLevel()).isEqualTo(2);
+        assertThat(result.get(A).getBomIds()).containsExactly(10L);
+        assertThat(result.get(B).getBomIds()).containsExactly(20L);
+
+        assertThat(result.get(A).isTopLevel()).isTrue();
+        assertThat(result.get(E).isTopLevel()).isTrue();
+        assertThat(result.get(C).isTopLevel()).isFalse();
+    }
+
+    @Test
+    @DisplayName("findWhereUsed: activeOnly 이면 비활성 BOM 간선은 따라가지 않음")
+    void findWhereUsed_activeOnly_skipsInactiveBoms() {
+        Map<Long, BomWhereUsedIndex.WhereUsed> result = index.findWhereUsed(TENANT_ID, C, true);
+
+        assertThat(result.keySet()).containsExactly(A);
+        assertThat(index.findWhereUsed(TENANT_ID, C, false).keySet()).containsExactlyInAnyOrder(A, E);
+    }
+
+    @Test
+    @DisplayName("bomSaved: 변경된 BOM 간선만 교체, 이전 조회 결과는 유지되고 재조회 없음")
+    void bomSaved_replacesEdgesWithoutReload() {
+        Map<Long, BomWhereUsedIndex.WhereUsed> before = index.findWhereUsed(TENANT_ID, D, false);
+
+        // B 의 BOM 20 구성품을 D → F 로 변경
+        index.bomSaved(bom(20L, B, true, F));
+
+        assertThat(index.findWhereUsed(TENANT_ID, D, false).keySet()).containsExactly(C, A, E);
+        assertThat(index.findWhereUsed(TENANT_ID, F, false).keySet()).containsExactly(B, A);
+        assertThat(before.keySet()).containsExactly(B, C, A, E);
+        verify(bomRepository, times(1)).findComponentLinksByTenantId(TENANT_ID);
+    }
+
+    @Test
+    @DisplayName("bomSaved: 비활성 전환된 BOM 은 activeOnly 조회에서 제외")
+    void bomSaved_deactivatedBom_excludedFromActiveOnly() {
+        index.findWhereUsed(TENANT_ID, D, true);
+
+        index.bomSaved(bom(30L, C, false, D));
+
+        assertThat(index.findWhereUsed(TENANT_ID, D, true).keySet()).containsExactly(B, A);
+        assertThat(index.findWhereUsed(TENANT_ID, D, false).keySet()).containsExactly(B, C, A, E);
+    }
+
+    @Test
+    @DisplayName("bomDeleted: 삭제된 BOM 간선 제거")
+    void bomDeleted_removesEdges() {
+        index.findWhereUsed(TENANT_ID, D, false);
+
+        index.bomDeleted(10L);
+
+        Map<Long, BomWhereUsedIndex.WhereUsed> result = index.findWhereUsed(TENANT_ID, D, false);
+        assertThat(result.keySet()).containsExactly(B, C, E);
+        assertThat(result.get(B).isTopLevel()).isTrue();
+        verify(bomRepository, times(1)).findComponentLinksByTenantId(TENANT_ID);
+    }
+
+    @Test
+    @DisplayName("bomSaved: 아직 구성되지 않은 테넌트는 무시, 최초 조회 시 DB 에서 구성")
+    void bomSaved_unloadedTenant_buildsOnFirstLookup() {
+        index.bomSaved(bom(20L, B, true, F));
+
+        assertThat(index.findWhereUsed(TENANT_ID, D, false)).containsKey(B);
+        verify(bomRepository, times(1)).findComponentLinksByTenantId(TENANT_ID);
+    }
+
+    private static BomEntity bom(Long bomId, Long parentProductId, boolean active, Long... componentProductIds) {
+        BomEntity bom = BomEntity.builder()
+                .bomId(bomId)
+                .tenant(TenantEntity.builder().tenantId(TENANT_ID).build())
+                .product(ProductEntity.builder().productId(parentProductId).build())
+                .isActive(active)
+                .build();
+        Arrays.stream(componentProductIds).forEach(componentId -> bom.addDetail(BomDetailEntity.builder()
+                .materialProduct(ProductEntity.builder().productId(componentId).build())
+                .build()));
+        return bom;
+    }
+}
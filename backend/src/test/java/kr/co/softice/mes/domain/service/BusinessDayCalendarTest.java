@@ -0,0 +1,93 @@
+package kr.co.softice.mes.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Business Day Calendar Test
+ * 누적합 기반 구간 영업일 수(count) / n번째 영업일(nthAfter) 경계 단위 테스트
+ *
+ * 2026-01-01 목요일 (신정), 2026-01-02 금요일 (휴일 지정), 2026-12-31 목요일 기준
+ *
+ * @author Moon Myung-seop
+ */
+@DisplayName("영업일 달력 테스트")
+class BusinessDayCalendarTest {
+
+    private static final Predicate<LocalDate> WEEKDAYS = date -> date.getDayOfWeek().getValue() <= 5;
+
+    private static final LocalDate NEW_YEAR = LocalDate.of(2026, 1, 1);
+    private static final LocalDate HOLIDAY = LocalDate.of(2026, 1, 2);
+
+    private final BusinessDayCalendar calendar = new BusinessDayCalendar(2026,
+            new HashSet<>(Arrays.asList(NEW_YEAR, HOLIDAY)), WEEKDAYS);
+
+    private int index(int month, int day) {
+        return calendar.indexOf(LocalDate.of(2026, month, day));
+    }
+
+    @Test
+    @DisplayName("nthAfter: 휴일에서 시작하면 다음 영업일부터 센다")
+    void nthAfter_startOnHoliday() {
+        assertThat(calendar.isBusinessDay(index(1, 1))).isFalse();
+
+        // 1/1(휴일) → 1/2(휴일), 1/3~4(주말) 건너 1/5(월) 가 첫 번째
+        assertThat(calendar.dateAt(calendar.nthAfter(index(1, 1), 1))).isEqualTo(LocalDate.of(2026, 1, 5));
+        assertThat(calendar.dateAt(calendar.nthAfter(index(1, 1), 5))).isEqualTo(LocalDate.of(2026, 1, 9));
+        assertThat(calendar.dateAt(calendar.nthAfter(index(1, 3), 1))).isEqualTo(LocalDate.of(2026, 1, 5));
+    }
+
+    @Test
+    @DisplayName("nthAfter: n = 0 이면 시작 일자 그대로 (마지막 날 포함)")
+    void nthAfter_zero_returnsFromIndex() {
+        assertThat(calendar.nthAfter(index(1, 1), 0)).isEqualTo(index(1, 1));
+        assertThat(calendar.nthAfter(index(3, 4), 0)).isEqualTo(index(3, 4));
+        assertThat(calendar.nthAfter(calendar.length() - 1, 0)).isEqualTo(calendar.length() - 1);
+    }
+
+    @Test
+    @DisplayName("nthAfter: 연말 경계 - 연도 안에 없으면 -1, 다음 해 첫날 이전(-1)부터도 계산")
+    void nthAfter_yearEnd() {
+        assertThat(calendar.dateAt(calendar.nthAfter(index(12, 30), 1))).isEqualTo(LocalDate.of(2026, 12, 31));
+        assertThat(calendar.nthAfter(index(12, 30), 2)).isEqualTo(-1);
+        assertThat(calendar.nthAfter(calendar.length() - 1, 1)).isEqualTo(-1);
+        assertThat(calendar.nthAfter(index(1, 1), calendar.total())).isEqualTo(index(12, 31));
+        assertThat(calendar.nthAfter(index(1, 1), calendar.total() + 1)).isEqualTo(-1);
+
+        // 다음 해 달력은 from = -1 로 1월 1일부터 셈
+        assertThat(calendar.dateAt(calendar.nthAfter(-1, 1))).isEqualTo(LocalDate.of(2026, 1, 5));
+    }
+
+    @Test
+    @DisplayName("count: 양 끝 포함, 영업일이 없는 구간은 0")
+    void count_inclusiveRanges() {
+        // 1/1 ~ 1/4: 휴일 2일 + 주말 2일
+        assertThat(calendar.count(index(1, 1), index(1, 4))).isZero();
+        assertThat(calendar.count(index(1, 1), index(1, 5))).isEqualTo(1);
+        assertThat(calendar.count(index(1, 5), index(1, 5))).isEqualTo(1);
+        assertThat(calendar.count(index(1, 5), index(1, 11))).isEqualTo(5);
+        assertThat(calendar.count(0, calendar.length() - 1)).isEqualTo(calendar.total());
+        // 2026년 평일 261일 - 평일 휴일 2일
+        assertThat(calendar.total()).isEqualTo(259);
+    }
+
+    @Test
+    @DisplayName("영업일이 전혀 없는 연도: total 0, nthAfter/nextFrom/previousFrom 모두 -1")
+    void noBusinessDays() {
+        BusinessDayCalendar empty = new BusinessDayCalendar(2026, Collections.emptySet(), date -> false);
+
+        assertThat(empty.total()).isZero();
+        assertThat(empty.count(0, empty.length() - 1)).isZero();
+        assertThat(empty.nthAfter(-1, 1)).isEqualTo(-1);
+        assertThat(empty.nextFrom(0)).isEqualTo(-1);
+        assertThat(empty.previousFrom(empty.length() - 1)).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,148 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.common.dto.schedule.CapacityScheduleResult;
+import kr.co.softice.mes.domain.entity.EquipmentEntity;
+import kr.co.softice.mes.domain.entity.ProcessRoutingEntity;
+import kr.co.softice.mes.domain.entity.ProcessRoutingStepEntity;
+import kr.co.softice.mes.domain.entity.ProductionScheduleEntity;
+import kr.co.softice.mes.domain.entity.WorkOrderEntity;
+import kr.co.softice.mes.domain.repository.ProcessRoutingStepRepository;
+import kr.co.softice.mes.domain.repository.ProductionScheduleRepository;
+import kr.co.softice.mes.domain.repository.WorkOrderRepository;
+import kr.co.softice.mes.domain.repository.WorkingHoursRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Capacity Scheduling Service Test
+ * 비근무 구간(주말)을 걸치는 배정과 설비 점유 회피 단위 테스트
+ *
+ * 평일 09:00~18:00 근무, 2026-03-06 금요일 / 2026-03-09 월요일 기준
+ *
+ * @author Moon Myung-seop
+ */
+@DisplayName("유한 능력 스케줄링 테스트")
+class CapacitySchedulingServiceTest {
+
+    private static final String TENANT_ID = "TEST001";
+    private static final LocalDateTime FRIDAY_16 = LocalDateTime.of(2026, 3, 6, 16, 0);
+
+    private WorkOrderRepository workOrderRepository;
+    private ProcessRoutingStepRepository routingStepRepository;
+    private ProductionScheduleRepository scheduleRepository;
+    private CapacitySchedulingService service;
+
+    private final List<ProcessRoutingStepEntity> steps = new ArrayList<>();
+    private final List<Object[]> reservations = new ArrayList<>();
+    private ProcessRoutingEntity routing;
+    private EquipmentEntity equipment;
+
+    @BeforeEach
+    void setUp() {
+        workOrderRepository = mock(WorkOrderRepository.class);
+        routingStepRepository = mock(ProcessRoutingStepRepository.class);
+        scheduleRepository = mock(ProductionScheduleRepository.class);
+        WorkingHoursRepository workingHoursRepository = mock(WorkingHoursRepository.class);
+        HolidayService holidayService = mock(HolidayService.class);
+
+        when(holidayService.isBusinessDay(eq(TENANT_ID), any(LocalDate.class)))
+                .thenAnswer(invocation -> invocation.<LocalDate>getArgument(1).getDayOfWeek().getValue() <= 5);
+        when(workingHoursRepository.findDefaultByTenantId(TENANT_ID)).thenReturn(Optional.of(
+                WorkingTimeCalendarTest.weekdayHours(LocalTime.of(9, 0), LocalTime.of(18, 0))));
+        when(routingStepRepository.findByRoutingIdsWithRelations(anyCollection())).thenReturn(steps);
+        when(scheduleRepository.findEquipmentReservations(eq(TENANT_ID), any(), any())).thenReturn(reservations);
+        when(scheduleRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service = new CapacitySchedulingService(workOrderRepository, routingStepRepository, scheduleRepository,
+                workingHoursRepository, holidayService, mock(ScheduleChangePublisher.class));
+
+        routing = ProcessRoutingEntity.builder().routingId(1L).build();
+        equipment = EquipmentEntity.builder().equipmentId(10L).build();
+        steps.add(ProcessRoutingStepEntity.builder()
+                .routing(routing)
+                .sequenceOrder(1)
+                .setupTime(30)
+                .standardTime(150)
+                .equipment(equipment)
+                .build());
+    }
+
+    @Test
+    @DisplayName("schedule: 금 16:00 에 180분 공정은 주말을 건너 월 10:00 종료")
+    void schedule_bookingSpansWeekend() {
+        WorkOrderEntity workOrder = workOrder(100L, 5, LocalDateTime.of(2026, 3, 9, 12, 0));
+        when(workOrderRepository.findByTenantIdAndIdsWithRouting(eq(TENANT_ID), anyCollection()))
+                .thenReturn(Collections.singletonList(workOrder));
+
+        CapacitySchedulingService.ScheduleRun run = service.schedule(TENANT_ID, Collections.singletonList(100L), null);
+
+        ProductionScheduleEntity schedule = run.getSchedules().get(0);
+        assertThat(schedule.getPlannedStartTime()).isEqualTo(FRIDAY_16);
+        assertThat(schedule.getPlannedEndTime()).isEqualTo(LocalDateTime.of(2026, 3, 9, 10, 0));
+        assertThat(schedule.getPlannedDuration()).isEqualTo(180);
+        assertThat(run.getResult().getLateWorkOrders()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("schedule: 주말을 걸치는 배정이 월요일 기존 예약과 겹치면 예약 종료 후로 밀림")
+    void schedule_bookingSpanningWeekend_avoidsMondayReservation() {
+        reservations.add(new Object[]{1L, 10L, "EQ-10", 99L, "WO-99",
+                LocalDateTime.of(2026, 3, 9, 9, 0), LocalDateTime.of(2026, 3, 9, 9, 30)});
+        WorkOrderEntity workOrder = workOrder(100L, 5, LocalDateTime.of(2026, 3, 9, 12, 0));
+        when(workOrderRepository.findByTenantIdAndIdsWithRouting(eq(TENANT_ID), anyCollection()))
+                .thenReturn(Collections.singletonList(workOrder));
+
+        CapacitySchedulingService.ScheduleRun run = service.schedule(TENANT_ID, Collections.singletonList(100L), null);
+
+        ProductionScheduleEntity schedule = run.getSchedules().get(0);
+        assertThat(schedule.getPlannedStartTime()).isEqualTo(LocalDateTime.of(2026, 3, 9, 9, 30));
+        assertThat(schedule.getPlannedEndTime()).isEqualTo(LocalDateTime.of(2026, 3, 9, 12, 30));
+
+        CapacityScheduleResult.LateWorkOrder late = run.getResult().getLateWorkOrders().get(0);
+        assertThat(late.getWorkOrderId()).isEqualTo(100L);
+        assertThat(late.getLateMinutes()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("schedule: 같은 설비의 다음 작업지시는 주말을 걸친 배정이 끝난 뒤 시작 (우선순위 순)")
+    void schedule_sameEquipment_queuesAfterBookingSpanningWeekend() {
+        WorkOrderEntity low = workOrder(200L, 7, LocalDateTime.of(2026, 3, 9, 18, 0));
+        WorkOrderEntity high = workOrder(100L, 1, LocalDateTime.of(2026, 3, 9, 18, 0));
+        when(workOrderRepository.findByTenantIdAndIdsWithRouting(eq(TENANT_ID), anyCollection()))
+                .thenReturn(new ArrayList<>(Arrays.asList(low, high)));
+
+        CapacitySchedulingService.ScheduleRun run = service.schedule(TENANT_ID, Arrays.asList(100L, 200L), null);
+
+        assertThat(run.getSchedules()).extracting(s -> s.getWorkOrder().getWorkOrderId()).containsExactly(100L, 200L);
+        assertThat(run.getSchedules().get(0).getPlannedEndTime()).isEqualTo(LocalDateTime.of(2026, 3, 9, 10, 0));
+        assertThat(run.getSchedules().get(1).getPlannedStartTime()).isEqualTo(LocalDateTime.of(2026, 3, 9, 10, 0));
+        assertThat(run.getSchedules().get(1).getPlannedEndTime()).isEqualTo(LocalDateTime.of(2026, 3, 9, 13, 0));
+        assertThat(run.getResult().getScheduleEnd()).isEqualTo(LocalDateTime.of(2026, 3, 9, 13, 0));
+    }
+
+    private WorkOrderEntity workOrder(Long id, int priority, LocalDateTime plannedEnd) {
+        return WorkOrderEntity.builder()
+                .workOrderId(id)
+                .workOrderNo("WO-" + id)
+                .routing(routing)
+                .status("READY")
+                .priority(priority)
+                .plannedStartDate(FRIDAY_16)
+                .plannedEndDate(plannedEnd)
+                .build();
+    }
+}
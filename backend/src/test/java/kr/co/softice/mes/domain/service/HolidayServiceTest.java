@@ -0,0 +1,101 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.domain.repository.HolidayRepository;
+import kr.co.softice.mes.domain.repository.WorkingHoursRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Holiday Service Test
+ * 연도별 영업일 달력을 이어 붙이는 영업일 계산 (연말 → 연초 경계) 단위 테스트
+ *
+ * 2026-12-31 목요일, 2027-01-01 금요일 (신정) 기준
+ *
+ * @author Moon Myung-seop
+ */
+@DisplayName("휴일 서비스 영업일 계산 테스트")
+class HolidayServiceTest {
+
+    private static final String TENANT_ID = "TEST001";
+    private static final List<LocalDate> HOLIDAYS = Arrays.asList(
+            LocalDate.of(2026, 12, 25), LocalDate.of(2027, 1, 1));
+
+    private HolidayRepository holidayRepository;
+    private HolidayService service;
+
+    @BeforeEach
+    void setUp() {
+        holidayRepository = mock(HolidayRepository.class);
+        WorkingHoursRepository workingHoursRepository = mock(WorkingHoursRepository.class);
+        when(workingHoursRepository.findDefaultByTenantId(TENANT_ID)).thenReturn(Optional.empty());
+        when(holidayRepository.findNonWorkingDatesInRange(eq(TENANT_ID), any(), any())).thenAnswer(invocation -> {
+            LocalDate start = invocation.getArgument(1);
+            LocalDate end = invocation.getArgument(2);
+            return HOLIDAYS.stream()
+                    .filter(date -> !date.isBefore(start) && !date.isAfter(end))
+                    .collect(Collectors.toList());
+        });
+
+        service = new HolidayService(holidayRepository, workingHoursRepository);
+        ReflectionTestUtils.setField(service, "calendarMaximumSize", 100L);
+        ReflectionTestUtils.setField(service, "calendarTtlSeconds", 600L);
+        service.initCalendarCache();
+    }
+
+    @Test
+    @DisplayName("addBusinessDays: 연말에서 시작해 다음 해 휴일/주말을 건너 계산")
+    void addBusinessDays_crossesYearBoundary() {
+        // 12/31(1) → 1/1 신정, 1/2~3 주말 → 1/4(2), 1/5(3)
+        assertThat(service.addBusinessDays(TENANT_ID, LocalDate.of(2026, 12, 30), 3))
+                .isEqualTo(LocalDate.of(2027, 1, 5));
+        // 연도 마지막 날에서 시작 (당해 잔여 영업일 0)
+        assertThat(service.addBusinessDays(TENANT_ID, LocalDate.of(2026, 12, 31), 1))
+                .isEqualTo(LocalDate.of(2027, 1, 4));
+        verify(holidayRepository, times(2)).findNonWorkingDatesInRange(eq(TENANT_ID), any(), any());
+    }
+
+    @Test
+    @DisplayName("addBusinessDays: 휴일에서 시작하면 다음 영업일부터, 0일이면 시작일 그대로")
+    void addBusinessDays_startOnHoliday() {
+        assertThat(service.addBusinessDays(TENANT_ID, LocalDate.of(2026, 12, 25), 1))
+                .isEqualTo(LocalDate.of(2026, 12, 28));
+        assertThat(service.addBusinessDays(TENANT_ID, LocalDate.of(2027, 1, 1), 1))
+                .isEqualTo(LocalDate.of(2027, 1, 4));
+        assertThat(service.addBusinessDays(TENANT_ID, LocalDate.of(2027, 1, 1), 0))
+                .isEqualTo(LocalDate.of(2027, 1, 1));
+    }
+
+    @Test
+    @DisplayName("calculateBusinessDays: 연도를 걸치는 구간은 연도별 구간 합, 영업일 없는 구간은 0")
+    void calculateBusinessDays_acrossYears() {
+        // 2026: 12/28~31 (4일) + 2027: 1/4~8 (5일)
+        assertThat(service.calculateBusinessDays(TENANT_ID,
+                LocalDate.of(2026, 12, 28), LocalDate.of(2027, 1, 8))).isEqualTo(9);
+        // 1/1 신정 + 주말
+        assertThat(service.calculateBusinessDays(TENANT_ID,
+                LocalDate.of(2027, 1, 1), LocalDate.of(2027, 1, 3))).isZero();
+        assertThat(service.calculateBusinessDays(TENANT_ID,
+                LocalDate.of(2027, 1, 8), LocalDate.of(2027, 1, 4))).isZero();
+    }
+
+    @Test
+    @DisplayName("getNext/PreviousBusinessDay: 연도 경계를 넘어 탐색")
+    void nextAndPreviousBusinessDay_crossYearBoundary() {
+        assertThat(service.getNextBusinessDay(TENANT_ID, LocalDate.of(2026, 12, 31)))
+                .isEqualTo(LocalDate.of(2027, 1, 4));
+        assertThat(service.getPreviousBusinessDay(TENANT_ID, LocalDate.of(2027, 1, 4)))
+                .isEqualTo(LocalDate.of(2026, 12, 31));
+    }
+}
@@ -0,0 +1,86 @@
+package kr.co.softice.mes.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Interval Tree Test
+ * 반열린 구간 [start, end) 겹침/인접 조회 단위 테스트
+ *
+ * @author Moon Myung-seop
+ */
+@DisplayName("구간 트리 테스트")
+class IntervalTreeTest {
+
+    @Test
+    @DisplayName("overlapping: 끝과 시작이 맞닿은 구간은 겹치지 않음")
+    void overlapping_adjacentIntervals_doNotOverlap() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.insert(0, 10, "first");
+        tree.insert(20, 30, "second");
+
+        assertThat(tree.overlapping(10, 20)).isEmpty();
+        assertThat(tree.latestOverlappingEnd(10, 20)).isEqualTo(Long.MIN_VALUE);
+
+        assertThat(tree.overlapping(9, 20)).extracting(IntervalTree.Interval::getValue).containsExactly("first");
+        assertThat(tree.overlapping(10, 21)).extracting(IntervalTree.Interval::getValue).containsExactly("second");
+        assertThat(tree.latestOverlappingEnd(9, 21)).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("overlapping: 겹치는 구간을 시작 시각 순으로 반환 (포함/부분 겹침)")
+    void overlapping_returnsIntervalsInStartOrder() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.insert(50, 60, "late");
+        tree.insert(0, 100, "long");
+        tree.insert(20, 25, "inner");
+        tree.insert(70, 80, "outside");
+
+        assertThat(tree.overlapping(22, 55)).extracting(IntervalTree.Interval::getValue)
+                .containsExactly("long", "inner", "late");
+        assertThat(tree.latestOverlappingEnd(22, 55)).isEqualTo(100);
+        assertThat(tree.overlapping(100, 200)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("overlapping: 임의 구간 집합에서 선형 탐색 결과와 일치")
+    void overlapping_matchesLinearScan() {
+        Random random = new Random(42);
+        IntervalTree<Integer> tree = new IntervalTree<>();
+        List<long[]> intervals = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            long start = random.nextInt(10_000);
+            long end = start + 1 + random.nextInt(200);
+            intervals.add(new long[]{start, end});
+            tree.insert(start, end, i);
+        }
+
+        for (int q = 0; q < 200; q++) {
+            long start = random.nextInt(10_000);
+            long end = start + 1 + random.nextInt(300);
+
+            List<Integer> expected = new ArrayList<>();
+            long expectedLatest = Long.MIN_VALUE;
+            for (int i = 0; i < intervals.size(); i++) {
+                long[] interval = intervals.get(i);
+                if (interval[0] < end && interval[1] > start) {
+                    expected.add(i);
+                    expectedLatest = Math.max(expectedLatest, interval[1]);
+                }
+            }
+
+            List<IntervalTree.Interval<Integer>> found = tree.overlapping(start, end);
+            assertThat(found.stream().map(IntervalTree.Interval::getValue).collect(Collectors.toList()))
+                    .containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(found).extracting(IntervalTree.Interval::getStart).isSorted();
+            assertThat(tree.latestOverlappingEnd(start, end)).isEqualTo(expectedLatest);
+        }
+    }
+}
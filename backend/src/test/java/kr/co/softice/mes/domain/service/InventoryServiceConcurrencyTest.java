@@ -0,0 +1,326 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.common.exception.BusinessException;
+import kr.co.softice.mes.common.exception.ErrorCode;
+import kr.co.softice.mes.domain.entity.*;
+import kr.co.softice.mes.domain.repository.InventoryRepository;
+import kr.co.softice.mes.domain.repository.LotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Inventory Service Concurrency Test
+ * 재고 예약/잔액 동시성 스트레스 테스트
+ *
+ * 각 호출이 별도 트랜잭션으로 커밋되도록 테스트 트랜잭션을 사용하지 않음
+ *
+ * @author Moon Myung-seop
+ */
+@DataJpaTest
+@Import(InventoryService.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:inventory-stress;MODE=PostgreSQL;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1",
+    "spring.datasource.hikari.maximum-pool-size=16"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("재고 동시성 테스트")
+class InventoryServiceConcurrencyTest {
+
+    private static final int THREADS = 32;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private LotRepository lotRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private TenantEntity tenant;
+    private WarehouseEntity warehouse;
+    private ProductEntity product;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        tx.executeWithoutResult(status -> {
+            tenant = TenantEntity.builder()
+                .tenantId("T-" + suffix)
+                .tenantName("Stress Tenant")
+                .tenantCode("T-" + suffix)
+                .companyName("Stress Company")
+                .industryType("GENERAL")
+                .build();
+            entityManager.persist(tenant);
+
+            warehouse = WarehouseEntity.builder()
+                .tenant(tenant)
+                .warehouseCode("WH-" + suffix)
+                .warehouseName("Stress Warehouse")
+                .warehouseType("RAW_MATERIAL")
+                .build();
+            entityManager.persist(warehouse);
+
+            product = ProductEntity.builder()
+                .tenant(tenant)
+                .productCode("P-" + suffix)
+                .productName("Stress Product")
+                .build();
+            entityManager.persist(product);
+        });
+    }
+
+    @Test
+    @DisplayName("동시 예약 - 가용 수량을 초과하여 예약되지 않음")
+    void concurrentReserve_neverOverReserves() throws Exception {
+        int initial = 1000;
+        int attempts = THREADS * 50;
+        Long inventoryId = createInventory(new BigDecimal(initial));
+
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        runConcurrently(attempts, i -> {
+            try {
+                inventoryService.reserveInventory(tenant.getTenantId(), warehouse.getWarehouseId(),
+                    product.getProductId(), null, BigDecimal.ONE);
+                reserved.incrementAndGet();
+            } catch (BusinessException e) {
+                assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INSUFFICIENT_INVENTORY);
+                rejected.incrementAndGet();
+            }
+        });
+
+        InventoryEntity result = inventoryRepository.findById(inventoryId).orElseThrow();
+        assertThat(reserved.get()).isEqualTo(initial);
+        assertThat(rejected.get()).isEqualTo(attempts - initial);
+        assertThat(result.getAvailableQuantity()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(result.getReservedQuantity()).isEqualByComparingTo(new BigDecimal(initial));
+    }
+
+    @Test
+    @DisplayName("동시 입고/출고/예약/해제 - 수량 유실 및 음수 없음")
+    void concurrentMixedOperations_noLostUpdatesOrNegatives() throws Exception {
+        int initial = 200;
+        int operations = THREADS * 100;
+        Long inventoryId = createInventory(new BigDecimal(initial));
+
+        AtomicInteger received = new AtomicInteger();
+        AtomicInteger issued = new AtomicInteger();
+        AtomicInteger reservedNet = new AtomicInteger();
+
+        runConcurrently(operations, i -> {
+            try {
+                switch (i % 4) {
+                    case 0:
+                        inventoryService.updateInventoryBalance(warehouse, product, null, BigDecimal.ONE, "IN_RECEIVE");
+                        received.incrementAndGet();
+                        break;
+                    case 1:
+                        inventoryService.updateInventoryBalance(warehouse, product, null, BigDecimal.ONE, "OUT_ISSUE");
+                        issued.incrementAndGet();
+                        break;
+                    case 2:
+                        inventoryService.reserveInventory(tenant.getTenantId(), warehouse.getWarehouseId(),
+                            product.getProductId(), null, BigDecimal.ONE);
+                        reservedNet.incrementAndGet();
+                        break;
+                    default:
+                        inventoryService.releaseReservedInventory(tenant.getTenantId(), warehouse.getWarehouseId(),
+                            product.getProductId(), null, BigDecimal.ONE);
+                        reservedNet.decrementAndGet();
+                }
+            } catch (BusinessException e) {
+                assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INSUFFICIENT_INVENTORY);
+            }
+        });
+
+        InventoryEntity result = inventoryRepository.findById(inventoryId).orElseThrow();
+        BigDecimal total = result.getAvailableQuantity().add(result.getReservedQuantity());
+
+        assertThat(result.getAvailableQuantity()).isGreaterThanOrEqualTo(BigDecimal.ZERO);
+        assertThat(result.getReservedQuantity()).isGreaterThanOrEqualTo(BigDecimal.ZERO);
+        assertThat(total).isEqualByComparingTo(new BigDecimal(initial + received.get() - issued.get()));
+        // Issues may consume reserved stock, so reserved can only be at or below the net reservations
+        assertThat(result.getReservedQuantity()).isLessThanOrEqualTo(new BigDecimal(Math.max(reservedNet.get(), 0)));
+    }
+
+    @Test
+    @DisplayName("동시 최초 입고 - 재고 레코드는 1건만 생성")
+    void concurrentFirstReceipt_createsSingleInventoryRow() throws Exception {
+        LotEntity lot = tx.execute(status -> {
+            LotEntity newLot = LotEntity.builder()
+                .tenant(tenant)
+                .product(product)
+                .lotNo("LOT-" + UUID.randomUUID().toString().substring(0, 8))
+                .build();
+            entityManager.persist(newLot);
+            return newLot;
+        });
+
+        runConcurrently(THREADS, i ->
+            inventoryService.updateInventoryBalance(warehouse, product, lot, BigDecimal.ONE, "IN_RECEIVE"));
+
+        List<InventoryEntity> rows = inventoryRepository.findAll().stream()
+            .filter(inv -> inv.getLot() != null && inv.getLot().getLotId().equals(lot.getLotId()))
+            .collect(Collectors.toList());
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getAvailableQuantity()).isEqualByComparingTo(new BigDecimal(THREADS));
+    }
+
+    @Test
+    @DisplayName("동시 입하 입고/자재 불출 - LOT 재고와 LOT 현재 수량 유실 및 음수 없음")
+    void concurrentReceiptAndMaterialIssue_noLostUpdates() throws Exception {
+        int initial = 100;
+        int operations = THREADS * 50;
+        LotEntity lot = tx.execute(status -> {
+            LotEntity newLot = LotEntity.builder()
+                .tenant(tenant)
+                .product(product)
+                .lotNo("LOT-" + UUID.randomUUID().toString().substring(0, 8))
+                .initialQuantity(new BigDecimal(initial))
+                .currentQuantity(new BigDecimal(initial))
+                .build();
+            entityManager.persist(newLot);
+            InventoryEntity inventory = InventoryEntity.builder()
+                .tenant(tenant)
+                .warehouse(warehouse)
+                .product(product)
+                .lot(newLot)
+                .availableQuantity(new BigDecimal(initial))
+                .reservedQuantity(BigDecimal.ZERO)
+                .unit("EA")
+                .build();
+            entityManager.persist(inventory);
+            return newLot;
+        });
+
+        AtomicInteger received = new AtomicInteger();
+        AtomicInteger issued = new AtomicInteger();
+
+        runConcurrently(operations, i -> {
+            try {
+                if (i % 2 == 0) {
+                    // GoodsReceiptService 입고 경로
+                    inventoryService.updateInventoryBalance(warehouse, product, lot, BigDecimal.ONE, "IN_RECEIVE");
+                    received.incrementAndGet();
+                } else {
+                    // MaterialRequestService 불출 경로
+                    inventoryService.issueFromLot(warehouse, product, lot, new BigDecimal("3"), "OUT_ISSUE");
+                    issued.incrementAndGet();
+                }
+            } catch (BusinessException e) {
+                assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INSUFFICIENT_INVENTORY);
+            }
+        });
+
+        InventoryEntity result = inventoryRepository.findAll().stream()
+            .filter(inv -> inv.getLot() != null && inv.getLot().getLotId().equals(lot.getLotId()))
+            .findFirst().orElseThrow();
+        LotEntity lotResult = lotRepository.findById(lot.getLotId()).orElseThrow();
+
+        assertThat(issued.get()).isPositive();
+        assertThat(result.getAvailableQuantity())
+            .isEqualByComparingTo(new BigDecimal(initial + received.get() - 3 * issued.get()));
+        assertThat(result.getAvailableQuantity()).isGreaterThanOrEqualTo(BigDecimal.ZERO);
+        // 입하 입고는 LOT 생성 시 수량이 확정되므로 LOT 현재 수량은 불출만큼만 감소
+        assertThat(lotResult.getCurrentQuantity())
+            .isEqualByComparingTo(new BigDecimal(initial - 3 * issued.get()));
+        assertThat(lotResult.getCurrentQuantity()).isGreaterThanOrEqualTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("자재 불출 - 재고 행이 없으면 INVENTORY_NOT_FOUND")
+    void issueFromLot_withoutInventoryRow_throwsNotFound() {
+        LotEntity lot = tx.execute(status -> {
+            LotEntity newLot = LotEntity.builder()
+                .tenant(tenant)
+                .product(product)
+                .lotNo("LOT-" + UUID.randomUUID().toString().substring(0, 8))
+                .currentQuantity(BigDecimal.TEN)
+                .build();
+            entityManager.persist(newLot);
+            return newLot;
+        });
+
+        assertThatThrownBy(() -> inventoryService.issueFromLot(warehouse, product, lot, BigDecimal.ONE, "OUT_ISSUE"))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getErrorCode())
+            .isEqualTo(ErrorCode.INVENTORY_NOT_FOUND);
+    }
+
+    private Long createInventory(BigDecimal available) {
+        return tx.execute(status -> {
+            InventoryEntity inventory = InventoryEntity.builder()
+                .tenant(tenant)
+                .warehouse(warehouse)
+                .product(product)
+                .availableQuantity(available)
+                .reservedQuantity(BigDecimal.ZERO)
+                .unit("EA")
+                .build();
+            return inventoryRepository.save(inventory).getInventoryId();
+        });
+    }
+
+    private void runConcurrently(int tasks, IntTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(tasks);
+        try {
+            for (int i = 0; i < tasks; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IntTask {
+        void run(int index);
+    }
+}
@@ -0,0 +1,142 @@
+package kr.co.softice.mes.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * MRP Service Test
+ * 상위 → 하위 순 네팅 (총소요 - 가용재고 - 미입고 발주) 과 순소요 전개 단위 테스트
+ *
+ * 집계 쿼리는 EntityManager mock 으로 대체 (SQL 본문의 대상 테이블로 구분)
+ *
+ * @author Moon Myung-seop
+ */
+@DisplayName("MRP 서비스 테스트")
+class MrpServiceTest {
+
+    private static final String TENANT_ID = "TEST001";
+
+    private static final Long A = 1L;
+    private static final Long B = 2L;
+    private static final Long C = 3L;
+    private static final Long D = 4L;
+
+    private final List<Object[]> demandRows = new ArrayList<>();
+    private final List<Object[]> bomRows = new ArrayList<>();
+    private final List<Object[]> availableRows = new ArrayList<>();
+    private final List<Object[]> openPurchaseRows = new ArrayList<>();
+
+    private EntityManager entityManager;
+    private MrpService service;
+
+    @BeforeEach
+    void setUp() {
+        entityManager = mock(EntityManager.class);
+        when(entityManager.createNativeQuery(anyString())).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            if (sql.contains("sd_sales_order_items")) {
+                return query(demandRows);
+            } else if (sql.contains("current_bom")) {
+                return query(bomRows);
+            } else if (sql.contains("sd_inventory")) {
+                return query(availableRows);
+            } else if (sql.contains("sd_purchase_order_items")) {
+                return query(openPurchaseRows);
+            }
+            return query(Collections.emptyList());
+        });
+        service = new MrpService(entityManager, new ObjectMapper());
+
+        // A → B(2), C(1) / B → D(3) / C → D(1)
+        bomRows.add(bomLine(10L, A, B, "2"));
+        bomRows.add(bomLine(10L, A, C, "1"));
+        bomRows.add(bomLine(20L, B, D, "3"));
+        bomRows.add(bomLine(30L, C, D, "1"));
+        demandRows.add(new Object[]{A, new BigDecimal("10"), 2L, null});
+    }
+
+    @Test
+    @DisplayName("run: 가용재고/미입고 발주로 네팅한 순소요만 하위 품목으로 전개")
+    void run_netsOnHandAndOnOrderLevelByLevel() {
+        availableRows.add(new Object[]{A, new BigDecimal("4")});
+        availableRows.add(new Object[]{B, new BigDecimal("2")});
+        availableRows.add(new Object[]{D, new BigDecimal("5")});
+        openPurchaseRows.add(new Object[]{D, new BigDecimal("10")});
+
+        List<MrpService.MrpItem> items = service.run(TENANT_ID, Collections.singletonList(100L)).getItems();
+        Map<Long, MrpService.MrpItem> byProduct = items.stream()
+                .collect(Collectors.toMap(MrpService.MrpItem::getProductId, Function.identity()));
+
+        assertThat(items).extracting(MrpService.MrpItem::getProductId).startsWith(A).endsWith(D);
+
+        // A: 10 - 4 = 6
+        assertThat(byProduct.get(A).getNetRequirement()).isEqualByComparingTo("6");
+        // B: 6 × 2 = 12, 12 - 2 = 10
+        assertThat(byProduct.get(B).getGrossRequirement()).isEqualByComparingTo("12");
+        assertThat(byProduct.get(B).getNetRequirement()).isEqualByComparingTo("10");
+        // C: 6 × 1 = 6 (재고 없음)
+        assertThat(byProduct.get(C).getNetRequirement()).isEqualByComparingTo("6");
+        // D: 10 × 3 + 6 × 1 = 36, 36 - 5 - 10 = 21
+        assertThat(byProduct.get(D).getDependentDemand()).isEqualByComparingTo("36");
+        assertThat(byProduct.get(D).getAvailableQuantity()).isEqualByComparingTo("5");
+        assertThat(byProduct.get(D).getOpenPurchaseQuantity()).isEqualByComparingTo("10");
+        assertThat(byProduct.get(D).getNetRequirement()).isEqualByComparingTo("21");
+        assertThat(byProduct.get(D).isMakeItem()).isFalse();
+
+        // 네팅 없는 전 레벨 전개량: D = 10 × (2 × 3 + 1 × 1)
+        assertThat(byProduct.get(D).getExplodedRequirement()).isEqualByComparingTo("70");
+    }
+
+    @Test
+    @DisplayName("run: 재고/발주가 총소요를 덮으면 순소요 0, 하위 품목으로 전개하지 않음")
+    void run_coveredDemand_doesNotExplodeFurther() {
+        availableRows.add(new Object[]{A, new BigDecimal("6")});
+        openPurchaseRows.add(new Object[]{A, new BigDecimal("5")});
+
+        MrpService.MrpResult result = service.run(TENANT_ID, Collections.singletonList(100L));
+        Map<Long, MrpService.MrpItem> byProduct = result.getItems().stream()
+                .collect(Collectors.toMap(MrpService.MrpItem::getProductId, Function.identity()));
+
+        assertThat(byProduct.get(A).getNetRequirement()).isEqualByComparingTo("0");
+        assertThat(byProduct.get(B).getGrossRequirement()).isEqualByComparingTo("0");
+        assertThat(byProduct.get(D).getNetRequirement()).isEqualByComparingTo("0");
+        assertThat(result.getShortageItemCount()).isZero();
+        assertThat(result.getSalesOrderLineCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("run: 수주 지정 실행은 마지막 실행 결과를 저장하지 않음")
+    void run_withSalesOrderIds_doesNotStoreLatestResult() {
+        service.run(TENANT_ID, Arrays.asList(100L, 101L));
+
+        verify(entityManager, never()).createNativeQuery(contains("sd_mrp_runs"));
+    }
+
+    private static Object[] bomLine(Long bomId, Long productId, Long componentId, String quantity) {
+        return new Object[]{bomId, "1.0", productId, componentId, new BigDecimal(quantity), null, null};
+    }
+
+    private static Query query(List<Object[]> rows) {
+        Query query = mock(Query.class);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+        when(query.getResultList()).thenReturn(rows);
+        return query;
+    }
+}
@@ -0,0 +1,323 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.common.dto.equipment.OeeTrendResponse;
+import kr.co.softice.mes.common.exception.BusinessException;
+import kr.co.softice.mes.domain.entity.DepartmentEntity;
+import kr.co.softice.mes.domain.entity.DowntimeEntity;
+import kr.co.softice.mes.domain.entity.EquipmentEntity;
+import kr.co.softice.mes.domain.entity.EquipmentOperationEntity;
+import kr.co.softice.mes.domain.entity.SiteEntity;
+import kr.co.softice.mes.domain.entity.TenantEntity;
+import kr.co.softice.mes.domain.repository.DowntimeRepository;
+import kr.co.softice.mes.domain.repository.EquipmentOperationRepository;
+import kr.co.softice.mes.domain.repository.OeeShiftBucketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OEE Rollup Service Test
+ * 가동/비가동 기여분(snapshot), 버킷 차이 반영(apply), 추이 비율 계산(toTrend) 단위 테스트
+ *
+ * @author Moon Myung-seop
+ */
+@DisplayName("OEE 집계 서비스 테스트")
+class OeeRollupServiceTest {
+
+    private static final String TENANT_ID = "TEST001";
+
+    private OeeShiftBucketRepository bucketRepository;
+    private EquipmentOperationRepository operationRepository;
+    private OeeRollupService service;
+    private TenantEntity tenant;
+    private EquipmentEntity equipment;
+
+    @BeforeEach
+    void setUp() {
+        bucketRepository = mock(OeeShiftBucketRepository.class);
+        operationRepository = mock(EquipmentOperationRepository.class);
+        service = new OeeRollupService(bucketRepository, operationRepository,
+                mock(DowntimeRepository.class), mock(EntityManager.class));
+        ReflectionTestUtils.setField(service, "shiftDefinition", "DAY=08:00,NIGHT=20:00");
+        ReflectionTestUtils.setField(service, "rebuildMaxDays", 366);
+        service.init();
+
+        tenant = TenantEntity.builder().tenantId(TENANT_ID).build();
+        equipment = EquipmentEntity.builder()
+                .equipmentId(10L)
+                .site(SiteEntity.builder().siteId(1L).build())
+                .department(DepartmentEntity.builder().departmentId(2L).build())
+                .standardCycleTime(new BigDecimal("60"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("가동 snapshot: 계획 = 가동 시간, 정지 = 정지 시간, 이론 가동 = 표준 사이클 타임 × 생산 수량")
+    void snapshot_completedOperation() {
+        EquipmentOperationEntity operation = operation(LocalDateTime.of(2026, 3, 2, 9, 0));
+        operation.setOperationHours(new BigDecimal("8"));
+        operation.setStopDurationMinutes(30);
+        operation.setProductionQuantity(new BigDecimal("400"));
+        operation.setGoodQuantity(new BigDecimal("380"));
+
+        OeeRollupService.Contribution c = service.snapshot(operation);
+
+        assertThat(c.getTenantId()).isEqualTo(TENANT_ID);
+        assertThat(c.getBucketDate()).isEqualTo(LocalDate.of(2026, 3, 2));
+        assertThat(c.getShiftCode()).isEqualTo("DAY");
+        assertThat(c.getEquipmentId()).isEqualTo(10L);
+        assertThat(c.getSiteId()).isEqualTo(1L);
+        assertThat(c.getLineId()).isEqualTo(2L);
+        assertThat(c.getPlannedMinutes()).isEqualByComparingTo("480");
+        assertThat(c.getStopMinutes()).isEqualByComparingTo("30");
+        assertThat(c.getIdealRunMinutes()).isEqualByComparingTo("400");
+        assertThat(c.getTotalCount()).isEqualByComparingTo("400");
+        assertThat(c.getGoodCount()).isEqualByComparingTo("380");
+        assertThat(c.getOperationCount()).isEqualTo(1);
+        assertThat(c.getDowntimeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("가동 snapshot: 첫 교대 이전 시작은 전날 야간, 가동 시간 없으면 시작~종료, 이론 가동은 실가동 상한")
+    void snapshot_nightShiftAndIdealCappedAtRun() {
+        EquipmentOperationEntity operation = operation(LocalDateTime.of(2026, 3, 3, 2, 0));
+        operation.setEndTime(LocalDateTime.of(2026, 3, 3, 4, 30));
+        operation.setProductionQuantity(new BigDecimal("1000"));
+
+        OeeRollupService.Contribution c = service.snapshot(operation);
+
+        assertThat(c.getBucketDate()).isEqualTo(LocalDate.of(2026, 3, 2));
+        assertThat(c.getShiftCode()).isEqualTo("NIGHT");
+        assertThat(c.getPlannedMinutes()).isEqualByComparingTo("150");
+        assertThat(c.getStopMinutes()).isEqualByComparingTo("0");
+        assertThat(c.getIdealRunMinutes()).isEqualByComparingTo("150");
+    }
+
+    @Test
+    @DisplayName("가동 snapshot: COMPLETED 가 아니면 기여분 없음")
+    void snapshot_notCompletedOperation_returnsNull() {
+        EquipmentOperationEntity operation = operation(LocalDateTime.of(2026, 3, 2, 9, 0));
+        operation.setOperationStatus("RUNNING");
+
+        assertThat(service.snapshot(operation)).isNull();
+        assertThat(service.snapshot((EquipmentOperationEntity) null)).isNull();
+    }
+
+    @Test
+    @DisplayName("비가동 snapshot: 종료된 비계획 정지는 계획/정지 시간에 가산")
+    void snapshot_endedDowntime() {
+        DowntimeEntity downtime = downtime("BREAKDOWN");
+
+        OeeRollupService.Contribution c = service.snapshot(downtime);
+
+        assertThat(c.getBucketDate()).isEqualTo(LocalDate.of(2026, 3, 2));
+        assertThat(c.getShiftCode()).isEqualTo("NIGHT");
+        assertThat(c.getPlannedMinutes()).isEqualByComparingTo("45");
+        assertThat(c.getStopMinutes()).isEqualByComparingTo("45");
+        assertThat(c.getDowntimeCount()).isEqualTo(1);
+        assertThat(c.getOperationCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("비가동 snapshot: 계획 정지/미종료/비활성/가동 이력 연결은 기여분 없음")
+    void snapshot_excludedDowntimes_returnNull() {
+        assertThat(service.snapshot(downtime("PLANNED_MAINTENANCE"))).isNull();
+
+        DowntimeEntity open = downtime("BREAKDOWN");
+        open.setEndTime(null);
+        assertThat(service.snapshot(open)).isNull();
+
+        DowntimeEntity inactive = downtime("BREAKDOWN");
+        inactive.setIsActive(false);
+        assertThat(service.snapshot(inactive)).isNull();
+
+        DowntimeEntity linked = downtime("BREAKDOWN");
+        linked.setOperation(operation(LocalDateTime.of(2026, 3, 2, 9, 0)));
+        assertThat(service.snapshot(linked)).isNull();
+    }
+
+    @Test
+    @DisplayName("apply: 등록은 변경 후만, 삭제는 변경 전 음수만 반영")
+    void apply_createAndDelete() {
+        OeeRollupService.Contribution c = service.snapshot(downtime("BREAKDOWN"));
+
+        service.apply(null, c);
+        verify(bucketRepository).addBucket(eq(TENANT_ID), eq(LocalDate.of(2026, 3, 2)), eq("NIGHT"),
+                eq(10L), eq(1L), eq(2L), argThat(v -> v.compareTo(new BigDecimal("45")) == 0),
+                any(), any(), any(), any(), eq(0L), eq(1L));
+
+        service.apply(c, null);
+        verify(bucketRepository).addBucket(eq(TENANT_ID), eq(LocalDate.of(2026, 3, 2)), eq("NIGHT"),
+                eq(10L), eq(1L), eq(2L), argThat(v -> v.compareTo(new BigDecimal("-45")) == 0),
+                any(), any(), any(), any(), eq(0L), eq(-1L));
+    }
+
+    @Test
+    @DisplayName("apply: 변경 전후가 같으면 반영 없음, 다르면 변경 전 차감 후 변경 후 가산")
+    void apply_update() {
+        DowntimeEntity downtime = downtime("BREAKDOWN");
+        OeeRollupService.Contribution before = service.snapshot(downtime);
+
+        service.apply(before, service.snapshot(downtime));
+        verifyNoInteractions(bucketRepository);
+
+        downtime.setEndTime(LocalDateTime.of(2026, 3, 2, 22, 0));
+        service.apply(before, service.snapshot(downtime));
+
+        InOrder inOrder = inOrder(bucketRepository);
+        inOrder.verify(bucketRepository).addBucket(any(), any(), any(), any(), any(), any(),
+                argThat(v -> v.compareTo(new BigDecimal("-45")) == 0),
+                any(), any(), any(), any(), anyLong(), eq(-1L));
+        inOrder.verify(bucketRepository).addBucket(any(), any(), any(), any(), any(), any(),
+                argThat(v -> v.compareTo(new BigDecimal("60")) == 0),
+                any(), any(), any(), any(), anyLong(), eq(1L));
+    }
+
+    @Test
+    @DisplayName("apply/rebuild: apply 는 테넌트 공유 lock, rebuild 는 이력 조회 전 배타 lock")
+    void applyAndRebuild_takeTenantLockFirst() {
+        service.apply(null, service.snapshot(downtime("BREAKDOWN")));
+
+        InOrder applyOrder = inOrder(bucketRepository);
+        applyOrder.verify(bucketRepository).lockTenantShared(TENANT_ID);
+        applyOrder.verify(bucketRepository).addBucket(any(), any(), any(), any(), any(), any(),
+                any(), any(), any(), any(), any(), anyLong(), anyLong());
+
+        service.rebuild(TENANT_ID, LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31));
+
+        InOrder rebuildOrder = inOrder(bucketRepository, operationRepository);
+        rebuildOrder.verify(bucketRepository).lockTenantExclusive(TENANT_ID);
+        rebuildOrder.verify(operationRepository).findCompletedByTenantIdAndStartTimeRange(eq(TENANT_ID), any(), any());
+        rebuildOrder.verify(bucketRepository).deleteByTenantAndDateRange(TENANT_ID,
+                LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31));
+    }
+
+    @Test
+    @DisplayName("rebuild: 역순 기간과 최대 기간 초과는 lock 전에 거부")
+    void rebuild_rejectsInvalidRange() {
+        assertThatThrownBy(() -> service.rebuild(TENANT_ID, LocalDate.of(2026, 3, 31), LocalDate.of(2026, 3, 1)))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> service.rebuild(TENANT_ID, LocalDate.of(2025, 1, 1), LocalDate.of(2026, 3, 1)))
+                .isInstanceOf(BusinessException.class);
+
+        verify(bucketRepository, never()).lockTenantExclusive(any());
+    }
+
+    @Test
+    @DisplayName("apply: 완료 후 삭제하면 버킷 합계가 0 (트리거가 저장한 operation_hours 와 무관)")
+    void apply_completeThenDelete_returnsBucketToZero() {
+        BigDecimal[] sums = {BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO};
+        long[] operations = {0};
+        when(bucketRepository.addBucket(any(), any(), any(), any(), any(), any(),
+                any(), any(), any(), any(), any(), anyLong(), anyLong())).thenAnswer(invocation -> {
+                    sums[0] = sums[0].add(invocation.getArgument(6));
+                    sums[1] = sums[1].add(invocation.getArgument(7));
+                    sums[2] = sums[2].add(invocation.getArgument(8));
+                    operations[0] += invocation.<Long>getArgument(11);
+                    return 1;
+                });
+
+        // 완료: 80분 가동 (operation_hours 는 아직 트리거 반영 전)
+        EquipmentOperationEntity operation = operation(LocalDateTime.of(2026, 3, 2, 9, 0));
+        operation.setEndTime(LocalDateTime.of(2026, 3, 2, 10, 20));
+        operation.setProductionQuantity(new BigDecimal("70"));
+        service.apply(null, service.snapshot(operation));
+        assertThat(sums[0]).isEqualByComparingTo("80");
+
+        // 이후 조회 시 트리거 값 (1.33 h) 이 채워진 상태에서 삭제
+        operation.setOperationHours(new BigDecimal("1.33"));
+        service.apply(service.snapshot(operation), null);
+
+        assertThat(sums[0]).isEqualByComparingTo("0");
+        assertThat(sums[1]).isEqualByComparingTo("0");
+        assertThat(sums[2]).isEqualByComparingTo("0");
+        assertThat(operations[0]).isZero();
+    }
+
+    @Test
+    @DisplayName("가동 snapshot: 완료 가동의 종료 시각 변경은 저장된 operation_hours 가 아닌 시작~종료로 반영")
+    void snapshot_usesEndTimeOverStaleOperationHours() {
+        EquipmentOperationEntity operation = operation(LocalDateTime.of(2026, 3, 2, 9, 0));
+        operation.setEndTime(LocalDateTime.of(2026, 3, 2, 11, 0));
+        operation.setOperationHours(new BigDecimal("1.33"));
+
+        assertThat(service.snapshot(operation).getPlannedMinutes()).isEqualByComparingTo("120");
+    }
+
+    @Test
+    @DisplayName("toTrend: 합계 기반 가동률/성능/양품률/OEE")
+    void toTrend_computesRatesFromSums() {
+        Object[] row = {Date.valueOf("2026-03-02"), "DAY", BigInteger.valueOf(10), "CNC-01",
+                new BigDecimal("960.00"), new BigDecimal("60.00"), new BigDecimal("810.00"),
+                new BigDecimal("1000.000"), new BigDecimal("950.000"), BigInteger.valueOf(2), BigInteger.ONE};
+
+        OeeTrendResponse trend = OeeRollupService.toTrend(row, OeeRollupService.Level.EQUIPMENT);
+
+        assertThat(trend.getPeriodStart()).isEqualTo(LocalDate.of(2026, 3, 2));
+        assertThat(trend.getShiftCode()).isEqualTo("DAY");
+        assertThat(trend.getLevel()).isEqualTo("EQUIPMENT");
+        assertThat(trend.getDimensionId()).isEqualTo(10L);
+        assertThat(trend.getDimensionName()).isEqualTo("CNC-01");
+        assertThat(trend.getRunMinutes()).isEqualByComparingTo("900");
+        assertThat(trend.getAvailability()).isEqualByComparingTo("93.75");
+        assertThat(trend.getPerformance()).isEqualByComparingTo("90.00");
+        assertThat(trend.getQuality()).isEqualByComparingTo("95.00");
+        assertThat(trend.getOee()).isEqualByComparingTo("80.16");
+        assertThat(trend.getOperationCount()).isEqualTo(2L);
+        assertThat(trend.getDowntimeCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("toTrend: 성능 100% 상한, 계획 시간 0 이면 비율 0")
+    void toTrend_capsPerformanceAndHandlesZeroPlanned() {
+        Object[] overPerformance = {Date.valueOf("2026-03-01"), null, null, null,
+                new BigDecimal("100"), BigDecimal.ZERO, new BigDecimal("120"),
+                new BigDecimal("10"), new BigDecimal("10"), BigInteger.ONE, BigInteger.ZERO};
+        assertThat(OeeRollupService.toTrend(overPerformance, OeeRollupService.Level.PLANT).getPerformance())
+                .isEqualByComparingTo("100");
+
+        Object[] empty = {Date.valueOf("2026-03-01"), null, null, null,
+                null, null, null, null, null, BigInteger.ZERO, BigInteger.ZERO};
+        OeeTrendResponse trend = OeeRollupService.toTrend(empty, OeeRollupService.Level.PLANT);
+        assertThat(trend.getDimensionId()).isNull();
+        assertThat(trend.getAvailability()).isEqualByComparingTo("0");
+        assertThat(trend.getPerformance()).isEqualByComparingTo("0");
+        assertThat(trend.getQuality()).isEqualByComparingTo("0");
+        assertThat(trend.getOee()).isEqualByComparingTo("0");
+    }
+
+    private EquipmentOperationEntity operation(LocalDateTime startTime) {
+        return EquipmentOperationEntity.builder()
+                .operationId(100L)
+                .tenant(tenant)
+                .equipment(equipment)
+                .operationStatus("COMPLETED")
+                .startTime(startTime)
+                .build();
+    }
+
+    private DowntimeEntity downtime(String type) {
+        return DowntimeEntity.builder()
+                .downtimeId(200L)
+                .tenant(tenant)
+                .equipment(equipment)
+                .downtimeType(type)
+                .startTime(LocalDateTime.of(2026, 3, 2, 21, 0))
+                .endTime(LocalDateTime.of(2026, 3, 2, 21, 45))
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,165 @@
+package kr.co.softice.mes.domain.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Scale Session Test
+ * 측정값 흐름(흔들림/안정/하역/재적재)별 칭량 확정 횟수와 저장 실패 시 rollbackCapture 단위 테스트
+ *
+ * 용기 5.0, 안정 판정 5개 / 0.05 이내, 최소 적재 1.0, 하역 판정 0.5 이하
+ *
+ * @author Moon Myung-seop
+ */
+@DisplayName("저울 칭량 세션 테스트")
+class ScaleSessionTest {
+
+    private static final double TARE = 5.0;
+    private static final int WINDOW = 5;
+
+    private ScaleSession session;
+    private long timestamp;
+
+    @BeforeEach
+    void setUp() {
+        session = ScaleSession.builder()
+                .sessionId(1L)
+                .definition(ScaleSession.Definition.builder()
+                        .tenantId("TEST001")
+                        .scaleId(10L)
+                        .weighingType("INCOMING")
+                        .tareWeight(BigDecimal.valueOf(TARE))
+                        .expectedWeight(new BigDecimal("100"))
+                        .tolerancePercentage(new BigDecimal("2"))
+                        .unit("kg")
+                        .build())
+                .windowSize(WINDOW)
+                .stabilityBand(0.05)
+                .minLoad(1.0)
+                .zeroBand(0.5)
+                .build();
+        timestamp = 1_700_000_000_000L;
+    }
+
+    @Test
+    @DisplayName("흔들리는 측정값은 확정하지 않음")
+    void noisyReadings_noCapture() {
+        List<ScaleSession.CapturedWeighing> captures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            captures.addAll(feed(i % 2 == 0 ? 104.0 : 106.0));
+        }
+
+        assertThat(captures).isEmpty();
+        assertThat(session.isLoaded()).isFalse();
+        assertThat(session.getCapturedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("안정 구간이 이어져도 적재 1회당 확정은 정확히 1건")
+    void stableReadings_exactlyOneCapturePerLoad() {
+        List<ScaleSession.CapturedWeighing> captures = feed(104.0, 106.0, 103.0);
+        captures.addAll(feed(repeat(105.0, 50)));
+
+        assertThat(captures).hasSize(1);
+        ScaleSession.CapturedWeighing weighing = captures.get(0);
+        assertThat(weighing.getGrossWeight()).isEqualByComparingTo("105.000");
+        assertThat(weighing.getNetWeight()).isEqualByComparingTo("100.000");
+        assertThat(weighing.getToleranceExceeded()).isFalse();
+        assertThat(session.isLoaded()).isTrue();
+        assertThat(session.takeStateChange()).isTrue();
+        assertThat(session.takeStateChange()).isFalse();
+    }
+
+    @Test
+    @DisplayName("빈 저울(용기만) 안정은 최소 적재 미만으로 확정하지 않음")
+    void stableEmptyScale_noCapture() {
+        assertThat(feed(repeat(TARE + 0.2, 20))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("하역 후 재적재하면 다음 적재물을 1건 확정, 하역 전 흔들림은 하역으로 보지 않음")
+    void unloadAndReload_capturesNextLoad() {
+        List<ScaleSession.CapturedWeighing> captures = feed(repeat(105.0, 10));
+        // 적재 중 흔들림 (순중량 > zeroBand) → 적재 유지, 추가 확정 없음
+        captures.addAll(feed(103.0, 107.0, 104.0, 106.0));
+        assertThat(session.isLoaded()).isTrue();
+
+        captures.addAll(feed(TARE + 0.3));
+        assertThat(session.isLoaded()).isFalse();
+
+        captures.addAll(feed(60.0, 90.0));
+        captures.addAll(feed(repeat(97.0, 20)));
+        captures.addAll(feed(TARE, TARE));
+        captures.addAll(feed(repeat(108.0, 20)));
+
+        assertThat(captures).extracting(ScaleSession.CapturedWeighing::getNetWeight)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("100"), new BigDecimal("92"), new BigDecimal("103"));
+        assertThat(captures.get(2).getToleranceExceeded()).isTrue();
+        assertThat(session.getCapturedCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("rollbackCapture: 같은 적재물이면 대기로 돌아가 다음 안정 구간에서 다시 1건 확정")
+    void rollbackCapture_recapturesSameLoad() {
+        List<ScaleSession.CapturedWeighing> captures = feed(repeat(105.0, 10));
+        session.takeStateChange();
+
+        session.rollbackCapture(captures.get(0));
+
+        assertThat(session.isLoaded()).isFalse();
+        assertThat(session.getCapturedCount()).isZero();
+        assertThat(session.takeStateChange()).isTrue();
+
+        // 버퍼를 비웠으므로 window 개가 다시 모여야 확정
+        assertThat(feed(repeat(105.0, WINDOW - 1))).isEmpty();
+        List<ScaleSession.CapturedWeighing> recaptured = feed(repeat(105.0, 20));
+        assertThat(recaptured).hasSize(1);
+        assertThat(recaptured.get(0)).isNotSameAs(captures.get(0));
+        assertThat(session.getCapturedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("rollbackCapture: 이미 하역했거나 다음 적재물이 확정된 뒤면 적재 상태 유지")
+    void rollbackCapture_afterUnloadOrNextCapture_keepsState() {
+        ScaleSession.CapturedWeighing first = feed(repeat(105.0, 10)).get(0);
+        feed(TARE);
+        ScaleSession.CapturedWeighing second = feed(repeat(105.0, 10)).get(0);
+
+        session.rollbackCapture(first);
+
+        assertThat(session.isLoaded()).isTrue();
+        assertThat(session.getCapturedCount()).isEqualTo(1);
+        assertThat(feed(repeat(105.0, 20))).isEmpty();
+
+        // 현재 적재물의 확정 건은 되돌리면 다시 대기
+        session.rollbackCapture(second);
+        assertThat(session.isLoaded()).isFalse();
+        assertThat(session.getCapturedCount()).isZero();
+    }
+
+    private List<ScaleSession.CapturedWeighing> feed(double... weights) {
+        List<ScaleSession.CapturedWeighing> captures = new ArrayList<>();
+        for (double weight : weights) {
+            ScaleSession.CapturedWeighing captured = session.accept(weight, timestamp += 100);
+            if (captured != null) {
+                captures.add(captured);
+            }
+        }
+        return captures;
+    }
+
+    private static double[] repeat(double weight, int times) {
+        double[] weights = new double[times];
+        Arrays.fill(weights, weight);
+        return weights;
+    }
+}
@@ -0,0 +1,192 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.common.dto.schedule.GanttChangeFeed;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Schedule Change Feed Concurrency Test
+ * 늦게 커밋되는 쓰기 트랜잭션의 변경이 커서 전진으로 누락되지 않는지 검증
+ *
+ * PostgreSQL 트리거/advisory lock 을 사용하므로 Testcontainers 로 실행 (Docker 없으면 건너뜀)
+ *
+ * @author Moon Myung-seop
+ */
+@DataJpaTest
+@Import(ScheduleChangeFeedService.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("일정 변경 피드 동시성 테스트")
+class ScheduleChangeFeedConcurrencyTest {
+
+    private static final String TENANT_ID = "FEED";
+    private static final Path MIGRATIONS = Paths.get("..", "database", "migrations");
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:14-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQL10Dialect");
+    }
+
+    @Autowired
+    private ScheduleChangeFeedService changeFeedService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 일정 행만 직접 적재하도록 FK 제거 후 변경 피드 마이그레이션 적용
+        jdbcTemplate.execute(
+            "DO $$ DECLARE c RECORD; BEGIN " +
+            "FOR c IN SELECT conname FROM pg_constraint " +
+            "WHERE conrelid = 'mes.sd_production_schedules'::regclass AND contype = 'f' LOOP " +
+            "EXECUTE 'ALTER TABLE mes.sd_production_schedules DROP CONSTRAINT ' || quote_ident(c.conname); " +
+            "END LOOP; END $$");
+        jdbcTemplate.execute(migration("V036__add_production_schedule_change_feed.sql"));
+        jdbcTemplate.execute("TRUNCATE mes.sd_production_schedules, mes.sd_production_schedule_tombstones, " +
+            "mes.sd_schedule_feed_watermarks");
+    }
+
+    @Test
+    @DisplayName("hasMore 응답의 latestVersion 은 이번 응답에 포함된 마지막 버전")
+    void pagedChanges_reportLastDeliveredVersion() {
+        long cursor = changeFeedService.getCurrentVersion(TENANT_ID);
+        insertSchedule();
+        insertSchedule();
+        insertSchedule();
+
+        GanttChangeFeed first = changeFeedService.getChanges(TENANT_ID, cursor, 2);
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(first.getTasks()).hasSize(2);
+        assertThat(first.getLatestVersion()).isEqualTo(first.getNextVersion());
+        assertThat(first.getLatestVersion()).isLessThan(changeFeedService.getCurrentVersion(TENANT_ID));
+
+        GanttChangeFeed second = changeFeedService.getChanges(TENANT_ID, first.getNextVersion(), 2);
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(second.getTasks()).hasSize(1);
+        assertThat(second.getLatestVersion()).isEqualTo(changeFeedService.getCurrentVersion(TENANT_ID));
+    }
+
+    @Test
+    @DisplayName("먼저 시작해 늦게 커밋한 삭제도 다음 조회에 포함")
+    void slowWriterCommittingAfterCursorAdvance_isNotLost() throws Exception {
+        long slowId = insertSchedule();
+        long fastId = insertSchedule();
+        long cursor = changeFeedService.getCurrentVersion(TENANT_ID);
+
+        CountDownLatch deleted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // 느린 쓰기: 먼저 삭제(툼스톤 기록) 후 커밋 지연 (일괄 삭제 + saveAll 이 긴 재스케줄링 트랜잭션)
+            Future<?> slowWriter = executor.submit(() -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    connection.setAutoCommit(false);
+                    try (Statement statement = connection.createStatement()) {
+                        statement.executeUpdate("DELETE FROM mes.sd_production_schedules WHERE schedule_id = " + slowId);
+                    }
+                    deleted.countDown();
+                    assertThat(release.await(30, TimeUnit.SECONDS)).isTrue();
+                    connection.commit();
+                }
+                return null;
+            });
+            assertThat(deleted.await(30, TimeUnit.SECONDS)).isTrue();
+
+            // 빠른 쓰기: 나중에 시작해 먼저 커밋
+            jdbcTemplate.update("DELETE FROM mes.sd_production_schedules WHERE schedule_id = ?", fastId);
+
+            GanttChangeFeed first = changeFeedService.getChanges(TENANT_ID, cursor, 100);
+            assertThat(first.getDeletedTaskIds()).containsExactly("schedule-" + fastId);
+            assertThat(first.getNextVersion()).isGreaterThan(cursor);
+
+            release.countDown();
+            slowWriter.get(30, TimeUnit.SECONDS);
+
+            GanttChangeFeed second = changeFeedService.getChanges(TENANT_ID, first.getNextVersion(), 100);
+            assertThat(second.getDeletedTaskIds()).containsExactly("schedule-" + slowId);
+            assertThat(second.getNextVersion()).isGreaterThan(first.getNextVersion());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("진행 중인 쓰기가 잠근 행은 버전 부여를 막지 않음")
+    void pendingRowLockedByWriter_doesNotBlockFeed() throws Exception {
+        long cursor = changeFeedService.getCurrentVersion(TENANT_ID);
+        long lockedId = insertSchedule();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            // 버전 미부여(커밋됨) 행을 다른 트랜잭션이 수정 중 → 부여는 건너뛰고 대기하지 않아야 함
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("UPDATE mes.sd_production_schedules SET status = 'IN_PROGRESS' " +
+                    "WHERE schedule_id = " + lockedId);
+            }
+
+            long fastId = insertSchedule();
+            jdbcTemplate.update("DELETE FROM mes.sd_production_schedules WHERE schedule_id = ?", fastId);
+
+            GanttChangeFeed feed = changeFeedService.getChanges(TENANT_ID, cursor, 100);
+            assertThat(feed.getTasks()).isEmpty();
+            assertThat(feed.getDeletedTaskIds()).containsExactly("schedule-" + fastId);
+
+            connection.rollback();
+        }
+    }
+
+    private long insertSchedule() {
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO mes.sd_production_schedules (tenant_id, work_order_id, routing_step_id, sequence_order, " +
+            "planned_start_time, planned_end_time, planned_duration, status, created_at, updated_at) " +
+            "VALUES (?, 1, 1, 1, now(), now() + interval '1 hour', 60, 'SCHEDULED', now(), now()) " +
+            "RETURNING schedule_id", Long.class, TENANT_ID);
+    }
+
+    private static String migration(String fileName) throws Exception {
+        return new String(Files.readAllBytes(MIGRATIONS.resolve(fileName)), StandardCharsets.UTF_8);
+    }
+}
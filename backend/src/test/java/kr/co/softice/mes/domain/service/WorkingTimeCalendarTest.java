@@ -0,0 +1,108 @@
+package kr.co.softice.mes.domain.service;
+
+import kr.co.softice.mes.common.exception.BusinessException;
+import kr.co.softice.mes.common.exception.ErrorCode;
+import kr.co.softice.mes.domain.entity.WorkingHoursEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Working Time Calendar Test
+ * 영업일 + 근무시간 기준 다음 근무 시각 / 근무 시간 가산 단위 테스트
+ *
+ * 2026-03-06 금요일, 2026-03-09 월요일 기준
+ *
+ * @author Moon Myung-seop
+ */
+@DisplayName("근무 시간 달력 테스트")
+class WorkingTimeCalendarTest {
+
+    private static final Predicate<LocalDate> WEEKDAYS = date -> date.getDayOfWeek().getValue() <= 5;
+
+    static WorkingHoursEntity weekdayHours(LocalTime start, LocalTime end) {
+        return WorkingHoursEntity.builder()
+                .mondayStart(start).mondayEnd(end)
+                .tuesdayStart(start).tuesdayEnd(end)
+                .wednesdayStart(start).wednesdayEnd(end)
+                .thursdayStart(start).thursdayEnd(end)
+                .fridayStart(start).fridayEnd(end)
+                .build();
+    }
+
+    private static long at(int day, int hour, int minute) {
+        return WorkingTimeCalendar.toMinutes(LocalDateTime.of(2026, 3, day, hour, minute));
+    }
+
+    private static LocalDateTime time(long minutes) {
+        return WorkingTimeCalendar.toDateTime(minutes);
+    }
+
+    @Test
+    @DisplayName("nextWorkingMinute: 근무 구간 전/후/주말은 다음 근무 시작, 구간 안은 그대로")
+    void nextWorkingMinute_skipsNonWorkingTime() {
+        WorkingTimeCalendar calendar = new WorkingTimeCalendar(WEEKDAYS,
+                weekdayHours(LocalTime.of(9, 0), LocalTime.of(18, 0)));
+
+        assertThat(time(calendar.nextWorkingMinute(at(6, 8, 0)))).isEqualTo(LocalDateTime.of(2026, 3, 6, 9, 0));
+        assertThat(time(calendar.nextWorkingMinute(at(6, 12, 30)))).isEqualTo(LocalDateTime.of(2026, 3, 6, 12, 30));
+        // 종료 시각은 구간 밖 (반열린 구간)
+        assertThat(time(calendar.nextWorkingMinute(at(6, 18, 0)))).isEqualTo(LocalDateTime.of(2026, 3, 9, 9, 0));
+        assertThat(time(calendar.nextWorkingMinute(at(7, 10, 0)))).isEqualTo(LocalDateTime.of(2026, 3, 9, 9, 0));
+    }
+
+    @Test
+    @DisplayName("addWorkingMinutes: 주말을 건너 남은 근무 시간만 다음 영업일에 이어서 소비")
+    void addWorkingMinutes_spansWeekend() {
+        WorkingTimeCalendar calendar = new WorkingTimeCalendar(WEEKDAYS,
+                weekdayHours(LocalTime.of(9, 0), LocalTime.of(18, 0)));
+
+        // 금 16:00 + 120분 = 금 18:00 (구간 끝까지 정확히 소비)
+        assertThat(time(calendar.addWorkingMinutes(at(6, 16, 0), 120))).isEqualTo(LocalDateTime.of(2026, 3, 6, 18, 0));
+        // 금 16:00 + 180분 = 금 2시간 + 월 1시간
+        assertThat(time(calendar.addWorkingMinutes(at(6, 16, 0), 180))).isEqualTo(LocalDateTime.of(2026, 3, 9, 10, 0));
+        // 토요일 시작은 월요일 근무 시작부터
+        assertThat(time(calendar.addWorkingMinutes(at(7, 12, 0), 60))).isEqualTo(LocalDateTime.of(2026, 3, 9, 10, 0));
+        // 금 17:00 + 3일치(27시간) = 금 1시간 + 월/화 18시간 + 수 8시간
+        assertThat(time(calendar.addWorkingMinutes(at(6, 17, 0), 27 * 60))).isEqualTo(LocalDateTime.of(2026, 3, 11, 17, 0));
+    }
+
+    @Test
+    @DisplayName("야간 근무: 종료 ≤ 시작이면 익일 종료, 자정 이후 시각도 전일 구간으로 인정")
+    void nightShift_crossesMidnight() {
+        WorkingTimeCalendar calendar = new WorkingTimeCalendar(date -> date.getDayOfWeek().getValue() <= 2,
+                WorkingHoursEntity.builder()
+                        .mondayStart(LocalTime.of(22, 0)).mondayEnd(LocalTime.of(6, 0))
+                        .tuesdayStart(LocalTime.of(22, 0)).tuesdayEnd(LocalTime.of(6, 0))
+                        .build());
+
+        assertThat(time(calendar.nextWorkingMinute(at(10, 5, 0)))).isEqualTo(LocalDateTime.of(2026, 3, 10, 5, 0));
+        assertThat(time(calendar.addWorkingMinutes(at(9, 23, 0), 180))).isEqualTo(LocalDateTime.of(2026, 3, 10, 2, 0));
+        // 화 05:00 → 06:00 (1시간) 후 화 22:00 부터 1시간
+        assertThat(time(calendar.addWorkingMinutes(at(10, 5, 0), 120))).isEqualTo(LocalDateTime.of(2026, 3, 10, 23, 0));
+    }
+
+    @Test
+    @DisplayName("기본 근무시간이 없으면 영업일 하루 전체가 근무 구간")
+    void noWorkingHours_wholeBusinessDay() {
+        WorkingTimeCalendar calendar = new WorkingTimeCalendar(WEEKDAYS, null);
+
+        assertThat(time(calendar.addWorkingMinutes(at(6, 23, 0), 120))).isEqualTo(LocalDateTime.of(2026, 3, 9, 1, 0));
+    }
+
+    @Test
+    @DisplayName("영업일이 전혀 없으면 INVALID_OPERATION")
+    void noBusinessDays_throwsInvalidOperation() {
+        WorkingTimeCalendar calendar = new WorkingTimeCalendar(date -> false, null);
+
+        assertThatThrownBy(() -> calendar.nextWorkingMinute(at(6, 9, 0)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_OPERATION);
+    }
+}
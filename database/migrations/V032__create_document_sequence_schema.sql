@@ -0,0 +1,23 @@
+-- ============================================================
+-- Migration: V032 - Document Number Sequences
+-- Description: 문서 번호 채번 시퀀스 (테넌트/접두어/일자 단위 블록 예약)
+-- Author: Moon Myung-seop
+-- Date: 2026-03-02
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS common.sd_document_sequences (
+    document_sequence_id BIGSERIAL PRIMARY KEY,
+    tenant_id VARCHAR(50) NOT NULL,
+    prefix VARCHAR(20) NOT NULL,          -- GR, IQC, MR, DEF, SH, WG, ...
+    sequence_date DATE NOT NULL,
+    last_value BIGINT NOT NULL DEFAULT 0, -- 마지막으로 예약된 번호
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uk_sd_document_sequence UNIQUE (tenant_id, prefix, sequence_date)
+);
+
+COMMENT ON TABLE common.sd_document_sequences IS '문서 번호 채번 시퀀스';
+COMMENT ON COLUMN common.sd_document_sequences.prefix IS '문서 접두어 (GR, IQC, MR, DEF, SH, WG 등)';
+COMMENT ON COLUMN common.sd_document_sequences.sequence_date IS '채번 일자';
+COMMENT ON COLUMN common.sd_document_sequences.last_value IS '마지막 예약 번호 (블록 단위 증가)';
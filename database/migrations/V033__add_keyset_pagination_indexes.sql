@@ -0,0 +1,30 @@
+-- ============================================================
+-- Migration: V033 - Keyset Pagination Indexes
+-- Description: 커서 페이징용 (tenant_id, PK DESC) 인덱스
+-- Author: Moon Myung-seop
+-- Date: 2026-03-03
+-- ============================================================
+
+CREATE INDEX IF NOT EXISTS idx_inventory_tenant_keyset
+    ON inventory.sd_inventory (tenant_id, inventory_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_inventory_tx_tenant_keyset
+    ON inventory.sd_inventory_transactions (tenant_id, transaction_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_lot_tenant_keyset
+    ON inventory.sd_lots (tenant_id, lot_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_goods_receipt_tenant_keyset
+    ON wms.sd_goods_receipts (tenant_id, goods_receipt_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_shipping_tenant_keyset
+    ON wms.sd_shippings (tenant_id, shipping_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_weighing_tenant_keyset
+    ON wms.sd_weighings (tenant_id, weighing_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_work_order_tenant_keyset
+    ON mes.sd_work_orders (tenant_id, work_order_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_quality_inspection_tenant_keyset
+    ON qms.sd_quality_inspections (tenant_id, quality_inspection_id DESC);
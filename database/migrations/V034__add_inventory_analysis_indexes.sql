@@ -0,0 +1,9 @@
+-- ============================================================
+-- Migration: V034 - Inventory Analysis Indexes
+-- Description: 재고 분석 집계 쿼리용 (tenant_id, transaction_date) 복합 인덱스
+-- Author: Moon Myung-seop
+-- Date: 2026-03-04
+-- ============================================================
+
+CREATE INDEX IF NOT EXISTS idx_inv_trans_tenant_date
+    ON inventory.sd_inventory_transactions (tenant_id, transaction_date);
@@ -0,0 +1,38 @@
+-- ============================================================
+-- Migration: V035 - Inventory Daily Movements
+-- Description: 일별 재고 이동 집계 (테넌트/일자/창고/제품/유형), 추이·회전율 분석용
+-- Author: Moon Myung-seop
+-- Date: 2026-03-05
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS inventory.sd_inventory_daily_movements (
+    daily_movement_id BIGSERIAL PRIMARY KEY,
+    tenant_id VARCHAR(50) NOT NULL,
+    movement_date DATE NOT NULL,
+    warehouse_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    transaction_type VARCHAR(20) NOT NULL,       -- IN_RECEIVE, OUT_ISSUE, MOVE, ADJUST, ...
+    total_quantity NUMERIC(18,3) NOT NULL DEFAULT 0,
+    transaction_count BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uk_sd_inventory_daily_movement
+        UNIQUE (tenant_id, movement_date, warehouse_id, product_id, transaction_type)
+);
+
+CREATE INDEX IF NOT EXISTS idx_inv_daily_movement_tenant_date
+    ON inventory.sd_inventory_daily_movements (tenant_id, movement_date);
+
+COMMENT ON TABLE inventory.sd_inventory_daily_movements IS '일별 재고 이동 집계';
+COMMENT ON COLUMN inventory.sd_inventory_daily_movements.total_quantity IS '일자별 트랜잭션 수량 합계';
+COMMENT ON COLUMN inventory.sd_inventory_daily_movements.transaction_count IS '일자별 트랜잭션 건수';
+
+-- Backfill from the existing ledger
+INSERT INTO inventory.sd_inventory_daily_movements
+    (tenant_id, movement_date, warehouse_id, product_id, transaction_type, total_quantity, transaction_count)
+SELECT tenant_id, CAST(transaction_date AS DATE), warehouse_id, product_id, transaction_type,
+       SUM(quantity), COUNT(*)
+FROM inventory.sd_inventory_transactions
+GROUP BY tenant_id, CAST(transaction_date AS DATE), warehouse_id, product_id, transaction_type
+ON CONFLICT (tenant_id, movement_date, warehouse_id, product_id, transaction_type) DO NOTHING;
@@ -0,0 +1,86 @@
+-- ============================================================
+-- Migration: V036 - Production Schedule Change Feed
+-- Description: 생산 일정 변경 버전(change_version) + 삭제 툼스톤, 간트차트 증분 조회용
+--              change_version 은 쓰기 시점이 아닌 커밋 이후 부여 (긴 트랜잭션이 이미 지난 버전으로 커밋되어 누락되지 않도록)
+--              쓰기 트리거는 change_version 을 NULL(미부여)로 두고, 변경 조회 시 테넌트 단위 advisory lock 하에서
+--              커밋된 미부여 행에만 시퀀스 값을 부여 → 부여된 버전 이하의 변경은 모두 커밋·조회 가능
+-- Author: Moon Myung-seop
+-- Date: 2026-03-12
+-- ============================================================
+
+-- 전 테넌트 공용 단조 증가 변경 버전 (변경 조회 시 부여)
+CREATE SEQUENCE IF NOT EXISTS mes.sd_schedule_change_seq;
+
+ALTER TABLE mes.sd_production_schedules
+    ADD COLUMN IF NOT EXISTS change_version BIGINT;
+
+CREATE INDEX IF NOT EXISTS idx_schedule_tenant_change_version
+    ON mes.sd_production_schedules (tenant_id, change_version);
+
+-- 버전 미부여 행 (부여 대상 조회용)
+CREATE INDEX IF NOT EXISTS idx_schedule_change_version_pending
+    ON mes.sd_production_schedules (tenant_id) WHERE change_version IS NULL;
+
+-- 삭제된 일정 (JPQL 일괄 삭제 포함, 트리거로 기록)
+CREATE TABLE IF NOT EXISTS mes.sd_production_schedule_tombstones (
+    tombstone_id BIGSERIAL PRIMARY KEY,
+    tenant_id VARCHAR(50) NOT NULL,
+    schedule_id BIGINT NOT NULL,
+    work_order_id BIGINT,
+    change_version BIGINT,
+    deleted_at TIMESTAMP NOT NULL DEFAULT clock_timestamp()
+);
+
+CREATE INDEX IF NOT EXISTS idx_schedule_tombstone_tenant_version
+    ON mes.sd_production_schedule_tombstones (tenant_id, change_version);
+
+CREATE INDEX IF NOT EXISTS idx_schedule_tombstone_version_pending
+    ON mes.sd_production_schedule_tombstones (tenant_id) WHERE change_version IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_schedule_tombstone_deleted_at
+    ON mes.sd_production_schedule_tombstones (deleted_at);
+
+-- 툼스톤 보관 기간 경과로 정리된 최대 버전 (이보다 오래된 버전으로 요청 시 전체 재조회)
+CREATE TABLE IF NOT EXISTS mes.sd_schedule_feed_watermarks (
+    tenant_id VARCHAR(50) PRIMARY KEY,
+    purged_version BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 등록/수정: 버전 미부여로 표시 (버전 부여 UPDATE 는 mes.schedule_feed_assign 설정으로 구분)
+CREATE OR REPLACE FUNCTION mes.set_schedule_change_version()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF current_setting('mes.schedule_feed_assign', true) = 'on' THEN
+        RETURN NEW;
+    END IF;
+    NEW.change_version = NULL;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trigger_schedule_change_version ON mes.sd_production_schedules;
+CREATE TRIGGER trigger_schedule_change_version
+    BEFORE INSERT OR UPDATE ON mes.sd_production_schedules
+    FOR EACH ROW
+    EXECUTE FUNCTION mes.set_schedule_change_version();
+
+-- 삭제: 버전 미부여 툼스톤 기록
+CREATE OR REPLACE FUNCTION mes.record_schedule_tombstone()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO mes.sd_production_schedule_tombstones (tenant_id, schedule_id, work_order_id, change_version, deleted_at)
+    VALUES (OLD.tenant_id, OLD.schedule_id, OLD.work_order_id, NULL, clock_timestamp());
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trigger_schedule_tombstone ON mes.sd_production_schedules;
+CREATE TRIGGER trigger_schedule_tombstone
+    AFTER DELETE ON mes.sd_production_schedules
+    FOR EACH ROW
+    EXECUTE FUNCTION mes.record_schedule_tombstone();
+
+COMMENT ON COLUMN mes.sd_production_schedules.change_version IS '변경 버전 (커밋 후 변경 조회 시 부여, NULL 은 미부여)';
+COMMENT ON TABLE mes.sd_production_schedule_tombstones IS '삭제된 생산 일정 (간트차트 증분 조회용)';
+COMMENT ON TABLE mes.sd_schedule_feed_watermarks IS '테넌트별 정리된 툼스톤 최대 버전';
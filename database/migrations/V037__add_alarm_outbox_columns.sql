@@ -0,0 +1,34 @@
+-- ============================================================
+-- Migration: V037 - Alarm Outbox
+-- Description: 알람 이력을 발송 outbox 로 사용 (비동기 발송, 재시도 백오프)
+-- Author: Moon Myung-seop
+-- Date: 2026-03-16
+-- ============================================================
+
+-- send_status: 시스템 알림함 표시 상태 (저장 즉시 SENT)
+-- dispatch_status: 외부 채널(EMAIL/SMS/PUSH) 발송 상태, 외부 채널이 없으면 NULL
+--   PENDING(발송 대기/재시도 대기) → SENDING(워커 점유) → SENT | FAILED
+ALTER TABLE common.sd_alarm_history
+    ADD COLUMN IF NOT EXISTS dispatch_status VARCHAR(20),
+    ADD COLUMN IF NOT EXISTS attempt_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP,
+    ADD COLUMN IF NOT EXISTS delivered_channels VARCHAR(100);
+
+-- 기존 미발송 건: 알림함에 표시하고 외부 채널은 즉시 발송 대상
+UPDATE common.sd_alarm_history
+SET dispatch_status = 'PENDING',
+    next_attempt_at = created_at,
+    send_status = 'SENT',
+    sent_at = COALESCE(sent_at, created_at)
+WHERE send_status = 'PENDING'
+  AND (sent_via_email = TRUE OR sent_via_sms = TRUE OR sent_via_push = TRUE);
+
+-- 발송 대상 조회 (PENDING/SENDING 건만 색인)
+CREATE INDEX IF NOT EXISTS idx_sd_alarm_history_outbox
+    ON common.sd_alarm_history (next_attempt_at)
+    WHERE dispatch_status IN ('PENDING', 'SENDING');
+
+COMMENT ON COLUMN common.sd_alarm_history.dispatch_status IS '외부 채널 발송 상태: PENDING, SENDING, SENT, FAILED';
+COMMENT ON COLUMN common.sd_alarm_history.attempt_count IS '발송 시도 횟수';
+COMMENT ON COLUMN common.sd_alarm_history.next_attempt_at IS '다음 발송 시도 시각 (SENDING 이면 점유 만료 시각)';
+COMMENT ON COLUMN common.sd_alarm_history.delivered_channels IS '발송 완료 채널 (EMAIL,SMS,PUSH) - 재시도 시 제외';
@@ -0,0 +1,36 @@
+-- ============================================================
+-- Migration: V038 - Weighing Statistics Counters
+-- Description: 테넌트별 칭량 건수 카운터 (전체/검증 대기/검증/반려/허용 오차 초과), 통계 조회 O(1)
+-- Author: Moon Myung-seop
+-- Date: 2026-03-17
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS wms.sd_weighing_stats (
+    tenant_id VARCHAR(50) PRIMARY KEY,
+    total_count BIGINT NOT NULL DEFAULT 0,
+    pending_count BIGINT NOT NULL DEFAULT 0,
+    verified_count BIGINT NOT NULL DEFAULT 0,
+    rejected_count BIGINT NOT NULL DEFAULT 0,
+    tolerance_exceeded_count BIGINT NOT NULL DEFAULT 0,
+    pending_tolerance_exceeded_count BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE wms.sd_weighing_stats IS '테넌트별 칭량 건수 카운터 (칭량 등록/수정/검증/삭제 시 증분 갱신)';
+COMMENT ON COLUMN wms.sd_weighing_stats.pending_tolerance_exceeded_count IS '검증 대기 중인 허용 오차 초과 건수';
+
+-- Backfill from existing weighings
+INSERT INTO wms.sd_weighing_stats
+    (tenant_id, total_count, pending_count, verified_count, rejected_count,
+     tolerance_exceeded_count, pending_tolerance_exceeded_count)
+SELECT tenant_id,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE verification_status = 'PENDING'),
+       COUNT(*) FILTER (WHERE verification_status = 'VERIFIED'),
+       COUNT(*) FILTER (WHERE verification_status = 'REJECTED'),
+       COUNT(*) FILTER (WHERE tolerance_exceeded),
+       COUNT(*) FILTER (WHERE tolerance_exceeded AND verification_status = 'PENDING')
+FROM wms.sd_weighings
+GROUP BY tenant_id
+ON CONFLICT (tenant_id) DO NOTHING;
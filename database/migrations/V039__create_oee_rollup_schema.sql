@@ -0,0 +1,38 @@
+-- ============================================================
+-- Migration: V039 - OEE Shift Buckets
+-- Description: 설비/교대/일자별 OEE 집계 (계획·정지·이론 가동 시간, 생산·양품 수량), 라인/사업장 롤업 및 추이 조회용
+-- Author: Moon Myung-seop
+-- Date: 2026-03-19
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS equipment.sd_oee_shift_buckets (
+    oee_bucket_id BIGSERIAL PRIMARY KEY,
+    tenant_id VARCHAR(50) NOT NULL,
+    bucket_date DATE NOT NULL,                   -- 생산 일자 (교대 시작 기준)
+    shift_code VARCHAR(20) NOT NULL,             -- app.oee.shifts 교대 코드
+    equipment_id BIGINT NOT NULL,
+    site_id BIGINT,                              -- 집계 시점 설비 사업장
+    line_id BIGINT,                              -- 집계 시점 설비 부서 (라인)
+    planned_minutes NUMERIC(14,2) NOT NULL DEFAULT 0,
+    stop_minutes NUMERIC(14,2) NOT NULL DEFAULT 0,
+    ideal_run_minutes NUMERIC(14,2) NOT NULL DEFAULT 0,
+    total_count NUMERIC(18,3) NOT NULL DEFAULT 0,
+    good_count NUMERIC(18,3) NOT NULL DEFAULT 0,
+    operation_count BIGINT NOT NULL DEFAULT 0,
+    downtime_count BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uk_sd_oee_shift_bucket
+        UNIQUE (tenant_id, bucket_date, shift_code, equipment_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_oee_bucket_tenant_date
+    ON equipment.sd_oee_shift_buckets (tenant_id, bucket_date);
+
+COMMENT ON TABLE equipment.sd_oee_shift_buckets IS '설비/교대/일자별 OEE 집계 (가동 완료·비가동 종료 시 증분 갱신)';
+COMMENT ON COLUMN equipment.sd_oee_shift_buckets.planned_minutes IS '계획 가동 시간 (가동 시간 + 가동 외 비계획 비가동)';
+COMMENT ON COLUMN equipment.sd_oee_shift_buckets.stop_minutes IS '정지 시간 (가동 정지 + 가동 외 비계획 비가동)';
+COMMENT ON COLUMN equipment.sd_oee_shift_buckets.ideal_run_minutes IS '이론 가동 시간 (표준 사이클 타임 × 생산 수량, 실가동 시간 상한)';
+
+-- 교대 구간은 애플리케이션 설정(app.oee.shifts)을 따르므로 백필은 POST /api/oee/rebuild 로 수행
@@ -0,0 +1,12 @@
+-- ============================================================
+-- Migration: V040 - Master Data Optimistic Lock Versions
+-- Description: 캐시 대상 마스터(제품/공정/창고/테마) 동시 수정 감지를 위한 @Version 컬럼
+-- Author: Moon Myung-seop
+-- Date: 2026-03-20
+-- ============================================================
+
+ALTER TABLE mes.sd_products ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE mes.sd_processes ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE inventory.sd_warehouses ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+-- sd_themes 는 JPA ddl-auto 로 생성 (스키마 미지정, search_path 기준)
+ALTER TABLE IF EXISTS sd_themes ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
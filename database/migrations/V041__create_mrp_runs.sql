@@ -0,0 +1,14 @@
+-- ============================================================
+-- Migration: V041 - MRP Latest Runs
+-- Description: 테넌트별 마지막 전체 MRP 실행 결과 (야간 실행 노드와 무관하게 조회)
+-- Author: Moon Myung-seop
+-- Date: 2026-03-20
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS mes.sd_mrp_runs (
+    tenant_id VARCHAR(50) PRIMARY KEY,
+    executed_at TIMESTAMP NOT NULL,
+    result_json TEXT NOT NULL                    -- MrpService.MrpResult (JSON)
+);
+
+COMMENT ON TABLE mes.sd_mrp_runs IS '테넌트별 최근 전체 MRP 결과';
@@ -0,0 +1,21 @@
+-- ============================================================
+-- Migration: V042 - Scale Sessions
+-- Description: 저울 칭량 세션 정의/적재 상태 보관 (세션을 연 노드와 측정값을 받는 노드가 달라도 동작,
+--              노드 재시작/재배치 후 세션 재구성 시 이미 확정한 적재물을 다시 확정하지 않음)
+-- Author: Moon Myung-seop
+-- Date: 2026-03-21
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS wms.sd_scale_sessions (
+    session_id BIGSERIAL PRIMARY KEY,
+    tenant_id VARCHAR(50) NOT NULL,
+    scale_id BIGINT NOT NULL,
+    definition_json TEXT NOT NULL,               -- ScaleSession.Definition (JSON)
+    loaded BOOLEAN NOT NULL DEFAULT FALSE,       -- 확정 후 하역 대기 (LOADED)
+    captured_count BIGINT NOT NULL DEFAULT 0,
+    opened_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    CONSTRAINT uk_scale_sessions_tenant_scale UNIQUE (tenant_id, scale_id)
+);
+
+COMMENT ON TABLE wms.sd_scale_sessions IS '저울 칭량 세션 (저울당 1개, 세션 재시작 시 대체)';
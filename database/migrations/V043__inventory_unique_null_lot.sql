@@ -0,0 +1,41 @@
+-- ============================================================
+-- Migration: V043 - Inventory Unique Key (NULL LOT)
+-- Description: LOT 없는 재고도 창고/품목별 1건으로 유일하도록 보장
+--              (uq_inventory_product_warehouse_lot 는 lot_id 가 NULL 이면 중복을 허용하므로,
+--               COALESCE(lot_id, 0) 식 인덱스로 보완하고 기존 중복 행은 최소 inventory_id 로 합산)
+-- Author: Moon Myung-seop
+-- Date: 2026-03-22
+-- ============================================================
+
+-- Merge duplicate NULL-lot rows into the lowest inventory_id
+WITH dup AS (
+    SELECT tenant_id, warehouse_id, product_id,
+           MIN(inventory_id) AS keep_id,
+           SUM(available_quantity) AS available_quantity,
+           SUM(reserved_quantity) AS reserved_quantity
+    FROM inventory.sd_inventory
+    WHERE lot_id IS NULL
+    GROUP BY tenant_id, warehouse_id, product_id
+    HAVING COUNT(*) > 1
+)
+UPDATE inventory.sd_inventory i
+SET available_quantity = dup.available_quantity,
+    reserved_quantity = dup.reserved_quantity,
+    updated_at = CURRENT_TIMESTAMP
+FROM dup
+WHERE i.inventory_id = dup.keep_id;
+
+DELETE FROM inventory.sd_inventory i
+USING inventory.sd_inventory k
+WHERE i.lot_id IS NULL
+  AND k.lot_id IS NULL
+  AND i.tenant_id = k.tenant_id
+  AND i.warehouse_id = k.warehouse_id
+  AND i.product_id = k.product_id
+  AND i.inventory_id > k.inventory_id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_inventory_tenant_warehouse_product_lot
+    ON inventory.sd_inventory (tenant_id, warehouse_id, product_id, COALESCE(lot_id, 0));
+
+COMMENT ON INDEX inventory.uk_inventory_tenant_warehouse_product_lot IS
+    '창고/품목/LOT 별 재고 유일 키 (LOT 없음 = 0, InventoryService.findOrCreateInventory 의 ON CONFLICT 대상)';